@@ -33,14 +33,22 @@ public final class CollectionUtil {
     }
 
     /**
-     * Checks if all elements in the specified {@link Collection} are distinct.
+     * Checks if all elements in the specified {@link Collection} are distinct. The check stops at the first duplicate.
      * @param collection the {@link Collection} to check if all elements are distinct
      * @param <E>        the type of the elements in the {@link Collection}
      * @return true if all elements are distinct otherwise return false
      */
     public static <E> boolean areAllDistinct(Collection<? extends E> collection)
     {
-        return collection.size() == new HashSet<E>(collection).size();
+        var set = new HashSet<E>(collection.size() * 4 / 3 + 1);
+
+        for (E e : collection) {
+            if (!set.add(e)) {
+                return false;
+            }
+        }
+
+        return true;
     }
 
     /**
@@ -109,7 +117,8 @@ public final class CollectionUtil {
     }
 
     /**
-     * Returns the element at the given index from the given map.
+     * Returns the element at the given index from the given map. The entry is found in O(log n) for an
+     * {@link IndexedTreeMap}, other maps are walked in their iteration order.
      * @param map   the {@link Map} to get the element from
      * @param index the index to get the element from
      * @param <K>   the type of the keys in the {@code map}
@@ -123,19 +132,27 @@ public final class CollectionUtil {
         if (map == null) {
             throw new NullPointerException("map cannot be null");
         }
-        if (index < 0 || map.size() < index) {
+        if (index < 0 || map.size() <= index) {
             throw new IndexOutOfBoundsException("index cannot be out of range");
         }
 
-        return map.entrySet().stream().
-            skip(index).
-            findFirst().
-            orElse(null);
+        if (map instanceof IndexedTreeMap) {
+            return ((IndexedTreeMap<K, V>) map).entryAt(index);
+        }
+
+        var iterator = map.entrySet().iterator();
+
+        for (var i = 0; i < index; ++i) {
+            iterator.next();
+        }
 
+        return iterator.next();
     }
 
     /**
      * Removes the specified number of elements from the start index in the collection and returns them. This method modifies the input collections.
+     * A {@link List} is cut by {@code subList(startIndex, startIndex + count).clear()}, other collections remove the elements through their
+     * iterator, hence only the elements at the given positions are removed even if they have duplicates elsewhere.
      * @param input      the {@link Collection} to remove elements from
      * @param startIndex the index to start removing from
      * @param count      the number of elements to remove
@@ -155,14 +172,26 @@ public final class CollectionUtil {
             throw new IndexOutOfBoundsException("count cannot be out of range");
         }
 
-        var removedElements = new ArrayList<E>();
+        if (input instanceof List) {
+            var range = ((List<E>) input).subList(startIndex, startIndex + count);
+            var removedElements = new ArrayList<E>(range);
+
+            range.clear();
+
+            return removedElements;
+        }
 
-        input.stream().
-            skip(startIndex).
-            limit(count).
-            forEach(removedElements::add);
+        var removedElements = new ArrayList<E>(count);
+        var iterator = input.iterator();
 
-        input.removeAll(removedElements);
+        for (var i = 0; i < startIndex; ++i) {
+            iterator.next();
+        }
+
+        for (var i = 0; i < count; ++i) {
+            removedElements.add(iterator.next());
+            iterator.remove();
+        }
 
         return removedElements;
     }
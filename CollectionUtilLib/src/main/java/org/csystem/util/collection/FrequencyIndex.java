@@ -0,0 +1,132 @@
+package org.csystem.util.collection;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.StreamSupport;
+
+/**
+ * Thread safe counter of the occurrences of elements. The counts are kept in a {@link ConcurrentHashMap} of
+ * {@link LongAdder}s, so elements can be added from many threads and the frequency of an element is answered in O(1)
+ * instead of rescanning the source for every query. Null elements are counted as well.
+ * <p>1993 by C and System Programmers Association (CSD) All Rights Free</p>
+ * @param <T> the type of the counted elements
+ * @author JavaApp2-Jan-2024 Group
+ * @version 1.0.0
+ */
+public final class FrequencyIndex<T> {
+
+    private static final Object NULL_KEY = new Object();
+    private final ConcurrentHashMap<Object, LongAdder> m_counts = new ConcurrentHashMap<>();
+    private final LongAdder m_totalCount = new LongAdder();
+
+    /**
+     * Creates an index of the elements of the given iterable.
+     * @param iterable the {@link Iterable} whose elements are counted
+     * @param <T>      the type of the elements in the iterable
+     * @return the {@link FrequencyIndex} of the elements
+     * @throws NullPointerException if {@code iterable} is null
+     */
+    public static <T> FrequencyIndex<T> of(Iterable<? extends T> iterable)
+    {
+        return of(iterable, false);
+    }
+
+    /**
+     * Creates an index of the elements of the given iterable, optionally counting the elements in parallel. A parallel
+     * count splits the source by its spliterator, hence it scales best for sized sources like lists and ranges.
+     * @param iterable the {@link Iterable} whose elements are counted
+     * @param parallel whether to use parallel streams
+     * @param <T>      the type of the elements in the iterable
+     * @return the {@link FrequencyIndex} of the elements
+     * @throws NullPointerException if {@code iterable} is null
+     */
+    public static <T> FrequencyIndex<T> of(Iterable<? extends T> iterable, boolean parallel)
+    {
+        Objects.requireNonNull(iterable, "Iterable cannot be null");
+
+        var result = new FrequencyIndex<T>();
+
+        StreamSupport.stream(iterable.spliterator(), parallel).forEach(result::add);
+
+        return result;
+    }
+
+    /**
+     * Counts an occurrence of the given element.
+     * @param t the element to count
+     */
+    public void add(T t)
+    {
+        add(t, 1);
+    }
+
+    /**
+     * Counts the given number of occurrences of the given element.
+     * @param t     the element to count
+     * @param count the number of occurrences
+     * @throws IllegalArgumentException if {@code count} is negative
+     */
+    public void add(T t, long count)
+    {
+        if (count < 0) {
+            throw new IllegalArgumentException("count cannot be negative");
+        }
+
+        var key = t == null ? NULL_KEY : t;
+        var counter = m_counts.get(key);
+
+        if (counter == null) {
+            counter = m_counts.computeIfAbsent(key, k -> new LongAdder());
+        }
+
+        counter.add(count);
+        m_totalCount.add(count);
+    }
+
+    /**
+     * Returns the number of occurrences of the given object.
+     * @param obj the object whose occurrences are returned
+     * @return the number of occurrences, 0 if {@code obj} is not counted
+     */
+    public long frequency(Object obj)
+    {
+        var counter = m_counts.get(obj == null ? NULL_KEY : obj);
+
+        return counter == null ? 0 : counter.sum();
+    }
+
+    /**
+     * Returns the number of distinct elements counted.
+     * @return the number of distinct elements
+     */
+    public int distinctCount()
+    {
+        return m_counts.size();
+    }
+
+    /**
+     * Returns the number of all occurrences counted.
+     * @return the number of occurrences
+     */
+    public long totalCount()
+    {
+        return m_totalCount.sum();
+    }
+
+    /**
+     * Returns a snapshot of the counts. Concurrent additions may or may not be reflected.
+     * @return a {@link Map} from the counted elements to their number of occurrences
+     */
+    @SuppressWarnings("unchecked")
+    public Map<T, Long> toMap()
+    {
+        var result = new HashMap<T, Long>(m_counts.size() * 4 / 3 + 1);
+
+        m_counts.forEach((k, v) -> result.put(k == NULL_KEY ? null : (T) k, v.sum()));
+
+        return result;
+    }
+}
@@ -0,0 +1,486 @@
+package org.csystem.util.collection;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayDeque;
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Sorted map that supports positional access. The entries are kept in an AVL tree whose nodes also hold the size of
+ * their subtrees (an order-statistic tree), so besides O(log n) {@link #get(Object)}, {@link #put(Object, Object)} and
+ * {@link #remove(Object)}, the entry at an index and the index of a key are found in O(log n) instead of walking
+ * the entries. The entries are iterated in ascending key order. The map is not thread safe and does not permit null
+ * keys when natural ordering is used.
+ * <p>1993 by C and System Programmers Association (CSD) All Rights Free</p>
+ * @param <K> the type of the keys
+ * @param <V> the type of the values
+ * @author JavaApp2-Jan-2024 Group
+ * @version 1.0.0
+ */
+public final class IndexedTreeMap<K, V> extends AbstractMap<K, V> {
+
+    private final Comparator<? super K> m_comparator;
+    private Node<K, V> m_root;
+    private int m_modCount;
+    private Set<Map.Entry<K, V>> m_entrySet;
+
+    /**
+     * Creates an empty map ordered by the natural ordering of its keys.
+     */
+    public IndexedTreeMap()
+    {
+        this(null);
+    }
+
+    /**
+     * Creates an empty map ordered by the given comparator.
+     * @param comparator the {@link Comparator} of the keys, null for natural ordering
+     */
+    public IndexedTreeMap(Comparator<? super K> comparator)
+    {
+        m_comparator = comparator;
+    }
+
+    @Override
+    public int size()
+    {
+        return size(m_root);
+    }
+
+    @Override
+    public boolean containsKey(Object key)
+    {
+        return getNode(key) != null;
+    }
+
+    @Override
+    public V get(Object key)
+    {
+        var node = getNode(key);
+
+        return node == null ? null : node.getValue();
+    }
+
+    @Override
+    public V put(K key, V value)
+    {
+        if (m_comparator == null) {
+            Objects.requireNonNull(key, "key cannot be null");
+        }
+
+        var node = getNode(key);
+
+        if (node != null) {
+            return node.setValue(value);
+        }
+
+        m_root = insert(m_root, new Node<>(key, value));
+        ++m_modCount;
+
+        return null;
+    }
+
+    @Override
+    public V remove(Object key)
+    {
+        var node = getNode(key);
+
+        if (node == null) {
+            return null;
+        }
+
+        m_root = delete(m_root, node.getKey());
+        ++m_modCount;
+
+        return node.getValue();
+    }
+
+    @Override
+    public void clear()
+    {
+        m_root = null;
+        ++m_modCount;
+    }
+
+    /**
+     * Returns the entry at the given index in ascending key order.
+     * @param index the index of the entry
+     * @return the entry at the given index, its {@link Map.Entry#setValue(Object)} writes through to the map
+     * @throws IndexOutOfBoundsException if {@code index} is out of range
+     */
+    public Map.Entry<K, V> entryAt(int index)
+    {
+        if (index < 0 || size() <= index) {
+            throw new IndexOutOfBoundsException("index cannot be out of range");
+        }
+
+        var node = m_root;
+
+        while (true) {
+            var leftSize = size(node.m_left);
+
+            if (index < leftSize) {
+                node = node.m_left;
+            } else if (index == leftSize) {
+                return node;
+            } else {
+                index -= leftSize + 1;
+                node = node.m_right;
+            }
+        }
+    }
+
+    /**
+     * Returns the index of the given key in ascending key order.
+     * @param key the key whose index is returned
+     * @return the index of the key, -1 if the map does not contain the key
+     */
+    public int indexOf(Object key)
+    {
+        var node = m_root;
+        var index = 0;
+
+        while (node != null) {
+            var cmp = compare(key, node.getKey());
+
+            if (cmp < 0) {
+                node = node.m_left;
+            } else if (cmp > 0) {
+                index += size(node.m_left) + 1;
+                node = node.m_right;
+            } else {
+                return index + size(node.m_left);
+            }
+        }
+
+        return -1;
+    }
+
+    @Override
+    public Set<Map.Entry<K, V>> entrySet()
+    {
+        if (m_entrySet == null) {
+            m_entrySet = new EntrySet();
+        }
+
+        return m_entrySet;
+    }
+
+    @SuppressWarnings("unchecked")
+    private int compare(Object key1, Object key2)
+    {
+        return m_comparator == null ? ((Comparable<Object>) key1).compareTo(key2) : m_comparator.compare((K) key1, (K) key2);
+    }
+
+    private Node<K, V> getNode(Object key)
+    {
+        if (key == null && m_comparator == null) {
+            return null;
+        }
+
+        var node = m_root;
+
+        while (node != null) {
+            var cmp = compare(key, node.getKey());
+
+            if (cmp == 0) {
+                return node;
+            }
+
+            node = cmp < 0 ? node.m_left : node.m_right;
+        }
+
+        return null;
+    }
+
+    private Node<K, V> insert(Node<K, V> node, Node<K, V> newNode)
+    {
+        if (node == null) {
+            return newNode;
+        }
+
+        if (compare(newNode.getKey(), node.getKey()) < 0) {
+            node.m_left = insert(node.m_left, newNode);
+        } else {
+            node.m_right = insert(node.m_right, newNode);
+        }
+
+        return rebalance(node);
+    }
+
+    private Node<K, V> delete(Node<K, V> node, K key)
+    {
+        var cmp = compare(key, node.getKey());
+
+        if (cmp < 0) {
+            node.m_left = delete(node.m_left, key);
+        } else if (cmp > 0) {
+            node.m_right = delete(node.m_right, key);
+        } else {
+            if (node.m_left == null) {
+                return node.m_right;
+            }
+
+            if (node.m_right == null) {
+                return node.m_left;
+            }
+
+            var successor = node.m_right;
+
+            while (successor.m_left != null) {
+                successor = successor.m_left;
+            }
+
+            successor.m_right = deleteMin(node.m_right);
+            successor.m_left = node.m_left;
+            node = successor;
+        }
+
+        return rebalance(node);
+    }
+
+    private static <K, V> Node<K, V> deleteMin(Node<K, V> node)
+    {
+        if (node.m_left == null) {
+            return node.m_right;
+        }
+
+        node.m_left = deleteMin(node.m_left);
+
+        return rebalance(node);
+    }
+
+    private static <K, V> Node<K, V> rebalance(Node<K, V> node)
+    {
+        update(node);
+
+        var balance = height(node.m_left) - height(node.m_right);
+
+        if (balance > 1) {
+            if (height(node.m_left.m_left) < height(node.m_left.m_right)) {
+                node.m_left = rotateLeft(node.m_left);
+            }
+
+            return rotateRight(node);
+        }
+
+        if (balance < -1) {
+            if (height(node.m_right.m_right) < height(node.m_right.m_left)) {
+                node.m_right = rotateRight(node.m_right);
+            }
+
+            return rotateLeft(node);
+        }
+
+        return node;
+    }
+
+    private static <K, V> Node<K, V> rotateLeft(Node<K, V> node)
+    {
+        var right = node.m_right;
+
+        node.m_right = right.m_left;
+        right.m_left = node;
+        update(node);
+        update(right);
+
+        return right;
+    }
+
+    private static <K, V> Node<K, V> rotateRight(Node<K, V> node)
+    {
+        var left = node.m_left;
+
+        node.m_left = left.m_right;
+        left.m_right = node;
+        update(node);
+        update(left);
+
+        return left;
+    }
+
+    private static void update(Node<?, ?> node)
+    {
+        node.m_height = Math.max(height(node.m_left), height(node.m_right)) + 1;
+        node.m_size = size(node.m_left) + size(node.m_right) + 1;
+    }
+
+    private static int height(Node<?, ?> node)
+    {
+        return node == null ? 0 : node.m_height;
+    }
+
+    private static int size(Node<?, ?> node)
+    {
+        return node == null ? 0 : node.m_size;
+    }
+
+    private static final class Node<K, V> implements Map.Entry<K, V> {
+        private final K m_key;
+        private V m_value;
+        private Node<K, V> m_left;
+        private Node<K, V> m_right;
+        private int m_height = 1;
+        private int m_size = 1;
+
+        private Node(K key, V value)
+        {
+            m_key = key;
+            m_value = value;
+        }
+
+        @Override
+        public K getKey()
+        {
+            return m_key;
+        }
+
+        @Override
+        public V getValue()
+        {
+            return m_value;
+        }
+
+        @Override
+        public V setValue(V value)
+        {
+            var oldValue = m_value;
+
+            m_value = value;
+
+            return oldValue;
+        }
+
+        @Override
+        public boolean equals(Object other)
+        {
+            if (!(other instanceof Map.Entry)) {
+                return false;
+            }
+
+            var entry = (Map.Entry<?, ?>) other;
+
+            return Objects.equals(m_key, entry.getKey()) && Objects.equals(m_value, entry.getValue());
+        }
+
+        @Override
+        public int hashCode()
+        {
+            return Objects.hashCode(m_key) ^ Objects.hashCode(m_value);
+        }
+
+        @Override
+        public String toString()
+        {
+            return m_key + "=" + m_value;
+        }
+    }
+
+    private final class EntrySet extends AbstractSet<Map.Entry<K, V>> {
+        @Override
+        public Iterator<Map.Entry<K, V>> iterator()
+        {
+            return new EntryIterator();
+        }
+
+        @Override
+        public int size()
+        {
+            return IndexedTreeMap.this.size();
+        }
+
+        @Override
+        public boolean contains(Object o)
+        {
+            if (!(o instanceof Map.Entry)) {
+                return false;
+            }
+
+            var entry = (Map.Entry<?, ?>) o;
+            var node = getNode(entry.getKey());
+
+            return node != null && Objects.equals(node.getValue(), entry.getValue());
+        }
+
+        @Override
+        public void clear()
+        {
+            IndexedTreeMap.this.clear();
+        }
+    }
+
+    private final class EntryIterator implements Iterator<Map.Entry<K, V>> {
+        private final ArrayDeque<Node<K, V>> m_path = new ArrayDeque<>();
+        private Node<K, V> m_last;
+        private int m_expectedModCount = m_modCount;
+
+        private EntryIterator()
+        {
+            pushLeft(m_root);
+        }
+
+        private void pushLeft(Node<K, V> node)
+        {
+            for (; node != null; node = node.m_left) {
+                m_path.push(node);
+            }
+        }
+
+        @Override
+        public boolean hasNext()
+        {
+            return !m_path.isEmpty();
+        }
+
+        @Override
+        public Map.Entry<K, V> next()
+        {
+            if (m_expectedModCount != m_modCount) {
+                throw new ConcurrentModificationException();
+            }
+
+            if (m_path.isEmpty()) {
+                throw new NoSuchElementException("No more elements");
+            }
+
+            m_last = m_path.pop();
+            pushLeft(m_last.m_right);
+
+            return m_last;
+        }
+
+        @Override
+        public void remove()
+        {
+            if (m_last == null) {
+                throw new IllegalStateException();
+            }
+
+            if (m_expectedModCount != m_modCount) {
+                throw new ConcurrentModificationException();
+            }
+
+            var key = m_last.getKey();
+
+            IndexedTreeMap.this.remove(key);
+            m_expectedModCount = m_modCount;
+            m_last = null;
+            m_path.clear();
+
+            for (var node = m_root; node != null; ) {
+                if (compare(node.getKey(), key) > 0) {
+                    m_path.push(node);
+                    node = node.m_left;
+                } else {
+                    node = node.m_right;
+                }
+            }
+        }
+    }
+}
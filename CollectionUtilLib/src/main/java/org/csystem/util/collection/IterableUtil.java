@@ -1,14 +1,24 @@
 package org.csystem.util.collection;
 
+import org.csystem.util.collection.primitive.IntArrayList;
+import org.csystem.util.collection.primitive.IntHashSet;
+import org.csystem.util.collection.primitive.LongHashSet;
+
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
@@ -33,7 +43,9 @@ public final class IterableUtil {
     }
 
     /**
-     * Checks if all elements in the specified {@link Iterable} are distinct.
+     * Checks if all elements in the specified {@link Iterable} are distinct. The check stops at the first duplicate;
+     * the distinct count of streams too large to hold can be estimated by a
+     * {@link org.csystem.util.collection.sketch.HyperLogLog} instead.
      * @param iterable the {@link Iterable} to check if all elements are distinct
      * @param <T>      the type of the elements in the {@link Iterable}
      * @return true if all elements are distinct otherwise return false
@@ -43,10 +55,57 @@ public final class IterableUtil {
     {
         Objects.requireNonNull(iterable, ITERABLE_CANNOT_BE_NULL);
 
-        var iterableList = StreamSupport.stream(iterable.spliterator(), false)
-            .collect(Collectors.toList());
+        var set = new HashSet<T>(Math.max(sizeOf(iterable), 16) * 4 / 3 + 1);
+
+        for (T t : iterable) {
+            if (!set.add(t)) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Checks if all values in the specified array are distinct without boxing them.
+     * @param values the values to check if all are distinct
+     * @return true if all values are distinct otherwise return false
+     * @throws NullPointerException if {@code values} is null
+     */
+    public static boolean areAllDistinct(int... values)
+    {
+        Objects.requireNonNull(values, "values cannot be null");
+
+        var set = new IntHashSet(values.length);
+
+        for (var value : values) {
+            if (!set.add(value)) {
+                return false;
+            }
+        }
 
-        return iterableList.size() == new HashSet<T>(iterableList).size();
+        return true;
+    }
+
+    /**
+     * Checks if all values in the specified array are distinct without boxing them.
+     * @param values the values to check if all are distinct
+     * @return true if all values are distinct otherwise return false
+     * @throws NullPointerException if {@code values} is null
+     */
+    public static boolean areAllDistinct(long... values)
+    {
+        Objects.requireNonNull(values, "values cannot be null");
+
+        var set = new LongHashSet(values.length);
+
+        for (var value : values) {
+            if (!set.add(value)) {
+                return false;
+            }
+        }
+
+        return true;
     }
 
     /**
@@ -66,7 +125,7 @@ public final class IterableUtil {
     }
 
     /**
-     * Merges two iterables into a single, sorted List by comparator
+     * Merges two iterables which are sorted by comparator into a single, sorted List in linear time
      * @param a          the {@link Iterable} to collate
      * @param b          the {@link Iterable} to collate
      * @param comparator the {@link Comparator} to compare the elements to determine the order
@@ -85,10 +144,13 @@ public final class IterableUtil {
     }
 
     /**
-     * Merges two iterables into a single, sorted List by comparator
+     * Merges two iterables into a single, sorted List by comparator. Sorted inputs are merged in linear time, if an
+     * input turns out not to be sorted the elements are sorted instead. The result is stable, of the elements comparing
+     * equal those of {@code a} come first.
      * @param a                 the {@link Iterable} to collate
      * @param b                 the {@link Iterable} to collate
-     * @param includeDuplicates if true, duplicate elements are included
+     * @param includeDuplicates if true, duplicate elements are included, otherwise only the first of the elements
+     *                          that are equal by {@link Object#equals(Object)} is kept
      * @param comparator        the {@link Comparator} to compare the elements to determine the order
      * @param <T>               the type of the elements
      * @return List<T> the collated {@link List} of the two {@link Iterable}
@@ -107,12 +169,55 @@ public final class IterableUtil {
             throw new NullPointerException("comparator cannot be null");
         }
 
-        return includeDuplicates ? unionAll(a, b).stream().sorted(comparator).collect(Collectors.toList()) :
-            union(a, b).stream().sorted(comparator).collect(Collectors.toList());
+        var result = new ArrayList<T>(Math.max(sizeOf(a), 0) + Math.max(sizeOf(b), 0));
+        var seen = includeDuplicates ? null : new HashSet<T>();
+        var itA = a.iterator();
+        var itB = b.iterator();
+        var hasA = itA.hasNext();
+        var hasB = itB.hasNext();
+        T valA = hasA ? itA.next() : null;
+        T valB = hasB ? itB.next() : null;
+
+        while (hasA || hasB) {
+            T val;
+
+            if (hasA && (!hasB || comparator.compare(valA, valB) <= 0)) {
+                val = valA;
+                hasA = itA.hasNext();
+                valA = hasA ? itA.next() : null;
+
+                if (hasA && comparator.compare(valA, val) < 0) {
+                    return sortedCollate(a, b, comparator, includeDuplicates);
+                }
+            } else {
+                val = valB;
+                hasB = itB.hasNext();
+                valB = hasB ? itB.next() : null;
+
+                if (hasB && comparator.compare(valB, val) < 0) {
+                    return sortedCollate(a, b, comparator, includeDuplicates);
+                }
+            }
+
+            if (seen == null || seen.add(val)) {
+                result.add(val);
+            }
+        }
+
+        return result;
+    }
+
+    private static <T> List<T> sortedCollate(Iterable<? extends T> a, Iterable<? extends T> b,
+        Comparator<? super T> comparator, boolean includeDuplicates)
+    {
+        var result = includeDuplicates ? unionAll(a, b) : union(a, b);
+
+        return result.stream().sorted(comparator).collect(Collectors.toList());
     }
     
     /**
-     * Combines multiple iterables into a single iterable
+     * Combines multiple iterables into a single iterable. The result is a lazy view, the inner iterables are
+     * traversed only while the returned iterable is iterated.
      * @param iterable the {@link Iterable} to combine
      * @param <T>      the type of the elements in the iterable
      * @return iterable the combined {@link Iterable}
@@ -122,10 +227,7 @@ public final class IterableUtil {
     {
         Objects.requireNonNull(iterable, ITERABLE_CANNOT_BE_NULL );
 
-        return StreamSupport.stream(iterable.spliterator(), false)
-            .flatMap(i -> StreamSupport.stream(i.spliterator(), false))
-            .collect(Collectors.toList());
-
+        return () -> new ConcatIterator<>(iterable.iterator());
     }
     
     /**
@@ -146,10 +248,20 @@ public final class IterableUtil {
             .anyMatch(object::equals);
     }
     
-    //Returns an iterable whose iterators cycle indefinitely over the elements of iterable.
+    /**
+     * Returns an iterable whose iterators cycle indefinitely over the elements of the given iterable. Every cycle
+     * starts a new iteration of {@code iterable}, so changes to it are reflected. The iteration ends only if
+     * {@code iterable} becomes empty.
+     * @param iterable the {@link Iterable} to cycle over
+     * @param <T>      the type of the elements in the iterable
+     * @return a lazy {@link Iterable} cycling over the elements of {@code iterable}
+     * @throws NullPointerException if {@code iterable} is null
+     */
     public static <T> Iterable<T> cycle(Iterable<T> iterable)
     {
-        throw new UnsupportedOperationException("Will be written by Oğuz Karan");
+        Objects.requireNonNull(iterable, ITERABLE_CANNOT_BE_NULL);
+
+        return () -> new CycleIterator<>(iterable);
     }
     
     /**
@@ -216,7 +328,8 @@ public final class IterableUtil {
     }
 
     /**
-     * Calculates the frequency of a given object in an iterable collection.
+     * Calculates the frequency of a given object in an iterable collection. The iterable is scanned on every call, use a
+     * {@link FrequencyIndex} to answer repeated queries.
      * @param iterable the {@link Iterable} to search for the object
      * @param obj      the object to search for
      * @param <E>      the type of elements in the collection
@@ -244,36 +357,180 @@ public final class IterableUtil {
     {
         Objects.requireNonNull(coll, "coll cannot be null");
 
-        return StreamSupport.stream(coll.spliterator(), false)
-            .collect(Collectors.toMap(Function.identity(), t -> 1, Integer::sum));
+        var counts = new HashMap<T, int[]>();
+
+        for (T t : coll) {
+            var count = counts.get(t);
+
+            if (count == null) {
+                counts.put(t, new int[]{1});
+            } else {
+                ++count[0];
+            }
+        }
+
+        var result = new HashMap<T, Integer>(counts.size() * 4 / 3 + 1);
+
+        counts.forEach((t, count) -> result.put(t, count[0]));
+
+        return result;
+    }
+
+    /**
+     * Returns a map containing the cardinality of each element in the given iterable, optionally counting the elements
+     * in parallel by a {@link FrequencyIndex}.
+     * @param coll     the {@link Iterable} to get the cardinality map from
+     * @param parallel whether to use parallel streams
+     * @param <T>      the type of elements in the iterable
+     * @return map the {@link Map} containing the cardinality of each element in the iterable
+     * @throws NullPointerException if {@code coll} is null
+     * @throws ArithmeticException  if a cardinality overflows an int
+     */
+    public static <T> Map<T, Integer> getCardinalityMap(Iterable<? extends T> coll, boolean parallel)
+    {
+        if (!parallel) {
+            return getCardinalityMap(coll);
+        }
+
+        Objects.requireNonNull(coll, "coll cannot be null");
+
+        var counts = FrequencyIndex.<T>of(coll, true).toMap();
+        var result = new HashMap<T, Integer>(counts.size() * 4 / 3 + 1);
+
+        counts.forEach((t, count) -> result.put(t, Math.toIntExact(count)));
+
+        return result;
     }
 
     /**
      * Returns a collection containing the intersection of two iterables. The intersection is the set of elements that are common to both iterables.
+     * The elements are distinct and in the encounter order of {@code a}. The smaller of the two collections is hashed, so the
+     * method runs in O(n + m) time.
      * @param a   the first {@link Iterable} to get the intersection from
      * @param b   the second {@link Iterable} to get the intersection from
      * @param <T> the type of elements in the iterables
      * @return a collection containing the intersection of the two iterables
-     * @throws NullPointerException if {@code a} or {@code a} is null
+     * @throws NullPointerException if {@code a} or {@code b} is null
      */
     public static <T> Collection<T> intersection(Iterable<? extends T> a, Iterable<? extends T> b)
+    {
+        return intersection(a, b, false);
+    }
+
+    /**
+     * Returns a collection containing the intersection of two iterables, optionally using parallel streams. The elements are
+     * distinct and in the encounter order of {@code a}.
+     * @param a        the first {@link Iterable} to get the intersection from
+     * @param b        the second {@link Iterable} to get the intersection from
+     * @param parallel whether to use parallel streams
+     * @param <T>      the type of elements in the iterables
+     * @return a collection containing the intersection of the two iterables
+     * @throws NullPointerException if {@code a} or {@code b} is null
+     */
+    public static <T> Collection<T> intersection(Iterable<? extends T> a, Iterable<? extends T> b, boolean parallel)
     {
         Objects.requireNonNull(a, A_CANNOT_BE_NULL);
         Objects.requireNonNull(b, B_CANNOT_BE_NULL);
 
-        return StreamSupport.stream(a.spliterator(), false)
-            .filter(t -> StreamSupport.stream(b.spliterator(), false)
-                .anyMatch(t::equals)).collect(Collectors.toSet());
+        var sizeA = sizeOf(a);
+        var sizeB = sizeOf(b);
+
+        if (sizeA == 0 || sizeB == 0) {
+            return new LinkedHashSet<>();
+        }
+
+        if (sizeA >= 0 && (sizeB < 0 || sizeA < sizeB)) {
+            var result = StreamSupport.stream(a.spliterator(), false)
+                .collect(Collectors.toCollection(LinkedHashSet<T>::new));
+            var common = StreamSupport.stream(b.spliterator(), parallel)
+                .filter(result::contains)
+                .collect(Collectors.toSet());
+
+            result.retainAll(common);
+
+            return result;
+        }
+
+        var set = toHashSet(b);
+
+        return StreamSupport.stream(a.spliterator(), parallel)
+            .filter(set::contains)
+            .collect(Collectors.toCollection(LinkedHashSet::new));
     }
 
     /**
-     * Checks if the first collection is a subset of the second collection.
-     * @param a the {@link Collection} to check as a subset
-     * @param b the {@link Collection} to check against
-     * @return true if {@code a} is a subset of {@code b}, false otherwise
-     * @throws NullPointerException if {@code a} or {@code a} is null
+     * Returns the intersection of two int arrays without boxing. The values are distinct and in the encounter order
+     * of {@code a}.
+     * @param a the first array to get the intersection from
+     * @param b the second array to get the intersection from
+     * @return an array containing the intersection of the two arrays
+     * @throws NullPointerException if {@code a} or {@code b} is null
+     */
+    public static int [] intersection(int [] a, int [] b)
+    {
+        Objects.requireNonNull(a, A_CANNOT_BE_NULL);
+        Objects.requireNonNull(b, B_CANNOT_BE_NULL);
+
+        var set = IntHashSet.of(b);
+        var result = new IntArrayList(Math.min(a.length, set.size()));
+
+        for (var value : a) {
+            if (set.remove(value)) {
+                result.add(value);
+            }
+        }
+
+        return result.toArray();
+    }
+
+    /**
+     * Returns the intersection of two long arrays without boxing. The values are distinct and in the encounter order
+     * of {@code a}.
+     * @param a the first array to get the intersection from
+     * @param b the second array to get the intersection from
+     * @return an array containing the intersection of the two arrays
+     * @throws NullPointerException if {@code a} or {@code b} is null
+     */
+    public static long [] intersection(long [] a, long [] b)
+    {
+        Objects.requireNonNull(a, A_CANNOT_BE_NULL);
+        Objects.requireNonNull(b, B_CANNOT_BE_NULL);
+
+        var set = LongHashSet.of(b);
+        var result = new long[Math.min(a.length, set.size())];
+        var count = 0;
+
+        for (var value : a) {
+            if (set.remove(value)) {
+                result[count++] = value;
+            }
+        }
+
+        return Arrays.copyOf(result, count);
+    }
+
+    /**
+     * Checks if the second collection is a sub-collection of the first collection, that is every element of {@code b}
+     * occurs in {@code a} at least as many times as it occurs in {@code b}. The method runs in O(n + m) time.
+     * @param a the {@link Collection} to check against
+     * @param b the {@link Collection} to check as a sub-collection
+     * @return true if {@code b} is a sub-collection of {@code a}, false otherwise
+     * @throws NullPointerException if {@code a} or {@code b} is null
      */
     public static boolean isSubCollection(Collection<?> a, Collection<?> b)
+    {
+        return isSubCollection(a, b, false);
+    }
+
+    /**
+     * Checks if the second collection is a sub-collection of the first collection, optionally using parallel streams.
+     * @param a        the {@link Collection} to check against
+     * @param b        the {@link Collection} to check as a sub-collection
+     * @param parallel whether to use parallel streams
+     * @return true if {@code b} is a sub-collection of {@code a}, false otherwise
+     * @throws NullPointerException if {@code a} or {@code b} is null
+     */
+    public static boolean isSubCollection(Collection<?> a, Collection<?> b, boolean parallel)
     {
         Objects.requireNonNull(a, A_CANNOT_BE_NULL);
         Objects.requireNonNull(b, B_CANNOT_BE_NULL);
@@ -282,11 +539,43 @@ public final class IterableUtil {
             return false;
         }
 
-        return a.stream().anyMatch(b::contains);
+        if (b.isEmpty()) {
+            return true;
+        }
+
+        Map<Object, Integer> required = getCardinalityMap(b);
+
+        if (parallel) {
+            Map<Object, Integer> available = a.parallelStream()
+                .filter(required::containsKey)
+                .collect(Collectors.toMap(Function.identity(), t -> 1, Integer::sum));
+
+            return required.entrySet().stream()
+                .allMatch(e -> available.getOrDefault(e.getKey(), 0) >= e.getValue());
+        }
+
+        var remaining = required.size();
+
+        for (var t : a) {
+            var count = required.get(t);
+
+            if (count == null || count == 0) {
+                continue;
+            }
+
+            required.put(t, count - 1);
+
+            if (count == 1 && --remaining == 0) {
+                return true;
+            }
+        }
+
+        return false;
     }
 
     /**
-     * Returns a limited iterable from the given iterable.
+     * Returns a limited iterable from the given iterable. The result is a lazy view which stops consuming
+     * {@code iterable} once {@code limitSize} elements are returned.
      * @param iterable  the {@link Iterable} to limit
      * @param limitSize the maximum number of elements to return
      * @param <T>       the type of elements in the iterable
@@ -305,20 +594,48 @@ public final class IterableUtil {
             return Collections.emptyList();
         }
 
-        return StreamSupport.stream(iterable.spliterator(), false)
-            .limit(limitSize)
-            .collect(Collectors.toList());
+        return () -> new LimitIterator<>(iterable.iterator(), limitSize);
     }
     
-    static <T> Iterable<T> mergeSorted(Iterable<? extends Iterable<? extends T>> iterables,
+    /**
+     * Merges the given iterables which are sorted by comparator into a single sorted iterable. The result is a lazy
+     * view that keeps only the current head of each input in a binary heap, so a full iteration takes O(n log k) time
+     * and O(k) memory for k iterables. The merge is stable, equal elements keep the order of their iterables. The result
+     * is unspecified if an input is not sorted.
+     * @param iterables  the sorted {@link Iterable}s to merge
+     * @param comparator the {@link Comparator} the inputs are sorted by
+     * @param <T>        the type of the elements
+     * @return a lazy sorted {@link Iterable} of all elements of {@code iterables}
+     * @throws NullPointerException if {@code iterables} or {@code comparator} is null
+     */
+    public static <T> Iterable<T> mergeSorted(Iterable<? extends Iterable<? extends T>> iterables,
         Comparator<? super T> comparator)
     {
-        throw new UnsupportedOperationException("Will be written by Oğuz Karan");
+        Objects.requireNonNull(iterables, "iterables cannot be null");
+        Objects.requireNonNull(comparator, "comparator cannot be null");
+
+        return () -> new MergeSortedIterator<>(iterables, comparator);
     }
 
+    /**
+     * Divides the given iterable into unmodifiable lists of the given size. The last list is padded with nulls if
+     * there are not enough elements. The result is a lazy view, only one partition is held at a time.
+     * @param iterable the {@link Iterable} to divide
+     * @param size     the size of each partition
+     * @param <T>      the type of the elements in the iterable
+     * @return a lazy {@link Iterable} of the partitions
+     * @throws NullPointerException     if {@code iterable} is null
+     * @throws IllegalArgumentException if {@code size} is not positive
+     */
     public static <T> Iterable<List<T>> paddedPartition(Iterable<T> iterable, int size)
     {
-        throw new UnsupportedOperationException("Will be written by Oğuz Karan");
+        Objects.requireNonNull(iterable, ITERABLE_CANNOT_BE_NULL);
+
+        if (size <= 0) {
+            throw new IllegalArgumentException("size must be positive");
+        }
+
+        return () -> new PaddedPartitionIterator<>(iterable.iterator(), size);
     }
     
     /**
@@ -353,6 +670,7 @@ public final class IterableUtil {
 
     /**
      * Returns an iterable containing the result of applying the given function to each element of the given iterable.
+     * The result is a lazy view, {@code func} is applied while the returned iterable is iterated.
      * @param iterable the {@link Iterable} to transform
      * @param func     the {@link Function} function to apply to each element
      * @param <T>      the type of elements in the iterable
@@ -362,11 +680,15 @@ public final class IterableUtil {
      */
     public static <T, R> Iterable<R> toIterable(Iterable<T> iterable, Function<? super T, R> func)
     {
-        return toIterable(iterable, func, false);
+        Objects.requireNonNull(iterable, ITERABLE_CANNOT_BE_NULL);
+        Objects.requireNonNull(func, "func cannot be null");
+
+        return () -> new MapIterator<>(iterable.iterator(), func);
     }
 
     /**
      * Returns an iterable containing the result of applying the given function to each element of the given iterable.
+     * The result is computed eagerly if {@code parallel} is true, otherwise it is a lazy view.
      * @param iterable the {@link Iterable} to transform
      * @param func     the {@link Function} function to apply to each element
      * @param parallel whether to use parallel streams
@@ -377,7 +699,7 @@ public final class IterableUtil {
      */
     public static <T, R> Iterable<R> toIterable(Iterable<T> iterable, Function<? super T, R> func, boolean parallel)
     {
-        return toList(iterable, func, parallel);
+        return parallel ? toList(iterable, func, true) : toIterable(iterable, func);
     }
 
     /**
@@ -410,7 +732,8 @@ public final class IterableUtil {
     }
     
     /**
-     * Returns a {@link Collection} containing the union of the given collections which were distincted.
+     * Returns a {@link Collection} containing the union of the given collections which were distincted. The elements are in
+     * encounter order, those of {@code a} first.
      * @param a   the first {@link Iterable} to include in the union
      * @param b   the second {@link Iterable} to include in the union
      * @param <T> the type of the elements in the collection
@@ -418,17 +741,108 @@ public final class IterableUtil {
      * @throws NullPointerException if the both parameters are null
      */
     public static <T> Collection<T> union(Iterable<? extends T> a, Iterable<? extends T> b)
+    {
+        return union(a, b, false);
+    }
+
+    /**
+     * Returns a {@link Collection} containing the union of the given collections which were distincted, optionally using
+     * parallel streams. The elements are in encounter order, those of {@code a} first.
+     * @param a        the first {@link Iterable} to include in the union
+     * @param b        the second {@link Iterable} to include in the union
+     * @param parallel whether to use parallel streams
+     * @param <T>      the type of the elements in the collection
+     * @return a {@link Collection} containing the union of the given collections
+     * @throws NullPointerException if the both parameters are null
+     */
+    public static <T> Collection<T> union(Iterable<? extends T> a, Iterable<? extends T> b, boolean parallel)
     {
         if (a == null && b == null) {
             throw new NullPointerException("Null pointer exception..!");
-        } else if (a == null) {
-            return StreamSupport.stream(b.spliterator(), false).distinct().collect(Collectors.toList());
+        }
+
+        Stream<? extends T> stream;
+
+        if (a == null) {
+            stream = StreamSupport.stream(b.spliterator(), parallel);
         } else if (b == null) {
-            return StreamSupport.stream(a.spliterator(), false).distinct().collect(Collectors.toList());
+            stream = StreamSupport.stream(a.spliterator(), parallel);
+        } else {
+            stream = Stream.concat(StreamSupport.stream(a.spliterator(), parallel), StreamSupport.stream(b.spliterator(), parallel));
         }
 
-        return Stream.concat(StreamSupport.stream(a.spliterator(), false), StreamSupport.stream(b.spliterator(), false))
-            .distinct().collect(Collectors.toList());
+        if (parallel) {
+            return new ArrayList<T>(stream.collect(Collectors.toCollection(LinkedHashSet::new)));
+        }
+
+        var set = new LinkedHashSet<T>(Math.max(sizeOf(a), 0) + Math.max(sizeOf(b), 0));
+
+        stream.forEach(set::add);
+
+        return new ArrayList<>(set);
+    }
+
+    /**
+     * Returns the union of two int arrays without boxing. The values are distinct and in encounter order, those of
+     * {@code a} first.
+     * @param a the first array to include in the union
+     * @param b the second array to include in the union
+     * @return an array containing the union of the two arrays
+     * @throws NullPointerException if {@code a} or {@code b} is null
+     */
+    public static int [] union(int [] a, int [] b)
+    {
+        Objects.requireNonNull(a, A_CANNOT_BE_NULL);
+        Objects.requireNonNull(b, B_CANNOT_BE_NULL);
+
+        var set = new IntHashSet(a.length + b.length);
+        var result = new IntArrayList(a.length + b.length);
+
+        for (var value : a) {
+            if (set.add(value)) {
+                result.add(value);
+            }
+        }
+
+        for (var value : b) {
+            if (set.add(value)) {
+                result.add(value);
+            }
+        }
+
+        return result.toArray();
+    }
+
+    /**
+     * Returns the union of two long arrays without boxing. The values are distinct and in encounter order, those of
+     * {@code a} first.
+     * @param a the first array to include in the union
+     * @param b the second array to include in the union
+     * @return an array containing the union of the two arrays
+     * @throws NullPointerException if {@code a} or {@code b} is null
+     */
+    public static long [] union(long [] a, long [] b)
+    {
+        Objects.requireNonNull(a, A_CANNOT_BE_NULL);
+        Objects.requireNonNull(b, B_CANNOT_BE_NULL);
+
+        var set = new LongHashSet(a.length + b.length);
+        var result = new long[a.length + b.length];
+        var count = 0;
+
+        for (var value : a) {
+            if (set.add(value)) {
+                result[count++] = value;
+            }
+        }
+
+        for (var value : b) {
+            if (set.add(value)) {
+                result[count++] = value;
+            }
+        }
+
+        return Arrays.copyOf(result, count);
     }
 
     /**
@@ -452,4 +866,291 @@ public final class IterableUtil {
         return Stream.concat(StreamSupport.stream(a.spliterator(), false), StreamSupport.stream(b.spliterator(), false))
             .collect(Collectors.toList());
     }
+
+    private static int sizeOf(Iterable<?> iterable)
+    {
+        if (iterable == null) {
+            return 0;
+        }
+
+        return iterable instanceof Collection ? ((Collection<?>) iterable).size() : -1;
+    }
+
+    private static <T> Set<T> toHashSet(Iterable<? extends T> iterable)
+    {
+        if (iterable instanceof HashSet) {
+            @SuppressWarnings("unchecked")
+            var set = (Set<T>) iterable;
+
+            return set;
+        }
+
+        if (iterable instanceof Collection) {
+            return new HashSet<>((Collection<? extends T>) iterable);
+        }
+
+        var set = new HashSet<T>();
+
+        iterable.forEach(set::add);
+
+        return set;
+    }
+
+    private static final class ConcatIterator<T> implements Iterator<T> {
+        private final Iterator<? extends Iterable<? extends T>> m_iterables;
+        private Iterator<? extends T> m_current = Collections.emptyIterator();
+
+        ConcatIterator(Iterator<? extends Iterable<? extends T>> iterables)
+        {
+            m_iterables = iterables;
+        }
+
+        @Override
+        public boolean hasNext()
+        {
+            while (!m_current.hasNext()) {
+                if (!m_iterables.hasNext()) {
+                    return false;
+                }
+
+                m_current = m_iterables.next().iterator();
+            }
+
+            return true;
+        }
+
+        @Override
+        public T next()
+        {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+
+            return m_current.next();
+        }
+    }
+
+    private static final class CycleIterator<T> implements Iterator<T> {
+        private final Iterable<T> m_iterable;
+        private Iterator<T> m_current;
+
+        CycleIterator(Iterable<T> iterable)
+        {
+            m_iterable = iterable;
+            m_current = iterable.iterator();
+        }
+
+        @Override
+        public boolean hasNext()
+        {
+            if (!m_current.hasNext()) {
+                m_current = m_iterable.iterator();
+            }
+
+            return m_current.hasNext();
+        }
+
+        @Override
+        public T next()
+        {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+
+            return m_current.next();
+        }
+    }
+
+    private static final class LimitIterator<T> implements Iterator<T> {
+        private final Iterator<T> m_iterator;
+        private int m_remaining;
+
+        LimitIterator(Iterator<T> iterator, int limitSize)
+        {
+            m_iterator = iterator;
+            m_remaining = limitSize;
+        }
+
+        @Override
+        public boolean hasNext()
+        {
+            return m_remaining > 0 && m_iterator.hasNext();
+        }
+
+        @Override
+        public T next()
+        {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+
+            --m_remaining;
+
+            return m_iterator.next();
+        }
+    }
+
+    private static final class MapIterator<T, R> implements Iterator<R> {
+        private final Iterator<T> m_iterator;
+        private final Function<? super T, R> m_func;
+
+        MapIterator(Iterator<T> iterator, Function<? super T, R> func)
+        {
+            m_iterator = iterator;
+            m_func = func;
+        }
+
+        @Override
+        public boolean hasNext()
+        {
+            return m_iterator.hasNext();
+        }
+
+        @Override
+        public R next()
+        {
+            return m_func.apply(m_iterator.next());
+        }
+    }
+
+    private static final class PaddedPartitionIterator<T> implements Iterator<List<T>> {
+        private final Iterator<T> m_iterator;
+        private final int m_size;
+
+        PaddedPartitionIterator(Iterator<T> iterator, int size)
+        {
+            m_iterator = iterator;
+            m_size = size;
+        }
+
+        @Override
+        public boolean hasNext()
+        {
+            return m_iterator.hasNext();
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public List<T> next()
+        {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+
+            var partition = (T []) new Object[m_size];
+
+            for (var i = 0; i < m_size && m_iterator.hasNext(); ++i) {
+                partition[i] = m_iterator.next();
+            }
+
+            return Collections.unmodifiableList(Arrays.asList(partition));
+        }
+    }
+
+    private static final class MergeSortedIterator<T> implements Iterator<T> {
+        private final Comparator<? super T> m_comparator;
+        private final Head<T> [] m_heads;
+        private int m_size;
+
+        private static final class Head<T> {
+            final Iterator<? extends T> iterator;
+            final int index;
+            T value;
+
+            Head(Iterator<? extends T> iterator, int index)
+            {
+                this.iterator = iterator;
+                this.index = index;
+                value = iterator.next();
+            }
+        }
+
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        private static <T> Head<T> [] newHeads(int length)
+        {
+            return new Head[length];
+        }
+
+        MergeSortedIterator(Iterable<? extends Iterable<? extends T>> iterables, Comparator<? super T> comparator)
+        {
+            var heads = new ArrayList<Head<T>>();
+
+            for (var iterable : iterables) {
+                var iterator = iterable.iterator();
+
+                if (iterator.hasNext()) {
+                    heads.add(new Head<>(iterator, heads.size()));
+                }
+            }
+
+            m_comparator = comparator;
+            m_heads = heads.toArray(newHeads(heads.size()));
+            m_size = m_heads.length;
+
+            for (var i = m_size / 2 - 1; i >= 0; --i) {
+                siftDown(i);
+            }
+        }
+
+        private boolean less(Head<T> h1, Head<T> h2)
+        {
+            var result = m_comparator.compare(h1.value, h2.value);
+
+            return result < 0 || result == 0 && h1.index < h2.index;
+        }
+
+        private void siftDown(int i)
+        {
+            var head = m_heads[i];
+            var half = m_size >>> 1;
+
+            while (i < half) {
+                var child = 2 * i + 1;
+                var right = child + 1;
+
+                if (right < m_size && less(m_heads[right], m_heads[child])) {
+                    child = right;
+                }
+
+                if (!less(m_heads[child], head)) {
+                    break;
+                }
+
+                m_heads[i] = m_heads[child];
+                i = child;
+            }
+
+            m_heads[i] = head;
+        }
+
+        @Override
+        public boolean hasNext()
+        {
+            return m_size != 0;
+        }
+
+        @Override
+        public T next()
+        {
+            if (m_size == 0) {
+                throw new NoSuchElementException();
+            }
+
+            var head = m_heads[0];
+            var result = head.value;
+
+            if (head.iterator.hasNext()) {
+                head.value = head.iterator.next();
+            } else {
+                m_heads[0] = m_heads[--m_size];
+                m_heads[m_size] = null;
+            }
+
+            if (m_size != 0) {
+                siftDown(0);
+            }
+
+            return result;
+        }
+    }
 }
@@ -0,0 +1,221 @@
+package org.csystem.util.collection.offheap;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Base of the fixed length arrays stored outside of the heap. The memory is split into chunks of at most 1 GiB since
+ * a {@link ByteBuffer} is int indexed; an element never spans two chunks. The chunks are either direct buffers or
+ * memory mapped regions of a file and are in little endian order, so mapped files are portable. Closing an array frees
+ * or unmaps its memory immediately instead of waiting for the garbage collector.
+ * <p>Accessing freed memory may crash the JVM. The bulk operations, {@code forEach} methods and the spliterators (hence
+ * the streams) register themselves as traversals; closing an array during a traversal, for example when a parallel
+ * stream fails inside try-with-resources while its other tasks still run, makes the array reject new accesses but
+ * defers freeing the memory until the last traversal ends. Single element accesses and iterators are not tracked, they
+ * must not run concurrently with {@link #close()}.</p>
+ * <p>1993 by C and System Programmers Association (CSD) All Rights Free</p>
+ * @author JavaApp2-Jan-2024 Group
+ * @version 1.0.0
+ */
+abstract class OffHeapArray implements AutoCloseable {
+
+    private static final int CHUNK_SHIFT = 30;
+    private static final long CHUNK_MASK = (1L << CHUNK_SHIFT) - 1;
+    private static final Object UNSAFE;
+    private static final Method INVOKE_CLEANER;
+    private final long m_length;
+    private final int m_elementShift;
+    private final AtomicInteger m_traversals = new AtomicInteger();
+    private final AtomicReference<ByteBuffer []> m_retiredChunks = new AtomicReference<>();
+    private volatile ByteBuffer [] m_chunks;
+
+    static {
+        Object unsafe = null;
+        Method invokeCleaner = null;
+
+        try {
+            var cls = Class.forName("sun.misc.Unsafe");
+            Field field = cls.getDeclaredField("theUnsafe");
+
+            field.setAccessible(true);
+            unsafe = field.get(null);
+            invokeCleaner = cls.getMethod("invokeCleaner", ByteBuffer.class);
+        }
+        catch (ReflectiveOperationException | RuntimeException ignore) {
+            // The memory is freed by the garbage collector then
+        }
+
+        UNSAFE = unsafe;
+        INVOKE_CLEANER = invokeCleaner;
+    }
+
+    OffHeapArray(long length, int elementShift, Path path)
+    {
+        if (length < 0) {
+            throw new IllegalArgumentException("length cannot be negative");
+        }
+
+        m_length = length;
+        m_elementShift = elementShift;
+
+        var byteCount = length << elementShift;
+        var chunkCount = (int) ((byteCount + CHUNK_MASK) >>> CHUNK_SHIFT);
+
+        m_chunks = new ByteBuffer[chunkCount];
+
+        if (path == null) {
+            for (var i = 0; i < chunkCount; ++i) {
+                m_chunks[i] = ByteBuffer.allocateDirect(chunkSize(byteCount, i)).order(ByteOrder.LITTLE_ENDIAN);
+            }
+
+            return;
+        }
+
+        try (var channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            for (var i = 0; i < chunkCount; ++i) {
+                m_chunks[i] = channel.map(FileChannel.MapMode.READ_WRITE, (long) i << CHUNK_SHIFT, chunkSize(byteCount, i))
+                        .order(ByteOrder.LITTLE_ENDIAN);
+            }
+        }
+        catch (IOException ex) {
+            close();
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private static int chunkSize(long byteCount, int index)
+    {
+        return (int) Math.min(byteCount - ((long) index << CHUNK_SHIFT), 1L << CHUNK_SHIFT);
+    }
+
+    private void free()
+    {
+        var chunks = m_retiredChunks.getAndSet(null);
+
+        if (chunks == null || INVOKE_CLEANER == null) {
+            return;
+        }
+
+        for (var chunk : chunks) {
+            if (chunk != null) {
+                try {
+                    INVOKE_CLEANER.invoke(UNSAFE, chunk);
+                }
+                catch (ReflectiveOperationException ignore) {
+                    // The memory is freed by the garbage collector then
+                }
+            }
+        }
+    }
+
+    /**
+     * Registers a traversal, the memory is not freed until {@link #endTraversal()} is called.
+     */
+    final void beginTraversal()
+    {
+        m_traversals.incrementAndGet();
+    }
+
+    /**
+     * Ends a traversal, frees the memory if the array has been closed meanwhile and this was the last traversal.
+     */
+    final void endTraversal()
+    {
+        if (m_traversals.decrementAndGet() == 0 && m_chunks == null) {
+            free();
+        }
+    }
+
+    /**
+     * Returns the chunk containing the element of the given index.
+     */
+    final ByteBuffer chunk(long index)
+    {
+        if (index < 0 || index >= m_length) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for length " + m_length);
+        }
+
+        var chunks = m_chunks;
+
+        if (chunks == null) {
+            throw new IllegalStateException("Array is closed");
+        }
+
+        return chunks[(int) ((index << m_elementShift) >>> CHUNK_SHIFT)];
+    }
+
+    /**
+     * Returns the byte offset of the element of the given index in its chunk.
+     */
+    final int offset(long index)
+    {
+        return (int) ((index << m_elementShift) & CHUNK_MASK);
+    }
+
+    public final long length()
+    {
+        return m_length;
+    }
+
+    public final boolean isClosed()
+    {
+        return m_chunks == null;
+    }
+
+    /**
+     * Writes the changes of a memory mapped array to its file, it does nothing for an array in direct memory.
+     * @throws IllegalStateException if the array is closed
+     */
+    public final void force()
+    {
+        beginTraversal();
+
+        try {
+            var chunks = m_chunks;
+
+            if (chunks == null) {
+                throw new IllegalStateException("Array is closed");
+            }
+
+            for (var chunk : chunks) {
+                if (chunk instanceof MappedByteBuffer) {
+                    ((MappedByteBuffer) chunk).force();
+                }
+            }
+        }
+        finally {
+            endTraversal();
+        }
+    }
+
+    /**
+     * Frees or unmaps the memory of the array. The memory of an array closed during a traversal is freed when the
+     * traversal ends.
+     */
+    @Override
+    public final void close()
+    {
+        var chunks = m_chunks;
+
+        if (chunks == null) {
+            return;
+        }
+
+        m_retiredChunks.set(chunks);
+        m_chunks = null;
+
+        if (m_traversals.get() == 0) {
+            free();
+        }
+    }
+}
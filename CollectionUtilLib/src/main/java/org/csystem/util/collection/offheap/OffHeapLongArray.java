@@ -0,0 +1,254 @@
+package org.csystem.util.collection.offheap;
+
+import java.nio.file.Path;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.function.LongConsumer;
+import java.util.stream.LongStream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Fixed length long array stored in direct memory or in a memory mapped file, so that large working sets do not load
+ * the garbage collector. The array is long indexed and its elements are initially zero. The array is not thread safe
+ * and must be closed to free its memory.
+ * <p>1993 by C and System Programmers Association (CSD) All Rights Free</p>
+ * @author JavaApp2-Jan-2024 Group
+ * @version 1.0.0
+ */
+public final class OffHeapLongArray extends OffHeapArray implements Iterable<Long> {
+
+    private OffHeapLongArray(long length, Path path)
+    {
+        super(length, 3, path);
+    }
+
+    /**
+     * Allocates an array in direct memory.
+     * @param length the number of elements
+     * @return the array
+     * @throws IllegalArgumentException if {@code length} is negative
+     */
+    public static OffHeapLongArray allocate(long length)
+    {
+        return new OffHeapLongArray(length, null);
+    }
+
+    /**
+     * Maps an array to the given file. The file is created or extended if needed; the existing content is kept, so an
+     * array can be persisted by {@link #force()} and read back by mapping the file again.
+     * @param path   the path of the file
+     * @param length the number of elements
+     * @return the array
+     * @throws IllegalArgumentException     if {@code length} is negative
+     * @throws java.io.UncheckedIOException if the file can not be mapped
+     */
+    public static OffHeapLongArray map(Path path, long length)
+    {
+        return new OffHeapLongArray(length, Objects.requireNonNull(path, "path cannot be null"));
+    }
+
+    public long get(long index)
+    {
+        return chunk(index).getLong(offset(index));
+    }
+
+    public void set(long index, long value)
+    {
+        chunk(index).putLong(offset(index), value);
+    }
+
+    /**
+     * Copies the given range of an array into this array.
+     * @param index  the index of the first element to set
+     * @param values the source array
+     * @param offset the index of the first value in {@code values}
+     * @param count  the number of values
+     * @throws IndexOutOfBoundsException if a range is out of bounds
+     */
+    public void set(long index, long [] values, int offset, int count)
+    {
+        Objects.checkFromIndexSize(offset, count, values.length);
+
+        beginTraversal();
+
+        try {
+            for (var i = 0; i < count; ++i) {
+                set(index + i, values[offset + i]);
+            }
+        }
+        finally {
+            endTraversal();
+        }
+    }
+
+    /**
+     * Copies the given range of this array into an array.
+     * @param index  the index of the first element to get
+     * @param values the destination array
+     * @param offset the index of the first value in {@code values}
+     * @param count  the number of values
+     * @throws IndexOutOfBoundsException if a range is out of bounds
+     */
+    public void get(long index, long [] values, int offset, int count)
+    {
+        Objects.checkFromIndexSize(offset, count, values.length);
+
+        beginTraversal();
+
+        try {
+            for (var i = 0; i < count; ++i) {
+                values[offset + i] = get(index + i);
+            }
+        }
+        finally {
+            endTraversal();
+        }
+    }
+
+    public void fill(long value)
+    {
+        beginTraversal();
+
+        try {
+            for (long i = 0; i < length(); ++i) {
+                set(i, value);
+            }
+        }
+        finally {
+            endTraversal();
+        }
+    }
+
+    public void forEachLong(LongConsumer action)
+    {
+        beginTraversal();
+
+        try {
+            for (long i = 0; i < length(); ++i) {
+                action.accept(get(i));
+            }
+        }
+        finally {
+            endTraversal();
+        }
+    }
+
+    @Override
+    public PrimitiveIterator.OfLong iterator()
+    {
+        return new PrimitiveIterator.OfLong() {
+            private long m_index;
+
+            @Override
+            public boolean hasNext()
+            {
+                return m_index < length();
+            }
+
+            @Override
+            public long nextLong()
+            {
+                if (!hasNext()) {
+                    throw new NoSuchElementException("No such value");
+                }
+
+                return get(m_index++);
+            }
+        };
+    }
+
+    /**
+     * Returns a SIZED and SUBSIZED spliterator that splits the index range in constant time.
+     * @return the spliterator
+     */
+    @Override
+    public Spliterator.OfLong spliterator()
+    {
+        return new IndexSpliterator(0, length());
+    }
+
+    public LongStream stream()
+    {
+        return StreamSupport.longStream(spliterator(), false);
+    }
+
+    public LongStream parallelStream()
+    {
+        return StreamSupport.longStream(spliterator(), true);
+    }
+
+    private final class IndexSpliterator implements Spliterator.OfLong {
+        private long m_index;
+        private final long m_fence;
+
+        IndexSpliterator(long index, long fence)
+        {
+            m_index = index;
+            m_fence = fence;
+        }
+
+        @Override
+        public boolean tryAdvance(LongConsumer action)
+        {
+            if (m_index >= m_fence) {
+                return false;
+            }
+
+            beginTraversal();
+
+            try {
+                action.accept(get(m_index++));
+            }
+            finally {
+                endTraversal();
+            }
+
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(LongConsumer action)
+        {
+            beginTraversal();
+
+            try {
+                for (; m_index < m_fence; ++m_index) {
+                    action.accept(get(m_index));
+                }
+            }
+            finally {
+                endTraversal();
+            }
+        }
+
+        @Override
+        public Spliterator.OfLong trySplit()
+        {
+            var mid = (m_index + m_fence) >>> 1;
+
+            if (mid <= m_index) {
+                return null;
+            }
+
+            var prefix = new IndexSpliterator(m_index, mid);
+
+            m_index = mid;
+
+            return prefix;
+        }
+
+        @Override
+        public long estimateSize()
+        {
+            return m_fence - m_index;
+        }
+
+        @Override
+        public int characteristics()
+        {
+            return ORDERED | SIZED | SUBSIZED;
+        }
+    }
+}
@@ -0,0 +1,272 @@
+package org.csystem.util.collection.offheap;
+
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.LongConsumer;
+import java.util.stream.LongStream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Set of long values stored in an open addressing table with linear probing in direct memory. The table is an
+ * {@link OffHeapLongArray}, so the set may hold more values than a Java array and adds nothing to the heap but the set
+ * object itself. The set is not thread safe and must be closed to free its memory.
+ * <p>1993 by C and System Programmers Association (CSD) All Rights Free</p>
+ * @author JavaApp2-Jan-2024 Group
+ * @version 1.0.0
+ */
+public final class OffHeapLongHashSet implements Iterable<Long>, AutoCloseable {
+
+    private static final long MIN_CAPACITY = 16;
+    private static final double LOAD_FACTOR = 0.75;
+    private static final long FREE = 0;
+    private OffHeapLongArray m_keys;
+    private long m_mask;
+    private long m_resizeAt;
+    private long m_size;
+    private boolean m_containsFree;
+
+    public OffHeapLongHashSet()
+    {
+        this(MIN_CAPACITY);
+    }
+
+    /**
+     * Creates a set that holds the given number of values without resizing.
+     * @param expectedSize the expected number of values
+     * @throws IllegalArgumentException if {@code expectedSize} is negative
+     */
+    public OffHeapLongHashSet(long expectedSize)
+    {
+        if (expectedSize < 0) {
+            throw new IllegalArgumentException("expectedSize cannot be negative");
+        }
+
+        var required = (long) Math.ceil(expectedSize / LOAD_FACTOR) + 1;
+
+        allocate(Math.max(MIN_CAPACITY, Long.highestOneBit(required - 1) << 1));
+    }
+
+    public long size()
+    {
+        return m_size;
+    }
+
+    public boolean isEmpty()
+    {
+        return m_size == 0;
+    }
+
+    public boolean contains(long value)
+    {
+        if (value == FREE) {
+            return m_containsFree;
+        }
+
+        for (var i = slot(value); ; i = i + 1 & m_mask) {
+            var key = m_keys.get(i);
+
+            if (key == FREE) {
+                return false;
+            }
+
+            if (key == value) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Adds the given value.
+     * @param value the value to add
+     * @return true if the value is added, false if it is already contained
+     * @throws IllegalStateException if the set is closed
+     */
+    public boolean add(long value)
+    {
+        if (value == FREE) {
+            if (m_containsFree) {
+                return false;
+            }
+
+            m_containsFree = true;
+            ++m_size;
+            return true;
+        }
+
+        var i = slot(value);
+
+        for (long key; (key = m_keys.get(i)) != FREE; i = i + 1 & m_mask) {
+            if (key == value) {
+                return false;
+            }
+        }
+
+        m_keys.set(i, value);
+
+        if (++m_size - (m_containsFree ? 1 : 0) > m_resizeAt) {
+            rehash(m_keys.length() << 1);
+        }
+
+        return true;
+    }
+
+    /**
+     * Removes the given value.
+     * @param value the value to remove
+     * @return true if the value is removed, false if it is not contained
+     * @throws IllegalStateException if the set is closed
+     */
+    public boolean remove(long value)
+    {
+        if (value == FREE) {
+            if (!m_containsFree) {
+                return false;
+            }
+
+            m_containsFree = false;
+            --m_size;
+            return true;
+        }
+
+        for (long i = slot(value), key; (key = m_keys.get(i)) != FREE; i = i + 1 & m_mask) {
+            if (key == value) {
+                shiftBack(i);
+                --m_size;
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    public void forEachLong(LongConsumer action)
+    {
+        if (m_containsFree) {
+            action.accept(FREE);
+        }
+
+        m_keys.forEachLong(key -> {
+            if (key != FREE) {
+                action.accept(key);
+            }
+        });
+    }
+
+    @Override
+    public PrimitiveIterator.OfLong iterator()
+    {
+        return new PrimitiveIterator.OfLong() {
+            private final OffHeapLongArray m_table = m_keys;
+            private boolean m_freePending = m_containsFree;
+            private long m_index;
+
+            @Override
+            public boolean hasNext()
+            {
+                if (m_freePending) {
+                    return true;
+                }
+
+                while (m_index < m_table.length() && m_table.get(m_index) == FREE) {
+                    ++m_index;
+                }
+
+                return m_index < m_table.length();
+            }
+
+            @Override
+            public long nextLong()
+            {
+                if (!hasNext()) {
+                    throw new NoSuchElementException("No such value");
+                }
+
+                if (m_freePending) {
+                    m_freePending = false;
+                    return FREE;
+                }
+
+                return m_table.get(m_index++);
+            }
+        };
+    }
+
+    @Override
+    public Spliterator.OfLong spliterator()
+    {
+        return Spliterators.spliterator(iterator(), m_size, Spliterator.DISTINCT | Spliterator.NONNULL);
+    }
+
+    public LongStream stream()
+    {
+        return StreamSupport.longStream(spliterator(), false);
+    }
+
+    /**
+     * Frees the memory of the set.
+     */
+    @Override
+    public void close()
+    {
+        m_keys.close();
+    }
+
+    private long slot(long value)
+    {
+        var h = value * 0x9E3779B97F4A7C15L;
+
+        return (h ^ h >>> 32) & m_mask;
+    }
+
+    private void insert(long value)
+    {
+        var i = slot(value);
+
+        while (m_keys.get(i) != FREE) {
+            i = i + 1 & m_mask;
+        }
+
+        m_keys.set(i, value);
+    }
+
+    private void shiftBack(long gap)
+    {
+        for (long i = gap + 1 & m_mask, key; (key = m_keys.get(i)) != FREE; i = i + 1 & m_mask) {
+            var ideal = slot(key);
+
+            if ((i - ideal & m_mask) >= (i - gap & m_mask)) {
+                m_keys.set(gap, key);
+                gap = i;
+            }
+        }
+
+        m_keys.set(gap, FREE);
+    }
+
+    private void allocate(long capacity)
+    {
+        m_keys = OffHeapLongArray.allocate(capacity);
+        m_mask = capacity - 1;
+        m_resizeAt = (long) (capacity * LOAD_FACTOR);
+    }
+
+    private void rehash(long capacity)
+    {
+        var keys = m_keys;
+
+        allocate(capacity);
+
+        try {
+            keys.forEachLong(key -> {
+                if (key != FREE) {
+                    insert(key);
+                }
+            });
+        }
+        finally {
+            keys.close();
+        }
+    }
+}
@@ -0,0 +1,290 @@
+package org.csystem.util.collection.primitive;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
+
+/**
+ * Growable array of int values stored unboxed. The list is not thread safe.
+ * <p>1993 by C and System Programmers Association (CSD) All Rights Free</p>
+ * @author JavaApp2-Jan-2024 Group
+ * @version 1.0.0
+ */
+public final class IntArrayList implements Iterable<Integer> {
+
+    private static final int DEFAULT_CAPACITY = 10;
+    private static final int MAX_CAPACITY = Integer.MAX_VALUE - 8;
+    private int [] m_values;
+    private int m_size;
+
+    public IntArrayList()
+    {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates a list of the given capacity.
+     * @param capacity the initial capacity
+     * @throws IllegalArgumentException if {@code capacity} is negative
+     */
+    public IntArrayList(int capacity)
+    {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("capacity cannot be negative");
+        }
+
+        m_values = new int[capacity];
+    }
+
+    /**
+     * Creates a list of the given values.
+     * @param values the values to add
+     * @return the list
+     */
+    public static IntArrayList of(int... values)
+    {
+        var result = new IntArrayList(values.length);
+
+        result.addAll(values);
+
+        return result;
+    }
+
+    public int size()
+    {
+        return m_size;
+    }
+
+    public boolean isEmpty()
+    {
+        return m_size == 0;
+    }
+
+    public int capacity()
+    {
+        return m_values.length;
+    }
+
+    public int get(int index)
+    {
+        Objects.checkIndex(index, m_size);
+
+        return m_values[index];
+    }
+
+    /**
+     * Replaces the value at the given index.
+     * @param index the index of the value
+     * @param value the new value
+     * @return the previous value
+     * @throws IndexOutOfBoundsException if {@code index} is out of range
+     */
+    public int set(int index, int value)
+    {
+        Objects.checkIndex(index, m_size);
+
+        var result = m_values[index];
+
+        m_values[index] = value;
+
+        return result;
+    }
+
+    public void add(int value)
+    {
+        if (m_size == m_values.length) {
+            ensureCapacity(m_size + 1);
+        }
+
+        m_values[m_size++] = value;
+    }
+
+    public void add(int index, int value)
+    {
+        Objects.checkIndex(index, m_size + 1);
+        ensureCapacity(m_size + 1);
+        System.arraycopy(m_values, index, m_values, index + 1, m_size - index);
+        m_values[index] = value;
+        ++m_size;
+    }
+
+    public void addAll(int... values)
+    {
+        addAll(values, 0, values.length);
+    }
+
+    /**
+     * Appends the values of the given range of the array.
+     * @param values the source array
+     * @param offset the index of the first value
+     * @param length the number of values
+     * @throws IndexOutOfBoundsException if the range is out of the array
+     */
+    public void addAll(int [] values, int offset, int length)
+    {
+        Objects.checkFromIndexSize(offset, length, values.length);
+        ensureCapacity(m_size + length);
+        System.arraycopy(values, offset, m_values, m_size, length);
+        m_size += length;
+    }
+
+    public void addAll(IntArrayList other)
+    {
+        addAll(other.m_values, 0, other.m_size);
+    }
+
+    /**
+     * Removes the value at the given index.
+     * @param index the index of the value
+     * @return the removed value
+     * @throws IndexOutOfBoundsException if {@code index} is out of range
+     */
+    public int removeAt(int index)
+    {
+        Objects.checkIndex(index, m_size);
+
+        var result = m_values[index];
+
+        System.arraycopy(m_values, index + 1, m_values, index, --m_size - index);
+
+        return result;
+    }
+
+    public int indexOf(int value)
+    {
+        for (var i = 0; i < m_size; ++i) {
+            if (m_values[i] == value) {
+                return i;
+            }
+        }
+
+        return -1;
+    }
+
+    public boolean contains(int value)
+    {
+        return indexOf(value) >= 0;
+    }
+
+    public void sort()
+    {
+        Arrays.sort(m_values, 0, m_size);
+    }
+
+    public void clear()
+    {
+        m_size = 0;
+    }
+
+    /**
+     * Ensures that the list holds the given number of values without growing.
+     * @param capacity the minimum capacity
+     * @throws OutOfMemoryError if {@code capacity} exceeds the maximum array size
+     */
+    public void ensureCapacity(int capacity)
+    {
+        if (capacity <= m_values.length) {
+            return;
+        }
+
+        if (capacity < 0 || capacity > MAX_CAPACITY) {
+            throw new OutOfMemoryError("Required capacity is too large");
+        }
+
+        var newCapacity = (int) Math.min(MAX_CAPACITY, Math.max(capacity, m_values.length + (m_values.length >> 1) + 1L));
+
+        m_values = Arrays.copyOf(m_values, newCapacity);
+    }
+
+    public void trimToSize()
+    {
+        if (m_size < m_values.length) {
+            m_values = Arrays.copyOf(m_values, m_size);
+        }
+    }
+
+    public void forEachInt(IntConsumer action)
+    {
+        for (var i = 0; i < m_size; ++i) {
+            action.accept(m_values[i]);
+        }
+    }
+
+    public int [] toArray()
+    {
+        return Arrays.copyOf(m_values, m_size);
+    }
+
+    @Override
+    public PrimitiveIterator.OfInt iterator()
+    {
+        return new PrimitiveIterator.OfInt() {
+            private int m_index;
+
+            @Override
+            public boolean hasNext()
+            {
+                return m_index < m_size;
+            }
+
+            @Override
+            public int nextInt()
+            {
+                if (!hasNext()) {
+                    throw new NoSuchElementException("No such value");
+                }
+
+                return m_values[m_index++];
+            }
+        };
+    }
+
+    @Override
+    public Spliterator.OfInt spliterator()
+    {
+        return Arrays.spliterator(m_values, 0, m_size);
+    }
+
+    public IntStream stream()
+    {
+        return Arrays.stream(m_values, 0, m_size);
+    }
+
+    @Override
+    public boolean equals(Object other)
+    {
+        if (this == other) {
+            return true;
+        }
+
+        if (!(other instanceof IntArrayList)) {
+            return false;
+        }
+
+        var list = (IntArrayList) other;
+
+        return Arrays.equals(m_values, 0, m_size, list.m_values, 0, list.m_size);
+    }
+
+    @Override
+    public int hashCode()
+    {
+        var result = 1;
+
+        for (var i = 0; i < m_size; ++i) {
+            result = 31 * result + m_values[i];
+        }
+
+        return result;
+    }
+
+    @Override
+    public String toString()
+    {
+        return Arrays.toString(toArray());
+    }
+}
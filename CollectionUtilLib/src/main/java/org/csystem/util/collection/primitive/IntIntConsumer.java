@@ -0,0 +1,12 @@
+package org.csystem.util.collection.primitive;
+
+/**
+ * Operation that accepts an int key and an int value
+ * <p>1993 by C and System Programmers Association (CSD) All Rights Free</p>
+ * @author JavaApp2-Jan-2024 Group
+ * @version 1.0.0
+ */
+@FunctionalInterface
+public interface IntIntConsumer {
+    void accept(int key, int value);
+}
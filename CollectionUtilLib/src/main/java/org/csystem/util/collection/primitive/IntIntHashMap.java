@@ -0,0 +1,299 @@
+package org.csystem.util.collection.primitive;
+
+import java.util.Arrays;
+
+/**
+ * Map from int keys to int values stored unboxed in an open addressing table with linear probing. Lookups of absent
+ * keys return the missing value of the map instead of null. The map is not thread safe.
+ * <p>1993 by C and System Programmers Association (CSD) All Rights Free</p>
+ * @author JavaApp2-Jan-2024 Group
+ * @version 1.0.0
+ */
+public final class IntIntHashMap {
+
+    private static final int MIN_CAPACITY = 8;
+    private static final double LOAD_FACTOR = 0.75;
+    private static final int FREE = 0;
+    private final int m_missingValue;
+    private int [] m_keys;
+    private int [] m_values;
+    private int m_mask;
+    private int m_resizeAt;
+    private int m_size;
+    private boolean m_containsFree;
+    private int m_freeValue;
+
+    public IntIntHashMap()
+    {
+        this(MIN_CAPACITY, 0);
+    }
+
+    /**
+     * Creates a map that holds the given number of entries without resizing.
+     * @param expectedSize the expected number of entries
+     * @param missingValue the value returned for absent keys
+     * @throws IllegalArgumentException if {@code expectedSize} is negative
+     */
+    public IntIntHashMap(int expectedSize, int missingValue)
+    {
+        if (expectedSize < 0) {
+            throw new IllegalArgumentException("expectedSize cannot be negative");
+        }
+
+        m_missingValue = missingValue;
+        allocate(PrimitiveHashing.tableSize(expectedSize, LOAD_FACTOR, MIN_CAPACITY));
+    }
+
+    public int getMissingValue()
+    {
+        return m_missingValue;
+    }
+
+    public int size()
+    {
+        return m_size;
+    }
+
+    public boolean isEmpty()
+    {
+        return m_size == 0;
+    }
+
+    public boolean containsKey(int key)
+    {
+        return key == FREE ? m_containsFree : indexOf(key) >= 0;
+    }
+
+    /**
+     * Returns the value of the given key.
+     * @param key the key
+     * @return the value, the missing value of the map if the key is absent
+     */
+    public int get(int key)
+    {
+        return getOrDefault(key, m_missingValue);
+    }
+
+    public int getOrDefault(int key, int defaultValue)
+    {
+        if (key == FREE) {
+            return m_containsFree ? m_freeValue : defaultValue;
+        }
+
+        var index = indexOf(key);
+
+        return index >= 0 ? m_values[index] : defaultValue;
+    }
+
+    /**
+     * Associates the given value with the given key.
+     * @param key   the key
+     * @param value the value
+     * @return the previous value, the missing value of the map if the key was absent
+     */
+    public int put(int key, int value)
+    {
+        if (key == FREE) {
+            var result = m_containsFree ? m_freeValue : m_missingValue;
+
+            if (!m_containsFree) {
+                m_containsFree = true;
+                ++m_size;
+            }
+
+            m_freeValue = value;
+            return result;
+        }
+
+        var i = slot(key);
+
+        for (; m_keys[i] != FREE; i = i + 1 & m_mask) {
+            if (m_keys[i] == key) {
+                var result = m_values[i];
+
+                m_values[i] = value;
+                return result;
+            }
+        }
+
+        m_keys[i] = key;
+        m_values[i] = value;
+        grow();
+
+        return m_missingValue;
+    }
+
+    /**
+     * Adds the given delta to the value of the given key, an absent key starts from the missing value. This is the
+     * counting operation of the map.
+     * @param key   the key
+     * @param delta the value to add
+     * @return the new value
+     */
+    public int addTo(int key, int delta)
+    {
+        if (key == FREE) {
+            if (!m_containsFree) {
+                m_containsFree = true;
+                m_freeValue = m_missingValue;
+                ++m_size;
+            }
+
+            return m_freeValue += delta;
+        }
+
+        var i = slot(key);
+
+        for (; m_keys[i] != FREE; i = i + 1 & m_mask) {
+            if (m_keys[i] == key) {
+                return m_values[i] += delta;
+            }
+        }
+
+        var result = m_missingValue + delta;
+
+        m_keys[i] = key;
+        m_values[i] = result;
+        grow();
+
+        return result;
+    }
+
+    /**
+     * Removes the given key.
+     * @param key the key to remove
+     * @return the removed value, the missing value of the map if the key was absent
+     */
+    public int remove(int key)
+    {
+        if (key == FREE) {
+            if (!m_containsFree) {
+                return m_missingValue;
+            }
+
+            m_containsFree = false;
+            --m_size;
+            return m_freeValue;
+        }
+
+        var index = indexOf(key);
+
+        if (index < 0) {
+            return m_missingValue;
+        }
+
+        var result = m_values[index];
+
+        shiftBack(index);
+        --m_size;
+
+        return result;
+    }
+
+    public void clear()
+    {
+        Arrays.fill(m_keys, FREE);
+        m_size = 0;
+        m_containsFree = false;
+    }
+
+    public void forEach(IntIntConsumer action)
+    {
+        if (m_containsFree) {
+            action.accept(FREE, m_freeValue);
+        }
+
+        for (var i = 0; i < m_keys.length; ++i) {
+            if (m_keys[i] != FREE) {
+                action.accept(m_keys[i], m_values[i]);
+            }
+        }
+    }
+
+    public IntHashSet keySet()
+    {
+        var result = new IntHashSet(m_size);
+
+        forEach((key, value) -> result.add(key));
+
+        return result;
+    }
+
+    @Override
+    public String toString()
+    {
+        var sb = new StringBuilder("{");
+
+        forEach((key, value) -> sb.append(sb.length() > 1 ? ", " : "").append(key).append('=').append(value));
+
+        return sb.append('}').toString();
+    }
+
+    private int slot(int key)
+    {
+        return PrimitiveHashing.mix(key) & m_mask;
+    }
+
+    private int indexOf(int key)
+    {
+        for (var i = slot(key); ; i = i + 1 & m_mask) {
+            var k = m_keys[i];
+
+            if (k == FREE) {
+                return -1;
+            }
+
+            if (k == key) {
+                return i;
+            }
+        }
+    }
+
+    private void grow()
+    {
+        if (++m_size - (m_containsFree ? 1 : 0) <= m_resizeAt) {
+            return;
+        }
+
+        var keys = m_keys;
+        var values = m_values;
+
+        allocate(keys.length << 1);
+
+        for (var j = 0; j < keys.length; ++j) {
+            if (keys[j] != FREE) {
+                var i = slot(keys[j]);
+
+                while (m_keys[i] != FREE) {
+                    i = i + 1 & m_mask;
+                }
+
+                m_keys[i] = keys[j];
+                m_values[i] = values[j];
+            }
+        }
+    }
+
+    private void shiftBack(int gap)
+    {
+        for (var i = gap + 1 & m_mask; m_keys[i] != FREE; i = i + 1 & m_mask) {
+            var ideal = slot(m_keys[i]);
+
+            if ((i - ideal & m_mask) >= (i - gap & m_mask)) {
+                m_keys[gap] = m_keys[i];
+                m_values[gap] = m_values[i];
+                gap = i;
+            }
+        }
+
+        m_keys[gap] = FREE;
+    }
+
+    private void allocate(int capacity)
+    {
+        m_keys = new int[capacity];
+        m_values = new int[capacity];
+        m_mask = capacity - 1;
+        m_resizeAt = (int) (capacity * LOAD_FACTOR);
+    }
+}
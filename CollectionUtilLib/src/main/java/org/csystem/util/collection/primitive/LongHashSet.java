@@ -0,0 +1,414 @@
+package org.csystem.util.collection.primitive;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.LongConsumer;
+import java.util.stream.LongStream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Set of long values stored unboxed in an open addressing table with linear probing. A value takes 8 to 16 bytes
+ * depending on the load of the table instead of about 50 bytes of a {@code HashSet<Long>}. Removal shifts the
+ * following entries back, so the table never fills with tombstones. The set is not thread safe.
+ * <p>1993 by C and System Programmers Association (CSD) All Rights Free</p>
+ * @author JavaApp2-Jan-2024 Group
+ * @version 1.0.0
+ */
+public final class LongHashSet implements Iterable<Long> {
+
+    private static final int MIN_CAPACITY = 8;
+    private static final double LOAD_FACTOR = 0.75;
+    private static final long FREE = 0;
+    private long [] m_keys;
+    private int m_mask;
+    private int m_resizeAt;
+    private int m_size;
+    private boolean m_containsFree;
+
+    public LongHashSet()
+    {
+        this(MIN_CAPACITY);
+    }
+
+    /**
+     * Creates a set that holds the given number of values without resizing.
+     * @param expectedSize the expected number of values
+     * @throws IllegalArgumentException if {@code expectedSize} is negative
+     */
+    public LongHashSet(int expectedSize)
+    {
+        if (expectedSize < 0) {
+            throw new IllegalArgumentException("expectedSize cannot be negative");
+        }
+
+        allocate(PrimitiveHashing.tableSize(expectedSize, LOAD_FACTOR, MIN_CAPACITY));
+    }
+
+    /**
+     * Creates a set of the given values.
+     * @param values the values to add
+     * @return the set
+     */
+    public static LongHashSet of(long... values)
+    {
+        var result = new LongHashSet(values.length);
+
+        result.addAll(values);
+
+        return result;
+    }
+
+    public int size()
+    {
+        return m_size;
+    }
+
+    public boolean isEmpty()
+    {
+        return m_size == 0;
+    }
+
+    public boolean contains(long value)
+    {
+        if (value == FREE) {
+            return m_containsFree;
+        }
+
+        var keys = m_keys;
+
+        for (var i = slot(value); ; i = i + 1 & m_mask) {
+            var key = keys[i];
+
+            if (key == FREE) {
+                return false;
+            }
+
+            if (key == value) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Adds the given value.
+     * @param value the value to add
+     * @return true if the value is added, false if it is already contained
+     */
+    public boolean add(long value)
+    {
+        if (value == FREE) {
+            if (m_containsFree) {
+                return false;
+            }
+
+            m_containsFree = true;
+            ++m_size;
+            return true;
+        }
+
+        var keys = m_keys;
+        var i = slot(value);
+
+        for (; keys[i] != FREE; i = i + 1 & m_mask) {
+            if (keys[i] == value) {
+                return false;
+            }
+        }
+
+        keys[i] = value;
+
+        if (++m_size - (m_containsFree ? 1 : 0) > m_resizeAt) {
+            rehash(m_keys.length << 1);
+        }
+
+        return true;
+    }
+
+    /**
+     * Adds the given values.
+     * @param values the values to add
+     * @return true if the set has changed
+     */
+    public boolean addAll(long... values)
+    {
+        var result = false;
+
+        for (var value : values) {
+            result |= add(value);
+        }
+
+        return result;
+    }
+
+    /**
+     * Adds the values of the given set.
+     * @param other the set whose values are added
+     * @return true if the set has changed
+     */
+    public boolean addAll(LongHashSet other)
+    {
+        var result = false;
+        var keys = other.m_keys;
+
+        if (other.m_containsFree) {
+            result = add(FREE);
+        }
+
+        for (var key : keys) {
+            if (key != FREE) {
+                result |= add(key);
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Removes the given value.
+     * @param value the value to remove
+     * @return true if the value is removed, false if it is not contained
+     */
+    public boolean remove(long value)
+    {
+        if (value == FREE) {
+            if (!m_containsFree) {
+                return false;
+            }
+
+            m_containsFree = false;
+            --m_size;
+            return true;
+        }
+
+        var keys = m_keys;
+
+        for (var i = slot(value); keys[i] != FREE; i = i + 1 & m_mask) {
+            if (keys[i] == value) {
+                shiftBack(i);
+                --m_size;
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Retains only the values contained in the given set.
+     * @param other the set of the values to retain
+     * @return true if the set has changed
+     */
+    public boolean retainAll(LongHashSet other)
+    {
+        if (other == this) {
+            return false;
+        }
+
+        var oldSize = m_size;
+        var keys = m_keys;
+
+        allocate(keys.length);
+        m_size = 0;
+
+        if (m_containsFree) {
+            m_containsFree = other.m_containsFree;
+            m_size = m_containsFree ? 1 : 0;
+        }
+
+        for (var key : keys) {
+            if (key != FREE && other.contains(key)) {
+                insert(key);
+            }
+        }
+
+        return m_size != oldSize;
+    }
+
+    public void clear()
+    {
+        Arrays.fill(m_keys, FREE);
+        m_size = 0;
+        m_containsFree = false;
+    }
+
+    public void forEachLong(LongConsumer action)
+    {
+        if (m_containsFree) {
+            action.accept(FREE);
+        }
+
+        for (var key : m_keys) {
+            if (key != FREE) {
+                action.accept(key);
+            }
+        }
+    }
+
+    public long [] toArray()
+    {
+        var result = new long[m_size];
+        var index = m_containsFree ? 1 : 0;
+
+        for (var key : m_keys) {
+            if (key != FREE) {
+                result[index++] = key;
+            }
+        }
+
+        return result;
+    }
+
+    @Override
+    public PrimitiveIterator.OfLong iterator()
+    {
+        return new PrimitiveIterator.OfLong() {
+            private final long [] m_table = m_keys;
+            private boolean m_freePending = m_containsFree;
+            private int m_index;
+
+            @Override
+            public boolean hasNext()
+            {
+                if (m_freePending) {
+                    return true;
+                }
+
+                while (m_index < m_table.length && m_table[m_index] == FREE) {
+                    ++m_index;
+                }
+
+                return m_index < m_table.length;
+            }
+
+            @Override
+            public long nextLong()
+            {
+                if (!hasNext()) {
+                    throw new NoSuchElementException("No such value");
+                }
+
+                if (m_freePending) {
+                    m_freePending = false;
+                    return FREE;
+                }
+
+                return m_table[m_index++];
+            }
+        };
+    }
+
+    @Override
+    public Spliterator.OfLong spliterator()
+    {
+        return Spliterators.spliterator(iterator(), m_size, Spliterator.DISTINCT | Spliterator.NONNULL);
+    }
+
+    public LongStream stream()
+    {
+        return StreamSupport.longStream(spliterator(), false);
+    }
+
+    @Override
+    public boolean equals(Object other)
+    {
+        if (this == other) {
+            return true;
+        }
+
+        if (!(other instanceof LongHashSet)) {
+            return false;
+        }
+
+        var set = (LongHashSet) other;
+
+        if (set.m_size != m_size || set.m_containsFree != m_containsFree) {
+            return false;
+        }
+
+        for (var key : m_keys) {
+            if (key != FREE && !set.contains(key)) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    @Override
+    public int hashCode()
+    {
+        var result = 0;
+
+        for (var key : m_keys) {
+            result += Long.hashCode(key);
+        }
+
+        return result;
+    }
+
+    @Override
+    public String toString()
+    {
+        return Arrays.toString(toArray());
+    }
+
+    private int slot(long value)
+    {
+        return PrimitiveHashing.mix(value) & m_mask;
+    }
+
+    private void insert(long value)
+    {
+        var i = slot(value);
+
+        while (m_keys[i] != FREE) {
+            i = i + 1 & m_mask;
+        }
+
+        m_keys[i] = value;
+        ++m_size;
+    }
+
+    private void shiftBack(int gap)
+    {
+        var keys = m_keys;
+
+        for (var i = gap + 1 & m_mask; keys[i] != FREE; i = i + 1 & m_mask) {
+            var ideal = slot(keys[i]);
+
+            if ((i - ideal & m_mask) >= (i - gap & m_mask)) {
+                keys[gap] = keys[i];
+                gap = i;
+            }
+        }
+
+        keys[gap] = FREE;
+    }
+
+    private void allocate(int capacity)
+    {
+        m_keys = new long[capacity];
+        m_mask = capacity - 1;
+        m_resizeAt = (int) (capacity * LOAD_FACTOR);
+    }
+
+    private void rehash(int capacity)
+    {
+        var keys = m_keys;
+        var size = m_size;
+
+        allocate(capacity);
+        m_size = 0;
+
+        for (var key : keys) {
+            if (key != FREE) {
+                insert(key);
+            }
+        }
+
+        m_size = size;
+    }
+}
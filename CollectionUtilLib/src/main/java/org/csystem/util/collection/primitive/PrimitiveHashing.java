@@ -0,0 +1,52 @@
+package org.csystem.util.collection.primitive;
+
+/**
+ * Hash functions and table sizing shared by the primitive collections
+ * <p>1993 by C and System Programmers Association (CSD) All Rights Free</p>
+ * @author JavaApp2-Jan-2024 Group
+ * @version 1.0.0
+ */
+final class PrimitiveHashing {
+
+    private static final int MAX_CAPACITY = 1 << 30;
+
+    private PrimitiveHashing()
+    {
+    }
+
+    /**
+     * Spreads the bits of the value so that consecutive values do not cluster in a linear probing table
+     * @param value the value to mix
+     * @return the mixed value
+     */
+    static int mix(int value)
+    {
+        var h = value * 0x9E3779B9;
+
+        return h ^ h >>> 16;
+    }
+
+    static int mix(long value)
+    {
+        return mix((int) (value ^ value >>> 32));
+    }
+
+    /**
+     * Returns the power of two capacity of a table that holds the given number of entries under the load factor
+     * @param expectedSize the expected number of entries
+     * @param loadFactor   the maximum ratio of the used slots
+     * @param minCapacity  the minimum capacity, a power of two
+     * @return the capacity
+     * @throws IllegalArgumentException if the capacity exceeds 2^30
+     */
+    static int tableSize(int expectedSize, double loadFactor, int minCapacity)
+    {
+        var required = (long) Math.ceil(expectedSize / loadFactor) + 1;
+
+        if (required > MAX_CAPACITY) {
+            throw new IllegalArgumentException("expectedSize is too large");
+        }
+
+        return Math.max(minCapacity, Integer.highestOneBit((int) required - 1) << 1);
+    }
+}
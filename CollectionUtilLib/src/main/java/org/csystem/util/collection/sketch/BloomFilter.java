@@ -0,0 +1,205 @@
+package org.csystem.util.collection.sketch;
+
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.ToLongFunction;
+import java.util.stream.StreamSupport;
+
+/**
+ * Bloom filter that answers whether an element might have been added, with no false negatives and a bounded rate of
+ * false positives, in a fixed memory. Elements may be added from many threads, the bits are set atomically. Filters
+ * of the same size, hash count and hasher can be merged.
+ * <p>1993 by C and System Programmers Association (CSD) All Rights Free</p>
+ * @param <T> the type of the elements
+ * @author JavaApp2-Jan-2024 Group
+ * @version 1.0.0
+ */
+public final class BloomFilter<T> {
+
+    private final long m_bitCount;
+    private final int m_hashCount;
+    private final AtomicLongArray m_bits;
+    private final ToLongFunction<? super T> m_hasher;
+
+    /**
+     * Creates a filter of the given size and hash count that hashes the elements by their hash codes.
+     * @param bitCount  the number of bits
+     * @param hashCount the number of bits set per element
+     * @throws IllegalArgumentException if {@code bitCount} or {@code hashCount} is not positive or the filter is too large
+     */
+    public BloomFilter(long bitCount, int hashCount)
+    {
+        this(bitCount, hashCount, Hashing.DEFAULT_HASHER);
+    }
+
+    /**
+     * Creates a filter of the given size, hash count and 64 bit hash function.
+     * @param bitCount  the number of bits
+     * @param hashCount the number of bits set per element
+     * @param hasher    the 64 bit hash function of the elements
+     * @throws IllegalArgumentException if {@code bitCount} or {@code hashCount} is not positive or the filter is too large
+     * @throws NullPointerException     if {@code hasher} is null
+     */
+    public BloomFilter(long bitCount, int hashCount, ToLongFunction<? super T> hasher)
+    {
+        if (bitCount <= 0 || hashCount <= 0) {
+            throw new IllegalArgumentException("bitCount and hashCount must be positive");
+        }
+
+        if ((bitCount + 63) / 64 > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("filter is too large");
+        }
+
+        m_bitCount = bitCount;
+        m_hashCount = hashCount;
+        m_bits = new AtomicLongArray((int) ((bitCount + 63) / 64));
+        m_hasher = Objects.requireNonNull(hasher, "hasher cannot be null");
+    }
+
+    /**
+     * Creates a filter of the optimal size and hash count for the expected number of elements and false positive rate.
+     * @param expectedCount             the expected number of elements
+     * @param falsePositiveProbability the false positive rate when {@code expectedCount} elements are added
+     * @param <T>                       the type of the elements
+     * @return the filter
+     * @throws IllegalArgumentException if {@code expectedCount} is not positive or
+     *                                  {@code falsePositiveProbability} is not between 0 and 1
+     */
+    public static <T> BloomFilter<T> of(long expectedCount, double falsePositiveProbability)
+    {
+        if (expectedCount <= 0) {
+            throw new IllegalArgumentException("expectedCount must be positive");
+        }
+
+        if (!(falsePositiveProbability > 0 && falsePositiveProbability < 1)) {
+            throw new IllegalArgumentException("falsePositiveProbability must be between 0 and 1");
+        }
+
+        var ln2 = Math.log(2);
+        var bitCount = (long) Math.ceil(-expectedCount * Math.log(falsePositiveProbability) / (ln2 * ln2));
+        var hashCount = Math.max(1, (int) Math.round((double) bitCount / expectedCount * ln2));
+
+        return new BloomFilter<>(bitCount, hashCount);
+    }
+
+    public long getBitCount()
+    {
+        return m_bitCount;
+    }
+
+    public int getHashCount()
+    {
+        return m_hashCount;
+    }
+
+    /**
+     * Adds the given element.
+     * @param t the element to add
+     * @return true if a bit has changed, that is {@code t} was certainly not added before
+     */
+    public boolean add(T t)
+    {
+        var hash = m_hasher.applyAsLong(t);
+        var h1 = (int) hash;
+        var h2 = (int) (hash >>> 32);
+        var result = false;
+
+        for (var i = 0; i < m_hashCount; ++i) {
+            result |= setBit(index(h1 + (long) i * h2));
+        }
+
+        return result;
+    }
+
+    /**
+     * Adds the elements of the given iterable.
+     * @param iterable the {@link Iterable} whose elements are added
+     * @param parallel whether to use parallel streams
+     * @throws NullPointerException if {@code iterable} is null
+     */
+    public void addAll(Iterable<? extends T> iterable, boolean parallel)
+    {
+        Objects.requireNonNull(iterable, "Iterable cannot be null");
+
+        StreamSupport.stream(iterable.spliterator(), parallel).forEach(this::add);
+    }
+
+    /**
+     * Checks if the given element might have been added.
+     * @param t the element to check
+     * @return false if {@code t} was certainly not added, true otherwise
+     */
+    public boolean mightContain(T t)
+    {
+        var hash = m_hasher.applyAsLong(t);
+        var h1 = (int) hash;
+        var h2 = (int) (hash >>> 32);
+
+        for (var i = 0; i < m_hashCount; ++i) {
+            var index = index(h1 + (long) i * h2);
+
+            if ((m_bits.get((int) (index >>> 6)) & 1L << index) == 0) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Returns the expected false positive rate for the bits set so far.
+     * @return the expected false positive rate
+     */
+    public double expectedFalsePositiveProbability()
+    {
+        long setCount = 0;
+
+        for (var i = 0; i < m_bits.length(); ++i) {
+            setCount += Long.bitCount(m_bits.get(i));
+        }
+
+        return Math.pow((double) setCount / m_bitCount, m_hashCount);
+    }
+
+    /**
+     * Adds the elements of the given filter to this filter.
+     * @param other the filter to merge, it must have the same size, hash count and hasher
+     * @throws IllegalArgumentException if the sizes or the hash counts differ
+     */
+    public void merge(BloomFilter<? extends T> other)
+    {
+        if (other.m_bitCount != m_bitCount || other.m_hashCount != m_hashCount) {
+            throw new IllegalArgumentException("sizes and hash counts must be equal");
+        }
+
+        for (var i = 0; i < m_bits.length(); ++i) {
+            var bits = other.m_bits.get(i);
+
+            m_bits.getAndAccumulate(i, bits, (a, b) -> a | b);
+        }
+    }
+
+    private long index(long hash)
+    {
+        return Math.floorMod(hash, m_bitCount);
+    }
+
+    private boolean setBit(long index)
+    {
+        var wordIndex = (int) (index >>> 6);
+        var mask = 1L << index;
+        var word = m_bits.get(wordIndex);
+
+        while ((word & mask) == 0) {
+            var previous = m_bits.compareAndExchange(wordIndex, word, word | mask);
+
+            if (previous == word) {
+                return true;
+            }
+
+            word = previous;
+        }
+
+        return false;
+    }
+}
@@ -0,0 +1,185 @@
+package org.csystem.util.collection.sketch;
+
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.ToLongFunction;
+import java.util.stream.StreamSupport;
+
+/**
+ * Count-Min sketch that estimates the frequencies of the elements of a stream in a fixed memory. An estimate is never
+ * less than the real frequency and exceeds it by at most {@code epsilon * totalCount} with probability
+ * {@code 1 - delta}. Elements may be added from many threads, the counters are updated atomically. Sketches of the
+ * same dimensions and hasher can be merged.
+ * <p>1993 by C and System Programmers Association (CSD) All Rights Free</p>
+ * @param <T> the type of the counted elements
+ * @author JavaApp2-Jan-2024 Group
+ * @version 1.0.0
+ */
+public final class CountMinSketch<T> {
+
+    private final int m_width;
+    private final int m_depth;
+    private final AtomicLongArray m_counters;
+    private final LongAdder m_totalCount = new LongAdder();
+    private final ToLongFunction<? super T> m_hasher;
+
+    /**
+     * Creates a sketch of the given dimensions that hashes the elements by their hash codes.
+     * @param width the number of counters of a row
+     * @param depth the number of rows
+     * @throws IllegalArgumentException if {@code width} or {@code depth} is not positive
+     */
+    public CountMinSketch(int width, int depth)
+    {
+        this(width, depth, Hashing.DEFAULT_HASHER);
+    }
+
+    /**
+     * Creates a sketch of the given dimensions and 64 bit hash function.
+     * @param width  the number of counters of a row
+     * @param depth  the number of rows
+     * @param hasher the 64 bit hash function of the elements
+     * @throws IllegalArgumentException if {@code width} or {@code depth} is not positive or the sketch is too large
+     * @throws NullPointerException     if {@code hasher} is null
+     */
+    public CountMinSketch(int width, int depth, ToLongFunction<? super T> hasher)
+    {
+        if (width <= 0 || depth <= 0) {
+            throw new IllegalArgumentException("width and depth must be positive");
+        }
+
+        if ((long) width * depth > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("sketch is too large");
+        }
+
+        m_width = width;
+        m_depth = depth;
+        m_counters = new AtomicLongArray(width * depth);
+        m_hasher = Objects.requireNonNull(hasher, "hasher cannot be null");
+    }
+
+    /**
+     * Creates a sketch whose estimates exceed the real frequencies by at most {@code epsilon * totalCount} with
+     * probability {@code 1 - delta}.
+     * @param epsilon the relative error
+     * @param delta   the probability of exceeding the error
+     * @param <T>     the type of the counted elements
+     * @return the sketch
+     * @throws IllegalArgumentException if {@code epsilon} or {@code delta} is not between 0 and 1
+     */
+    public static <T> CountMinSketch<T> of(double epsilon, double delta)
+    {
+        if (!(epsilon > 0 && epsilon < 1) || !(delta > 0 && delta < 1)) {
+            throw new IllegalArgumentException("epsilon and delta must be between 0 and 1");
+        }
+
+        return new CountMinSketch<>((int) Math.ceil(Math.E / epsilon), (int) Math.ceil(Math.log(1 / delta)));
+    }
+
+    public int getWidth()
+    {
+        return m_width;
+    }
+
+    public int getDepth()
+    {
+        return m_depth;
+    }
+
+    /**
+     * Returns the number of all occurrences added.
+     * @return the total count
+     */
+    public long totalCount()
+    {
+        return m_totalCount.sum();
+    }
+
+    public void add(T t)
+    {
+        add(t, 1);
+    }
+
+    /**
+     * Adds the given number of occurrences of the given element.
+     * @param t     the element to add
+     * @param count the number of occurrences
+     * @return the estimated frequency of {@code t} after the addition
+     * @throws IllegalArgumentException if {@code count} is negative
+     */
+    public long add(T t, long count)
+    {
+        if (count < 0) {
+            throw new IllegalArgumentException("count cannot be negative");
+        }
+
+        var hash = m_hasher.applyAsLong(t);
+        var h1 = (int) hash;
+        var h2 = (int) (hash >>> 32);
+        var result = Long.MAX_VALUE;
+
+        for (var i = 0; i < m_depth; ++i) {
+            result = Math.min(result, m_counters.addAndGet(i * m_width + index(h1 + i * h2), count));
+        }
+
+        m_totalCount.add(count);
+
+        return result;
+    }
+
+    /**
+     * Adds the elements of the given iterable.
+     * @param iterable the {@link Iterable} whose elements are added
+     * @param parallel whether to use parallel streams
+     * @throws NullPointerException if {@code iterable} is null
+     */
+    public void addAll(Iterable<? extends T> iterable, boolean parallel)
+    {
+        Objects.requireNonNull(iterable, "Iterable cannot be null");
+
+        StreamSupport.stream(iterable.spliterator(), parallel).forEach(this::add);
+    }
+
+    /**
+     * Returns the estimated frequency of the given element.
+     * @param t the element whose frequency is estimated
+     * @return the estimated frequency, never less than the real one
+     */
+    public long estimate(T t)
+    {
+        var hash = m_hasher.applyAsLong(t);
+        var h1 = (int) hash;
+        var h2 = (int) (hash >>> 32);
+        var result = Long.MAX_VALUE;
+
+        for (var i = 0; i < m_depth; ++i) {
+            result = Math.min(result, m_counters.get(i * m_width + index(h1 + i * h2)));
+        }
+
+        return result;
+    }
+
+    /**
+     * Adds the counts of the given sketch to this sketch.
+     * @param other the sketch to merge, it must have the same dimensions and hasher
+     * @throws IllegalArgumentException if the dimensions differ
+     */
+    public void merge(CountMinSketch<? extends T> other)
+    {
+        if (other.m_width != m_width || other.m_depth != m_depth) {
+            throw new IllegalArgumentException("dimensions must be equal");
+        }
+
+        for (var i = 0; i < m_counters.length(); ++i) {
+            m_counters.addAndGet(i, other.m_counters.get(i));
+        }
+
+        m_totalCount.add(other.totalCount());
+    }
+
+    private int index(int hash)
+    {
+        return (int) ((hash & 0xFFFFFFFFL) % m_width);
+    }
+}
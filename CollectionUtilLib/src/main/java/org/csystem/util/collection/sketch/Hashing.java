@@ -0,0 +1,41 @@
+package org.csystem.util.collection.sketch;
+
+import java.util.Objects;
+import java.util.function.ToLongFunction;
+
+/**
+ * Hash functions shared by the sketches
+ * <p>1993 by C and System Programmers Association (CSD) All Rights Free</p>
+ * @author JavaApp2-Jan-2024 Group
+ * @version 1.0.0
+ */
+final class Hashing {
+
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+
+    /**
+     * Hashes an element by spreading the bits of its {@link Object#hashCode()}. Elements with equal hash codes get
+     * equal hashes, hence at most 2^32 distinct elements can be told apart.
+     */
+    static final ToLongFunction<Object> DEFAULT_HASHER = o -> mix64(Objects.hashCode(o) + GOLDEN_GAMMA);
+
+    private Hashing()
+    {
+    }
+
+    /**
+     * The finalizer of MurmurHash3 that spreads every bit of the input to every bit of the result
+     * @param val the value to mix
+     * @return the mixed value
+     */
+    static long mix64(long val)
+    {
+        val ^= val >>> 33;
+        val *= 0xFF51AFD7ED558CCDL;
+        val ^= val >>> 33;
+        val *= 0xC4CEB9FE1A85EC53L;
+        val ^= val >>> 33;
+
+        return val;
+    }
+}
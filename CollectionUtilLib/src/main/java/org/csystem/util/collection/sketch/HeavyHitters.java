@@ -0,0 +1,241 @@
+package org.csystem.util.collection.sketch;
+
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.StreamSupport;
+
+/**
+ * Tracks the approximately k most frequent elements of a stream by a {@link CountMinSketch}. The frequencies are
+ * estimated by the sketch and only the k elements of the highest estimates are kept, so the memory is bounded by the
+ * sketch and k. Elements may be added from many threads; the estimate of an element that is already a candidate is
+ * updated without locking, the lock is taken only to insert a new candidate or to replace the candidate of the minimum
+ * estimate, which is found by a min-heap instead of scanning the candidates. Trackers of the same k and sketch
+ * dimensions can be merged.
+ * <p>1993 by C and System Programmers Association (CSD) All Rights Free</p>
+ * @param <T> the type of the tracked elements
+ * @author JavaApp2-Jan-2024 Group
+ * @version 1.0.0
+ */
+public final class HeavyHitters<T> {
+
+    //ConcurrentHashMap does not permit null keys, a null element is kept as NULL_KEY
+    private static final Object NULL_KEY = new Object();
+
+    private final int m_k;
+    private final CountMinSketch<T> m_sketch;
+    private final ConcurrentHashMap<Object, Long> m_candidates;
+    private final PriorityQueue<Candidate> m_heap;
+    private volatile long m_minCount;
+
+    /**
+     * Creates a tracker of the k most frequent elements.
+     * @param k      the number of tracked elements
+     * @param sketch the empty sketch estimating the frequencies
+     * @throws IllegalArgumentException if {@code k} is not positive
+     * @throws NullPointerException     if {@code sketch} is null
+     */
+    public HeavyHitters(int k, CountMinSketch<T> sketch)
+    {
+        if (k <= 0) {
+            throw new IllegalArgumentException("k must be positive");
+        }
+
+        m_k = k;
+        m_sketch = Objects.requireNonNull(sketch, "sketch cannot be null");
+        m_candidates = new ConcurrentHashMap<>(k * 4 / 3 + 1);
+        m_heap = new PriorityQueue<>(k, Comparator.comparingLong(candidate -> candidate.m_count));
+    }
+
+    /**
+     * Creates a tracker of the k most frequent elements whose sketch estimates with the relative error of
+     * {@code epsilon} with probability {@code 1 - delta}.
+     * @param k       the number of tracked elements
+     * @param epsilon the relative error of the sketch
+     * @param delta   the probability of exceeding the error
+     * @param <T>     the type of the tracked elements
+     * @return the tracker
+     * @throws IllegalArgumentException if an argument is out of range
+     */
+    public static <T> HeavyHitters<T> of(int k, double epsilon, double delta)
+    {
+        return new HeavyHitters<>(k, CountMinSketch.of(epsilon, delta));
+    }
+
+    public int getK()
+    {
+        return m_k;
+    }
+
+    public CountMinSketch<T> getSketch()
+    {
+        return m_sketch;
+    }
+
+    public void add(T t)
+    {
+        add(t, 1);
+    }
+
+    /**
+     * Adds the given number of occurrences of the given element.
+     * @param t     the element to add
+     * @param count the number of occurrences
+     * @throws IllegalArgumentException if {@code count} is negative
+     */
+    public void add(T t, long count)
+    {
+        update(t, m_sketch.add(t, count));
+    }
+
+    /**
+     * Adds the elements of the given iterable.
+     * @param iterable the {@link Iterable} whose elements are added
+     * @param parallel whether to use parallel streams
+     * @throws NullPointerException if {@code iterable} is null
+     */
+    public void addAll(Iterable<? extends T> iterable, boolean parallel)
+    {
+        Objects.requireNonNull(iterable, "Iterable cannot be null");
+
+        StreamSupport.stream(iterable.spliterator(), parallel).forEach(this::add);
+    }
+
+    /**
+     * Returns the tracked elements with their estimated frequencies in descending order of the frequencies.
+     * @return the list of at most k entries
+     */
+    public synchronized List<Map.Entry<T, Long>> topK()
+    {
+        var result = new ArrayList<Map.Entry<T, Long>>(m_candidates.size());
+
+        m_candidates.forEach((key, count) -> result.add(new AbstractMap.SimpleImmutableEntry<>(unmask(key), count)));
+        result.sort(Map.Entry.<T, Long>comparingByValue().reversed());
+
+        return result;
+    }
+
+    /**
+     * Adds the occurrences counted by the given tracker to this tracker. The candidates of both trackers are
+     * estimated again by the merged sketch.
+     * @param other the tracker to merge, it must have the same k and sketch dimensions
+     * @throws IllegalArgumentException if k or the dimensions differ
+     */
+    public void merge(HeavyHitters<T> other)
+    {
+        if (other.m_k != m_k) {
+            throw new IllegalArgumentException("k must be equal");
+        }
+
+        m_sketch.merge(other.m_sketch);
+
+        for (var entry : other.topK()) {
+            update(entry.getKey(), m_sketch.estimate(entry.getKey()));
+        }
+
+        synchronized (this) {
+            m_candidates.replaceAll((key, count) -> Math.max(count, m_sketch.estimate(unmask(key))));
+            m_heap.clear();
+            m_candidates.forEach((key, count) -> m_heap.add(new Candidate(key, count)));
+            updateMinCount();
+        }
+    }
+
+    private void update(T t, long estimate)
+    {
+        //m_minCount never exceeds the minimum of the candidates, since the estimates of the sketch do not decrease
+        if (estimate < m_minCount) {
+            return;
+        }
+
+        var key = mask(t);
+
+        if (m_candidates.computeIfPresent(key, (element, count) -> Math.max(count, estimate)) == null) {
+            offer(key, estimate);
+        }
+    }
+
+    private static Object mask(Object t)
+    {
+        return t == null ? NULL_KEY : t;
+    }
+
+    @SuppressWarnings("unchecked")
+    private T unmask(Object key)
+    {
+        return key == NULL_KEY ? null : (T) key;
+    }
+
+    private synchronized void offer(Object key, long estimate)
+    {
+        //The candidate may have been inserted by another thread before the lock is taken
+        if (m_candidates.computeIfPresent(key, (element, count) -> Math.max(count, estimate)) != null) {
+            return;
+        }
+
+        if (m_candidates.size() == m_k) {
+            while (true) {
+                var min = minCandidate();
+
+                if (estimate <= min.m_count) {
+                    m_minCount = min.m_count;
+                    return;
+                }
+
+                //Fails if the estimate of the minimum is updated concurrently, the heap is refreshed then
+                if (m_candidates.remove(min.m_key, min.m_count)) {
+                    m_heap.poll();
+                    break;
+                }
+            }
+        }
+
+        m_candidates.put(key, estimate);
+        m_heap.add(new Candidate(key, estimate));
+        updateMinCount();
+    }
+
+    /**
+     * Returns the head of the heap after bringing it up to date. The counts in the heap may lag behind the
+     * candidates which are updated without the lock, but never exceed them, hence a head whose count is current is
+     * the candidate of the minimum estimate.
+     */
+    private Candidate minCandidate()
+    {
+        while (true) {
+            var head = m_heap.peek();
+            var count = m_candidates.get(head.m_key);
+
+            if (count != null && count == head.m_count) {
+                return head;
+            }
+
+            m_heap.poll();
+
+            if (count != null) {
+                m_heap.add(new Candidate(head.m_key, count));
+            }
+        }
+    }
+
+    private void updateMinCount()
+    {
+        m_minCount = m_candidates.size() < m_k ? 0 : minCandidate().m_count;
+    }
+
+    private static final class Candidate {
+        private final Object m_key;
+        private final long m_count;
+
+        private Candidate(Object key, long count)
+        {
+            m_key = key;
+            m_count = count;
+        }
+    }
+}
@@ -0,0 +1,178 @@
+package org.csystem.util.collection.sketch;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Objects;
+import java.util.function.ToLongFunction;
+import java.util.stream.StreamSupport;
+
+/**
+ * HyperLogLog sketch that estimates the number of distinct elements of a stream in a fixed memory of 2^precision
+ * bytes, with a relative standard error of about {@code 1.04 / sqrt(2^precision)}. Elements may be added from many
+ * threads, the registers are updated lock free. Sketches of the same precision and hasher can be merged, so parts of a
+ * stream can be counted separately.
+ * <p>1993 by C and System Programmers Association (CSD) All Rights Free</p>
+ * @param <T> the type of the counted elements
+ * @author JavaApp2-Jan-2024 Group
+ * @version 1.0.0
+ */
+public final class HyperLogLog<T> {
+
+    public static final int MIN_PRECISION = 4;
+    public static final int MAX_PRECISION = 18;
+    public static final int DEFAULT_PRECISION = 14;
+    private static final VarHandle REGISTERS = MethodHandles.arrayElementVarHandle(byte[].class);
+    private final int m_precision;
+    private final byte [] m_registers;
+    private final ToLongFunction<? super T> m_hasher;
+
+    /**
+     * Creates a sketch that hashes the elements by their hash codes.
+     * @param precision the number of index bits, between {@link #MIN_PRECISION} and {@link #MAX_PRECISION}
+     * @throws IllegalArgumentException if {@code precision} is out of range
+     */
+    public HyperLogLog(int precision)
+    {
+        this(precision, Hashing.DEFAULT_HASHER);
+    }
+
+    /**
+     * Creates a sketch with the given 64 bit hash function. A hash function of good quality that does not rely on
+     * {@link Object#hashCode()} is needed to count beyond about 2^32 distinct elements.
+     * @param precision the number of index bits, between {@link #MIN_PRECISION} and {@link #MAX_PRECISION}
+     * @param hasher    the 64 bit hash function of the elements
+     * @throws IllegalArgumentException if {@code precision} is out of range
+     * @throws NullPointerException     if {@code hasher} is null
+     */
+    public HyperLogLog(int precision, ToLongFunction<? super T> hasher)
+    {
+        if (precision < MIN_PRECISION || precision > MAX_PRECISION) {
+            throw new IllegalArgumentException("precision must be between " + MIN_PRECISION + " and " + MAX_PRECISION);
+        }
+
+        m_precision = precision;
+        m_registers = new byte[1 << precision];
+        m_hasher = Objects.requireNonNull(hasher, "hasher cannot be null");
+    }
+
+    /**
+     * Creates a sketch of the {@link #DEFAULT_PRECISION} from the elements of the given iterable.
+     * @param iterable the {@link Iterable} whose distinct elements are counted
+     * @param parallel whether to use parallel streams
+     * @param <T>      the type of the elements in the iterable
+     * @return the sketch
+     * @throws NullPointerException if {@code iterable} is null
+     */
+    public static <T> HyperLogLog<T> of(Iterable<? extends T> iterable, boolean parallel)
+    {
+        var result = new HyperLogLog<T>(DEFAULT_PRECISION);
+
+        result.addAll(iterable, parallel);
+
+        return result;
+    }
+
+    public int getPrecision()
+    {
+        return m_precision;
+    }
+
+    /**
+     * Returns the expected relative standard error of the estimates.
+     * @return the relative standard error
+     */
+    public double getRelativeError()
+    {
+        return 1.04 / Math.sqrt(m_registers.length);
+    }
+
+    public void add(T t)
+    {
+        var hash = m_hasher.applyAsLong(t);
+        var index = (int) (hash >>> (Long.SIZE - m_precision));
+        var rank = (byte) (Long.numberOfLeadingZeros(hash << m_precision | 1L << (m_precision - 1)) + 1);
+
+        updateMax(index, rank);
+    }
+
+    /**
+     * Adds the elements of the given iterable.
+     * @param iterable the {@link Iterable} whose elements are added
+     * @param parallel whether to use parallel streams
+     * @throws NullPointerException if {@code iterable} is null
+     */
+    public void addAll(Iterable<? extends T> iterable, boolean parallel)
+    {
+        Objects.requireNonNull(iterable, "Iterable cannot be null");
+
+        StreamSupport.stream(iterable.spliterator(), parallel).forEach(this::add);
+    }
+
+    /**
+     * Returns the estimated number of the distinct elements added.
+     * @return the estimated distinct count
+     */
+    public long estimate()
+    {
+        var m = m_registers.length;
+        var sum = 0.0;
+        var zeroCount = 0;
+
+        for (var i = 0; i < m; ++i) {
+            var rank = (byte) REGISTERS.getVolatile(m_registers, i);
+
+            sum += Double.longBitsToDouble((long) (1023 - rank) << 52);
+
+            if (rank == 0) {
+                ++zeroCount;
+            }
+        }
+
+        var estimate = alpha(m) * m * m / sum;
+
+        if (estimate <= 2.5 * m && zeroCount != 0) {
+            estimate = m * Math.log((double) m / zeroCount);
+        }
+
+        return Math.round(estimate);
+    }
+
+    /**
+     * Adds the elements counted by the given sketch to this sketch.
+     * @param other the sketch to merge, it must have the same precision and hasher
+     * @throws IllegalArgumentException if the precisions differ
+     */
+    public void merge(HyperLogLog<? extends T> other)
+    {
+        if (other.m_precision != m_precision) {
+            throw new IllegalArgumentException("precisions must be equal");
+        }
+
+        for (var i = 0; i < m_registers.length; ++i) {
+            updateMax(i, (byte) REGISTERS.getVolatile(other.m_registers, i));
+        }
+    }
+
+    private void updateMax(int index, byte rank)
+    {
+        var current = (byte) REGISTERS.getVolatile(m_registers, index);
+
+        while (rank > current && !REGISTERS.weakCompareAndSet(m_registers, index, current, rank)) {
+            current = (byte) REGISTERS.getVolatile(m_registers, index);
+        }
+    }
+
+    private static double alpha(int m)
+    {
+        switch (m) {
+            case 16:
+                return 0.673;
+            case 32:
+                return 0.697;
+            case 64:
+                return 0.709;
+            default:
+                return 0.7213 / (1 + 1.079 / m);
+        }
+    }
+}
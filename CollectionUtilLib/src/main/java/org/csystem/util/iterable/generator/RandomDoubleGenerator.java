@@ -10,24 +10,64 @@
 -----------------------------------------------------------------------*/
 package org.csystem.util.iterable.generator;
 
-import java.util.Iterator;
 import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
 import java.util.Random;
+import java.util.SplittableRandom;
+import java.util.Spliterator;
+import java.util.Spliterators;
 import java.util.function.DoubleSupplier;
+import java.util.function.Supplier;
+import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
+import java.util.stream.StreamSupport;
 
+/**
+ * Iterable of a fixed count of random double values. A generator created with a {@link SplittableRandom} is parallel
+ * friendly: every iteration and every stream starts from its own random, and parallel streams split the random per
+ * worker instead of contending on a shared seed. Such a generator created with a seed produces the same values on every
+ * iteration. A generator created with a {@link Random} or an {@link DoubleSupplier} shares it between all consumers.
+ */
 public final class RandomDoubleGenerator implements Iterable<Double> {
+    private static final int FILL_CHUNK_SIZE = 8192;
     private final int m_count;
     private final DoubleSupplier m_supplier;
+    private final Supplier<SplittableRandom> m_randomFactory;
+    private final double m_min;
+    private final double m_max;
 
-    private RandomDoubleGenerator(int count, DoubleSupplier supplier)
+    private RandomDoubleGenerator(int count, DoubleSupplier supplier, Supplier<SplittableRandom> randomFactory, double min, double max)
     {
+        if (count < 0)
+            throw new IllegalArgumentException("count can not be negative");
+
+        if (randomFactory != null && min >= max)
+            throw new IllegalArgumentException("min must be less than max");
+
         m_count = count;
         m_supplier = supplier;
+        m_randomFactory = randomFactory;
+        m_min = min;
+        m_max = max;
+    }
+
+    public static RandomDoubleGenerator of(int count, double min, double max)
+    {
+        return new RandomDoubleGenerator(count, null, SplittableRandom::new, min, max);
     }
 
-    public static RandomDoubleGenerator of (int count, double min, double max)
+    public static RandomDoubleGenerator of(long seed, int count, double min, double max)
     {
-        return of(new Random(), count, min, max);
+        return new RandomDoubleGenerator(count, null, () -> new SplittableRandom(seed), min, max);
+    }
+
+    /**
+     * Creates a generator whose iterations use splits of the given random. The random is not thread safe, hence
+     * iterations of the generator must not be started concurrently
+     */
+    public static RandomDoubleGenerator of(SplittableRandom random, int count, double min, double max)
+    {
+        return new RandomDoubleGenerator(count, null, random::split, min, max);
     }
 
     public static RandomDoubleGenerator of(Random random, int count, double min, double max)
@@ -37,7 +77,7 @@ public final class RandomDoubleGenerator implements Iterable<Double> {
 
     public static RandomDoubleGenerator of(int count, DoubleSupplier supplier)
     {
-        return new RandomDoubleGenerator(count, supplier);
+        return new RandomDoubleGenerator(count, supplier, null, 0, 0);
     }
 
     public int getCount()
@@ -46,9 +86,11 @@ public final class RandomDoubleGenerator implements Iterable<Double> {
     }
 
     @Override
-    public Iterator<Double> iterator()
+    public PrimitiveIterator.OfDouble iterator()
     {
-        return new Iterator<>() {
+        var supplier = m_randomFactory != null ? randomSupplier(m_randomFactory.get()) : m_supplier;
+
+        return new PrimitiveIterator.OfDouble() {
             private int m_count = -1;
 
             @Override
@@ -58,14 +100,92 @@ public final class RandomDoubleGenerator implements Iterable<Double> {
             }
 
             @Override
-            public Double next()
+            public double nextDouble()
             {
                 if (!hasNext())
                     throw new NoSuchElementException("No value to generate");
 
                 ++m_count;
-                return m_supplier.getAsDouble();
+                return supplier.getAsDouble();
             }
         };
     }
+
+    @Override
+    public Spliterator.OfDouble spliterator()
+    {
+        return m_randomFactory != null ? stream().spliterator()
+                : Spliterators.spliterator(iterator(), m_count, Spliterator.NONNULL | Spliterator.IMMUTABLE);
+    }
+
+    public DoubleStream stream()
+    {
+        return m_randomFactory != null ? m_randomFactory.get().doubles(m_count, m_min, m_max)
+                : StreamSupport.doubleStream(spliterator(), false);
+    }
+
+    public DoubleStream parallelStream()
+    {
+        return stream().parallel();
+    }
+
+    /**
+     * Fills the given array with values of the generator regardless of its count
+     * @param array the array to fill
+     * @return the array
+     */
+    public double [] fill(double [] array)
+    {
+        return fill(array, false);
+    }
+
+    /**
+     * Fills the given array with values of the generator regardless of its count. A parallel fill of a generator created
+     * with a {@link SplittableRandom} splits the random per chunk of the array, so it is reproducible for a seed
+     * @param array the array to fill
+     * @param parallel whether to fill the chunks of the array in parallel, ignored for a generator created with a
+     *                 {@link Random} or an {@link DoubleSupplier}
+     * @return the array
+     */
+    public double [] fill(double [] array, boolean parallel)
+    {
+        if (m_randomFactory == null) {
+            for (var i = 0; i < array.length; ++i)
+                array[i] = m_supplier.getAsDouble();
+
+            return array;
+        }
+
+        var random = m_randomFactory.get();
+
+        if (!parallel || array.length <= FILL_CHUNK_SIZE) {
+            fill(random, array, 0, array.length);
+            return array;
+        }
+
+        var chunkCount = (array.length + FILL_CHUNK_SIZE - 1) / FILL_CHUNK_SIZE;
+        var randoms = new SplittableRandom[chunkCount];
+
+        for (var i = 0; i < chunkCount; ++i)
+            randoms[i] = random.split();
+
+        IntStream.range(0, chunkCount).parallel().forEach(i -> {
+            var from = i * FILL_CHUNK_SIZE;
+
+            fill(randoms[i], array, from, Math.min(from + FILL_CHUNK_SIZE, array.length));
+        });
+
+        return array;
+    }
+
+    private DoubleSupplier randomSupplier(SplittableRandom random)
+    {
+        return () -> random.nextDouble(m_min, m_max);
+    }
+
+    private void fill(SplittableRandom random, double [] array, int from, int to)
+    {
+        for (var i = from; i < to; ++i)
+            array[i] = random.nextDouble(m_min, m_max);
+    }
 }
@@ -10,24 +10,63 @@
 -----------------------------------------------------------------------*/
 package org.csystem.util.iterable.generator;
 
-import java.util.Iterator;
 import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
 import java.util.Random;
+import java.util.SplittableRandom;
+import java.util.Spliterator;
+import java.util.Spliterators;
 import java.util.function.IntSupplier;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+import java.util.stream.StreamSupport;
 
+/**
+ * Iterable of a fixed count of random int values. A generator created with a {@link SplittableRandom} is parallel
+ * friendly: every iteration and every stream starts from its own random, and parallel streams split the random per
+ * worker instead of contending on a shared seed. Such a generator created with a seed produces the same values on every
+ * iteration. A generator created with a {@link Random} or an {@link IntSupplier} shares it between all consumers.
+ */
 public final class RandomIntGenerator implements Iterable<Integer> {
+    private static final int FILL_CHUNK_SIZE = 8192;
     private final int m_count;
     private final IntSupplier m_supplier;
+    private final Supplier<SplittableRandom> m_randomFactory;
+    private final int m_min;
+    private final int m_max;
 
-    private RandomIntGenerator(int count, IntSupplier supplier)
+    private RandomIntGenerator(int count, IntSupplier supplier, Supplier<SplittableRandom> randomFactory, int min, int max)
     {
+        if (count < 0)
+            throw new IllegalArgumentException("count can not be negative");
+
+        if (randomFactory != null && min >= max)
+            throw new IllegalArgumentException("min must be less than max");
+
         m_count = count;
         m_supplier = supplier;
+        m_randomFactory = randomFactory;
+        m_min = min;
+        m_max = max;
     }
 
     public static RandomIntGenerator of(int count, int min, int max)
     {
-        return of(new Random(), count, min, max);
+        return new RandomIntGenerator(count, null, SplittableRandom::new, min, max);
+    }
+
+    public static RandomIntGenerator of(long seed, int count, int min, int max)
+    {
+        return new RandomIntGenerator(count, null, () -> new SplittableRandom(seed), min, max);
+    }
+
+    /**
+     * Creates a generator whose iterations use splits of the given random. The random is not thread safe, hence
+     * iterations of the generator must not be started concurrently
+     */
+    public static RandomIntGenerator of(SplittableRandom random, int count, int min, int max)
+    {
+        return new RandomIntGenerator(count, null, random::split, min, max);
     }
 
     public static RandomIntGenerator of(Random random, int count, int min, int max)
@@ -37,7 +76,7 @@ public final class RandomIntGenerator implements Iterable<Integer> {
 
     public static RandomIntGenerator of(int count, IntSupplier supplier)
     {
-        return new RandomIntGenerator(count, supplier);
+        return new RandomIntGenerator(count, supplier, null, 0, 0);
     }
 
     public int getCount()
@@ -46,9 +85,11 @@ public final class RandomIntGenerator implements Iterable<Integer> {
     }
 
     @Override
-    public Iterator<Integer> iterator()
+    public PrimitiveIterator.OfInt iterator()
     {
-        return new Iterator<>() {
+        var supplier = m_randomFactory != null ? randomSupplier(m_randomFactory.get()) : m_supplier;
+
+        return new PrimitiveIterator.OfInt() {
             private int m_count = -1;
 
             @Override
@@ -58,14 +99,92 @@ public final class RandomIntGenerator implements Iterable<Integer> {
             }
 
             @Override
-            public Integer next()
+            public int nextInt()
             {
                 if (!hasNext())
                     throw new NoSuchElementException("No value to generate");
 
                 ++m_count;
-                return m_supplier.getAsInt();
+                return supplier.getAsInt();
             }
         };
     }
+
+    @Override
+    public Spliterator.OfInt spliterator()
+    {
+        return m_randomFactory != null ? stream().spliterator()
+                : Spliterators.spliterator(iterator(), m_count, Spliterator.NONNULL | Spliterator.IMMUTABLE);
+    }
+
+    public IntStream stream()
+    {
+        return m_randomFactory != null ? m_randomFactory.get().ints(m_count, m_min, m_max)
+                : StreamSupport.intStream(spliterator(), false);
+    }
+
+    public IntStream parallelStream()
+    {
+        return stream().parallel();
+    }
+
+    /**
+     * Fills the given array with values of the generator regardless of its count
+     * @param array the array to fill
+     * @return the array
+     */
+    public int [] fill(int [] array)
+    {
+        return fill(array, false);
+    }
+
+    /**
+     * Fills the given array with values of the generator regardless of its count. A parallel fill of a generator created
+     * with a {@link SplittableRandom} splits the random per chunk of the array, so it is reproducible for a seed
+     * @param array the array to fill
+     * @param parallel whether to fill the chunks of the array in parallel, ignored for a generator created with a
+     *                 {@link Random} or an {@link IntSupplier}
+     * @return the array
+     */
+    public int [] fill(int [] array, boolean parallel)
+    {
+        if (m_randomFactory == null) {
+            for (var i = 0; i < array.length; ++i)
+                array[i] = m_supplier.getAsInt();
+
+            return array;
+        }
+
+        var random = m_randomFactory.get();
+
+        if (!parallel || array.length <= FILL_CHUNK_SIZE) {
+            fill(random, array, 0, array.length);
+            return array;
+        }
+
+        var chunkCount = (array.length + FILL_CHUNK_SIZE - 1) / FILL_CHUNK_SIZE;
+        var randoms = new SplittableRandom[chunkCount];
+
+        for (var i = 0; i < chunkCount; ++i)
+            randoms[i] = random.split();
+
+        IntStream.range(0, chunkCount).parallel().forEach(i -> {
+            var from = i * FILL_CHUNK_SIZE;
+
+            fill(randoms[i], array, from, Math.min(from + FILL_CHUNK_SIZE, array.length));
+        });
+
+        return array;
+    }
+
+    private IntSupplier randomSupplier(SplittableRandom random)
+    {
+        return () -> random.nextInt(m_min, m_max);
+    }
+
+    private void fill(SplittableRandom random, int [] array, int from, int to)
+    {
+        for (var i = from; i < to; ++i)
+            array[i] = random.nextInt(m_min, m_max);
+    }
 }
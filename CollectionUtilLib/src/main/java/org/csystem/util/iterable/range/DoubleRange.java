@@ -10,33 +10,176 @@
 -----------------------------------------------------------------------*/
 package org.csystem.util.iterable.range;
 
-import java.util.Iterator;
+import java.util.Comparator;
 import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.DoubleConsumer;
 import java.util.function.DoubleUnaryOperator;
+import java.util.stream.DoubleStream;
+import java.util.stream.StreamSupport;
 
 public class DoubleRange implements Iterable<Double> {
+    private static final double MAX_EXACT_COUNT = 0x1p53;
     private final double m_min;
     private final double m_max;
+    private final double m_step;
+    private final long m_size;
     private final DoubleUnaryOperator m_doubleUnaryOperator;
 
-    private DoubleRange(double min, double max, DoubleUnaryOperator doubleUnaryOperator)
+    private DoubleRange(double min, double max, double step, DoubleUnaryOperator doubleUnaryOperator)
     {
         if (min > max)
             throw new IllegalArgumentException("Invalid Arguments");
 
         m_min = min;
         m_max = max;
+        m_step = step;
+        m_size = step != 0 ? countOf(min, max, step) : -1;
         m_doubleUnaryOperator = doubleUnaryOperator;
     }
 
+    private static long countOf(double min, double max, double step)
+    {
+        double quotient = (max - min) / step;
+
+        //Indices beyond 2^53 are not exact in double, such a range is iterated without a size
+        if (!(quotient < MAX_EXACT_COUNT))
+            return -1;
+
+        long count = (long)Math.ceil(quotient);
+
+        if (count > 0 && min + (count - 1) * step >= max)
+            --count;
+        else if (min + count * step < max)
+            ++count;
+
+        return count;
+    }
+
+    private final class FixedStepIterator implements PrimitiveIterator.OfDouble {
+        long m_index;
+
+        @Override
+        public boolean hasNext()
+        {
+            return m_size >= 0 ? m_index < m_size : m_min + m_index * m_step < m_max;
+        }
+
+        @Override
+        public double nextDouble()
+        {
+            if (!hasNext())
+                throw new NoSuchElementException("No such element");
+
+            return m_min + m_index++ * m_step;
+        }
+    }
+
+    private final class OperatorIterator implements PrimitiveIterator.OfDouble {
+        double m_val = m_min;
+
+        @Override
+        public boolean hasNext()
+        {
+            return m_val < m_max;
+        }
+
+        @Override
+        public double nextDouble()
+        {
+            if (!hasNext())
+                throw new NoSuchElementException("No such element");
+
+            double val = m_val;
+
+            m_val = m_doubleUnaryOperator.applyAsDouble(m_val);
+
+            return val;
+        }
+    }
+
+    private final class FixedStepSpliterator implements Spliterator.OfDouble {
+        long m_index;
+        final long m_fence;
+
+        FixedStepSpliterator(long index, long fence)
+        {
+            m_index = index;
+            m_fence = fence;
+        }
+
+        @Override
+        public boolean tryAdvance(DoubleConsumer action)
+        {
+            if (m_index >= m_fence)
+                return false;
+
+            action.accept(m_min + m_index++ * m_step);
+
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(DoubleConsumer action)
+        {
+            for (long i = m_index; i < m_fence; ++i)
+                action.accept(m_min + i * m_step);
+
+            m_index = m_fence;
+        }
+
+        @Override
+        public Spliterator.OfDouble trySplit()
+        {
+            long mid = (m_index + m_fence) >>> 1;
+
+            if (mid <= m_index)
+                return null;
+
+            var prefix = new FixedStepSpliterator(m_index, mid);
+
+            m_index = mid;
+
+            return prefix;
+        }
+
+        @Override
+        public long estimateSize()
+        {
+            return m_fence - m_index;
+        }
+
+        @Override
+        public int characteristics()
+        {
+            return ORDERED | SIZED | SUBSIZED | SORTED | DISTINCT | NONNULL | IMMUTABLE;
+        }
+
+        @Override
+        public Comparator<? super Double> getComparator()
+        {
+            return null;
+        }
+    }
+
+    /**
+     * Creates a range of values {@code min + i * step} less than {@code max}. Computing a value from its index instead
+     * of accumulating the step avoids the rounding error growing along the range
+     * @param min the first value
+     * @param max the exclusive upper bound
+     * @param step the step, 1 is used if it is not positive
+     * @return the range
+     */
     public static DoubleRange of(double min, double max, double step)
     {
-        return of(min, max, (step <= 0) ? (val -> val + 1) : (val -> val + step));
+        return new DoubleRange(min, max, step <= 0 ? 1 : step, null);
     }
 
     public static DoubleRange of(double min, double max, DoubleUnaryOperator doubleUnaryOperator)
     {
-        return new DoubleRange(min, max, doubleUnaryOperator);
+        return new DoubleRange(min, max, 0, doubleUnaryOperator);
     }
 
     public double getMin()
@@ -49,30 +192,41 @@ public class DoubleRange implements Iterable<Double> {
         return m_max;
     }
 
-    @Override
-    public Iterator<Double> iterator()
+    /**
+     * Returns the number of values of a fixed step range
+     * @return the number of values, -1 if the range is created by a {@link DoubleUnaryOperator} or it has at least
+     * 2^53 values
+     */
+    public long size()
     {
-        return new Iterator<Double>() {
-            double m_val = m_min;
-
-            @Override
-            public boolean hasNext()
-            {
-                return  m_val < m_max;
-            }
+        return m_size;
+    }
 
-            @Override
-            public Double next()
-            {
-                if (!hasNext())
-                    throw new NoSuchElementException("No such element");
+    @Override
+    public PrimitiveIterator.OfDouble iterator()
+    {
+        return m_step != 0 ? new FixedStepIterator() : new OperatorIterator();
+    }
 
-                double val = m_val;
+    /**
+     * Returns a spliterator over the values. The spliterator of a fixed step range is SIZED and SUBSIZED and splits
+     * in constant time, otherwise (a range created by a {@link DoubleUnaryOperator} or a huge range) the values can only be split by buffering
+     * @return the spliterator
+     */
+    @Override
+    public Spliterator.OfDouble spliterator()
+    {
+        return m_size >= 0 ? new FixedStepSpliterator(0, m_size)
+                : Spliterators.spliteratorUnknownSize(iterator(), Spliterator.ORDERED | Spliterator.NONNULL | Spliterator.IMMUTABLE);
+    }
 
-                m_val = m_doubleUnaryOperator.applyAsDouble(m_val);
+    public DoubleStream stream()
+    {
+        return StreamSupport.doubleStream(spliterator(), false);
+    }
 
-                return val;
-            }
-        };
+    public DoubleStream parallelStream()
+    {
+        return StreamSupport.doubleStream(spliterator(), true);
     }
 }
@@ -10,25 +10,150 @@
 -----------------------------------------------------------------------*/
 package org.csystem.util.iterable.range;
 
-import java.util.Iterator;
+import java.util.Comparator;
 import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.IntConsumer;
 import java.util.function.IntUnaryOperator;
+import java.util.stream.IntStream;
+import java.util.stream.StreamSupport;
 
 public class IntRange implements Iterable<Integer> {
     private final int m_min;
     private final int m_max;
+    private final int m_step;
     private final IntUnaryOperator m_intUnaryOperator;
 
-    private IntRange(int min, int max, IntUnaryOperator intUnaryOperator)
+    private IntRange(int min, int max, int step, IntUnaryOperator intUnaryOperator)
     {
         if (min > max)
             throw new IllegalArgumentException("Invalid Arguments");
 
         m_min = min;
         m_max = max;
+        m_step = step;
         m_intUnaryOperator = intUnaryOperator;
     }
 
+    private final class FixedStepIterator implements PrimitiveIterator.OfInt {
+        long m_val = m_min;
+
+        @Override
+        public boolean hasNext()
+        {
+            return m_val <= m_max;
+        }
+
+        @Override
+        public int nextInt()
+        {
+            if (!hasNext())
+                throw new NoSuchElementException("No such value");
+
+            int val = (int)m_val;
+
+            m_val += m_step;
+
+            return val;
+        }
+    }
+
+    private final class OperatorIterator implements PrimitiveIterator.OfInt {
+        int m_val = m_min;
+
+        @Override
+        public boolean hasNext()
+        {
+            return m_val <= m_max;
+        }
+
+        @Override
+        public int nextInt()
+        {
+            if (!hasNext())
+                throw new NoSuchElementException("No such value");
+
+            int val = m_val;
+
+            m_val = m_intUnaryOperator.applyAsInt(m_val);
+
+            return val;
+        }
+    }
+
+    private final class FixedStepSpliterator implements Spliterator.OfInt {
+        long m_index;
+        final long m_fence;
+
+        FixedStepSpliterator(long index, long fence)
+        {
+            m_index = index;
+            m_fence = fence;
+        }
+
+        @Override
+        public boolean tryAdvance(IntConsumer action)
+        {
+            if (m_index >= m_fence)
+                return false;
+
+            action.accept((int)(m_min + m_index++ * m_step));
+
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(IntConsumer action)
+        {
+            int step = m_step;
+            int val = (int)(m_min + m_index * step);
+            long count = m_fence - m_index;
+
+            m_index = m_fence;
+
+            for (; count > Integer.MAX_VALUE; --count, val += step)
+                action.accept(val);
+
+            for (int i = (int)count; i > 0; --i, val += step)
+                action.accept(val);
+        }
+
+        @Override
+        public Spliterator.OfInt trySplit()
+        {
+            long mid = (m_index + m_fence) >>> 1;
+
+            if (mid <= m_index)
+                return null;
+
+            var prefix = new FixedStepSpliterator(m_index, mid);
+
+            m_index = mid;
+
+            return prefix;
+        }
+
+        @Override
+        public long estimateSize()
+        {
+            return m_fence - m_index;
+        }
+
+        @Override
+        public int characteristics()
+        {
+            return ORDERED | SIZED | SUBSIZED | SORTED | DISTINCT | NONNULL | IMMUTABLE;
+        }
+
+        @Override
+        public Comparator<? super Integer> getComparator()
+        {
+            return null;
+        }
+    }
+
     public static IntRange of(int min, int max)
     {
         return of(min, max, 1);
@@ -51,12 +176,12 @@ public class IntRange implements Iterable<Integer> {
 
     public static IntRange ofClosed(int min, int max, int step)
     {
-        return ofClosed(min, max, (step <= 1) ? (val -> val + 1) : (val -> val + step));
+        return new IntRange(min, max, Math.max(step, 1), null);
     }
 
     public static IntRange ofClosed(int min, int max, IntUnaryOperator intUnaryOperator)
     {
-        return new IntRange(min, max, intUnaryOperator);
+        return new IntRange(min, max, 0, intUnaryOperator);
     }
 
     public int getMin()
@@ -69,30 +194,40 @@ public class IntRange implements Iterable<Integer> {
         return m_max;
     }
 
-    @Override
-    public Iterator<Integer> iterator()
+    /**
+     * Returns the number of values of a fixed step range
+     * @return the number of values, -1 if the range is created by an {@link IntUnaryOperator}
+     */
+    public long size()
     {
-        return new Iterator<>() {
-            int m_val = m_min;
-
-            @Override
-            public boolean hasNext()
-            {
-                return m_val <= m_max;
-            }
+        return m_step != 0 ? ((long)m_max - m_min) / m_step + 1 : -1;
+    }
 
-            @Override
-            public Integer next()
-            {
-                if (!hasNext())
-                    throw new NoSuchElementException("No such value");
+    @Override
+    public PrimitiveIterator.OfInt iterator()
+    {
+        return m_step != 0 ? new FixedStepIterator() : new OperatorIterator();
+    }
 
-                int val = m_val;
+    /**
+     * Returns a spliterator over the values. The spliterator of a fixed step range is SIZED and SUBSIZED and splits
+     * in constant time, otherwise the values can only be split by buffering
+     * @return the spliterator
+     */
+    @Override
+    public Spliterator.OfInt spliterator()
+    {
+        return m_step != 0 ? new FixedStepSpliterator(0, size())
+                : Spliterators.spliteratorUnknownSize(iterator(), Spliterator.ORDERED | Spliterator.NONNULL | Spliterator.IMMUTABLE);
+    }
 
-                m_val = m_intUnaryOperator.applyAsInt(m_val);
+    public IntStream stream()
+    {
+        return StreamSupport.intStream(spliterator(), false);
+    }
 
-                return val;
-            }
-        };
+    public IntStream parallelStream()
+    {
+        return StreamSupport.intStream(spliterator(), true);
     }
 }
@@ -87,4 +87,36 @@ public class CollectionUtilTest {
         assertEquals(2, removedElements.size());
         assertEquals(3, list.size());
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testGetIndexedTreeMap()
+    {
+        var map = new IndexedTreeMap<String, Integer>();
+        map.put("c", 2);
+        map.put("a", 0);
+        map.put("b", 1);
+
+        assertEquals(Map.entry("b", 1), CollectionUtil.get(map, 1));
+        assertThrows(IndexOutOfBoundsException.class, () -> CollectionUtil.get(map, 3));
+    }
+
+    @Test
+    public void testRemoveCountDuplicates()
+    {
+        var list = new ArrayList<>(List.of(1, 2, 1, 2, 3));
+        var removedElements = CollectionUtil.removeCount(list, 2, 2);
+
+        assertEquals(List.of(1, 2), removedElements);
+        assertEquals(List.of(1, 2, 3), list);
+    }
+
+    @Test
+    public void testRemoveCountNotList()
+    {
+        var set = new LinkedHashSet<>(List.of(5, 4, 3, 2, 1));
+        var removedElements = CollectionUtil.removeCount(set, 1, 3);
+
+        assertEquals(List.of(4, 3, 2), removedElements);
+        assertEquals(List.of(5, 1), new ArrayList<>(set));
+    }
+}
@@ -0,0 +1,74 @@
+package org.csystem.util.collection;
+
+import org.csystem.util.iterable.range.IntRange;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.ArrayList;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FrequencyIndexTest {
+
+    @Test
+    public void testFrequency()
+    {
+        var index = FrequencyIndex.of(Arrays.asList("a", "b", "a", null, "a", null));
+        var expected = new HashMap<String, Long>();
+
+        expected.put("a", 3L);
+        expected.put("b", 1L);
+        expected.put(null, 2L);
+
+        assertEquals(3, index.frequency("a"));
+        assertEquals(2, index.frequency(null));
+        assertEquals(0, index.frequency("c"));
+        assertEquals(3, index.distinctCount());
+        assertEquals(6, index.totalCount());
+        assertEquals(expected, index.toMap());
+    }
+
+    @Test
+    public void testParallel()
+    {
+        var index = FrequencyIndex.<Integer>of(IterableUtil.toIterable(IntRange.of(0, 100_000), i -> i % 7), true);
+
+        assertEquals(7, index.distinctCount());
+        assertEquals(14286, index.frequency(0));
+        assertEquals(14285, index.frequency(6));
+        assertEquals(100_000, index.totalCount());
+    }
+
+    @Test
+    public void testAddConcurrently() throws Exception
+    {
+        var index = new FrequencyIndex<Integer>();
+        ExecutorService threadPool = Executors.newFixedThreadPool(4);
+        var futures = new ArrayList<Future<?>>();
+
+        try {
+            for (var t = 0; t < 4; ++t) {
+                futures.add(threadPool.submit(() -> {
+                    for (var i = 0; i < 10_000; ++i) {
+                        index.add(i % 10);
+                    }
+                }));
+            }
+
+            for (var future : futures) {
+                future.get();
+            }
+        }
+        finally {
+            threadPool.shutdown();
+        }
+
+        assertEquals(4_000, index.frequency(3));
+        assertEquals(40_000, index.totalCount());
+        assertThrows(IllegalArgumentException.class, () -> index.add(1, -1));
+    }
+}
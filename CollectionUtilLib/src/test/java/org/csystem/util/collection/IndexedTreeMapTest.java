@@ -0,0 +1,62 @@
+package org.csystem.util.collection;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.TreeMap;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IndexedTreeMapTest {
+
+    @Test
+    public void testSameAsTreeMap()
+    {
+        var random = new SplittableRandom(23);
+        var expected = new TreeMap<Integer, Integer>();
+        var map = new IndexedTreeMap<Integer, Integer>();
+
+        for (var i = 0; i < 50_000; ++i) {
+            var key = random.nextInt(2000);
+
+            if (random.nextInt(3) == 0) {
+                assertEquals(expected.remove(key), map.remove(key));
+            } else {
+                assertEquals(expected.put(key, i), map.put(key, i));
+            }
+        }
+
+        assertEquals(expected, map);
+        assertEquals(new ArrayList<>(expected.entrySet()), new ArrayList<>(map.entrySet()));
+
+        var keys = new ArrayList<>(expected.keySet());
+
+        for (var i = 0; i < keys.size(); ++i) {
+            assertEquals(keys.get(i), map.entryAt(i).getKey());
+            assertEquals(i, map.indexOf(keys.get(i)));
+        }
+
+        assertEquals(-1, map.indexOf(-1));
+        assertThrows(IndexOutOfBoundsException.class, () -> map.entryAt(keys.size()));
+    }
+
+    @Test
+    public void testIteratorRemove()
+    {
+        var map = new IndexedTreeMap<String, Integer>(Comparator.reverseOrder());
+
+        for (var s : List.of("a", "b", "c", "d", "e")) {
+            map.put(s, s.length());
+        }
+
+        map.entrySet().removeIf(e -> e.getKey().compareTo("c") <= 0);
+        map.entryAt(0).setValue(10);
+
+        assertEquals(List.of(Map.entry("e", 10), Map.entry("d", 1)), new ArrayList<>(map.entrySet()));
+        assertThrows(NullPointerException.class, () -> new IndexedTreeMap<String, Integer>().put(null, 1));
+    }
+}
@@ -2,6 +2,8 @@ package org.csystem.util.collection;
 
 
 import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -9,6 +11,8 @@ import java.util.Set;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
+import java.util.stream.Stream;
+import org.csystem.util.iterable.range.IntRange;
 import org.junit.jupiter.api.Test;
 
 import java.util.ArrayList;
@@ -68,6 +72,54 @@ class IterableUtilTest {
         assertEquals(expected, result);
     }
 
+    @Test
+    public void testCollateIsStable()
+    {
+        var a = Arrays.asList("a1", "c1", "e1");
+        var b = Arrays.asList("b2", "c2", "d2", "f2", "g2");
+        Comparator<String> comparator = Comparator.comparing(str -> str.charAt(0));
+
+        assertEquals(List.of("a1", "b2", "c1", "c2", "d2", "e1", "f2", "g2"), IterableUtil.collate(a, b, comparator));
+        assertEquals(List.of("a1", "b2", "c1", "c2", "d2", "e1", "f2", "g2"), IterableUtil.collate(a, b, comparator, false));
+        assertEquals(b, IterableUtil.collate(List.of(), b, comparator));
+    }
+
+    @Test
+    public void testCollateUnsorted()
+    {
+        var a = Arrays.asList(5, 1, 3, 1);
+        var b = Arrays.asList(2, 4, 0, 3);
+
+        assertEquals(List.of(0, 1, 1, 2, 3, 3, 4, 5), IterableUtil.collate(a, b, Integer::compareTo));
+        assertEquals(List.of(0, 1, 2, 3, 4, 5), IterableUtil.collate(a, b, Integer::compareTo, false));
+        assertEquals(List.of(0, 1, 2, 3, 4, 5), IterableUtil.collate(b, a, Integer::compareTo, false));
+    }
+
+    @Test
+    public void testMergeSorted()
+    {
+        var shards = List.of(List.of(1, 4, 7, 10), List.<Integer>of(), List.of(2, 5, 8), List.of(0, 3, 6, 9, 11));
+        var merged = IterableUtil.mergeSorted(shards, Comparator.naturalOrder());
+
+        assertEquals(IterableUtil.toList(IntRange.ofClosed(0, 11), Function.identity()), IterableUtil.toList(merged, Function.identity()));
+        assertEquals(List.of(5, 4, 3), IterableUtil.toList(IterableUtil.mergeSorted(List.of(List.of(5, 3), List.of(4)),
+            Comparator.reverseOrder()), Function.identity()));
+        assertFalse(IterableUtil.mergeSorted(List.<List<Integer>>of(), Comparator.<Integer>naturalOrder()).iterator().hasNext());
+    }
+
+    @Test
+    public void testMergeSortedIsStable()
+    {
+        var a = List.of("x1", "y1");
+        var b = List.of("x2", "y2");
+        var c = List.of("x3");
+        Comparator<String> comparator = Comparator.comparing(str -> str.charAt(0));
+        var expected = List.of("x1", "x2", "x3", "y1", "y2");
+
+        assertEquals(expected, IterableUtil.toList(IterableUtil.mergeSorted(List.of(a, b, c), comparator), Function.identity()));
+        assertThrows(NullPointerException.class, () -> IterableUtil.mergeSorted(List.of(a), null));
+    }
+
     @Test
     public void testCollateWithNullComparator()
     {
@@ -95,10 +147,32 @@ class IterableUtilTest {
         );
 
         var excepted = List.of("a", "b", "c", "d", "e", "f");
-        assertEquals(excepted, IterableUtil.concat(iterable));
+        assertEquals(excepted, IterableUtil.toList(IterableUtil.concat(iterable), Function.identity()));
 
     }
 
+    @Test
+    public void testConcatIsLazy()
+    {
+        var list = new ArrayList<>(List.of(1, 2));
+        var concat = IterableUtil.concat(List.of(List.<Integer>of(), list, List.of(3)));
+
+        list.add(5);
+
+        assertEquals(List.of(1, 2, 5, 3), IterableUtil.toList(concat, Function.identity()));
+        assertFalse(IterableUtil.concat(List.of(List.of(), List.of())).iterator().hasNext());
+    }
+
+    @Test
+    public void testCycle()
+    {
+        var cycle = IterableUtil.cycle(List.of(1, 2, 3));
+        var expected = List.of(1, 2, 3, 1, 2, 3, 1);
+
+        assertEquals(expected, IterableUtil.toList(IterableUtil.limit(cycle, 7), Function.identity()));
+        assertFalse(IterableUtil.cycle(List.of()).iterator().hasNext());
+    }
+
     @Test
     public void testFindFirst()
     {
@@ -165,6 +239,18 @@ class IterableUtilTest {
         assertEquals(excepted, IterableUtil.getCardinalityMap(iterable));
     }
 
+    @Test
+    public void testGetCardinalityMapParallel()
+    {
+        var iterable = Arrays.asList(1, 1, null, 4, 1, null);
+        var excepted = new HashMap<Integer, Integer>(Map.of(1, 3, 4, 1));
+
+        excepted.put(null, 2);
+
+        assertEquals(excepted, IterableUtil.getCardinalityMap(iterable));
+        assertEquals(excepted, IterableUtil.getCardinalityMap(iterable, true));
+    }
+
     @Test
     public void testIsSubCollection()
     {
@@ -173,6 +259,23 @@ class IterableUtilTest {
         assertTrue(IterableUtil.isSubCollection(a, b));
     }
 
+    @Test
+    public void testIsSubCollectionCardinality()
+    {
+        var a = Arrays.asList(1, 2, 2, 3, null);
+        var b = Arrays.asList(2, 2, null);
+        var c = Arrays.asList(2, 2, 2);
+        var d = Arrays.asList(1, 6);
+
+        assertTrue(IterableUtil.isSubCollection(a, b));
+        assertTrue(IterableUtil.isSubCollection(a, b, true));
+        assertTrue(IterableUtil.isSubCollection(a, List.of()));
+        assertFalse(IterableUtil.isSubCollection(a, c));
+        assertFalse(IterableUtil.isSubCollection(a, c, true));
+        assertFalse(IterableUtil.isSubCollection(a, d));
+        assertFalse(IterableUtil.isSubCollection(b, a));
+    }
+
     @Test
     public void testLimit()
     {
@@ -181,7 +284,30 @@ class IterableUtilTest {
 
         var expected = Arrays.asList(1, 2, 3);
 
-        assertEquals(expected, IterableUtil.limit(a, size));
+        assertEquals(expected, IterableUtil.toList(IterableUtil.limit(a, size), Function.identity()));
+    }
+
+    @Test
+    public void testLimitShortCircuits()
+    {
+        var count = new int[1];
+        Iterable<Integer> infinite = () -> Stream.iterate(0, i -> i + 1).peek(i -> ++count[0]).iterator();
+        var expected = List.of("0*", "1*", "2*");
+
+        assertEquals(expected, IterableUtil.toList(IterableUtil.limit(IterableUtil.toIterable(infinite, i -> i + "*"), 3), Function.identity()));
+        assertEquals(3, count[0]);
+        assertEquals(5, IterableUtil.toList(IterableUtil.limit(IntRange.of(0, 1_000_000_000), 5), Function.identity()).size());
+    }
+
+    @Test
+    public void testPaddedPartition()
+    {
+        var partitions = IterableUtil.paddedPartition(IntRange.ofClosed(1, 5), 2);
+        var expected = List.of(List.of(1, 2), List.of(3, 4), Arrays.asList(5, null));
+
+        assertEquals(expected, IterableUtil.toList(partitions, Function.identity()));
+        assertFalse(IterableUtil.paddedPartition(List.of(), 2).iterator().hasNext());
+        assertThrows(IllegalArgumentException.class, () -> IterableUtil.paddedPartition(List.of(1), 0));
     }
 
     @Test
@@ -207,7 +333,7 @@ class IterableUtilTest {
         Function<Integer, String> f = i -> i + "*";
         var expected = Arrays.asList("1*", "2*", "3*", "4*", "5*");
 
-        assertEquals(expected, IterableUtil.toIterable(a, f));
+        assertEquals(expected, IterableUtil.toList(IterableUtil.toIterable(a, f), Function.identity()));
     }
 
     @Test
@@ -249,6 +375,21 @@ class IterableUtilTest {
         assertEquals(excepted, IterableUtil.intersection(iterable1, iterable2));
     }
 
+    @Test
+    public void testIntersectionEncounterOrder()
+    {
+        var a = List.of(9, 1, 7, 1, 3, 5);
+        var b = List.of(3, 5, 7, 9, 11, 13, 15);
+        Iterable<Integer> lazy = () -> b.iterator();
+        var excepted = List.of(9, 7, 3, 5);
+
+        assertEquals(excepted, new ArrayList<>(IterableUtil.intersection(a, b)));
+        assertEquals(excepted, new ArrayList<>(IterableUtil.intersection(a, b, true)));
+        assertEquals(excepted, new ArrayList<>(IterableUtil.intersection(a, lazy)));
+        assertEquals(List.of(3, 5, 7, 9), new ArrayList<>(IterableUtil.intersection(b, a)));
+        assertTrue(IterableUtil.intersection(a, List.of()).isEmpty());
+    }
+
     @Test
     public void testUnion()
     {
@@ -262,9 +403,23 @@ class IterableUtilTest {
 
         assertEquals(excepted1, IterableUtil.union(iterable1, iterable2));
         assertEquals(excepted2, IterableUtil.union(iterable3, iterable4));
+        assertEquals(excepted2, IterableUtil.union(iterable3, iterable4, true));
+        assertEquals(List.of(1, 2, 3), IterableUtil.union(iterable3, null));
     }
 
 
+    @Test
+    public void testPrimitiveOverloads()
+    {
+        assertArrayEquals(new int[]{9, 7, 3}, IterableUtil.intersection(new int[]{9, 1, 7, 9, 3}, new int[]{3, 7, 9, 11}));
+        assertArrayEquals(new int[]{1, 2, 3, 4, 5}, IterableUtil.union(new int[]{1, 2, 3, 3, 2}, new int[]{1, 4, 5, 3, 2}));
+        assertArrayEquals(new long[]{0, 5}, IterableUtil.intersection(new long[]{0, 5, 6}, new long[]{5, 0, 0}));
+        assertArrayEquals(new long[]{1, 2, 3}, IterableUtil.union(new long[]{1, 2}, new long[]{3, 1}));
+        assertTrue(IterableUtil.areAllDistinct(1, 2, 3));
+        assertFalse(IterableUtil.areAllDistinct(1, 2, 1));
+        assertFalse(IterableUtil.areAllDistinct(0L, 0L));
+    }
+
     @Test
     public void testUnionAll()
     {
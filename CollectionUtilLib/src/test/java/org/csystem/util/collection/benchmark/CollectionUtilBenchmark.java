@@ -0,0 +1,102 @@
+package org.csystem.util.collection.benchmark;
+
+import org.csystem.util.collection.CollectionUtil;
+import org.csystem.util.collection.IndexedTreeMap;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH benchmarks of the positional access and the bulk removal of {@link CollectionUtil}. The {@code stream} benchmarks are
+ * the former stream based implementations and serve as the baseline. The removal benchmarks copy the list on every call,
+ * the copy is included in every variant. Run with {@code mvn test-compile exec:exec -Dexec.executable=java
+ * -Dexec.classpathScope=test "-Dexec.args=-cp %classpath org.csystem.util.collection.benchmark.CollectionUtilBenchmark [result.json]"},
+ * the results are written as JSON (default {@code target/jmh-collection-result.json})
+ */
+@State(Scope.Thread)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CollectionUtilBenchmark {
+    private Map<Integer, Integer> m_linkedHashMap;
+    private IndexedTreeMap<Integer, Integer> m_indexedTreeMap;
+    private List<Integer> m_list;
+
+    @Param({"1000", "10000", "100000"})
+    public int count;
+
+    @Setup
+    public void setUp()
+    {
+        m_linkedHashMap = new LinkedHashMap<>(count * 4 / 3 + 1);
+        m_indexedTreeMap = new IndexedTreeMap<>();
+        m_list = new ArrayList<>(count);
+
+        for (var i = 0; i < count; ++i) {
+            m_linkedHashMap.put(i, i);
+            m_indexedTreeMap.put(i, i);
+            m_list.add(i);
+        }
+    }
+
+    @Benchmark
+    public Map.Entry<Integer, Integer> getLinkedHashMap()
+    {
+        return CollectionUtil.get(m_linkedHashMap, count / 2);
+    }
+
+    @Benchmark
+    public Map.Entry<Integer, Integer> getIndexedTreeMap()
+    {
+        return CollectionUtil.get(m_indexedTreeMap, count / 2);
+    }
+
+    @Benchmark
+    public Map.Entry<Integer, Integer> getStream()
+    {
+        return m_linkedHashMap.entrySet().stream().skip(count / 2).findFirst().orElse(null);
+    }
+
+    @Benchmark
+    public List<Integer> removeCount()
+    {
+        var list = new ArrayList<>(m_list);
+
+        CollectionUtil.removeCount(list, count / 4, count / 2);
+
+        return list;
+    }
+
+    @Benchmark
+    public List<Integer> removeCountStream()
+    {
+        var list = new ArrayList<>(m_list);
+        var removedElements = new ArrayList<Integer>();
+
+        list.stream().skip(count / 4).limit(count / 2).forEach(removedElements::add);
+        list.removeAll(removedElements);
+
+        return list;
+    }
+
+    public static void main(String[] args) throws RunnerException
+    {
+        var options = new OptionsBuilder()
+                .include(CollectionUtilBenchmark.class.getSimpleName())
+                .resultFormat(ResultFormatType.JSON)
+                .result(args.length > 0 ? args[0] : "target/jmh-collection-result.json")
+                .build();
+
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,215 @@
+package org.csystem.util.collection.benchmark;
+
+import org.csystem.util.collection.FrequencyIndex;
+import org.csystem.util.collection.IterableUtil;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * JMH benchmarks of the set algebra, the merges and the counting of {@link IterableUtil}. The {@code nested} benchmarks are the former
+ * stream based implementations and serve as the O(n * m) baseline, the {@code sort} ones are the sort based alternatives
+ * of the merges. Run with {@code mvn test-compile exec:exec -Dexec.executable=java
+ * -Dexec.classpathScope=test "-Dexec.args=-cp %classpath org.csystem.util.collection.benchmark.IterableUtilBenchmark [result.json]"},
+ * the results are written as JSON (default {@code target/jmh-iterable-result.json})
+ */
+@State(Scope.Thread)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class IterableUtilBenchmark {
+    private static final int SHARD_COUNT = 32;
+    private static final int FREQUENCY_QUERY_COUNT = 100;
+    private List<Integer> m_a;
+    private List<Integer> m_b;
+    private List<Integer> m_subCollection;
+    private List<List<Integer>> m_shards;
+    private List<Integer> m_events;
+
+    @Param({"1000", "10000", "100000"})
+    public int count;
+
+    @Setup
+    public void setUp()
+    {
+        m_a = new ArrayList<>(count);
+        m_b = new ArrayList<>(count);
+
+        for (var i = 0; i < count; ++i) {
+            m_a.add(i);
+            m_b.add(i + count / 2);
+        }
+
+        m_subCollection = new ArrayList<>(m_a.subList(count / 2, count));
+        m_shards = new ArrayList<>(SHARD_COUNT);
+
+        for (var i = 0; i < SHARD_COUNT; ++i) {
+            m_shards.add(new ArrayList<>(count / SHARD_COUNT + 1));
+        }
+
+        for (var i = 0; i < count; ++i) {
+            m_shards.get(i % SHARD_COUNT).add(i);
+        }
+
+        m_events = new ArrayList<>(count);
+
+        for (var i = 0; i < count; ++i) {
+            m_events.add(i * 31 % 1000);
+        }
+    }
+
+    @Benchmark
+    public Collection<Integer> intersection()
+    {
+        return IterableUtil.intersection(m_a, m_b);
+    }
+
+    @Benchmark
+    public Collection<Integer> intersectionParallel()
+    {
+        return IterableUtil.intersection(m_a, m_b, true);
+    }
+
+    @Benchmark
+    public Collection<Integer> intersectionNested()
+    {
+        return StreamSupport.stream(m_a.spliterator(), false)
+            .filter(t -> StreamSupport.stream(m_b.spliterator(), false).anyMatch(t::equals))
+            .collect(Collectors.toSet());
+    }
+
+    @Benchmark
+    public Collection<Integer> union()
+    {
+        return IterableUtil.union(m_a, m_b);
+    }
+
+    @Benchmark
+    public Collection<Integer> unionParallel()
+    {
+        return IterableUtil.union(m_a, m_b, true);
+    }
+
+    @Benchmark
+    public Collection<Integer> unionDistinct()
+    {
+        return Stream.concat(m_a.stream(), m_b.stream()).distinct().collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public boolean isSubCollection()
+    {
+        return IterableUtil.isSubCollection(m_a, m_subCollection);
+    }
+
+    @Benchmark
+    public boolean isSubCollectionParallel()
+    {
+        return IterableUtil.isSubCollection(m_a, m_subCollection, true);
+    }
+
+    @Benchmark
+    public List<Integer> collate()
+    {
+        return IterableUtil.collate(m_a, m_b, Comparator.naturalOrder());
+    }
+
+    @Benchmark
+    public List<Integer> collateSort()
+    {
+        return Stream.concat(m_a.stream(), m_b.stream()).sorted().collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public int mergeSorted()
+    {
+        var result = 0;
+
+        for (var val : IterableUtil.mergeSorted(m_shards, Comparator.<Integer>naturalOrder())) {
+            result += val;
+        }
+
+        return result;
+    }
+
+    @Benchmark
+    public int mergeSortedSort()
+    {
+        var result = 0;
+
+        for (var val : m_shards.stream().flatMap(List::stream).sorted().collect(Collectors.toList())) {
+            result += val;
+        }
+
+        return result;
+    }
+
+    @Benchmark
+    public Map<Integer, Integer> cardinalityMap()
+    {
+        return IterableUtil.getCardinalityMap(m_events);
+    }
+
+    @Benchmark
+    public Map<Integer, Integer> cardinalityMapParallel()
+    {
+        return IterableUtil.getCardinalityMap(m_events, true);
+    }
+
+    @Benchmark
+    public Map<Integer, Integer> cardinalityMapToMap()
+    {
+        return m_events.stream().collect(Collectors.toMap(Function.identity(), t -> 1, Integer::sum));
+    }
+
+    @Benchmark
+    public long frequencyIndex()
+    {
+        var index = FrequencyIndex.of(m_events);
+        var result = 0L;
+
+        for (var i = 0; i < FREQUENCY_QUERY_COUNT; ++i) {
+            result += index.frequency(i);
+        }
+
+        return result;
+    }
+
+    @Benchmark
+    public long frequencyScan()
+    {
+        var result = 0L;
+
+        for (var i = 0; i < FREQUENCY_QUERY_COUNT; ++i) {
+            result += IterableUtil.frequency(m_events, i);
+        }
+
+        return result;
+    }
+
+    public static void main(String[] args) throws RunnerException
+    {
+        var options = new OptionsBuilder()
+                .include(IterableUtilBenchmark.class.getSimpleName())
+                .resultFormat(ResultFormatType.JSON)
+                .result(args.length > 0 ? args[0] : "target/jmh-iterable-result.json")
+                .build();
+
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,22 @@
+package org.csystem.util.collection.offheap;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OffHeapIntArrayTest {
+
+    @Test
+    public void testGetSet()
+    {
+        try (var array = OffHeapIntArray.allocate(5)) {
+            array.set(0, new int[]{1, 2, 3, 4, 5}, 0, 5);
+            array.set(4, Integer.MIN_VALUE);
+
+            assertEquals(3, array.get(2));
+            assertEquals(Integer.MIN_VALUE, array.get(4));
+            assertEquals(10L + Integer.MIN_VALUE, array.stream().asLongStream().sum());
+            assertThrows(IllegalArgumentException.class, () -> OffHeapIntArray.allocate(-1));
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package org.csystem.util.collection.offheap;
+
+import org.csystem.util.collection.IterableUtil;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OffHeapLongArrayTest {
+
+    @Test
+    public void testGetSet()
+    {
+        try (var array = OffHeapLongArray.allocate(1000)) {
+            assertEquals(1000, array.length());
+            assertEquals(0, array.get(999));
+
+            for (long i = 0; i < array.length(); ++i) {
+                array.set(i, i * i);
+            }
+
+            var values = new long[3];
+
+            array.get(10, values, 0, 3);
+            assertArrayEquals(new long[]{100, 121, 144}, values);
+            assertEquals(LongStream.range(0, 1000).map(i -> i * i).sum(), array.parallelStream().sum());
+            assertThrows(IndexOutOfBoundsException.class, () -> array.get(1000));
+            assertThrows(IndexOutOfBoundsException.class, () -> array.set(-1, 0));
+        }
+    }
+
+    @Test
+    public void testIterable()
+    {
+        try (var array = OffHeapLongArray.allocate(3)) {
+            array.set(0, new long[]{7, 8, 9}, 0, 3);
+
+            assertEquals(List.of(7L, 8L, 9L), IterableUtil.toList(array, Function.identity()));
+        }
+    }
+
+    @Test
+    public void testClose()
+    {
+        var array = OffHeapLongArray.allocate(10);
+
+        array.close();
+        array.close();
+
+        assertTrue(array.isClosed());
+        assertThrows(IllegalStateException.class, () -> array.get(0));
+    }
+
+    @Test
+    public void testCloseDuringTraversal()
+    {
+        var array = OffHeapLongArray.allocate(1000);
+
+        assertThrows(IllegalStateException.class, () -> array.spliterator().forEachRemaining((long value) -> array.close()));
+
+        assertTrue(array.isClosed());
+
+        var failing = OffHeapLongArray.allocate(1_000_000);
+
+        assertThrows(IllegalStateException.class, () -> {
+            try (failing) {
+                failing.parallelStream().forEach(value -> {
+                    throw new IllegalStateException("failure");
+                });
+            }
+        });
+        assertTrue(failing.isClosed());
+    }
+
+    @Test
+    public void testMap(@TempDir Path dir) throws Exception
+    {
+        var path = dir.resolve("values.bin");
+
+        try (var array = OffHeapLongArray.map(path, 100)) {
+            array.fill(3);
+            array.set(99, -1);
+            array.force();
+        }
+
+        assertEquals(800, Files.size(path));
+
+        try (var array = OffHeapLongArray.map(path, 100)) {
+            assertEquals(3, array.get(0));
+            assertEquals(-1, array.get(99));
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package org.csystem.util.collection.offheap;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.SplittableRandom;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OffHeapLongHashSetTest {
+
+    @Test
+    public void testSameAsHashSet()
+    {
+        var random = new SplittableRandom(19);
+        var expected = new HashSet<Long>();
+
+        try (var set = new OffHeapLongHashSet()) {
+            for (var i = 0; i < 100_000; ++i) {
+                var value = random.nextLong(-5000, 5000);
+
+                if (random.nextInt(3) == 0) {
+                    assertEquals(expected.remove(value), set.remove(value));
+                } else {
+                    assertEquals(expected.add(value), set.add(value));
+                }
+            }
+
+            assertEquals(expected.size(), set.size());
+            assertEquals(expected, set.stream().boxed().collect(Collectors.toSet()));
+
+            for (long value = -5000; value < 5000; ++value) {
+                assertEquals(expected.contains(value), set.contains(value));
+            }
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package org.csystem.util.collection.primitive;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IntArrayListTest {
+
+    @Test
+    public void testAddGetRemove()
+    {
+        var list = new IntArrayList(0);
+
+        for (var i = 0; i < 100; ++i) {
+            list.add(i);
+        }
+
+        list.add(0, -1);
+
+        assertEquals(101, list.size());
+        assertEquals(-1, list.get(0));
+        assertEquals(99, list.get(100));
+        assertEquals(-1, list.removeAt(0));
+        assertEquals(0, list.set(0, 42));
+        assertEquals(0, list.indexOf(42));
+        assertFalse(list.contains(-1));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(100));
+    }
+
+    @Test
+    public void testBulkOperations()
+    {
+        var list = IntArrayList.of(5, 3, 1);
+
+        list.addAll(new int[]{9, 7, 8}, 1, 2);
+        list.addAll(IntArrayList.of(2));
+        list.sort();
+        list.trimToSize();
+
+        assertArrayEquals(new int[]{1, 2, 3, 5, 7, 8}, list.toArray());
+        assertEquals(6, list.capacity());
+        assertEquals(26, list.stream().sum());
+        assertEquals(IntArrayList.of(1, 2, 3, 5, 7, 8), list);
+        assertThrows(IndexOutOfBoundsException.class, () -> list.addAll(new int[2], 1, 2));
+    }
+}
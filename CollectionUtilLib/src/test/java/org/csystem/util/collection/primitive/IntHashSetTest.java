@@ -0,0 +1,74 @@
+package org.csystem.util.collection.primitive;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.SplittableRandom;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IntHashSetTest {
+
+    @Test
+    public void testAddContainsRemove()
+    {
+        var set = IntHashSet.of(0, 1, -1, Integer.MIN_VALUE, 1);
+
+        assertEquals(4, set.size());
+        assertTrue(set.contains(0));
+        assertTrue(set.contains(Integer.MIN_VALUE));
+        assertFalse(set.contains(2));
+        assertFalse(set.add(-1));
+        assertTrue(set.remove(0));
+        assertFalse(set.remove(0));
+        assertFalse(set.contains(0));
+        assertEquals(3, set.size());
+        assertEquals(IntHashSet.of(1, -1, Integer.MIN_VALUE), set);
+    }
+
+    @Test
+    public void testSameAsHashSet()
+    {
+        var random = new SplittableRandom(11);
+        var set = new IntHashSet();
+        var expected = new HashSet<Integer>();
+
+        for (var i = 0; i < 200_000; ++i) {
+            var value = random.nextInt(-5000, 5000);
+
+            if (random.nextInt(3) == 0) {
+                assertEquals(expected.remove(value), set.remove(value));
+            } else {
+                assertEquals(expected.add(value), set.add(value));
+            }
+        }
+
+        assertEquals(expected.size(), set.size());
+        assertEquals(expected, set.stream().boxed().collect(Collectors.toSet()));
+
+        for (var value = -5000; value < 5000; ++value) {
+            assertEquals(expected.contains(value), set.contains(value));
+        }
+    }
+
+    @Test
+    public void testBulkOperations()
+    {
+        var set = IntHashSet.of(0, 1, 2, 3, 4);
+
+        assertTrue(set.retainAll(IntHashSet.of(0, 2, 4, 6)));
+        assertEquals(IntHashSet.of(0, 2, 4), set);
+        assertTrue(set.addAll(IntHashSet.of(4, 5)));
+        assertFalse(set.addAll(5, 0));
+        assertEquals(4, set.toArray().length);
+        assertEquals(11, set.stream().sum());
+
+        assertFalse(set.retainAll(set));
+        assertEquals(IntHashSet.of(0, 2, 4, 5), set);
+
+        set.clear();
+        assertTrue(set.isEmpty());
+        assertFalse(set.iterator().hasNext());
+    }
+}
@@ -0,0 +1,55 @@
+package org.csystem.util.collection.primitive;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IntIntHashMapTest {
+
+    @Test
+    public void testPutGetRemove()
+    {
+        var map = new IntIntHashMap(0, -1);
+
+        assertEquals(-1, map.put(0, 10));
+        assertEquals(-1, map.put(5, 50));
+        assertEquals(10, map.put(0, 11));
+        assertEquals(11, map.get(0));
+        assertEquals(-1, map.get(6));
+        assertEquals(7, map.getOrDefault(6, 7));
+        assertEquals(2, map.size());
+        assertEquals(50, map.remove(5));
+        assertEquals(-1, map.remove(5));
+        assertFalse(map.containsKey(5));
+        assertEquals(IntHashSet.of(0), map.keySet());
+    }
+
+    @Test
+    public void testAddToSameAsHashMap()
+    {
+        var random = new SplittableRandom(17);
+        var map = new IntIntHashMap();
+        var expected = new HashMap<Integer, Integer>();
+
+        for (var i = 0; i < 100_000; ++i) {
+            var key = random.nextInt(-1000, 1000);
+
+            if (random.nextInt(4) == 0) {
+                var removed = expected.remove(key);
+
+                assertEquals(removed == null ? 0 : removed, map.remove(key));
+            } else {
+                assertEquals(expected.merge(key, 1, Integer::sum), map.addTo(key, 1));
+            }
+        }
+
+        var actual = new HashMap<Integer, Integer>();
+
+        map.forEach(actual::put);
+        assertEquals(expected, actual);
+        assertEquals(expected.size(), map.size());
+    }
+}
@@ -0,0 +1,45 @@
+package org.csystem.util.collection.primitive;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.SplittableRandom;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LongHashSetTest {
+
+    @Test
+    public void testSameAsHashSet()
+    {
+        var random = new SplittableRandom(13);
+        var set = new LongHashSet(16);
+        var expected = new HashSet<Long>();
+
+        for (var i = 0; i < 100_000; ++i) {
+            var value = random.nextLong(-3000, 3000) << 32;
+
+            if (random.nextInt(3) == 0) {
+                assertEquals(expected.remove(value), set.remove(value));
+            } else {
+                assertEquals(expected.add(value), set.add(value));
+            }
+        }
+
+        assertEquals(expected.size(), set.size());
+        assertEquals(expected, set.stream().boxed().collect(Collectors.toSet()));
+        assertTrue(set.contains(0) == expected.contains(0L));
+    }
+
+    @Test
+    public void testRetainAll()
+    {
+        var set = LongHashSet.of(0, 1, 2, 3);
+
+        assertFalse(set.retainAll(set));
+        assertEquals(LongHashSet.of(0, 1, 2, 3), set);
+        assertTrue(set.retainAll(LongHashSet.of(0, 3, 7)));
+        assertEquals(LongHashSet.of(0, 3), set);
+    }
+}
@@ -0,0 +1,110 @@
+package org.csystem.util.collection.primitive.benchmark;
+
+import org.csystem.util.collection.primitive.IntHashSet;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.HashSet;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH benchmarks that compare {@link IntHashSet} with a {@code HashSet<Integer>}. The values are generated by a seeded
+ * random, half of the lookups miss.
+ * Run with {@code mvn test-compile exec:exec -Dexec.executable=java -Dexec.classpathScope=test
+ * "-Dexec.args=-cp %classpath org.csystem.util.collection.primitive.benchmark.IntHashSetBenchmark [result.json]"},
+ * the results are written as JSON (default {@code target/jmh-int-hash-set-result.json})
+ */
+@State(Scope.Thread)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class IntHashSetBenchmark {
+    private int [] m_values;
+    private int [] m_lookups;
+    private IntHashSet m_set;
+    private HashSet<Integer> m_boxedSet;
+
+    @Param({"1000000"})
+    public int count;
+
+    @Setup
+    public void setUp()
+    {
+        var random = new SplittableRandom(42);
+
+        m_values = random.ints(count).toArray();
+        m_lookups = new int[count];
+
+        for (var i = 0; i < count; ++i)
+            m_lookups[i] = i % 2 == 0 ? m_values[i] : random.nextInt();
+
+        m_set = IntHashSet.of(m_values);
+        m_boxedSet = new HashSet<>();
+
+        for (var value : m_values)
+            m_boxedSet.add(value);
+    }
+
+    @Benchmark
+    public IntHashSet add()
+    {
+        var set = new IntHashSet();
+
+        for (var value : m_values)
+            set.add(value);
+
+        return set;
+    }
+
+    @Benchmark
+    public HashSet<Integer> addBoxed()
+    {
+        var set = new HashSet<Integer>();
+
+        for (var value : m_values)
+            set.add(value);
+
+        return set;
+    }
+
+    @Benchmark
+    public int contains()
+    {
+        var result = 0;
+
+        for (var value : m_lookups)
+            if (m_set.contains(value))
+                ++result;
+
+        return result;
+    }
+
+    @Benchmark
+    public int containsBoxed()
+    {
+        var result = 0;
+
+        for (var value : m_lookups)
+            if (m_boxedSet.contains(value))
+                ++result;
+
+        return result;
+    }
+
+    public static void main(String[] args) throws RunnerException
+    {
+        var options = new OptionsBuilder()
+                .include(IntHashSetBenchmark.class.getSimpleName())
+                .resultFormat(ResultFormatType.JSON)
+                .result(args.length > 0 ? args[0] : "target/jmh-int-hash-set-result.json")
+                .build();
+
+        new Runner(options).run();
+    }
+}
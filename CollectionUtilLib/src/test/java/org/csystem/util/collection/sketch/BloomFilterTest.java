@@ -0,0 +1,48 @@
+package org.csystem.util.collection.sketch;
+
+import org.csystem.util.iterable.range.IntRange;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BloomFilterTest {
+
+    @Test
+    public void testMightContain()
+    {
+        BloomFilter<Integer> filter = BloomFilter.of(10_000, 0.01);
+        var falsePositiveCount = 0;
+
+        filter.addAll(IntRange.of(0, 10_000), true);
+
+        for (var i = 0; i < 10_000; ++i) {
+            assertTrue(filter.mightContain(i));
+        }
+
+        for (var i = 10_000; i < 20_000; ++i) {
+            if (filter.mightContain(i)) {
+                ++falsePositiveCount;
+            }
+        }
+
+        assertTrue(falsePositiveCount < 300);
+        assertEquals(0.01, filter.expectedFalsePositiveProbability(), 0.005);
+    }
+
+    @Test
+    public void testAddAndMerge()
+    {
+        var a = new BloomFilter<String>(1024, 3);
+        var b = new BloomFilter<String>(1024, 3);
+
+        assertTrue(a.add("x"));
+        assertFalse(a.add("x"));
+        b.add("y");
+        a.merge(b);
+
+        assertTrue(a.mightContain("x"));
+        assertTrue(a.mightContain("y"));
+        assertThrows(IllegalArgumentException.class, () -> a.merge(new BloomFilter<>(1024, 4)));
+        assertThrows(IllegalArgumentException.class, () -> BloomFilter.of(10, 1));
+    }
+}
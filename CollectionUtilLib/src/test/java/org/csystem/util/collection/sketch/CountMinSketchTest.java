@@ -0,0 +1,40 @@
+package org.csystem.util.collection.sketch;
+
+import org.csystem.util.collection.IterableUtil;
+import org.csystem.util.iterable.range.IntRange;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CountMinSketchTest {
+
+    @Test
+    public void testEstimate()
+    {
+        CountMinSketch<Integer> sketch = CountMinSketch.of(0.001, 0.01);
+
+        sketch.addAll(IterableUtil.toIterable(IntRange.of(0, 100_000), i -> i % 1000), true);
+        sketch.add(-1, 5000);
+
+        assertEquals(105_000, sketch.totalCount());
+        assertTrue(sketch.estimate(7) >= 100);
+        assertTrue(sketch.estimate(7) <= 100 + 0.001 * sketch.totalCount());
+        assertTrue(sketch.estimate(-1) >= 5000);
+    }
+
+    @Test
+    public void testMerge()
+    {
+        var a = new CountMinSketch<String>(1000, 4);
+        var b = new CountMinSketch<String>(1000, 4);
+
+        a.add("x", 3);
+        b.add("x", 4);
+        a.merge(b);
+
+        assertEquals(7, a.estimate("x"));
+        assertEquals(7, a.totalCount());
+        assertThrows(IllegalArgumentException.class, () -> a.merge(new CountMinSketch<>(1000, 5)));
+        assertThrows(IllegalArgumentException.class, () -> a.add("x", -1));
+    }
+}
@@ -0,0 +1,74 @@
+package org.csystem.util.collection.sketch;
+
+import org.csystem.util.collection.IterableUtil;
+import org.csystem.util.iterable.range.IntRange;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HeavyHittersTest {
+
+    @Test
+    public void testTopK()
+    {
+        HeavyHitters<Integer> heavyHitters = HeavyHitters.of(3, 0.001, 0.01);
+
+        heavyHitters.addAll(IterableUtil.toIterable(IntRange.of(0, 100_000), i -> i % 10_000), true);
+        heavyHitters.add(7, 500);
+        heavyHitters.add(8, 300);
+        heavyHitters.add(9, 400);
+
+        var topK = heavyHitters.topK();
+
+        assertEquals(List.of(7, 9, 8), topK.stream().map(Map.Entry::getKey).collect(Collectors.toList()));
+        assertTrue(topK.get(0).getValue() >= 510);
+    }
+
+    @Test
+    public void testTopK_whenHeavyElementsAreAddedInParallel()
+    {
+        HeavyHitters<Integer> heavyHitters = HeavyHitters.of(4, 0.001, 0.01);
+
+        heavyHitters.addAll(IterableUtil.toIterable(IntRange.of(0, 200_000), i -> i % 20 < 16 ? i % 4 : i), true);
+
+        var topK = heavyHitters.topK();
+
+        assertEquals(Set.of(0, 1, 2, 3), topK.stream().map(Map.Entry::getKey).collect(Collectors.toSet()));
+        assertTrue(topK.stream().allMatch(e -> e.getValue() >= 40_000));
+    }
+
+    @Test
+    public void testTopK_whenNullIsAdded()
+    {
+        HeavyHitters<String> heavyHitters = HeavyHitters.of(2, 0.01, 0.01);
+
+        heavyHitters.add(null, 10);
+        heavyHitters.add("x", 5);
+        heavyHitters.add("y", 7);
+
+        assertEquals(Arrays.asList(null, "y"), heavyHitters.topK().stream().map(Map.Entry::getKey).collect(Collectors.toList()));
+    }
+
+    @Test
+    public void testMerge()
+    {
+        HeavyHitters<String> a = HeavyHitters.of(2, 0.01, 0.01);
+        HeavyHitters<String> b = HeavyHitters.of(2, 0.01, 0.01);
+
+        a.add("x", 10);
+        a.add("y", 5);
+        b.add("z", 8);
+        b.add("y", 6);
+        a.merge(b);
+
+        assertEquals(List.of("y", "x"), a.topK().stream().map(Map.Entry::getKey).collect(Collectors.toList()));
+        assertEquals(11, a.topK().get(0).getValue());
+        assertThrows(IllegalArgumentException.class, () -> new HeavyHitters<>(0, new CountMinSketch<>(1, 1)));
+    }
+}
@@ -0,0 +1,43 @@
+package org.csystem.util.collection.sketch;
+
+import org.csystem.util.iterable.range.IntRange;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HyperLogLogTest {
+
+    @Test
+    public void testEstimate()
+    {
+        var sketch = new HyperLogLog<Integer>(12);
+
+        for (var i = 0; i < 1_000_000; ++i) {
+            sketch.add(i % 100_000);
+        }
+
+        assertEquals(100_000, sketch.estimate(), 100_000 * 4 * sketch.getRelativeError());
+    }
+
+    @Test
+    public void testSmallCardinality()
+    {
+        var sketch = HyperLogLog.of(IntRange.of(0, 10), false);
+
+        assertEquals(10, sketch.estimate(), 1);
+        assertEquals(0, new HyperLogLog<String>(HyperLogLog.MIN_PRECISION).estimate());
+    }
+
+    @Test
+    public void testMerge()
+    {
+        var a = HyperLogLog.of(IntRange.of(0, 60_000), true);
+        var b = HyperLogLog.of(IntRange.of(40_000, 100_000), true);
+
+        a.merge(b);
+
+        assertEquals(100_000, a.estimate(), 100_000 * 4 * a.getRelativeError());
+        assertThrows(IllegalArgumentException.class, () -> a.merge(new HyperLogLog<>(10)));
+        assertThrows(IllegalArgumentException.class, () -> new HyperLogLog<>(HyperLogLog.MAX_PRECISION + 1));
+    }
+}
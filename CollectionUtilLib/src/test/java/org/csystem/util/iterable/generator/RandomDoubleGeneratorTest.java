@@ -0,0 +1,30 @@
+package org.csystem.util.iterable.generator;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RandomDoubleGeneratorTest {
+
+    @Test
+    public void testStream()
+    {
+        var generator = RandomDoubleGenerator.of(10_000, 1.5, 2.5);
+
+        assertEquals(10_000, generator.stream().filter(val -> 1.5 <= val && val < 2.5).count());
+        assertEquals(10_000, generator.parallelStream().filter(val -> 1.5 <= val && val < 2.5).count());
+        assertEquals(5, RandomDoubleGenerator.of(new Random(), 5, 0, 1).stream().count());
+    }
+
+    @Test
+    public void testSeedIsReproducible()
+    {
+        var generator = RandomDoubleGenerator.of(42L, 100, 0, 1);
+
+        assertArrayEquals(generator.stream().toArray(), generator.stream().toArray());
+        assertEquals(generator.iterator().nextDouble(), generator.iterator().nextDouble());
+        assertArrayEquals(generator.fill(new double[30_000], true), generator.fill(new double[30_000], true));
+    }
+}
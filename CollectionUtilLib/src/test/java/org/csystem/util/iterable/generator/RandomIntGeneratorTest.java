@@ -0,0 +1,71 @@
+package org.csystem.util.iterable.generator;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.Spliterator;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RandomIntGeneratorTest {
+
+    @Test
+    public void testIterator()
+    {
+        var generator = RandomIntGenerator.of(100, 10, 20);
+        var iterator = generator.iterator();
+        var count = 0;
+
+        while (iterator.hasNext()) {
+            var val = iterator.nextInt();
+
+            assertTrue(10 <= val && val < 20);
+            ++count;
+        }
+
+        assertEquals(100, count);
+        assertThrows(NoSuchElementException.class, iterator::nextInt);
+    }
+
+    @Test
+    public void testSeedIsReproducible()
+    {
+        var generator = RandomIntGenerator.of(42L, 1000, -50, 50);
+        var first = new ArrayList<Integer>();
+        var second = new ArrayList<Integer>();
+
+        generator.forEach(first::add);
+        generator.forEach(second::add);
+
+        assertEquals(first, second);
+        assertArrayEquals(generator.stream().toArray(), generator.stream().toArray());
+        assertArrayEquals(generator.fill(new int[50_000], true), generator.fill(new int[50_000], true));
+        assertArrayEquals(generator.fill(new int[100]), RandomIntGenerator.of(42L, 0, -50, 50).fill(new int[100]));
+    }
+
+    @Test
+    public void testParallelStream()
+    {
+        var generator = RandomIntGenerator.of(new SplittableRandom(7), 100_000, 0, 10);
+        var spliterator = generator.spliterator();
+
+        assertTrue(spliterator.hasCharacteristics(Spliterator.SIZED | Spliterator.SUBSIZED));
+        assertNotNull(spliterator.trySplit());
+        assertEquals(100_000, generator.parallelStream().filter(val -> 0 <= val && val < 10).count());
+    }
+
+    @Test
+    public void testFill()
+    {
+        var array = RandomIntGenerator.of(0, 5, 6).fill(new int[20_000], true);
+
+        for (var val : array)
+            assertEquals(5, val);
+
+        assertEquals(0, RandomIntGenerator.of(new Random(), 3, 0, 1).stream().sum());
+        assertThrows(IllegalArgumentException.class, () -> RandomIntGenerator.of(1, 1, 1));
+    }
+}
@@ -0,0 +1,94 @@
+package org.csystem.util.iterable.generator.benchmark;
+
+import org.csystem.util.iterable.generator.RandomIntGenerator;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH benchmarks that compare a {@link RandomIntGenerator} sharing a {@link Random} with the splittable one.
+ * The generators are seeded, so every run generates the same values.
+ * Run with {@code mvn test-compile exec:exec -Dexec.executable=java -Dexec.classpathScope=test
+ * "-Dexec.args=-cp %classpath org.csystem.util.iterable.generator.benchmark.GeneratorBenchmark [result.json]"},
+ * the results are written as JSON (default {@code target/jmh-generator-result.json})
+ */
+@State(Scope.Thread)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class GeneratorBenchmark {
+    private static final long SEED = 42;
+    private RandomIntGenerator m_shared;
+    private RandomIntGenerator m_splittable;
+    private int [] m_array;
+
+    @Param({"1000000"})
+    public int count;
+
+    @Setup
+    public void setUp()
+    {
+        m_shared = RandomIntGenerator.of(new Random(SEED), count, 0, 1000);
+        m_splittable = RandomIntGenerator.of(SEED, count, 0, 1000);
+        m_array = new int[count];
+    }
+
+    @Benchmark
+    public long sharedBoxed()
+    {
+        var result = 0L;
+
+        for (Integer val : m_shared)
+            result += val;
+
+        return result;
+    }
+
+    @Benchmark
+    public long sharedParallel()
+    {
+        return m_shared.parallelStream().asLongStream().sum();
+    }
+
+    @Benchmark
+    public long splittable()
+    {
+        return m_splittable.stream().asLongStream().sum();
+    }
+
+    @Benchmark
+    public long splittableParallel()
+    {
+        return m_splittable.parallelStream().asLongStream().sum();
+    }
+
+    @Benchmark
+    public int [] fill()
+    {
+        return m_splittable.fill(m_array);
+    }
+
+    @Benchmark
+    public int [] fillParallel()
+    {
+        return m_splittable.fill(m_array, true);
+    }
+
+    public static void main(String[] args) throws RunnerException
+    {
+        var options = new OptionsBuilder()
+                .include(GeneratorBenchmark.class.getSimpleName())
+                .resultFormat(ResultFormatType.JSON)
+                .result(args.length > 0 ? args[0] : "target/jmh-generator-result.json")
+                .build();
+
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,55 @@
+package org.csystem.util.iterable.range;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Spliterator;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DoubleRangeTest {
+
+    @Test
+    public void testIterator()
+    {
+        var iterator = DoubleRange.of(0, 1, 0.25).iterator();
+
+        assertEquals(0, iterator.nextDouble());
+        assertEquals(0.25, iterator.nextDouble());
+        assertEquals(0.5, iterator.nextDouble());
+        assertEquals(0.75, iterator.nextDouble());
+        assertFalse(iterator.hasNext());
+    }
+
+    @Test
+    public void testSize()
+    {
+        assertEquals(10, DoubleRange.of(0, 1, 0.1).size());
+        assertEquals(3, DoubleRange.of(0, 3, -1).size());
+        assertEquals(0, DoubleRange.of(1, 1, 0.5).size());
+        assertEquals(-1, DoubleRange.of(1, 100, val -> val * 2).size());
+        assertEquals(7, DoubleRange.of(1, 100, val -> val * 2).stream().count());
+    }
+
+    @Test
+    public void testSpliteratorAndParallelStream()
+    {
+        var range = DoubleRange.of(0, 100_000, 0.5);
+        var spliterator = range.spliterator();
+
+        assertTrue(spliterator.hasCharacteristics(Spliterator.SIZED | Spliterator.SUBSIZED));
+        assertEquals(100_000, spliterator.trySplit().getExactSizeIfKnown());
+        assertEquals(IntStream.range(0, 200_000).mapToDouble(i -> i * 0.5).sum(), range.parallelStream().sum());
+    }
+
+    @Test
+    public void testHugeRange()
+    {
+        var range = DoubleRange.of(0, 1e20, 1);
+
+        assertEquals(-1, range.size());
+        assertEquals(45, range.stream().limit(10).sum());
+        assertEquals(-1, range.spliterator().getExactSizeIfKnown());
+        assertEquals(-1, DoubleRange.of(0, Double.POSITIVE_INFINITY, 1).size());
+    }
+}
@@ -0,0 +1,78 @@
+package org.csystem.util.iterable.range;
+
+import org.csystem.util.collection.IterableUtil;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IntRangeTest {
+
+    @Test
+    public void testIterator()
+    {
+        var iterator = IntRange.ofClosed(1, 10, 3).iterator();
+        var result = new ArrayList<Integer>();
+
+        while (iterator.hasNext()) {
+            result.add(iterator.nextInt());
+        }
+
+        assertEquals(List.of(1, 4, 7, 10), result);
+        assertThrows(NoSuchElementException.class, iterator::nextInt);
+        assertEquals(4, IntRange.ofClosed(1, 10, 3).size());
+    }
+
+    @Test
+    public void testIteratorWithOperator()
+    {
+        var range = IntRange.ofClosed(1, 100, val -> val * 3);
+
+        assertEquals(List.of(1, 3, 9, 27, 81), range.stream().boxed().collect(Collectors.toList()));
+        assertEquals(-1, range.size());
+    }
+
+    @Test
+    public void testIteratorAtMaxValue()
+    {
+        var range = IntRange.ofClosed(Integer.MAX_VALUE - 2, Integer.MAX_VALUE);
+
+        assertEquals(3, range.stream().count());
+        assertEquals(Integer.MAX_VALUE, range.stream().max().getAsInt());
+    }
+
+    @Test
+    public void testSpliterator()
+    {
+        var spliterator = IntRange.of(0, 1000, 2).spliterator();
+
+        assertTrue(spliterator.hasCharacteristics(Spliterator.SIZED | Spliterator.SUBSIZED));
+        assertEquals(500, spliterator.getExactSizeIfKnown());
+
+        var prefix = spliterator.trySplit();
+
+        assertEquals(250, prefix.getExactSizeIfKnown());
+        assertEquals(250, spliterator.getExactSizeIfKnown());
+        assertTrue(prefix.tryAdvance((int val) -> assertEquals(0, val)));
+        assertTrue(spliterator.tryAdvance((int val) -> assertEquals(500, val)));
+    }
+
+    @Test
+    public void testParallelStream()
+    {
+        var range = IntRange.of(0, 1_000_000);
+        var sum = new LongAdder();
+
+        assertEquals(IntStream.range(0, 1_000_000).asLongStream().sum(), range.parallelStream().asLongStream().sum());
+
+        IterableUtil.forEach(range, val -> sum.add(val), true);
+        assertEquals(499_999_500_000L, sum.sum());
+    }
+}
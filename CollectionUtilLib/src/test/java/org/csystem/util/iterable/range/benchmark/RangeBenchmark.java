@@ -0,0 +1,78 @@
+package org.csystem.util.iterable.range.benchmark;
+
+import org.csystem.util.iterable.range.IntRange;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH benchmarks that compare the boxed iteration of {@link IntRange} with the primitive and the parallel ones.
+ * The {@code operator} benchmark iterates a range created by an operator which can not be split.
+ * Run with {@code mvn test-compile exec:exec -Dexec.executable=java -Dexec.classpathScope=test
+ * "-Dexec.args=-cp %classpath org.csystem.util.iterable.range.benchmark.RangeBenchmark [result.json]"},
+ * the results are written as JSON (default {@code target/jmh-range-result.json})
+ */
+@State(Scope.Thread)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class RangeBenchmark {
+    private IntRange m_range;
+    private IntRange m_operatorRange;
+
+    @Param({"1000000"})
+    public int count;
+
+    @Setup
+    public void setUp()
+    {
+        m_range = IntRange.of(0, count);
+        m_operatorRange = IntRange.of(0, count, val -> val + 1);
+    }
+
+    @Benchmark
+    public long boxed()
+    {
+        var result = 0L;
+
+        for (Integer val : m_range)
+            result += val;
+
+        return result;
+    }
+
+    @Benchmark
+    public long operator()
+    {
+        return m_operatorRange.stream().asLongStream().sum();
+    }
+
+    @Benchmark
+    public long primitive()
+    {
+        return m_range.stream().asLongStream().sum();
+    }
+
+    @Benchmark
+    public long parallel()
+    {
+        return m_range.parallelStream().asLongStream().sum();
+    }
+
+    public static void main(String[] args) throws RunnerException
+    {
+        var options = new OptionsBuilder()
+                .include(RangeBenchmark.class.getSimpleName())
+                .resultFormat(ResultFormatType.JSON)
+                .result(args.length > 0 ? args[0] : "target/jmh-range-result.json")
+                .build();
+
+        new Runner(options).run();
+    }
+}
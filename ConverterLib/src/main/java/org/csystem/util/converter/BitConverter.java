@@ -1,40 +1,125 @@
 package org.csystem.util.converter;
 
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
+import java.nio.CharBuffer;
 import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
 import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
 
 /**
  * Utility class for converting between primitive types and their byte array representations.
  * Provides methods for encoding and decoding built-in types to and from byte arrays,
- * as well as handling endianness.
+ * as well as handling endianness. Multi-byte values are read and written through byte array view
+ * {@link VarHandle}s, so no intermediate buffer is allocated. Big-endian order is used unless a
+ * {@link ByteOrder} is given explicitly. Array conversions are done in bulk through typed ByteBuffer views
+ * and can write into or read from caller supplied arrays. Strings can be encoded into and decoded from caller supplied
+ * arrays as well: UTF-8 is encoded by hand, other charsets through encoders and decoders cached per thread, and
+ * ASCII prefixes are copied directly for ASCII compatible charsets.
  * <p>Copyleft (c) 1993 by C and System Programmers Association (CSD) All Rights Free</p>
  *
  * @author JavaApp2-Jan-2024 Group
- * @version 2.0.0
+ * @version 2.1.0
  */
 public final class BitConverter {
+    private static final VarHandle SHORT_BE = MethodHandles.byteArrayViewVarHandle(short[].class, ByteOrder.BIG_ENDIAN);
+    private static final VarHandle SHORT_LE = MethodHandles.byteArrayViewVarHandle(short[].class, ByteOrder.LITTLE_ENDIAN);
+    private static final VarHandle CHAR_BE = MethodHandles.byteArrayViewVarHandle(char[].class, ByteOrder.BIG_ENDIAN);
+    private static final VarHandle CHAR_LE = MethodHandles.byteArrayViewVarHandle(char[].class, ByteOrder.LITTLE_ENDIAN);
+    private static final VarHandle INT_BE = MethodHandles.byteArrayViewVarHandle(int[].class, ByteOrder.BIG_ENDIAN);
+    private static final VarHandle INT_LE = MethodHandles.byteArrayViewVarHandle(int[].class, ByteOrder.LITTLE_ENDIAN);
+    private static final VarHandle LONG_BE = MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.BIG_ENDIAN);
+    private static final VarHandle LONG_LE = MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+    private static final VarHandle FLOAT_BE = MethodHandles.byteArrayViewVarHandle(float[].class, ByteOrder.BIG_ENDIAN);
+    private static final VarHandle FLOAT_LE = MethodHandles.byteArrayViewVarHandle(float[].class, ByteOrder.LITTLE_ENDIAN);
+    private static final VarHandle DOUBLE_BE = MethodHandles.byteArrayViewVarHandle(double[].class, ByteOrder.BIG_ENDIAN);
+    private static final VarHandle DOUBLE_LE = MethodHandles.byteArrayViewVarHandle(double[].class, ByteOrder.LITTLE_ENDIAN);
+    private static final ThreadLocal<Map<Charset, CharsetEncoder>> ENCODERS = ThreadLocal.withInitial(HashMap::new);
+    private static final ThreadLocal<Map<Charset, CharsetDecoder>> DECODERS = ThreadLocal.withInitial(HashMap::new);
+
     /**
-     * Allocates a new ByteBuffer with the given capacity.
-     * @param capacity the buffer capacity
-     * @return a new ByteBuffer
+     * Selects the view of the given byte order.
+     * @param byteOrder the byte order
+     * @param bigEndian the big-endian view
+     * @param littleEndian the little-endian view
+     * @return the view of the given byte order
      */
-    private static ByteBuffer allocate(int capacity)
+    private static VarHandle view(ByteOrder byteOrder, VarHandle bigEndian, VarHandle littleEndian)
 	{
-		return ByteBuffer.allocate(capacity);
+		return byteOrder == ByteOrder.BIG_ENDIAN ? bigEndian : littleEndian;
 	}
 
     /**
-     * Wraps a byte array into a ByteBuffer with the given offset and length.
+     * Wraps the given region of a byte array into a ByteBuffer of the given byte order.
+     * Bulk transfers through its typed views are copied with intrinsics instead of element by element.
      * @param data the byte array
      * @param offset the starting offset
      * @param length the number of bytes to include
+     * @param byteOrder the byte order
      * @return a ByteBuffer wrapping the specified region
+     * @throws IndexOutOfBoundsException if the region is out of the bounds of the array
+     */
+    private static ByteBuffer view(byte [] data, int offset, int length, ByteOrder byteOrder)
+	{
+		Objects.checkFromIndexSize(offset, length, data.length);
+
+		return ByteBuffer.wrap(data, offset, length).order(byteOrder);
+	}
+
+    /**
+     * Returns the encoder of the given charset cached for the current thread, reset for a new encoding.
+     * Malformed and unmappable input is replaced as {@link String#getBytes(Charset)} does.
+     * @param charset the charset
+     * @return the encoder
+     */
+    private static CharsetEncoder encoder(Charset charset)
+	{
+		return ENCODERS.get().computeIfAbsent(charset, c -> c.newEncoder()
+				.onMalformedInput(CodingErrorAction.REPLACE)
+				.onUnmappableCharacter(CodingErrorAction.REPLACE)).reset();
+	}
+
+    /**
+     * Returns the decoder of the given charset cached for the current thread, reset for a new decoding.
+     * Malformed and unmappable input is replaced as {@link String#String(byte[], Charset)} does.
+     * @param charset the charset
+     * @return the decoder
+     */
+    private static CharsetDecoder decoder(Charset charset)
+	{
+		return DECODERS.get().computeIfAbsent(charset, c -> c.newDecoder()
+				.onMalformedInput(CodingErrorAction.REPLACE)
+				.onUnmappableCharacter(CodingErrorAction.REPLACE)).reset();
+	}
+
+    /**
+     * Tells whether the given charset encodes the characters below 0x80 as single bytes of the same value.
+     * @param charset the charset
+     * @return true if the ASCII fast path can be used for the charset
+     */
+    private static boolean isAsciiCompatible(Charset charset)
+	{
+		return charset.equals(StandardCharsets.UTF_8) || charset.equals(StandardCharsets.US_ASCII)
+				|| charset.equals(StandardCharsets.ISO_8859_1);
+	}
+
+    /**
+     * Throws if an encoding or decoding step ran out of the destination.
+     * @param result the result of the step
+     * @throws IndexOutOfBoundsException if the result is an overflow
      */
-    private static ByteBuffer wrap(byte [] data, int offset, int length)
+    private static void checkOverflow(CoderResult result)
 	{
-		return ByteBuffer.wrap(data, offset, length);
+		if (result.isOverflow())
+			throw new IndexOutOfBoundsException("Insufficient destination length");
 	}
 
     /**
@@ -45,7 +130,7 @@ public final class BitConverter {
      */
     private static short changeEndian(short value,  ByteOrder byteOrder)
 	{
-		return allocate(2).putShort(value).order(byteOrder).getShort(0);
+		return byteOrder == ByteOrder.BIG_ENDIAN ? value : Short.reverseBytes(value);
 	}
 
     /**
@@ -56,7 +141,7 @@ public final class BitConverter {
      */
     private static int changeEndian(int value, ByteOrder byteOrder)
 	{
-		return allocate(4).putInt(value).order(byteOrder).getInt(0);
+		return byteOrder == ByteOrder.BIG_ENDIAN ? value : Integer.reverseBytes(value);
 	}
 
     /**
@@ -67,7 +152,7 @@ public final class BitConverter {
      */
     private static long changeEndian(long value, ByteOrder byteOrder)
 	{
-		return allocate(8).putLong(value).order(byteOrder).getLong(0);
+		return byteOrder == ByteOrder.BIG_ENDIAN ? value : Long.reverseBytes(value);
 	}
 
     /**
@@ -98,6 +183,151 @@ public final class BitConverter {
 		return str.getBytes(charset);
 	}
 
+	/**
+	 * Computes the exact number of bytes of the UTF-8 encoding of the given string without encoding it.
+	 * Unpaired surrogates are counted as the single byte replacement {@code '?'}.
+	 * @param str the string
+	 * @return the number of bytes written by {@link #putUtf8(byte[], int, CharSequence)}
+	 */
+	public static int getUtf8Length(CharSequence str)
+	{
+		var length = str.length();
+		var result = length;
+
+		for (var i = 0; i < length; ++i) {
+			var c = str.charAt(i);
+
+			if (c < 0x80)
+				continue;
+
+			if (c < 0x800)
+				++result;
+			else if (!Character.isSurrogate(c))
+				result += 2;
+			else if (Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(str.charAt(i + 1))) {
+				result += 2;
+				++i;
+			}
+		}
+
+		return result;
+	}
+
+	/**
+	 * Computes the maximum number of bytes that the given number of characters can be encoded into with the given charset.
+	 * @param charCount the number of characters
+	 * @param charset the charset
+	 * @return the maximum number of bytes
+	 */
+	public static int getMaxByteCount(int charCount, Charset charset)
+	{
+		return (int)Math.ceil(charCount * (double)encoder(charset).maxBytesPerChar());
+	}
+
+	/**
+	 * Encodes the given char sequence with UTF-8 into the given byte array starting at the specified offset
+	 * without allocating. For mostly non-ASCII text it is as fast as {@link String#getBytes(Charset)} and
+	 * for builders it saves the intermediate string. Unpaired surrogates are encoded as {@code '?'} as {@link String#getBytes(Charset)} does.
+	 * The required length can be computed with {@link #getUtf8Length(CharSequence)}.
+	 * @param dst the destination byte array
+	 * @param offset the starting offset
+	 * @param str the char sequence to encode
+	 * @return the offset just after the written bytes
+	 * @throws IndexOutOfBoundsException if the encoded sequence does not fit into the array, the array may be partially written
+	 */
+	public static int putUtf8(byte [] dst, int offset, CharSequence str)
+	{
+		var length = str.length();
+		var i = 0;
+
+		for (char c; i < length && (c = str.charAt(i)) < 0x80; ++i)
+			dst[offset++] = (byte)c;
+
+		for (; i < length; ++i) {
+			var c = str.charAt(i);
+
+			if (c < 0x80)
+				dst[offset++] = (byte)c;
+			else if (c < 0x800) {
+				dst[offset++] = (byte)(0xC0 | c >> 6);
+				dst[offset++] = (byte)(0x80 | c & 0x3F);
+			}
+			else if (!Character.isSurrogate(c)) {
+				dst[offset++] = (byte)(0xE0 | c >> 12);
+				dst[offset++] = (byte)(0x80 | c >> 6 & 0x3F);
+				dst[offset++] = (byte)(0x80 | c & 0x3F);
+			}
+			else if (Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(str.charAt(i + 1))) {
+				var codePoint = Character.toCodePoint(c, str.charAt(++i));
+
+				dst[offset++] = (byte)(0xF0 | codePoint >> 18);
+				dst[offset++] = (byte)(0x80 | codePoint >> 12 & 0x3F);
+				dst[offset++] = (byte)(0x80 | codePoint >> 6 & 0x3F);
+				dst[offset++] = (byte)(0x80 | codePoint & 0x3F);
+			}
+			else
+				dst[offset++] = '?';
+		}
+
+		return offset;
+	}
+
+	/**
+	 * Encodes the given string with the specified charset into the given byte array starting at the specified offset.
+	 * The string is encoded by {@link String#getBytes(Charset)} and copied, since the intrinsic encoders of compact
+	 * strings are faster than any per char loop for Latin-1 text. The array is not written if the encoded string does not fit.
+	 * @param dst the destination byte array
+	 * @param offset the starting offset
+	 * @param str the string to encode
+	 * @param charset the charset to use
+	 * @return the offset just after the written bytes
+	 * @throws IndexOutOfBoundsException if the encoded string does not fit into the array
+	 */
+	public static int putString(byte [] dst, int offset, String str, Charset charset)
+	{
+		var data = str.getBytes(charset);
+
+		System.arraycopy(data, 0, dst, offset, data.length);
+
+		return offset + data.length;
+	}
+
+	/**
+	 * Encodes the given char sequence with the specified charset into the given byte array starting at the specified offset
+	 * without creating an intermediate string or array. UTF-8 is encoded by {@link #putUtf8(byte[], int, CharSequence)},
+	 * other charsets by an encoder cached for the current thread.
+	 * The required length can be bounded with {@link #getMaxByteCount(int, Charset)}.
+	 * @param dst the destination byte array
+	 * @param offset the starting offset
+	 * @param str the char sequence to encode
+	 * @param charset the charset to use
+	 * @return the offset just after the written bytes
+	 * @throws IndexOutOfBoundsException if the encoded sequence does not fit into the array, the array may be partially written
+	 */
+	public static int putChars(byte [] dst, int offset, CharSequence str, Charset charset)
+	{
+		if (charset.equals(StandardCharsets.UTF_8))
+			return putUtf8(dst, offset, str);
+
+		var length = str.length();
+		var i = 0;
+
+		if (isAsciiCompatible(charset))
+			for (char c; i < length && (c = str.charAt(i)) < 0x80; ++i)
+				dst[offset++] = (byte)c;
+
+		if (i == length)
+			return offset;
+
+		var encoder = encoder(charset);
+		var buffer = ByteBuffer.wrap(dst, offset, dst.length - offset);
+
+		checkOverflow(encoder.encode(CharBuffer.wrap(str, i, length), buffer, true));
+		checkOverflow(encoder.flush(buffer));
+
+		return buffer.position();
+	}
+
 	/**
 	 * Converts a byte value to a byte array.
 	 * @param value the byte value
@@ -115,7 +345,11 @@ public final class BitConverter {
 	 */
 	public static byte[] getBytes(short value)
 	{
-		return allocate(2).putShort(value).array();
+		byte [] data = new byte[2];
+
+		putShort(data, 0, value);
+
+		return data;
 	}
 
 	/**
@@ -125,7 +359,11 @@ public final class BitConverter {
 	 */
 	public static byte[] getBytes(int value)
 	{
-		return allocate(4).putInt(value).array();
+		byte [] data = new byte[4];
+
+		putInt(data, 0, value);
+
+		return data;
 	}
 
 	/**
@@ -135,7 +373,11 @@ public final class BitConverter {
 	 */
 	public static byte[] getBytes(long value)
 	{
-		return allocate(8).putLong(value).array();
+		byte [] data = new byte[8];
+
+		putLong(data, 0, value);
+
+		return data;
 	}
 
 	/**
@@ -145,7 +387,11 @@ public final class BitConverter {
 	 */
 	public static byte[] getBytes(char value)
 	{
-		return allocate(2).putChar(value).array();
+		byte [] data = new byte[2];
+
+		putChar(data, 0, value);
+
+		return data;
 	}
 
 	/**
@@ -155,7 +401,11 @@ public final class BitConverter {
 	 */
 	public static byte[] getBytes(double value)
 	{
-		return allocate(8).putDouble(value).array();
+		byte [] data = new byte[8];
+
+		putDouble(data, 0, value);
+
+		return data;
 	}
 
 	/**
@@ -165,7 +415,11 @@ public final class BitConverter {
 	 */
 	public static byte[] getBytes(float value)
 	{
-		return allocate(4).putFloat(value).array();
+		byte [] data = new byte[4];
+
+		putFloat(data, 0, value);
+
+		return data;
 	}
 
 	/**
@@ -185,12 +439,7 @@ public final class BitConverter {
 	 */
 	public static byte [] getBytes(byte...bytes)
 	{
-		ByteBuffer bb = allocate(bytes.length * Byte.BYTES);
-
-		for (byte val : bytes)
-			bb.put(val);
-
-		return bb.array();
+		return bytes.clone();
 	}
 
 	/**
@@ -200,12 +449,44 @@ public final class BitConverter {
 	 */
 	public static byte [] getBytes(short...shorts)
 	{
-		ByteBuffer bb = allocate(shorts.length * Short.BYTES);
+		return getBytes(ByteOrder.BIG_ENDIAN, shorts);
+	}
+
+	/**
+	 * Converts an array of shorts to a byte array using the specified byte order.
+	 * @param byteOrder the byte order of the result
+	 * @param shorts the short values
+	 * @return a byte array representing the shorts
+	 */
+	public static byte [] getBytes(ByteOrder byteOrder, short...shorts)
+	{
+		byte [] data = new byte[shorts.length * Short.BYTES];
 
-		for (short val : shorts)
-			bb.putShort(val);
+		getBytes(shorts, 0, shorts.length, data, 0, byteOrder);
 
-		return bb.array();
+		return data;
+	}
+
+	/**
+	 * Writes {@code count} short values into the given byte array in bulk using the specified byte order.
+	 * @param src the source array
+	 * @param srcOffset the index of the first value in the source array
+	 * @param count the number of values
+	 * @param dst the destination byte array
+	 * @param dstOffset the offset that the first value is written at
+	 * @param byteOrder the byte order of the written values
+	 * @return the offset just after the written values
+	 * @throws IndexOutOfBoundsException if a range is out of the bounds of its array
+	 */
+	public static int getBytes(short [] src, int srcOffset, int count, byte [] dst, int dstOffset, ByteOrder byteOrder)
+	{
+		Objects.checkFromIndexSize(srcOffset, count, src.length);
+
+		int length = count * Short.BYTES;
+
+		view(dst, dstOffset, length, byteOrder).asShortBuffer().put(src, srcOffset, count);
+
+		return dstOffset + length;
 	}
 
 	/**
@@ -215,12 +496,44 @@ public final class BitConverter {
 	 */
 	public static byte [] getBytes(int...ints)
 	{
-		ByteBuffer bb = allocate(ints.length * Integer.BYTES);
+		return getBytes(ByteOrder.BIG_ENDIAN, ints);
+	}
 
-		for (int val : ints)
-			bb.putInt(val);
+	/**
+	 * Converts an array of ints to a byte array using the specified byte order.
+	 * @param byteOrder the byte order of the result
+	 * @param ints the int values
+	 * @return a byte array representing the ints
+	 */
+	public static byte [] getBytes(ByteOrder byteOrder, int...ints)
+	{
+		byte [] data = new byte[ints.length * Integer.BYTES];
+
+		getBytes(ints, 0, ints.length, data, 0, byteOrder);
 
-		return bb.array();
+		return data;
+	}
+
+	/**
+	 * Writes {@code count} int values into the given byte array in bulk using the specified byte order.
+	 * @param src the source array
+	 * @param srcOffset the index of the first value in the source array
+	 * @param count the number of values
+	 * @param dst the destination byte array
+	 * @param dstOffset the offset that the first value is written at
+	 * @param byteOrder the byte order of the written values
+	 * @return the offset just after the written values
+	 * @throws IndexOutOfBoundsException if a range is out of the bounds of its array
+	 */
+	public static int getBytes(int [] src, int srcOffset, int count, byte [] dst, int dstOffset, ByteOrder byteOrder)
+	{
+		Objects.checkFromIndexSize(srcOffset, count, src.length);
+
+		int length = count * Integer.BYTES;
+
+		view(dst, dstOffset, length, byteOrder).asIntBuffer().put(src, srcOffset, count);
+
+		return dstOffset + length;
 	}
 
 	/**
@@ -230,12 +543,44 @@ public final class BitConverter {
 	 */
 	public static byte [] getBytes(long...longs)
 	{
-		ByteBuffer bb = allocate(longs.length * Long.BYTES);
+		return getBytes(ByteOrder.BIG_ENDIAN, longs);
+	}
+
+	/**
+	 * Converts an array of longs to a byte array using the specified byte order.
+	 * @param byteOrder the byte order of the result
+	 * @param longs the long values
+	 * @return a byte array representing the longs
+	 */
+	public static byte [] getBytes(ByteOrder byteOrder, long...longs)
+	{
+		byte [] data = new byte[longs.length * Long.BYTES];
+
+		getBytes(longs, 0, longs.length, data, 0, byteOrder);
+
+		return data;
+	}
+
+	/**
+	 * Writes {@code count} long values into the given byte array in bulk using the specified byte order.
+	 * @param src the source array
+	 * @param srcOffset the index of the first value in the source array
+	 * @param count the number of values
+	 * @param dst the destination byte array
+	 * @param dstOffset the offset that the first value is written at
+	 * @param byteOrder the byte order of the written values
+	 * @return the offset just after the written values
+	 * @throws IndexOutOfBoundsException if a range is out of the bounds of its array
+	 */
+	public static int getBytes(long [] src, int srcOffset, int count, byte [] dst, int dstOffset, ByteOrder byteOrder)
+	{
+		Objects.checkFromIndexSize(srcOffset, count, src.length);
+
+		int length = count * Long.BYTES;
 
-		for (long val : longs)
-			bb.putLong(val);
+		view(dst, dstOffset, length, byteOrder).asLongBuffer().put(src, srcOffset, count);
 
-		return bb.array();
+		return dstOffset + length;
 	}
 
 	/**
@@ -245,12 +590,44 @@ public final class BitConverter {
 	 */
 	public static byte [] getBytes(char...chars)
 	{
-		ByteBuffer bb = allocate(chars.length * Character.BYTES);
+		return getBytes(ByteOrder.BIG_ENDIAN, chars);
+	}
+
+	/**
+	 * Converts an array of chars to a byte array using the specified byte order.
+	 * @param byteOrder the byte order of the result
+	 * @param chars the char values
+	 * @return a byte array representing the chars
+	 */
+	public static byte [] getBytes(ByteOrder byteOrder, char...chars)
+	{
+		byte [] data = new byte[chars.length * Character.BYTES];
 
-		for (char val : chars)
-			bb.putChar(val);
+		getBytes(chars, 0, chars.length, data, 0, byteOrder);
 
-		return bb.array();
+		return data;
+	}
+
+	/**
+	 * Writes {@code count} char values into the given byte array in bulk using the specified byte order.
+	 * @param src the source array
+	 * @param srcOffset the index of the first value in the source array
+	 * @param count the number of values
+	 * @param dst the destination byte array
+	 * @param dstOffset the offset that the first value is written at
+	 * @param byteOrder the byte order of the written values
+	 * @return the offset just after the written values
+	 * @throws IndexOutOfBoundsException if a range is out of the bounds of its array
+	 */
+	public static int getBytes(char [] src, int srcOffset, int count, byte [] dst, int dstOffset, ByteOrder byteOrder)
+	{
+		Objects.checkFromIndexSize(srcOffset, count, src.length);
+
+		int length = count * Character.BYTES;
+
+		view(dst, dstOffset, length, byteOrder).asCharBuffer().put(src, srcOffset, count);
+
+		return dstOffset + length;
 	}
 
 	/**
@@ -260,12 +637,44 @@ public final class BitConverter {
 	 */
 	public static byte [] getBytes(double...doubles)
 	{
-		ByteBuffer bb = allocate(doubles.length * Double.BYTES);
+		return getBytes(ByteOrder.BIG_ENDIAN, doubles);
+	}
 
-		for (double val : doubles)
-			bb.putDouble(val);
+	/**
+	 * Converts an array of doubles to a byte array using the specified byte order.
+	 * @param byteOrder the byte order of the result
+	 * @param doubles the double values
+	 * @return a byte array representing the doubles
+	 */
+	public static byte [] getBytes(ByteOrder byteOrder, double...doubles)
+	{
+		byte [] data = new byte[doubles.length * Double.BYTES];
+
+		getBytes(doubles, 0, doubles.length, data, 0, byteOrder);
 
-		return bb.array();
+		return data;
+	}
+
+	/**
+	 * Writes {@code count} double values into the given byte array in bulk using the specified byte order.
+	 * @param src the source array
+	 * @param srcOffset the index of the first value in the source array
+	 * @param count the number of values
+	 * @param dst the destination byte array
+	 * @param dstOffset the offset that the first value is written at
+	 * @param byteOrder the byte order of the written values
+	 * @return the offset just after the written values
+	 * @throws IndexOutOfBoundsException if a range is out of the bounds of its array
+	 */
+	public static int getBytes(double [] src, int srcOffset, int count, byte [] dst, int dstOffset, ByteOrder byteOrder)
+	{
+		Objects.checkFromIndexSize(srcOffset, count, src.length);
+
+		int length = count * Double.BYTES;
+
+		view(dst, dstOffset, length, byteOrder).asDoubleBuffer().put(src, srcOffset, count);
+
+		return dstOffset + length;
 	}
 
 	/**
@@ -275,12 +684,44 @@ public final class BitConverter {
 	 */
 	public static byte [] getBytes(float...floats)
 	{
-		ByteBuffer bb = allocate(floats.length * Float.BYTES);
+		return getBytes(ByteOrder.BIG_ENDIAN, floats);
+	}
+
+	/**
+	 * Converts an array of floats to a byte array using the specified byte order.
+	 * @param byteOrder the byte order of the result
+	 * @param floats the float values
+	 * @return a byte array representing the floats
+	 */
+	public static byte [] getBytes(ByteOrder byteOrder, float...floats)
+	{
+		byte [] data = new byte[floats.length * Float.BYTES];
+
+		getBytes(floats, 0, floats.length, data, 0, byteOrder);
+
+		return data;
+	}
+
+	/**
+	 * Writes {@code count} float values into the given byte array in bulk using the specified byte order.
+	 * @param src the source array
+	 * @param srcOffset the index of the first value in the source array
+	 * @param count the number of values
+	 * @param dst the destination byte array
+	 * @param dstOffset the offset that the first value is written at
+	 * @param byteOrder the byte order of the written values
+	 * @return the offset just after the written values
+	 * @throws IndexOutOfBoundsException if a range is out of the bounds of its array
+	 */
+	public static int getBytes(float [] src, int srcOffset, int count, byte [] dst, int dstOffset, ByteOrder byteOrder)
+	{
+		Objects.checkFromIndexSize(srcOffset, count, src.length);
+
+		int length = count * Float.BYTES;
 
-		for (float val : floats)
-			bb.putFloat(val);
+		view(dst, dstOffset, length, byteOrder).asFloatBuffer().put(src, srcOffset, count);
 
-		return bb.array();
+		return dstOffset + length;
 	}
 
 	/**
@@ -298,6 +739,194 @@ public final class BitConverter {
 		return data;
 	}
 
+	/**
+	 * Writes a short value into the given byte array in big-endian order without allocating.
+	 * @param dst the destination byte array
+	 * @param offset the offset that the value is written at
+	 * @param value the short value
+	 * @return the offset just after the written value
+	 */
+	public static int putShort(byte [] dst, int offset, short value)
+	{
+		SHORT_BE.set(dst, offset, value);
+
+		return offset + Short.BYTES;
+	}
+
+	/**
+	 * Writes a short value into the given byte array in the specified byte order without allocating.
+	 * @param dst the destination byte array
+	 * @param offset the offset that the value is written at
+	 * @param value the short value
+	 * @param byteOrder the byte order of the written value
+	 * @return the offset just after the written value
+	 */
+	public static int putShort(byte [] dst, int offset, short value, ByteOrder byteOrder)
+	{
+		view(byteOrder, SHORT_BE, SHORT_LE).set(dst, offset, value);
+
+		return offset + Short.BYTES;
+	}
+
+	/**
+	 * Writes an int value into the given byte array in big-endian order without allocating.
+	 * @param dst the destination byte array
+	 * @param offset the offset that the value is written at
+	 * @param value the int value
+	 * @return the offset just after the written value
+	 */
+	public static int putInt(byte [] dst, int offset, int value)
+	{
+		INT_BE.set(dst, offset, value);
+
+		return offset + Integer.BYTES;
+	}
+
+	/**
+	 * Writes an int value into the given byte array in the specified byte order without allocating.
+	 * @param dst the destination byte array
+	 * @param offset the offset that the value is written at
+	 * @param value the int value
+	 * @param byteOrder the byte order of the written value
+	 * @return the offset just after the written value
+	 */
+	public static int putInt(byte [] dst, int offset, int value, ByteOrder byteOrder)
+	{
+		view(byteOrder, INT_BE, INT_LE).set(dst, offset, value);
+
+		return offset + Integer.BYTES;
+	}
+
+	/**
+	 * Writes a long value into the given byte array in big-endian order without allocating.
+	 * @param dst the destination byte array
+	 * @param offset the offset that the value is written at
+	 * @param value the long value
+	 * @return the offset just after the written value
+	 */
+	public static int putLong(byte [] dst, int offset, long value)
+	{
+		LONG_BE.set(dst, offset, value);
+
+		return offset + Long.BYTES;
+	}
+
+	/**
+	 * Writes a long value into the given byte array in the specified byte order without allocating.
+	 * @param dst the destination byte array
+	 * @param offset the offset that the value is written at
+	 * @param value the long value
+	 * @param byteOrder the byte order of the written value
+	 * @return the offset just after the written value
+	 */
+	public static int putLong(byte [] dst, int offset, long value, ByteOrder byteOrder)
+	{
+		view(byteOrder, LONG_BE, LONG_LE).set(dst, offset, value);
+
+		return offset + Long.BYTES;
+	}
+
+	/**
+	 * Writes a char value into the given byte array in big-endian order without allocating.
+	 * @param dst the destination byte array
+	 * @param offset the offset that the value is written at
+	 * @param value the char value
+	 * @return the offset just after the written value
+	 */
+	public static int putChar(byte [] dst, int offset, char value)
+	{
+		CHAR_BE.set(dst, offset, value);
+
+		return offset + Character.BYTES;
+	}
+
+	/**
+	 * Writes a char value into the given byte array in the specified byte order without allocating.
+	 * @param dst the destination byte array
+	 * @param offset the offset that the value is written at
+	 * @param value the char value
+	 * @param byteOrder the byte order of the written value
+	 * @return the offset just after the written value
+	 */
+	public static int putChar(byte [] dst, int offset, char value, ByteOrder byteOrder)
+	{
+		view(byteOrder, CHAR_BE, CHAR_LE).set(dst, offset, value);
+
+		return offset + Character.BYTES;
+	}
+
+	/**
+	 * Writes a double value into the given byte array in big-endian order without allocating.
+	 * @param dst the destination byte array
+	 * @param offset the offset that the value is written at
+	 * @param value the double value
+	 * @return the offset just after the written value
+	 */
+	public static int putDouble(byte [] dst, int offset, double value)
+	{
+		DOUBLE_BE.set(dst, offset, value);
+
+		return offset + Double.BYTES;
+	}
+
+	/**
+	 * Writes a double value into the given byte array in the specified byte order without allocating.
+	 * @param dst the destination byte array
+	 * @param offset the offset that the value is written at
+	 * @param value the double value
+	 * @param byteOrder the byte order of the written value
+	 * @return the offset just after the written value
+	 */
+	public static int putDouble(byte [] dst, int offset, double value, ByteOrder byteOrder)
+	{
+		view(byteOrder, DOUBLE_BE, DOUBLE_LE).set(dst, offset, value);
+
+		return offset + Double.BYTES;
+	}
+
+	/**
+	 * Writes a float value into the given byte array in big-endian order without allocating.
+	 * @param dst the destination byte array
+	 * @param offset the offset that the value is written at
+	 * @param value the float value
+	 * @return the offset just after the written value
+	 */
+	public static int putFloat(byte [] dst, int offset, float value)
+	{
+		FLOAT_BE.set(dst, offset, value);
+
+		return offset + Float.BYTES;
+	}
+
+	/**
+	 * Writes a float value into the given byte array in the specified byte order without allocating.
+	 * @param dst the destination byte array
+	 * @param offset the offset that the value is written at
+	 * @param value the float value
+	 * @param byteOrder the byte order of the written value
+	 * @return the offset just after the written value
+	 */
+	public static int putFloat(byte [] dst, int offset, float value, ByteOrder byteOrder)
+	{
+		view(byteOrder, FLOAT_BE, FLOAT_LE).set(dst, offset, value);
+
+		return offset + Float.BYTES;
+	}
+
+	/**
+	 * Writes a boolean value into the given byte array as 1 for true, 0 for false.
+	 * @param dst the destination byte array
+	 * @param offset the offset that the value is written at
+	 * @param value the boolean value
+	 * @return the offset just after the written value
+	 */
+	public static int putBoolean(byte [] dst, int offset, boolean value)
+	{
+		dst[offset] = (byte)(value ? 1 : 0);
+
+		return offset + 1;
+	}
+
 	/**
 	 * Converts a byte array to a string using UTF-8 encoding by default.
 	 * @param data the byte array
@@ -344,6 +973,42 @@ public final class BitConverter {
 		return new String(data, offset, length, charset);
 	}
 
+	/**
+	 * Decodes a portion of a byte array with the specified charset into the given char array without creating a string.
+	 * ASCII prefixes of ASCII compatible charsets are copied directly, the rest is decoded by a decoder cached for
+	 * the current thread. It is faster than decoding via a string for non-ASCII text, and does not allocate. Malformed input is replaced by {@code '\uFFFD'}.
+	 * @param data the byte array
+	 * @param offset the starting offset
+	 * @param length the number of bytes to use
+	 * @param dst the destination char array
+	 * @param dstOffset the starting offset in the destination array
+	 * @param charset the charset to use
+	 * @return the number of chars written
+	 * @throws IndexOutOfBoundsException if the source region is out of bounds or the decoded chars do not fit into the destination array
+	 */
+	public static int toChars(byte [] data, int offset, int length, char [] dst, int dstOffset, Charset charset)
+	{
+		Objects.checkFromIndexSize(offset, length, data.length);
+
+		var end = offset + length;
+		var start = dstOffset;
+
+		if (isAsciiCompatible(charset))
+			for (byte b; offset < end && (b = data[offset]) >= 0; ++offset)
+				dst[dstOffset++] = (char)b;
+
+		if (offset == end)
+			return dstOffset - start;
+
+		var decoder = decoder(charset);
+		var buffer = CharBuffer.wrap(dst, dstOffset, dst.length - dstOffset);
+
+		checkOverflow(decoder.decode(ByteBuffer.wrap(data, offset, end - offset), buffer, true));
+		checkOverflow(decoder.flush(buffer));
+
+		return buffer.position() - start;
+	}
+
 	/**
 	 * Converts a byte array to a byte value.
 	 * @param data the byte array
@@ -383,7 +1048,19 @@ public final class BitConverter {
 	 */
 	public static short toShort(byte [] data, int startIndex)
 	{
-		return wrap(data, startIndex, 2).getShort();
+		return (short)SHORT_BE.get(data, startIndex);
+	}
+
+	/**
+	 * Converts a byte array to a short value starting at the specified index using the specified byte order.
+	 * @param data the byte array
+	 * @param startIndex the starting index
+	 * @param byteOrder the byte order of the data
+	 * @return the short value
+	 */
+	public static short toShort(byte [] data, int startIndex, ByteOrder byteOrder)
+	{
+		return (short)view(byteOrder, SHORT_BE, SHORT_LE).get(data, startIndex);
 	}
 
 	/**
@@ -404,7 +1081,19 @@ public final class BitConverter {
 	 */
 	public static int toInt(byte [] data, int startIndex)
 	{
-		return wrap(data, startIndex, 4).getInt();
+		return (int)INT_BE.get(data, startIndex);
+	}
+
+	/**
+	 * Converts a byte array to an int value starting at the specified index using the specified byte order.
+	 * @param data the byte array
+	 * @param startIndex the starting index
+	 * @param byteOrder the byte order of the data
+	 * @return the int value
+	 */
+	public static int toInt(byte [] data, int startIndex, ByteOrder byteOrder)
+	{
+		return (int)view(byteOrder, INT_BE, INT_LE).get(data, startIndex);
 	}
 
 	/**
@@ -425,7 +1114,19 @@ public final class BitConverter {
 	 */
 	public static long toLong(byte [] data, int startIndex)
 	{
-		return wrap(data, startIndex, 8).getLong();
+		return (long)LONG_BE.get(data, startIndex);
+	}
+
+	/**
+	 * Converts a byte array to a long value starting at the specified index using the specified byte order.
+	 * @param data the byte array
+	 * @param startIndex the starting index
+	 * @param byteOrder the byte order of the data
+	 * @return the long value
+	 */
+	public static long toLong(byte [] data, int startIndex, ByteOrder byteOrder)
+	{
+		return (long)view(byteOrder, LONG_BE, LONG_LE).get(data, startIndex);
 	}
 
 	/**
@@ -446,7 +1147,19 @@ public final class BitConverter {
 	 */
 	public static char toChar(byte [] data, int startIndex)
 	{
-		return wrap(data, startIndex, 2).getChar();
+		return (char)CHAR_BE.get(data, startIndex);
+	}
+
+	/**
+	 * Converts a byte array to a char value starting at the specified index using the specified byte order.
+	 * @param data the byte array
+	 * @param startIndex the starting index
+	 * @param byteOrder the byte order of the data
+	 * @return the char value
+	 */
+	public static char toChar(byte [] data, int startIndex, ByteOrder byteOrder)
+	{
+		return (char)view(byteOrder, CHAR_BE, CHAR_LE).get(data, startIndex);
 	}
 
 	/**
@@ -467,7 +1180,19 @@ public final class BitConverter {
 	 */
 	public static double toDouble(byte [] data, int startIndex)
 	{
-		return wrap(data, startIndex, 8).getDouble();
+		return (double)DOUBLE_BE.get(data, startIndex);
+	}
+
+	/**
+	 * Converts a byte array to a double value starting at the specified index using the specified byte order.
+	 * @param data the byte array
+	 * @param startIndex the starting index
+	 * @param byteOrder the byte order of the data
+	 * @return the double value
+	 */
+	public static double toDouble(byte [] data, int startIndex, ByteOrder byteOrder)
+	{
+		return (double)view(byteOrder, DOUBLE_BE, DOUBLE_LE).get(data, startIndex);
 	}
 
 	/**
@@ -488,7 +1213,19 @@ public final class BitConverter {
 	 */
 	public static float toFloat(byte [] data, int startIndex)
 	{
-		return wrap(data, startIndex, 4).getFloat();
+		return (float)FLOAT_BE.get(data, startIndex);
+	}
+
+	/**
+	 * Converts a byte array to a float value starting at the specified index using the specified byte order.
+	 * @param data the byte array
+	 * @param startIndex the starting index
+	 * @param byteOrder the byte order of the data
+	 * @return the float value
+	 */
+	public static float toFloat(byte [] data, int startIndex, ByteOrder byteOrder)
+	{
+		return (float)view(byteOrder, FLOAT_BE, FLOAT_LE).get(data, startIndex);
 	}
 
 	/**
@@ -548,15 +1285,49 @@ public final class BitConverter {
 	 * @return the resulting short array
 	 */
 	public static short [] toShortArray(byte [] data, int startIndex, int count)
+	{
+		return toShortArray(data, startIndex, count, ByteOrder.BIG_ENDIAN);
+	}
+
+	/**
+	 * Converts a portion of a byte array to a short array of the specified count using the specified byte order.
+	 * @param data the byte array
+	 * @param startIndex the starting index
+	 * @param count the number of shorts to extract
+	 * @param byteOrder the byte order of the data
+	 * @return the resulting short array
+	 */
+	public static short [] toShortArray(byte [] data, int startIndex, int count, ByteOrder byteOrder)
 	{
 		short [] result = new short[count];
 
-		for (int i = 0, idx = startIndex; i < count; ++i, idx += Short.BYTES)
-			result[i] = toShort(data, idx);
+		toShortArray(data, startIndex, result, 0, count, byteOrder);
 
 		return result;
 	}
 
+	/**
+	 * Reads {@code count} short values from the given byte array into the destination array in bulk using the specified byte order.
+	 * @param data the byte array
+	 * @param startIndex the offset of the first value in the byte array
+	 * @param dst the destination array
+	 * @param dstOffset the index that the first value is stored at
+	 * @param count the number of values
+	 * @param byteOrder the byte order of the data
+	 * @return the offset just after the read values
+	 * @throws IndexOutOfBoundsException if a range is out of the bounds of its array
+	 */
+	public static int toShortArray(byte [] data, int startIndex, short [] dst, int dstOffset, int count, ByteOrder byteOrder)
+	{
+		Objects.checkFromIndexSize(dstOffset, count, dst.length);
+
+		int length = count * Short.BYTES;
+
+		view(data, startIndex, length, byteOrder).asShortBuffer().get(dst, dstOffset, count);
+
+		return startIndex + length;
+	}
+
 	/**
 	 * Converts a byte array to an int array of the specified count.
 	 * @param data the byte array
@@ -576,15 +1347,49 @@ public final class BitConverter {
 	 * @return the resulting int array
 	 */
 	public static int [] toIntArray(byte [] data, int startIndex, int count)
+	{
+		return toIntArray(data, startIndex, count, ByteOrder.BIG_ENDIAN);
+	}
+
+	/**
+	 * Converts a portion of a byte array to an int array of the specified count using the specified byte order.
+	 * @param data the byte array
+	 * @param startIndex the starting index
+	 * @param count the number of ints to extract
+	 * @param byteOrder the byte order of the data
+	 * @return the resulting int array
+	 */
+	public static int [] toIntArray(byte [] data, int startIndex, int count, ByteOrder byteOrder)
 	{
 		int [] result = new int[count];
 
-		for (int i = 0, idx = startIndex; i < count; ++i, idx += Integer.BYTES)
-			result[i] = toInt(data, idx);
+		toIntArray(data, startIndex, result, 0, count, byteOrder);
 
 		return result;
 	}
 
+	/**
+	 * Reads {@code count} int values from the given byte array into the destination array in bulk using the specified byte order.
+	 * @param data the byte array
+	 * @param startIndex the offset of the first value in the byte array
+	 * @param dst the destination array
+	 * @param dstOffset the index that the first value is stored at
+	 * @param count the number of values
+	 * @param byteOrder the byte order of the data
+	 * @return the offset just after the read values
+	 * @throws IndexOutOfBoundsException if a range is out of the bounds of its array
+	 */
+	public static int toIntArray(byte [] data, int startIndex, int [] dst, int dstOffset, int count, ByteOrder byteOrder)
+	{
+		Objects.checkFromIndexSize(dstOffset, count, dst.length);
+
+		int length = count * Integer.BYTES;
+
+		view(data, startIndex, length, byteOrder).asIntBuffer().get(dst, dstOffset, count);
+
+		return startIndex + length;
+	}
+
 	/**
 	 * Converts a byte array to a long array of the specified count.
 	 * @param data the byte array
@@ -604,15 +1409,49 @@ public final class BitConverter {
 	 * @return the resulting long array
 	 */
 	public static long [] toLongArray(byte [] data, int startIndex, int count)
+	{
+		return toLongArray(data, startIndex, count, ByteOrder.BIG_ENDIAN);
+	}
+
+	/**
+	 * Converts a portion of a byte array to a long array of the specified count using the specified byte order.
+	 * @param data the byte array
+	 * @param startIndex the starting index
+	 * @param count the number of longs to extract
+	 * @param byteOrder the byte order of the data
+	 * @return the resulting long array
+	 */
+	public static long [] toLongArray(byte [] data, int startIndex, int count, ByteOrder byteOrder)
 	{
 		long [] result = new long[count];
 
-		for (int i = 0, idx = startIndex; i < count; ++i, idx += Long.BYTES)
-			result[i] = toLong(data, idx);
+		toLongArray(data, startIndex, result, 0, count, byteOrder);
 
 		return result;
 	}
 
+	/**
+	 * Reads {@code count} long values from the given byte array into the destination array in bulk using the specified byte order.
+	 * @param data the byte array
+	 * @param startIndex the offset of the first value in the byte array
+	 * @param dst the destination array
+	 * @param dstOffset the index that the first value is stored at
+	 * @param count the number of values
+	 * @param byteOrder the byte order of the data
+	 * @return the offset just after the read values
+	 * @throws IndexOutOfBoundsException if a range is out of the bounds of its array
+	 */
+	public static int toLongArray(byte [] data, int startIndex, long [] dst, int dstOffset, int count, ByteOrder byteOrder)
+	{
+		Objects.checkFromIndexSize(dstOffset, count, dst.length);
+
+		int length = count * Long.BYTES;
+
+		view(data, startIndex, length, byteOrder).asLongBuffer().get(dst, dstOffset, count);
+
+		return startIndex + length;
+	}
+
 	/**
 	 * Converts a byte array to a char array of the specified count.
 	 * @param data the byte array
@@ -632,15 +1471,49 @@ public final class BitConverter {
 	 * @return the resulting char array
 	 */
 	public static char [] toCharArray(byte [] data, int startIndex, int count)
+	{
+		return toCharArray(data, startIndex, count, ByteOrder.BIG_ENDIAN);
+	}
+
+	/**
+	 * Converts a portion of a byte array to a char array of the specified count using the specified byte order.
+	 * @param data the byte array
+	 * @param startIndex the starting index
+	 * @param count the number of chars to extract
+	 * @param byteOrder the byte order of the data
+	 * @return the resulting char array
+	 */
+	public static char [] toCharArray(byte [] data, int startIndex, int count, ByteOrder byteOrder)
 	{
 		char [] result = new char[count];
 
-		for (int i = 0, idx = startIndex; i < count; ++i, idx += Character.BYTES)
-			result[i] = toChar(data, idx);
+		toCharArray(data, startIndex, result, 0, count, byteOrder);
 
 		return result;
 	}
 
+	/**
+	 * Reads {@code count} char values from the given byte array into the destination array in bulk using the specified byte order.
+	 * @param data the byte array
+	 * @param startIndex the offset of the first value in the byte array
+	 * @param dst the destination array
+	 * @param dstOffset the index that the first value is stored at
+	 * @param count the number of values
+	 * @param byteOrder the byte order of the data
+	 * @return the offset just after the read values
+	 * @throws IndexOutOfBoundsException if a range is out of the bounds of its array
+	 */
+	public static int toCharArray(byte [] data, int startIndex, char [] dst, int dstOffset, int count, ByteOrder byteOrder)
+	{
+		Objects.checkFromIndexSize(dstOffset, count, dst.length);
+
+		int length = count * Character.BYTES;
+
+		view(data, startIndex, length, byteOrder).asCharBuffer().get(dst, dstOffset, count);
+
+		return startIndex + length;
+	}
+
 	/**
 	 * Converts a byte array to a double array of the specified count.
 	 * @param data the byte array
@@ -660,15 +1533,49 @@ public final class BitConverter {
 	 * @return the resulting double array
 	 */
 	public static double [] toDoubleArray(byte [] data, int startIndex, int count)
+	{
+		return toDoubleArray(data, startIndex, count, ByteOrder.BIG_ENDIAN);
+	}
+
+	/**
+	 * Converts a portion of a byte array to a double array of the specified count using the specified byte order.
+	 * @param data the byte array
+	 * @param startIndex the starting index
+	 * @param count the number of doubles to extract
+	 * @param byteOrder the byte order of the data
+	 * @return the resulting double array
+	 */
+	public static double [] toDoubleArray(byte [] data, int startIndex, int count, ByteOrder byteOrder)
 	{
 		double [] result = new double[count];
 
-		for (int i = 0, idx = startIndex; i < count; ++i, idx += Double.BYTES)
-			result[i] = toDouble(data, idx);
+		toDoubleArray(data, startIndex, result, 0, count, byteOrder);
 
 		return result;
 	}
 
+	/**
+	 * Reads {@code count} double values from the given byte array into the destination array in bulk using the specified byte order.
+	 * @param data the byte array
+	 * @param startIndex the offset of the first value in the byte array
+	 * @param dst the destination array
+	 * @param dstOffset the index that the first value is stored at
+	 * @param count the number of values
+	 * @param byteOrder the byte order of the data
+	 * @return the offset just after the read values
+	 * @throws IndexOutOfBoundsException if a range is out of the bounds of its array
+	 */
+	public static int toDoubleArray(byte [] data, int startIndex, double [] dst, int dstOffset, int count, ByteOrder byteOrder)
+	{
+		Objects.checkFromIndexSize(dstOffset, count, dst.length);
+
+		int length = count * Double.BYTES;
+
+		view(data, startIndex, length, byteOrder).asDoubleBuffer().get(dst, dstOffset, count);
+
+		return startIndex + length;
+	}
+
 	/**
 	 * Converts a byte array to a float array of the specified count.
 	 * @param data the byte array
@@ -688,15 +1595,49 @@ public final class BitConverter {
 	 * @return the resulting float array
 	 */
 	public static float [] toFloatArray(byte [] data, int startIndex, int count)
+	{
+		return toFloatArray(data, startIndex, count, ByteOrder.BIG_ENDIAN);
+	}
+
+	/**
+	 * Converts a portion of a byte array to a float array of the specified count using the specified byte order.
+	 * @param data the byte array
+	 * @param startIndex the starting index
+	 * @param count the number of floats to extract
+	 * @param byteOrder the byte order of the data
+	 * @return the resulting float array
+	 */
+	public static float [] toFloatArray(byte [] data, int startIndex, int count, ByteOrder byteOrder)
 	{
 		float [] result = new float[count];
 
-		for (int i = 0, idx = startIndex; i < count; ++i, idx += Float.BYTES)
-			result[i] = toFloat(data, idx);
+		toFloatArray(data, startIndex, result, 0, count, byteOrder);
 
 		return result;
 	}
 
+	/**
+	 * Reads {@code count} float values from the given byte array into the destination array in bulk using the specified byte order.
+	 * @param data the byte array
+	 * @param startIndex the offset of the first value in the byte array
+	 * @param dst the destination array
+	 * @param dstOffset the index that the first value is stored at
+	 * @param count the number of values
+	 * @param byteOrder the byte order of the data
+	 * @return the offset just after the read values
+	 * @throws IndexOutOfBoundsException if a range is out of the bounds of its array
+	 */
+	public static int toFloatArray(byte [] data, int startIndex, float [] dst, int dstOffset, int count, ByteOrder byteOrder)
+	{
+		Objects.checkFromIndexSize(dstOffset, count, dst.length);
+
+		int length = count * Float.BYTES;
+
+		view(data, startIndex, length, byteOrder).asFloatBuffer().get(dst, dstOffset, count);
+
+		return startIndex + length;
+	}
+
 	/**
 	 * Converts a byte array to a boolean array of the specified count.
 	 * @param data the byte array
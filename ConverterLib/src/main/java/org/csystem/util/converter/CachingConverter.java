@@ -0,0 +1,338 @@
+package org.csystem.util.converter;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Objects;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Converter decorator that caches the results of a pure {@link IConverter}. Results of {@code convert} and
+ * {@code convertBack} are kept in separate caches of the given maximum size each. A cache is split into stripes
+ * by the hash of the key, every stripe is an LRU map guarded by its own lock, so threads converting different keys
+ * rarely contend. The maximum size is divided among the stripes, so a cache never holds more than the maximum size of
+ * results, but eviction is least recently used per stripe: with unevenly distributed keys a stripe may evict while
+ * the cache as a whole holds fewer results. The conversion itself runs outside the lock, hence concurrent misses of the
+ * same key may convert it more than once. Entries optionally expire a fixed time after they are written. Null keys and
+ * null results are cached as well, exceptions are not.
+ * <p>Copyleft (c) 1993 by C and System Programmers Association (CSD) All Rights Free</p>
+ *
+ * @param <T> the source type
+ * @param <R> the result type
+ * @author JavaApp2-Jan-2024 Group
+ * @version 2.1.0
+ */
+public final class CachingConverter<T, R> implements IConverter<T, R> {
+	/**
+	 * The default number of stripes of a cache.
+	 */
+	public static final int DEFAULT_STRIPE_COUNT = 16;
+
+    private final IConverter<T, R> m_converter;
+    private final Cache<T, R> m_cache;
+    private final Cache<R, T> m_backCache;
+    private final LongAdder m_hitCount = new LongAdder();
+    private final LongAdder m_missCount = new LongAdder();
+    private final LongAdder m_evictionCount = new LongAdder();
+
+    /**
+     * Cached value with its expiry time.
+     */
+    private static final class CachedValue<V> {
+        final V value;
+        final long expireAt;
+
+        CachedValue(V value, long expireAt)
+        {
+            this.value = value;
+            this.expireAt = expireAt;
+        }
+    }
+
+    /**
+     * LRU map of a stripe that counts its evictions. The methods are called with the lock held.
+     */
+    private static final class Stripe<K, V> {
+        final ReentrantLock lock = new ReentrantLock();
+        final LinkedHashMap<K, CachedValue<V>> map = new LinkedHashMap<>(16, 0.75f, true);
+        final int capacity;
+        final LongAdder evictionCount;
+
+        Stripe(int capacity, LongAdder evictionCount)
+        {
+            this.capacity = capacity;
+            this.evictionCount = evictionCount;
+        }
+
+        void put(K key, CachedValue<V> value)
+        {
+            map.put(key, value);
+
+            if (map.size() <= capacity)
+                return;
+
+            //Access order keeps the least recently used entry first
+            var iterator = map.entrySet().iterator();
+
+            iterator.next();
+            iterator.remove();
+            evictionCount.increment();
+        }
+    }
+
+    /**
+     * Striped cache of one direction.
+     */
+    private static final class Cache<K, V> {
+        final Stripe<K, V> [] stripes;
+        final long ttlNanos;
+
+        Cache(int maxSize, int stripeCount, long ttlNanos, LongAdder evictionCount)
+        {
+            var count = Math.min(maxSize, stripeCount);
+            var capacity = maxSize / count;
+            var remainder = maxSize % count;
+
+            stripes = newStripes(count);
+            this.ttlNanos = ttlNanos;
+
+            //The capacities add up to maxSize exactly
+            for (var i = 0; i < count; ++i)
+                stripes[i] = new Stripe<>(i < remainder ? capacity + 1 : capacity, evictionCount);
+        }
+
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        private static <K, V> Stripe<K, V> [] newStripes(int length)
+        {
+            return new Stripe[length];
+        }
+
+        Stripe<K, V> stripe(Object key)
+        {
+            var hash = Objects.hashCode(key);
+
+            return stripes[Math.floorMod(hash ^ hash >>> 16, stripes.length)];
+        }
+
+        CachedValue<V> get(K key)
+        {
+            var stripe = stripe(key);
+
+            stripe.lock.lock();
+            try {
+                var entry = stripe.map.get(key);
+
+                if (entry != null && ttlNanos > 0 && System.nanoTime() - entry.expireAt > 0) {
+                    stripe.map.remove(key);
+                    return null;
+                }
+
+                return entry;
+            }
+            finally {
+                stripe.lock.unlock();
+            }
+        }
+
+        void put(K key, V value)
+        {
+            var stripe = stripe(key);
+            var entry = new CachedValue<>(value, ttlNanos > 0 ? System.nanoTime() + ttlNanos : 0);
+
+            stripe.lock.lock();
+            try {
+                stripe.put(key, entry);
+            }
+            finally {
+                stripe.lock.unlock();
+            }
+        }
+
+        int size()
+        {
+            var result = 0;
+
+            for (var stripe : stripes) {
+                stripe.lock.lock();
+                try {
+                    result += stripe.map.size();
+                }
+                finally {
+                    stripe.lock.unlock();
+                }
+            }
+
+            return result;
+        }
+
+        void clear()
+        {
+            for (var stripe : stripes) {
+                stripe.lock.lock();
+                try {
+                    stripe.map.clear();
+                }
+                finally {
+                    stripe.lock.unlock();
+                }
+            }
+        }
+    }
+
+	/**
+	 * Creates a caching decorator
+	 * @param converter the converter whose results are cached, it must be a pure function
+	 * @param maxSize the maximum number of cached results of a direction
+	 * @param ttl the time after which a cached result expires, null or zero for no expiry
+	 * @param stripeCount the number of stripes, it is limited by {@code maxSize}
+	 * @throws IllegalArgumentException if {@code maxSize} or {@code stripeCount} is not positive, or {@code ttl} is negative
+	 */
+	public CachingConverter(IConverter<T, R> converter, int maxSize, Duration ttl, int stripeCount)
+	{
+		if (maxSize < 1)
+			throw new IllegalArgumentException("maxSize must be positive");
+
+		if (stripeCount < 1)
+			throw new IllegalArgumentException("stripeCount must be positive");
+
+		if (ttl != null && ttl.isNegative())
+			throw new IllegalArgumentException("ttl can not be negative");
+
+		var ttlNanos = ttl != null ? ttl.toNanos() : 0;
+
+		m_converter = Objects.requireNonNull(converter);
+		m_cache = new Cache<>(maxSize, stripeCount, ttlNanos, m_evictionCount);
+		m_backCache = new Cache<>(maxSize, stripeCount, ttlNanos, m_evictionCount);
+	}
+
+	/**
+	 * Creates a caching decorator with {@link #DEFAULT_STRIPE_COUNT} stripes
+	 * @param converter the converter whose results are cached, it must be a pure function
+	 * @param maxSize the maximum number of cached results of a direction
+	 * @param ttl the time after which a cached result expires, null or zero for no expiry
+	 * @throws IllegalArgumentException if {@code maxSize} is not positive or {@code ttl} is negative
+	 */
+	public CachingConverter(IConverter<T, R> converter, int maxSize, Duration ttl)
+	{
+		this(converter, maxSize, ttl, DEFAULT_STRIPE_COUNT);
+	}
+
+	/**
+	 * Creates a caching decorator whose results do not expire
+	 * @param converter the converter whose results are cached, it must be a pure function
+	 * @param maxSize the maximum number of cached results of a direction
+	 * @throws IllegalArgumentException if {@code maxSize} is not positive
+	 */
+	public CachingConverter(IConverter<T, R> converter, int maxSize)
+	{
+		this(converter, maxSize, null);
+	}
+
+	/**
+	 * Returns the cached result for the given object or converts and caches it.
+	 * @param t the object to convert
+	 * @return the converted object
+	 * @throws Exception if conversion fails
+	 */
+	@Override
+	public R convert(T t) throws Exception
+	{
+		var entry = m_cache.get(t);
+
+		if (entry != null) {
+			m_hitCount.increment();
+			return entry.value;
+		}
+
+		m_missCount.increment();
+
+		var result = m_converter.convert(t);
+
+		m_cache.put(t, result);
+
+		return result;
+	}
+
+	/**
+	 * Returns the cached back conversion for the given object or converts it back and caches it.
+	 * @param r the object to convert back
+	 * @return the converted object
+	 * @throws Exception if conversion fails or not supported by the decorated converter
+	 */
+	@Override
+	public T convertBack(R r) throws Exception
+	{
+		var entry = m_backCache.get(r);
+
+		if (entry != null) {
+			m_hitCount.increment();
+			return entry.value;
+		}
+
+		m_missCount.increment();
+
+		var result = m_converter.convertBack(r);
+
+		m_backCache.put(r, result);
+
+		return result;
+	}
+
+	/**
+	 * Returns the number of the lookups of both directions that are served from the caches
+	 * @return the number of cache hits
+	 */
+	public long getHitCount()
+	{
+		return m_hitCount.sum();
+	}
+
+	/**
+	 * Returns the number of the lookups of both directions that call the decorated converter
+	 * @return the number of cache misses
+	 */
+	public long getMissCount()
+	{
+		return m_missCount.sum();
+	}
+
+	/**
+	 * Returns the number of the results that are evicted to keep the caches within the maximum size, expired results
+	 * are not counted
+	 * @return the number of evictions
+	 */
+	public long getEvictionCount()
+	{
+		return m_evictionCount.sum();
+	}
+
+	/**
+	 * Returns the ratio of the lookups that are served from the caches
+	 * @return the hit rate, 0 if there is no lookup yet
+	 */
+	public double getHitRate()
+	{
+		var hitCount = getHitCount();
+		var total = hitCount + getMissCount();
+
+		return total == 0 ? 0 : (double)hitCount / total;
+	}
+
+	/**
+	 * Returns the number of the cached results of both directions, expired ones may be included
+	 * @return the number of cached results
+	 */
+	public int size()
+	{
+		return m_cache.size() + m_backCache.size();
+	}
+
+	/**
+	 * Removes the cached results of both directions, the statistics are kept
+	 */
+	public void clear()
+	{
+		m_cache.clear();
+		m_backCache.clear();
+	}
+}
@@ -0,0 +1,71 @@
+package org.csystem.util.converter;
+
+import java.util.Objects;
+
+/**
+ * Converter functional interface for converting an int value to a long value without boxing.
+ *
+ * @author JavaApp2-Jan-2024 Group
+ * @version 2.1.0
+ */
+@FunctionalInterface
+public interface IIntToLongConverter {
+    /**
+     * Converts an int value to a long value.
+     *
+     * @param val the int value to convert
+     * @return the converted long value
+     * @throws Exception if conversion fails
+     */
+    long convert(int val) throws Exception;
+
+    /**
+     * Converts a long value back to an int value.
+     * By default, this operation is not supported and throws an exception.
+     *
+     * @param r the long value to convert back
+     * @return the converted int value
+     * @throws Exception if conversion fails or not supported
+     */
+    default int convertBack(long r) throws Exception
+    {
+        throw new UnsupportedOperationException("convertBack not supported");
+    }
+
+    /**
+     * Converts {@code count} values of {@code src} starting at {@code srcOffset} into {@code dst} starting at {@code dstOffset}.
+     * Implementations may override it with a loop over the concrete conversion.
+     *
+     * @param src the source array
+     * @param srcOffset the starting offset in the source array
+     * @param dst the destination array
+     * @param dstOffset the starting offset in the destination array
+     * @param count the number of values to convert
+     * @throws IndexOutOfBoundsException if a region is out of the bounds of its array
+     * @throws Exception if conversion fails
+     */
+    default void convertAll(int [] src, int srcOffset, long [] dst, int dstOffset, int count) throws Exception
+    {
+        Objects.checkFromIndexSize(srcOffset, count, src.length);
+        Objects.checkFromIndexSize(dstOffset, count, dst.length);
+
+        for (var i = 0; i < count; ++i)
+            dst[dstOffset + i] = convert(src[srcOffset + i]);
+    }
+
+    /**
+     * Converts all the values of {@code src} into a new array.
+     *
+     * @param src the source array
+     * @return the converted values
+     * @throws Exception if conversion fails
+     */
+    default long [] convertAll(int [] src) throws Exception
+    {
+        var dst = new long[src.length];
+
+        convertAll(src, 0, dst, 0, src.length);
+
+        return dst;
+    }
+}
@@ -1,11 +1,13 @@
 package org.csystem.util.converter;
 
+import java.util.Objects;
+
 /**
  * Converter functional interface for converting a long value to another type.
  *
  * @param <R> the result type
  * @author JavaApp2-Jan-2024 Group
- * @version 2.0.0
+ * @version 2.1.0
  */
 @FunctionalInterface
 public interface ILongConverter<R> {
@@ -30,4 +32,58 @@ public interface ILongConverter<R> {
     {
         throw new UnsupportedOperationException("convertBack not supported");
     }
+
+    /**
+     * Converts {@code count} values of {@code src} starting at {@code srcOffset} into {@code dst} starting at {@code dstOffset}.
+     * Implementations may override it with a loop over the concrete conversion.
+     *
+     * @param src the source array
+     * @param srcOffset the starting offset in the source array
+     * @param dst the destination array
+     * @param dstOffset the starting offset in the destination array
+     * @param count the number of values to convert
+     * @throws IndexOutOfBoundsException if a region is out of the bounds of its array
+     * @throws Exception if conversion fails
+     */
+    default void convertAll(long [] src, int srcOffset, R [] dst, int dstOffset, int count) throws Exception
+    {
+        Objects.checkFromIndexSize(srcOffset, count, src.length);
+        Objects.checkFromIndexSize(dstOffset, count, dst.length);
+
+        for (var i = 0; i < count; ++i)
+            dst[dstOffset + i] = convert(src[srcOffset + i]);
+    }
+
+    /**
+     * Converts all the values of {@code src} into {@code dst} starting at index 0.
+     *
+     * @param src the source array
+     * @param dst the destination array
+     * @throws IndexOutOfBoundsException if {@code dst} is shorter than {@code src}
+     * @throws Exception if conversion fails
+     */
+    default void convertAll(long [] src, R [] dst) throws Exception
+    {
+        convertAll(src, 0, dst, 0, src.length);
+    }
+
+    /**
+     * Converts {@code count} objects of {@code src} back into the long array {@code dst} without boxing the results.
+     *
+     * @param src the source array
+     * @param srcOffset the starting offset in the source array
+     * @param dst the destination array
+     * @param dstOffset the starting offset in the destination array
+     * @param count the number of objects to convert back
+     * @throws IndexOutOfBoundsException if a region is out of the bounds of its array
+     * @throws Exception if conversion fails or not supported
+     */
+    default void convertBackAll(R [] src, int srcOffset, long [] dst, int dstOffset, int count) throws Exception
+    {
+        Objects.checkFromIndexSize(srcOffset, count, src.length);
+        Objects.checkFromIndexSize(dstOffset, count, dst.length);
+
+        for (var i = 0; i < count; ++i)
+            dst[dstOffset + i] = convertBack(src[srcOffset + i]);
+    }
 }
@@ -0,0 +1,71 @@
+package org.csystem.util.converter;
+
+import java.util.Objects;
+
+/**
+ * Converter functional interface for converting a long value to a double value without boxing.
+ *
+ * @author JavaApp2-Jan-2024 Group
+ * @version 2.1.0
+ */
+@FunctionalInterface
+public interface ILongToDoubleConverter {
+    /**
+     * Converts a long value to a double value.
+     *
+     * @param val the long value to convert
+     * @return the converted double value
+     * @throws Exception if conversion fails
+     */
+    double convert(long val) throws Exception;
+
+    /**
+     * Converts a double value back to a long value.
+     * By default, this operation is not supported and throws an exception.
+     *
+     * @param r the double value to convert back
+     * @return the converted long value
+     * @throws Exception if conversion fails or not supported
+     */
+    default long convertBack(double r) throws Exception
+    {
+        throw new UnsupportedOperationException("convertBack not supported");
+    }
+
+    /**
+     * Converts {@code count} values of {@code src} starting at {@code srcOffset} into {@code dst} starting at {@code dstOffset}.
+     * Implementations may override it with a loop over the concrete conversion.
+     *
+     * @param src the source array
+     * @param srcOffset the starting offset in the source array
+     * @param dst the destination array
+     * @param dstOffset the starting offset in the destination array
+     * @param count the number of values to convert
+     * @throws IndexOutOfBoundsException if a region is out of the bounds of its array
+     * @throws Exception if conversion fails
+     */
+    default void convertAll(long [] src, int srcOffset, double [] dst, int dstOffset, int count) throws Exception
+    {
+        Objects.checkFromIndexSize(srcOffset, count, src.length);
+        Objects.checkFromIndexSize(dstOffset, count, dst.length);
+
+        for (var i = 0; i < count; ++i)
+            dst[dstOffset + i] = convert(src[srcOffset + i]);
+    }
+
+    /**
+     * Converts all the values of {@code src} into a new array.
+     *
+     * @param src the source array
+     * @return the converted values
+     * @throws Exception if conversion fails
+     */
+    default double [] convertAll(long [] src) throws Exception
+    {
+        var dst = new double[src.length];
+
+        convertAll(src, 0, dst, 0, src.length);
+
+        return dst;
+    }
+}
@@ -0,0 +1,226 @@
+package org.csystem.util.converter;
+
+import java.util.ArrayList;
+import java.util.Objects;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Utility class for converting large arrays in parallel. The source is split into chunks of consecutive values
+ * and each chunk is converted by a single {@code convertAll} call of the converter in the common
+ * {@link ForkJoinPool}, so the per chunk work is a plain loop over the concrete conversion.
+ * Sources not longer than the chunk size are converted in the calling thread.
+ * If a chunk fails the first exception in chunk order is thrown after all the chunks complete.
+ * <p>Copyleft (c) 1993 by C and System Programmers Association (CSD) All Rights Free</p>
+ *
+ * @author JavaApp2-Jan-2024 Group
+ * @version 2.1.0
+ */
+public final class ParallelConverter {
+	/**
+	 * The default number of values converted by a single task.
+	 */
+	public static final int DEFAULT_CHUNK_SIZE = 8192;
+
+    /**
+     * Converts the values of a region.
+     */
+    @FunctionalInterface
+    private interface IChunkConverter {
+        void convert(int offset, int count) throws Exception;
+    }
+
+    /**
+     * Private constructor to prevent instantiation.
+     */
+    private ParallelConverter()
+	{
+	}
+
+    /**
+     * Converts {@code count} values in chunks of {@code chunkSize} values in the common pool.
+     * @param count the number of values
+     * @param dstLength the length of the destination array
+     * @param chunkSize the number of values converted by a single task
+     * @param chunkConverter the converter of a chunk
+     * @throws Exception the first exception thrown by a chunk
+     */
+    private static void run(int count, int dstLength, int chunkSize, IChunkConverter chunkConverter) throws Exception
+	{
+		if (chunkSize < 1)
+			throw new IllegalArgumentException("chunkSize must be positive");
+
+		Objects.checkFromIndexSize(0, count, dstLength);
+
+		if (count <= chunkSize) {
+			chunkConverter.convert(0, count);
+			return;
+		}
+
+		//The tasks return their exceptions, since the pool may wrap the checked ones
+		var tasks = new ArrayList<Callable<Exception>>(count / chunkSize + 1);
+
+		for (var offset = 0; offset < count; offset += chunkSize) {
+			var from = offset;
+			var length = Math.min(chunkSize, count - offset);
+
+			tasks.add(() -> {
+				try {
+					chunkConverter.convert(from, length);
+					return null;
+				}
+				catch (Exception ex) {
+					return ex;
+				}
+			});
+		}
+
+		for (var future : ForkJoinPool.commonPool().invokeAll(tasks)) {
+			Exception ex;
+
+			try {
+				ex = future.get();
+			}
+			catch (ExecutionException e) {
+				throw (Error)e.getCause();
+			}
+
+			if (ex != null)
+				throw ex;
+		}
+	}
+
+	/**
+	 * Converts all the values of {@code src} into {@code dst} in parallel.
+	 * @param converter the converter
+	 * @param src the source array
+	 * @param dst the destination array
+	 * @param chunkSize the number of values converted by a single task
+	 * @throws IndexOutOfBoundsException if {@code dst} is shorter than {@code src}
+	 * @throws IllegalArgumentException if {@code chunkSize} is not positive
+	 * @throws Exception if conversion fails
+	 */
+	public static void convertAll(IIntToLongConverter converter, int [] src, long [] dst, int chunkSize) throws Exception
+	{
+		run(src.length, dst.length, chunkSize, (offset, count) -> converter.convertAll(src, offset, dst, offset, count));
+	}
+
+	public static void convertAll(IIntToLongConverter converter, int [] src, long [] dst) throws Exception
+	{
+		convertAll(converter, src, dst, DEFAULT_CHUNK_SIZE);
+	}
+
+	public static void convertAll(IIntToDoubleConverter converter, int [] src, double [] dst, int chunkSize) throws Exception
+	{
+		run(src.length, dst.length, chunkSize, (offset, count) -> converter.convertAll(src, offset, dst, offset, count));
+	}
+
+	public static void convertAll(IIntToDoubleConverter converter, int [] src, double [] dst) throws Exception
+	{
+		convertAll(converter, src, dst, DEFAULT_CHUNK_SIZE);
+	}
+
+	public static void convertAll(ILongToIntConverter converter, long [] src, int [] dst, int chunkSize) throws Exception
+	{
+		run(src.length, dst.length, chunkSize, (offset, count) -> converter.convertAll(src, offset, dst, offset, count));
+	}
+
+	public static void convertAll(ILongToIntConverter converter, long [] src, int [] dst) throws Exception
+	{
+		convertAll(converter, src, dst, DEFAULT_CHUNK_SIZE);
+	}
+
+	public static void convertAll(ILongToDoubleConverter converter, long [] src, double [] dst, int chunkSize) throws Exception
+	{
+		run(src.length, dst.length, chunkSize, (offset, count) -> converter.convertAll(src, offset, dst, offset, count));
+	}
+
+	public static void convertAll(ILongToDoubleConverter converter, long [] src, double [] dst) throws Exception
+	{
+		convertAll(converter, src, dst, DEFAULT_CHUNK_SIZE);
+	}
+
+	public static void convertAll(IDoubleToIntConverter converter, double [] src, int [] dst, int chunkSize) throws Exception
+	{
+		run(src.length, dst.length, chunkSize, (offset, count) -> converter.convertAll(src, offset, dst, offset, count));
+	}
+
+	public static void convertAll(IDoubleToIntConverter converter, double [] src, int [] dst) throws Exception
+	{
+		convertAll(converter, src, dst, DEFAULT_CHUNK_SIZE);
+	}
+
+	public static void convertAll(IDoubleToLongConverter converter, double [] src, long [] dst, int chunkSize) throws Exception
+	{
+		run(src.length, dst.length, chunkSize, (offset, count) -> converter.convertAll(src, offset, dst, offset, count));
+	}
+
+	public static void convertAll(IDoubleToLongConverter converter, double [] src, long [] dst) throws Exception
+	{
+		convertAll(converter, src, dst, DEFAULT_CHUNK_SIZE);
+	}
+
+	/**
+	 * Converts all the values of {@code src} into {@code dst} in parallel.
+	 * @param converter the converter
+	 * @param src the source array
+	 * @param dst the destination array
+	 * @param chunkSize the number of values converted by a single task
+	 * @param <R> the result type
+	 * @throws IndexOutOfBoundsException if {@code dst} is shorter than {@code src}
+	 * @throws IllegalArgumentException if {@code chunkSize} is not positive
+	 * @throws Exception if conversion fails
+	 */
+	public static <R> void convertAll(IIntConverter<R> converter, int [] src, R [] dst, int chunkSize) throws Exception
+	{
+		run(src.length, dst.length, chunkSize, (offset, count) -> converter.convertAll(src, offset, dst, offset, count));
+	}
+
+	public static <R> void convertAll(IIntConverter<R> converter, int [] src, R [] dst) throws Exception
+	{
+		convertAll(converter, src, dst, DEFAULT_CHUNK_SIZE);
+	}
+
+	public static <R> void convertAll(ILongConverter<R> converter, long [] src, R [] dst, int chunkSize) throws Exception
+	{
+		run(src.length, dst.length, chunkSize, (offset, count) -> converter.convertAll(src, offset, dst, offset, count));
+	}
+
+	public static <R> void convertAll(ILongConverter<R> converter, long [] src, R [] dst) throws Exception
+	{
+		convertAll(converter, src, dst, DEFAULT_CHUNK_SIZE);
+	}
+
+	public static <R> void convertAll(IDoubleConverter<R> converter, double [] src, R [] dst, int chunkSize) throws Exception
+	{
+		run(src.length, dst.length, chunkSize, (offset, count) -> converter.convertAll(src, offset, dst, offset, count));
+	}
+
+	public static <R> void convertAll(IDoubleConverter<R> converter, double [] src, R [] dst) throws Exception
+	{
+		convertAll(converter, src, dst, DEFAULT_CHUNK_SIZE);
+	}
+
+	/**
+	 * Converts all the objects of {@code src} into {@code dst} in parallel.
+	 * @param converter the converter
+	 * @param src the source array
+	 * @param dst the destination array
+	 * @param chunkSize the number of objects converted by a single task
+	 * @param <T> the source type
+	 * @param <R> the result type
+	 * @throws IndexOutOfBoundsException if {@code dst} is shorter than {@code src}
+	 * @throws IllegalArgumentException if {@code chunkSize} is not positive
+	 * @throws Exception if conversion fails
+	 */
+	public static <T, R> void convertAll(IConverter<T, R> converter, T [] src, R [] dst, int chunkSize) throws Exception
+	{
+		run(src.length, dst.length, chunkSize, (offset, count) -> converter.convertAll(src, offset, dst, offset, count));
+	}
+
+	public static <T, R> void convertAll(IConverter<T, R> converter, T [] src, R [] dst) throws Exception
+	{
+		convertAll(converter, src, dst, DEFAULT_CHUNK_SIZE);
+	}
+}
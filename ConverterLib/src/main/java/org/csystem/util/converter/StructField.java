@@ -0,0 +1,32 @@
+package org.csystem.util.converter;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a field as a member of the binary layout created by {@link StructLayout#of(Class, java.lang.invoke.MethodHandles.Lookup)}.
+ * Fields are laid out consecutively in ascending {@link #order()}. Supported field types are the primitive types,
+ * {@code byte []} and {@code String}; the latter two need a fixed {@link #length()} in bytes.
+ *
+ * @author JavaApp2-Jan-2024 Group
+ * @version 2.1.0
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.FIELD)
+public @interface StructField {
+    /**
+     * The position of the field in the layout.
+     *
+     * @return the order of the field
+     */
+    int order();
+
+    /**
+     * The fixed length in bytes of a {@code byte []} or {@code String} field, ignored for primitive fields.
+     *
+     * @return the length of the field
+     */
+    int length() default 0;
+}
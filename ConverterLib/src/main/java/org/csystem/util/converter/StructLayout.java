@@ -0,0 +1,736 @@
+package org.csystem.util.converter;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.invoke.VarHandle;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.*;
+
+/**
+ * Fixed binary layout of objects of type T. A layout is a sequence of fields at offsets computed once when it is built,
+ * objects are decoded from and encoded into byte arrays and ByteBuffers with the accessors of the fields and
+ * {@link BitConverter}, so no offset is written by hand and no reflection is used per record.
+ * A layout is created either with a {@link Builder} from accessor lambdas:
+ * <pre>
+ *     var layout = StructLayout.builder(Header::new)
+ *          .intField("id", Header::getId, Header::setId)
+ *          .longField("timestamp", Header::getTimestamp, Header::setTimestamp)
+ *          .stringField("name", 16, StandardCharsets.UTF_8, Header::getName, Header::setName)
+ *          .build();
+ * </pre>
+ * or from the {@link StructField} annotated fields of a class with {@link #of(Class, MethodHandles.Lookup)}, which
+ * accesses the fields through method handles. Multi-byte values are big-endian unless another byte order is given.
+ * Fixed length {@code byte []} and {@code String} fields are padded with zeros, a string ends at its first zero byte.
+ * A layout is immutable and can be shared between threads.
+ * <p>Copyleft (c) 1993 by C and System Programmers Association (CSD) All Rights Free</p>
+ *
+ * @param <T> the type of the objects
+ * @author JavaApp2-Jan-2024 Group
+ * @version 2.1.0
+ */
+public final class StructLayout<T> {
+    private static final MethodHandle READ;
+    private static final MethodHandle WRITE;
+    private static final MethodHandle ADD;
+    private final Supplier<? extends T> m_factory;
+    private final ByteOrder m_byteOrder;
+    private final MethodHandle m_reader;
+    private final MethodHandle m_writer;
+    private final Map<String, Integer> m_offsetsByName;
+    private final int m_size;
+
+    /**
+     * Reads a field of an object from the given absolute offset.
+     */
+    @FunctionalInterface
+    private interface IReader<T> {
+        void read(byte [] data, int offset, T target, ByteOrder byteOrder);
+    }
+
+    /**
+     * Writes a field of an object to the given absolute offset.
+     */
+    @FunctionalInterface
+    private interface IWriter<T> {
+        void write(T source, byte [] dst, int offset, ByteOrder byteOrder);
+    }
+
+    static {
+        var lookup = MethodHandles.lookup();
+
+        try {
+            READ = lookup.findVirtual(IReader.class, "read", MethodType.methodType(void.class, byte [].class, int.class, Object.class, ByteOrder.class));
+            WRITE = lookup.findVirtual(IWriter.class, "write", MethodType.methodType(void.class, Object.class, byte [].class, int.class, ByteOrder.class));
+            ADD = lookup.findStatic(Integer.class, "sum", MethodType.methodType(int.class, int.class, int.class));
+        }
+        catch (NoSuchMethodException | IllegalAccessException ex) {
+            throw new ExceptionInInitializerError(ex);
+        }
+    }
+
+    /**
+     * Builder of a layout. The fields are laid out in the order they are added.
+     *
+     * @param <T> the type of the objects
+     */
+    public static final class Builder<T> {
+        private final Supplier<? extends T> m_factory;
+        private final List<IReader<T>> m_readers = new ArrayList<>();
+        private final List<IWriter<T>> m_writers = new ArrayList<>();
+        private final List<Integer> m_offsets = new ArrayList<>();
+        private final Map<String, Integer> m_offsetsByName = new HashMap<>();
+        private ByteOrder m_byteOrder = ByteOrder.BIG_ENDIAN;
+        private int m_size;
+
+        private Builder(Supplier<? extends T> factory)
+        {
+            m_factory = factory;
+        }
+
+        private Builder<T> add(String name, int size, IReader<T> reader, IWriter<T> writer)
+        {
+            if (m_offsetsByName.putIfAbsent(Objects.requireNonNull(name), m_size) != null)
+                throw new IllegalArgumentException("Duplicate field: " + name);
+
+            m_readers.add(reader);
+            m_writers.add(writer);
+            m_offsets.add(m_size);
+            m_size += size;
+
+            return this;
+        }
+
+        private static void checkLength(int length)
+        {
+            if (length < 1)
+                throw new IllegalArgumentException("length must be positive");
+        }
+
+        /**
+         * Sets the byte order of the multi-byte fields, big-endian by default.
+         * @param byteOrder the byte order
+         * @return this builder
+         */
+        public Builder<T> byteOrder(ByteOrder byteOrder)
+        {
+            m_byteOrder = Objects.requireNonNull(byteOrder);
+
+            return this;
+        }
+
+        /**
+         * Adds a byte field. The setter receives the byte value widened to int.
+         * @param name the name of the field
+         * @param getter the accessor of the value
+         * @param setter the mutator of the value
+         * @return this builder
+         * @throws IllegalArgumentException if a field with the same name exists
+         */
+        public Builder<T> byteField(String name, ToIntFunction<? super T> getter, ObjIntConsumer<? super T> setter)
+        {
+            return add(name, Byte.BYTES, (data, offset, target, byteOrder) -> setter.accept(target, data[offset]),
+                    (source, dst, offset, byteOrder) -> dst[offset] = (byte)getter.applyAsInt(source));
+        }
+
+        /**
+         * Adds a short field. The setter receives the short value widened to int.
+         * @param name the name of the field
+         * @param getter the accessor of the value
+         * @param setter the mutator of the value
+         * @return this builder
+         * @throws IllegalArgumentException if a field with the same name exists
+         */
+        public Builder<T> shortField(String name, ToIntFunction<? super T> getter, ObjIntConsumer<? super T> setter)
+        {
+            return add(name, Short.BYTES,
+                    (data, offset, target, byteOrder) -> setter.accept(target, BitConverter.toShort(data, offset, byteOrder)),
+                    (source, dst, offset, byteOrder) -> BitConverter.putShort(dst, offset, (short)getter.applyAsInt(source), byteOrder));
+        }
+
+        /**
+         * Adds a char field. The setter receives the char value widened to int.
+         * @param name the name of the field
+         * @param getter the accessor of the value
+         * @param setter the mutator of the value
+         * @return this builder
+         * @throws IllegalArgumentException if a field with the same name exists
+         */
+        public Builder<T> charField(String name, ToIntFunction<? super T> getter, ObjIntConsumer<? super T> setter)
+        {
+            return add(name, Character.BYTES,
+                    (data, offset, target, byteOrder) -> setter.accept(target, BitConverter.toChar(data, offset, byteOrder)),
+                    (source, dst, offset, byteOrder) -> BitConverter.putChar(dst, offset, (char)getter.applyAsInt(source), byteOrder));
+        }
+
+        /**
+         * Adds an int field.
+         * @param name the name of the field
+         * @param getter the accessor of the value
+         * @param setter the mutator of the value
+         * @return this builder
+         * @throws IllegalArgumentException if a field with the same name exists
+         */
+        public Builder<T> intField(String name, ToIntFunction<? super T> getter, ObjIntConsumer<? super T> setter)
+        {
+            return add(name, Integer.BYTES,
+                    (data, offset, target, byteOrder) -> setter.accept(target, BitConverter.toInt(data, offset, byteOrder)),
+                    (source, dst, offset, byteOrder) -> BitConverter.putInt(dst, offset, getter.applyAsInt(source), byteOrder));
+        }
+
+        /**
+         * Adds a long field.
+         * @param name the name of the field
+         * @param getter the accessor of the value
+         * @param setter the mutator of the value
+         * @return this builder
+         * @throws IllegalArgumentException if a field with the same name exists
+         */
+        public Builder<T> longField(String name, ToLongFunction<? super T> getter, ObjLongConsumer<? super T> setter)
+        {
+            return add(name, Long.BYTES,
+                    (data, offset, target, byteOrder) -> setter.accept(target, BitConverter.toLong(data, offset, byteOrder)),
+                    (source, dst, offset, byteOrder) -> BitConverter.putLong(dst, offset, getter.applyAsLong(source), byteOrder));
+        }
+
+        /**
+         * Adds a float field. The setter receives the float value widened to double, so it is exact.
+         * @param name the name of the field
+         * @param getter the accessor of the value
+         * @param setter the mutator of the value
+         * @return this builder
+         * @throws IllegalArgumentException if a field with the same name exists
+         */
+        public Builder<T> floatField(String name, ToDoubleFunction<? super T> getter, ObjDoubleConsumer<? super T> setter)
+        {
+            return add(name, Float.BYTES,
+                    (data, offset, target, byteOrder) -> setter.accept(target, BitConverter.toFloat(data, offset, byteOrder)),
+                    (source, dst, offset, byteOrder) -> BitConverter.putFloat(dst, offset, (float)getter.applyAsDouble(source), byteOrder));
+        }
+
+        /**
+         * Adds a double field.
+         * @param name the name of the field
+         * @param getter the accessor of the value
+         * @param setter the mutator of the value
+         * @return this builder
+         * @throws IllegalArgumentException if a field with the same name exists
+         */
+        public Builder<T> doubleField(String name, ToDoubleFunction<? super T> getter, ObjDoubleConsumer<? super T> setter)
+        {
+            return add(name, Double.BYTES,
+                    (data, offset, target, byteOrder) -> setter.accept(target, BitConverter.toDouble(data, offset, byteOrder)),
+                    (source, dst, offset, byteOrder) -> BitConverter.putDouble(dst, offset, getter.applyAsDouble(source), byteOrder));
+        }
+
+        /**
+         * Adds a boolean field of a single byte, any non zero byte is read as true.
+         * @param name the name of the field
+         * @param getter the accessor of the value
+         * @param setter the mutator of the value
+         * @return this builder
+         * @throws IllegalArgumentException if a field with the same name exists
+         */
+        public Builder<T> booleanField(String name, Predicate<? super T> getter, BiConsumer<? super T, Boolean> setter)
+        {
+            return add(name, 1, (data, offset, target, byteOrder) -> setter.accept(target, BitConverter.toBoolean(data, offset)),
+                    (source, dst, offset, byteOrder) -> BitConverter.putBoolean(dst, offset, getter.test(source)));
+        }
+
+        /**
+         * Adds a fixed length byte array field. Shorter and null arrays are padded with zeros.
+         * @param name the name of the field
+         * @param length the length of the field in bytes
+         * @param getter the accessor of the value
+         * @param setter the mutator of the value
+         * @return this builder
+         * @throws IllegalArgumentException if a field with the same name exists or {@code length} is not positive
+         */
+        public Builder<T> bytesField(String name, int length, Function<? super T, byte []> getter, BiConsumer<? super T, byte []> setter)
+        {
+            checkLength(length);
+
+            return add(name, length, (data, offset, target, byteOrder) -> setter.accept(target, Arrays.copyOfRange(data, offset, offset + length)),
+                    (source, dst, offset, byteOrder) -> putPadded(getter.apply(source), dst, offset, length));
+        }
+
+        /**
+         * Adds a fixed length string field. Shorter and null strings are padded with zeros,
+         * the decoded string ends at the first zero byte.
+         * @param name the name of the field
+         * @param length the length of the field in bytes
+         * @param charset the charset of the string
+         * @param getter the accessor of the value
+         * @param setter the mutator of the value
+         * @return this builder
+         * @throws IllegalArgumentException if a field with the same name exists or {@code length} is not positive
+         */
+        public Builder<T> stringField(String name, int length, Charset charset, Function<? super T, String> getter,
+                                      BiConsumer<? super T, String> setter)
+        {
+            checkLength(length);
+
+            return add(name, length, (data, offset, target, byteOrder) -> setter.accept(target, toPaddedString(data, offset, length, charset)),
+                    (source, dst, offset, byteOrder) -> {
+                        var str = getter.apply(source);
+
+                        putPadded(str != null ? BitConverter.getBytes(str, charset) : null, dst, offset, length);
+                    });
+        }
+
+        /**
+         * Adds unused bytes, they are written as zeros.
+         * @param length the number of bytes
+         * @return this builder
+         * @throws IllegalArgumentException if {@code length} is not positive
+         */
+        public Builder<T> padding(int length)
+        {
+            checkLength(length);
+            m_size += length;
+
+            return this;
+        }
+
+        /**
+         * Creates the layout of the fields added so far. The builder can be used further, it does not affect
+         * the created layout.
+         * @return the layout
+         */
+        @SuppressWarnings("unchecked")
+        public StructLayout<T> build()
+        {
+            return new StructLayout<>(m_factory, m_byteOrder, m_readers.toArray(IReader[]::new), m_writers.toArray(IWriter[]::new),
+                    m_offsets.stream().mapToInt(Integer::intValue).toArray(), Map.copyOf(m_offsetsByName), m_size);
+        }
+    }
+
+    private StructLayout(Supplier<? extends T> factory, ByteOrder byteOrder, IReader<T> [] readers, IWriter<T> [] writers,
+                         int [] offsets, Map<String, Integer> offsetsByName, int size)
+    {
+        m_factory = factory;
+        m_byteOrder = byteOrder;
+        m_reader = compose(READ, readers, offsets, byteOrder, 1, MethodType.methodType(void.class, byte [].class, int.class, Object.class));
+        m_writer = compose(WRITE, writers, offsets, byteOrder, 2, MethodType.methodType(void.class, Object.class, byte [].class, int.class));
+        m_offsetsByName = offsetsByName;
+        m_size = size;
+    }
+
+    /**
+     * Composes the accessors of the fields into a single method handle of the record, which calls them in order with the
+     * offsets of the fields. A hot handle is customized by the JVM, so the bound accessors can be inlined, unlike the calls
+     * of a loop over them.
+     * @param invoker the handle of the accessor method
+     * @param accessors the accessors of the fields
+     * @param offsets the offsets of the fields
+     * @param byteOrder the byte order
+     * @param offsetIndex the position of the offset parameter
+     * @param type the type of the record handle
+     * @return the record handle
+     */
+    private static MethodHandle compose(MethodHandle invoker, Object [] accessors, int [] offsets, ByteOrder byteOrder,
+                                        int offsetIndex, MethodType type)
+    {
+        var result = MethodHandles.empty(type);
+
+        for (var i = accessors.length - 1; i >= 0; --i) {
+            var accessor = MethodHandles.insertArguments(invoker.bindTo(accessors[i]), 3, byteOrder);
+
+            accessor = MethodHandles.filterArguments(accessor, offsetIndex, MethodHandles.insertArguments(ADD, 1, offsets[i]));
+            result = MethodHandles.foldArguments(result, accessor);
+        }
+
+        return result;
+    }
+
+    private static void putPadded(byte [] value, byte [] dst, int offset, int length)
+    {
+        var count = value != null ? value.length : 0;
+
+        if (count > length)
+            throw new IllegalArgumentException(String.format("Value of %d bytes does not fit into a field of %d bytes", count, length));
+
+        //The rest of the field is already zero, since write fills the whole record with zeros
+        if (count > 0)
+            System.arraycopy(value, 0, dst, offset, count);
+    }
+
+    private static String toPaddedString(byte [] data, int offset, int length, Charset charset)
+    {
+        var count = 0;
+
+        while (count < length && data[offset + count] != 0)
+            ++count;
+
+        return BitConverter.toString(data, offset, count, charset);
+    }
+
+    private static RuntimeException rethrow(Throwable ex)
+    {
+        if (ex instanceof RuntimeException)
+            return (RuntimeException)ex;
+
+        if (ex instanceof Error)
+            throw (Error)ex;
+
+        return new IllegalStateException(ex);
+    }
+
+    private static <T> IReader<T> reader(MethodHandle handle)
+    {
+        return (data, offset, target, byteOrder) -> {
+            try {
+                handle.invokeExact((Object)target, data, offset);
+            }
+            catch (Throwable ex) {
+                throw rethrow(ex);
+            }
+        };
+    }
+
+    private static <T> IWriter<T> writer(MethodHandle handle)
+    {
+        return (source, dst, offset, byteOrder) -> {
+            try {
+                handle.invokeExact(dst, offset, (Object)source);
+            }
+            catch (Throwable ex) {
+                throw rethrow(ex);
+            }
+        };
+    }
+
+    private static int sizeOf(Class<?> type)
+    {
+        if (type == byte.class || type == boolean.class)
+            return 1;
+
+        if (type == short.class || type == char.class)
+            return Short.BYTES;
+
+        return type == int.class || type == float.class ? Integer.BYTES : Long.BYTES;
+    }
+
+    /**
+     * Adds a primitive field whose reader and writer are single method handles composed of the field accessors
+     * and the {@link BitConverter} method of the type, so a field is accessed by an exact invocation.
+     */
+    private static <T> void addPrimitiveField(Builder<T> builder, Field field, MethodHandles.Lookup lookup, ByteOrder byteOrder)
+            throws NoSuchMethodException, IllegalAccessException
+    {
+        var type = field.getType();
+        var bitConverterLookup = MethodHandles.lookup();
+        MethodHandle decoder;
+        MethodHandle encoder;
+
+        if (type == byte.class) {
+            decoder = MethodHandles.arrayElementGetter(byte [].class);
+            encoder = MethodHandles.arrayElementSetter(byte [].class);
+        }
+        else if (type == boolean.class) {
+            decoder = bitConverterLookup.findStatic(BitConverter.class, "toBoolean", MethodType.methodType(boolean.class, byte [].class, int.class));
+            encoder = bitConverterLookup.findStatic(BitConverter.class, "putBoolean", MethodType.methodType(int.class, byte [].class, int.class, boolean.class));
+        }
+        else {
+            var typeName = Character.toUpperCase(type.getName().charAt(0)) + type.getName().substring(1);
+
+            decoder = MethodHandles.insertArguments(bitConverterLookup.findStatic(BitConverter.class, "to" + typeName,
+                    MethodType.methodType(type, byte [].class, int.class, ByteOrder.class)), 2, byteOrder);
+            encoder = MethodHandles.insertArguments(bitConverterLookup.findStatic(BitConverter.class, "put" + typeName,
+                    MethodType.methodType(int.class, byte [].class, int.class, type, ByteOrder.class)), 3, byteOrder);
+        }
+
+        encoder = encoder.asType(MethodType.methodType(void.class, byte [].class, int.class, type));
+
+        var setter = lookup.unreflectSetter(field).asType(MethodType.methodType(void.class, Object.class, type));
+        var getter = lookup.unreflectGetter(field).asType(MethodType.methodType(type, Object.class));
+
+        //(Object target, byte [] data, int offset)void and (byte [] dst, int offset, Object source)void
+        builder.add(field.getName(), sizeOf(type), reader(MethodHandles.collectArguments(setter, 1, decoder)),
+                writer(MethodHandles.collectArguments(encoder, 2, getter)));
+    }
+
+    private static <T> void addField(Builder<T> builder, Field field, MethodHandles.Lookup lookup, ByteOrder byteOrder)
+            throws NoSuchMethodException, IllegalAccessException
+    {
+        var name = field.getName();
+        var type = field.getType();
+        var length = field.getAnnotation(StructField.class).length();
+
+        if (type.isPrimitive())
+            addPrimitiveField(builder, field, lookup, byteOrder);
+        else if (type == byte [].class) {
+            var handle = lookup.unreflectVarHandle(field);
+
+            builder.bytesField(name, length, t -> (byte [])handle.get(t), (t, v) -> handle.set(t, v));
+        }
+        else if (type == String.class) {
+            var handle = lookup.unreflectVarHandle(field);
+
+            builder.stringField(name, length, StandardCharsets.UTF_8, t -> (String)handle.get(t), (t, v) -> handle.set(t, v));
+        }
+        else
+            throw new IllegalArgumentException("Unsupported field type: " + field);
+    }
+
+    /**
+     * Creates a builder of a layout
+     * @param factory the factory of the decoded objects
+     * @param <T> the type of the objects
+     * @return a new builder
+     */
+    public static <T> Builder<T> builder(Supplier<? extends T> factory)
+    {
+        return new Builder<>(Objects.requireNonNull(factory));
+    }
+
+    /**
+     * Creates a big-endian layout from the {@link StructField} annotated fields of the given class and its superclasses.
+     * The fields must not be final or static and the class must have a no-arg constructor, both accessible by the given lookup.
+     * Reflection is used only here, the fields are accessed through method handles. Strings are encoded with UTF-8.
+     * @param cls the class
+     * @param lookup a lookup that can access the fields and the constructor, e.g. {@code MethodHandles.lookup()} of the class
+     * @param <T> the type of the objects
+     * @return the layout
+     * @throws IllegalArgumentException if the class has no annotated field, a field is not supported or not accessible,
+     * two fields have the same order, or the constructor is not accessible
+     */
+    public static <T> StructLayout<T> of(Class<T> cls, MethodHandles.Lookup lookup)
+    {
+        return of(cls, lookup, ByteOrder.BIG_ENDIAN);
+    }
+
+    /**
+     * Creates a layout of the given byte order from the {@link StructField} annotated fields of the given class and its superclasses.
+     * @param cls the class
+     * @param lookup a lookup that can access the fields and the constructor
+     * @param byteOrder the byte order of the multi-byte fields
+     * @param <T> the type of the objects
+     * @return the layout
+     * @throws IllegalArgumentException if the class has no annotated field, a field is not supported or not accessible,
+     * two fields have the same order, or the constructor is not accessible
+     * @see #of(Class, MethodHandles.Lookup)
+     */
+    public static <T> StructLayout<T> of(Class<T> cls, MethodHandles.Lookup lookup, ByteOrder byteOrder)
+    {
+        var fields = new ArrayList<Field>();
+
+        for (Class<?> c = cls; c != null && c != Object.class; c = c.getSuperclass())
+            for (var field : c.getDeclaredFields())
+                if (field.isAnnotationPresent(StructField.class))
+                    fields.add(field);
+
+        if (fields.isEmpty())
+            throw new IllegalArgumentException("No StructField in " + cls.getName());
+
+        fields.sort(Comparator.comparingInt(f -> f.getAnnotation(StructField.class).order()));
+
+        try {
+            var constructor = lookup.findConstructor(cls, MethodType.methodType(void.class));
+            var builder = StructLayout.<T>builder(() -> newInstance(cls, constructor)).byteOrder(byteOrder);
+            var order = Integer.MIN_VALUE;
+
+            for (var field : fields) {
+                var fieldOrder = field.getAnnotation(StructField.class).order();
+
+                if (fieldOrder == order)
+                    throw new IllegalArgumentException("Duplicate StructField order: " + fieldOrder);
+
+                if (Modifier.isStatic(field.getModifiers()) || Modifier.isFinal(field.getModifiers()))
+                    throw new IllegalArgumentException("StructField can not be static or final: " + field);
+
+                order = fieldOrder;
+                addField(builder, field, lookup, byteOrder);
+            }
+
+            return builder.build();
+        }
+        catch (NoSuchMethodException | IllegalAccessException ex) {
+            throw new IllegalArgumentException("Inaccessible member of " + cls.getName(), ex);
+        }
+    }
+
+    private static <T> T newInstance(Class<T> cls, MethodHandle constructor)
+    {
+        try {
+            return cls.cast(constructor.invoke());
+        }
+        catch (RuntimeException | Error ex) {
+            throw ex;
+        }
+        catch (Throwable ex) {
+            throw new IllegalStateException("Can not create " + cls.getName(), ex);
+        }
+    }
+
+    /**
+     * Returns the number of bytes of a record.
+     * @return the size of the layout
+     */
+    public int getSize()
+    {
+        return m_size;
+    }
+
+    /**
+     * Returns the byte order of the multi-byte fields.
+     * @return the byte order of the layout
+     */
+    public ByteOrder getByteOrder()
+    {
+        return m_byteOrder;
+    }
+
+    /**
+     * Returns the offset of the given field in a record.
+     * @param name the name of the field
+     * @return the offset of the field
+     * @throws IllegalArgumentException if there is no such field
+     */
+    public int getOffset(String name)
+    {
+        var offset = m_offsetsByName.get(name);
+
+        if (offset == null)
+            throw new IllegalArgumentException("No such field: " + name);
+
+        return offset;
+    }
+
+    /**
+     * Decodes the fields of a record starting at the given offset into the given object.
+     * @param data the byte array
+     * @param offset the starting offset of the record
+     * @param target the object
+     * @throws IndexOutOfBoundsException if the record is out of the bounds of the array
+     */
+    public void read(byte [] data, int offset, T target)
+    {
+        Objects.checkFromIndexSize(offset, m_size, data.length);
+
+        try {
+            m_reader.invokeExact(data, offset, (Object)target);
+        }
+        catch (Throwable ex) {
+            throw rethrow(ex);
+        }
+    }
+
+    /**
+     * Decodes a record starting at the given offset into a new object created by the factory.
+     * @param data the byte array
+     * @param offset the starting offset of the record
+     * @return the decoded object
+     * @throws IndexOutOfBoundsException if the record is out of the bounds of the array
+     */
+    public T read(byte [] data, int offset)
+    {
+        T target = m_factory.get();
+
+        read(data, offset, target);
+
+        return target;
+    }
+
+    /**
+     * Decodes a record at the position of the given buffer and advances the position by the size of the layout.
+     * The byte order of the buffer is ignored.
+     * @param buffer the buffer
+     * @return the decoded object
+     * @throws BufferUnderflowException if fewer bytes than the size of the layout remain
+     */
+    public T read(ByteBuffer buffer)
+    {
+        T target;
+
+        if (buffer.hasArray()) {
+            if (buffer.remaining() < m_size)
+                throw new BufferUnderflowException();
+
+            target = read(buffer.array(), buffer.arrayOffset() + buffer.position());
+            buffer.position(buffer.position() + m_size);
+        }
+        else {
+            var data = new byte[m_size];
+
+            buffer.get(data);
+            target = read(data, 0);
+        }
+
+        return target;
+    }
+
+    /**
+     * Encodes the given object into a record starting at the given offset.
+     * @param value the object
+     * @param dst the byte array
+     * @param offset the starting offset of the record
+     * @return the offset just after the record
+     * @throws IndexOutOfBoundsException if the record is out of the bounds of the array
+     * @throws IllegalArgumentException if a fixed length value is longer than its field
+     */
+    public int write(T value, byte [] dst, int offset)
+    {
+        Objects.checkFromIndexSize(offset, m_size, dst.length);
+        Arrays.fill(dst, offset, offset + m_size, (byte)0);
+
+        try {
+            m_writer.invokeExact((Object)value, dst, offset);
+        }
+        catch (Throwable ex) {
+            throw rethrow(ex);
+        }
+
+        return offset + m_size;
+    }
+
+    /**
+     * Encodes the given object at the position of the given buffer and advances the position by the size of the layout.
+     * The byte order of the buffer is ignored.
+     * @param value the object
+     * @param buffer the buffer
+     * @throws BufferOverflowException if fewer bytes than the size of the layout remain
+     * @throws IllegalArgumentException if a fixed length value is longer than its field
+     */
+    public void write(T value, ByteBuffer buffer)
+    {
+        if (buffer.hasArray() && !buffer.isReadOnly()) {
+            if (buffer.remaining() < m_size)
+                throw new BufferOverflowException();
+
+            write(value, buffer.array(), buffer.arrayOffset() + buffer.position());
+            buffer.position(buffer.position() + m_size);
+        }
+        else
+            buffer.put(toBytes(value));
+    }
+
+    /**
+     * Encodes the given object into a new byte array.
+     * @param value the object
+     * @return the record
+     * @throws IllegalArgumentException if a fixed length value is longer than its field
+     */
+    public byte [] toBytes(T value)
+    {
+        var data = new byte[m_size];
+
+        write(value, data, 0);
+
+        return data;
+    }
+}
@@ -0,0 +1,462 @@
+package org.csystem.util.converter;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Objects;
+
+/**
+ * Utility class for variable length (LEB128) and zigzag encodings of int and long values.
+ * A value is written 7 bits per byte starting from the least significant group, the high bit of a byte
+ * tells that another byte follows. Zigzag encoding maps signed values to unsigned ones so that
+ * small negative values are encoded in a few bytes as well. Values are read from and written into
+ * caller supplied arrays, so no allocation is made.
+ * <p>Copyleft (c) 1993 by C and System Programmers Association (CSD) All Rights Free</p>
+ *
+ * @author JavaApp2-Jan-2024 Group
+ * @version 2.1.0
+ */
+public final class VarIntConverter {
+	/**
+	 * The maximum number of bytes of an encoded int value.
+	 */
+	public static final int MAX_INT_SIZE = 5;
+
+	/**
+	 * The maximum number of bytes of an encoded long value.
+	 */
+	public static final int MAX_LONG_SIZE = 10;
+
+	/**
+	 * The maximum value of the last byte of a {@link #MAX_INT_SIZE} byte varint, the higher bits do not fit into an int.
+	 */
+	private static final int MAX_INT_LAST_BYTE = 0x0F;
+
+	/**
+	 * The maximum value of the last byte of a {@link #MAX_LONG_SIZE} byte varint, the higher bits do not fit into a long.
+	 */
+	private static final int MAX_LONG_LAST_BYTE = 0x01;
+
+    /**
+     * Reads an unsigned varint of at most {@code maxSize} bytes from the given stream.
+     * @param is the input stream
+     * @param maxSize the maximum number of bytes
+     * @param maxLastByte the maximum value of the last byte of a {@code maxSize} byte varint
+     * @return the value
+     * @throws IOException if an I/O error occurs, the stream ends or the varint is malformed
+     */
+    private static long readVarLong(InputStream is, int maxSize, int maxLastByte) throws IOException
+	{
+		long result = 0;
+
+		for (int i = 0; i < maxSize; ++i) {
+			int b = is.read();
+
+			if (b == -1)
+				throw new EOFException("Stream ended in a varint");
+
+			result |= (long)(b & 0x7F) << (7 * i);
+
+			if ((b & 0x80) == 0) {
+				if (!isCanonicalLastByte(b, i + 1, maxSize, maxLastByte))
+					throw new IOException("Malformed varint");
+
+				return result;
+			}
+		}
+
+		throw new IOException("Malformed varint");
+	}
+
+	/**
+	 * Checks the last byte of a varint. A trailing zero byte makes the encoding longer than needed and the bits of
+	 * a {@code maxSize} byte varint beyond the value type are not allowed, so every value has a single encoding.
+	 * @param b the last byte
+	 * @param size the number of bytes of the varint
+	 * @param maxSize the maximum number of bytes
+	 * @param maxLastByte the maximum value of the last byte of a {@code maxSize} byte varint
+	 * @return true if the varint is canonical
+	 */
+	private static boolean isCanonicalLastByte(int b, int size, int maxSize, int maxLastByte)
+	{
+		return (b != 0 || size == 1) && (size != maxSize || b <= maxLastByte);
+	}
+
+	/**
+	 * Returns the offset just after the varint at the given index.
+	 * @param data the byte array
+	 * @param startIndex the starting index
+	 * @param maxSize the maximum number of bytes
+	 * @param maxLastByte the maximum value of the last byte of a {@code maxSize} byte varint
+	 * @return the offset just after the varint
+	 * @throws IllegalArgumentException if the varint is not canonical
+	 * @throws IndexOutOfBoundsException if the varint is truncated
+	 */
+	private static int endOfVarInt(byte [] data, int startIndex, int maxSize, int maxLastByte)
+	{
+		for (int i = 0; i < maxSize; ++i) {
+			int b = data[startIndex + i];
+
+			if (b >= 0) {
+				if (!isCanonicalLastByte(b, i + 1, maxSize, maxLastByte))
+					throw new IllegalArgumentException("Malformed varint");
+
+				return startIndex + i + 1;
+			}
+		}
+
+		throw new IllegalArgumentException("Malformed varint");
+	}
+
+	/**
+	 * Combines the 7 bit groups of a varint whose bounds are already checked.
+	 * @param data the byte array
+	 * @param startIndex the starting index
+	 * @param endIndex the offset just after the varint
+	 * @return the value
+	 */
+	private static long combine(byte [] data, int startIndex, int endIndex)
+	{
+		long result = 0;
+
+		for (int i = startIndex, shift = 0; i < endIndex; ++i, shift += 7)
+			result |= (long)(data[i] & 0x7F) << shift;
+
+		return result;
+	}
+
+    /**
+     * Private constructor to prevent instantiation.
+     */
+    private VarIntConverter()
+	{
+	}
+
+	/**
+	 * Maps a signed int value to an unsigned one: 0, -1, 1, -2, ... are mapped to 0, 1, 2, 3, ...
+	 * @param value the signed value
+	 * @return the zigzag encoded value
+	 */
+	public static int zigZagEncode(int value)
+	{
+		return (value << 1) ^ (value >> 31);
+	}
+
+	/**
+	 * Maps a zigzag encoded int value back to the signed one.
+	 * @param value the zigzag encoded value
+	 * @return the signed value
+	 */
+	public static int zigZagDecode(int value)
+	{
+		return (value >>> 1) ^ -(value & 1);
+	}
+
+	/**
+	 * Maps a signed long value to an unsigned one: 0, -1, 1, -2, ... are mapped to 0, 1, 2, 3, ...
+	 * @param value the signed value
+	 * @return the zigzag encoded value
+	 */
+	public static long zigZagEncode(long value)
+	{
+		return (value << 1) ^ (value >> 63);
+	}
+
+	/**
+	 * Maps a zigzag encoded long value back to the signed one.
+	 * @param value the zigzag encoded value
+	 * @return the signed value
+	 */
+	public static long zigZagDecode(long value)
+	{
+		return (value >>> 1) ^ -(value & 1);
+	}
+
+	/**
+	 * Returns the number of bytes of the given value when it is encoded as an unsigned varint.
+	 * @param value the value
+	 * @return the encoded size in range 1-5
+	 */
+	public static int getSize(int value)
+	{
+		return (31 - Integer.numberOfLeadingZeros(value | 1)) / 7 + 1;
+	}
+
+	/**
+	 * Returns the number of bytes of the given value when it is encoded as an unsigned varint.
+	 * @param value the value
+	 * @return the encoded size in range 1-10
+	 */
+	public static int getSize(long value)
+	{
+		return (63 - Long.numberOfLeadingZeros(value | 1)) / 7 + 1;
+	}
+
+	/**
+	 * Writes the given value as an unsigned varint into the given byte array.
+	 * @param dst the destination byte array
+	 * @param offset the offset that the value is written at
+	 * @param value the value, negative values take {@link #MAX_INT_SIZE} bytes
+	 * @return the offset just after the written value
+	 * @throws IndexOutOfBoundsException if the value does not fit into the array
+	 */
+	public static int putVarInt(byte [] dst, int offset, int value)
+	{
+		while ((value & ~0x7F) != 0) {
+			dst[offset++] = (byte)(value & 0x7F | 0x80);
+			value >>>= 7;
+		}
+
+		dst[offset++] = (byte)value;
+
+		return offset;
+	}
+
+	/**
+	 * Writes the given value as an unsigned varint into the given byte array.
+	 * @param dst the destination byte array
+	 * @param offset the offset that the value is written at
+	 * @param value the value, negative values take {@link #MAX_LONG_SIZE} bytes
+	 * @return the offset just after the written value
+	 * @throws IndexOutOfBoundsException if the value does not fit into the array
+	 */
+	public static int putVarLong(byte [] dst, int offset, long value)
+	{
+		while ((value & ~0x7FL) != 0) {
+			dst[offset++] = (byte)(value & 0x7F | 0x80);
+			value >>>= 7;
+		}
+
+		dst[offset++] = (byte)value;
+
+		return offset;
+	}
+
+	/**
+	 * Writes the given signed value zigzag and varint encoded into the given byte array.
+	 * @param dst the destination byte array
+	 * @param offset the offset that the value is written at
+	 * @param value the signed value
+	 * @return the offset just after the written value
+	 * @throws IndexOutOfBoundsException if the value does not fit into the array
+	 */
+	public static int putZigZagInt(byte [] dst, int offset, int value)
+	{
+		return putVarInt(dst, offset, zigZagEncode(value));
+	}
+
+	/**
+	 * Writes the given signed value zigzag and varint encoded into the given byte array.
+	 * @param dst the destination byte array
+	 * @param offset the offset that the value is written at
+	 * @param value the signed value
+	 * @return the offset just after the written value
+	 * @throws IndexOutOfBoundsException if the value does not fit into the array
+	 */
+	public static int putZigZagLong(byte [] dst, int offset, long value)
+	{
+		return putVarLong(dst, offset, zigZagEncode(value));
+	}
+
+	/**
+	 * Reads an unsigned varint from the given byte array. Only the canonical encoding of a value is accepted, so
+	 * the offset after the value is {@code startIndex + getSize(value)}.
+	 * @param data the byte array
+	 * @param startIndex the starting index
+	 * @return the value
+	 * @throws IllegalArgumentException if the varint is longer than {@link #MAX_INT_SIZE} bytes, has a trailing
+	 * zero byte or has bits beyond 32 bits
+	 * @throws IndexOutOfBoundsException if the varint is truncated
+	 */
+	public static int toVarInt(byte [] data, int startIndex)
+	{
+		int b = data[startIndex];
+
+		if (b >= 0)
+			return b;
+
+		return (int)combine(data, startIndex, endOfVarInt(data, startIndex, MAX_INT_SIZE, MAX_INT_LAST_BYTE));
+	}
+
+	/**
+	 * Reads an unsigned varint from the given byte array. Only the canonical encoding of a value is accepted, so
+	 * the offset after the value is {@code startIndex + getSize(value)}.
+	 * @param data the byte array
+	 * @param startIndex the starting index
+	 * @return the value
+	 * @throws IllegalArgumentException if the varint is longer than {@link #MAX_LONG_SIZE} bytes, has a trailing
+	 * zero byte or has bits beyond 64 bits
+	 * @throws IndexOutOfBoundsException if the varint is truncated
+	 */
+	public static long toVarLong(byte [] data, int startIndex)
+	{
+		return combine(data, startIndex, endOfVarInt(data, startIndex, MAX_LONG_SIZE, MAX_LONG_LAST_BYTE));
+	}
+
+	/**
+	 * Reads a zigzag and varint encoded signed value from the given byte array.
+	 * @param data the byte array
+	 * @param startIndex the starting index
+	 * @return the signed value
+	 * @throws IllegalArgumentException if the varint is not canonical
+	 * @throws IndexOutOfBoundsException if the varint is truncated
+	 */
+	public static int toZigZagInt(byte [] data, int startIndex)
+	{
+		return zigZagDecode(toVarInt(data, startIndex));
+	}
+
+	/**
+	 * Reads a zigzag and varint encoded signed value from the given byte array.
+	 * @param data the byte array
+	 * @param startIndex the starting index
+	 * @return the signed value
+	 * @throws IllegalArgumentException if the varint is not canonical
+	 * @throws IndexOutOfBoundsException if the varint is truncated
+	 */
+	public static long toZigZagLong(byte [] data, int startIndex)
+	{
+		return zigZagDecode(toVarLong(data, startIndex));
+	}
+
+	/**
+	 * Writes {@code count} signed values zigzag and varint encoded into the given byte array.
+	 * @param src the source array
+	 * @param srcOffset the index of the first value in the source array
+	 * @param count the number of values
+	 * @param dst the destination byte array
+	 * @param dstOffset the offset that the first value is written at
+	 * @return the offset just after the written values
+	 * @throws IndexOutOfBoundsException if a range is out of the bounds of its array
+	 */
+	public static int putZigZagInts(int [] src, int srcOffset, int count, byte [] dst, int dstOffset)
+	{
+		Objects.checkFromIndexSize(srcOffset, count, src.length);
+
+		for (int i = srcOffset; i < srcOffset + count; ++i)
+			dstOffset = putVarInt(dst, dstOffset, zigZagEncode(src[i]));
+
+		return dstOffset;
+	}
+
+	/**
+	 * Reads {@code count} zigzag and varint encoded signed values from the given byte array.
+	 * @param data the byte array
+	 * @param startIndex the offset of the first value in the byte array
+	 * @param dst the destination array
+	 * @param dstOffset the index that the first value is stored at
+	 * @param count the number of values
+	 * @return the offset just after the read values
+	 * @throws IllegalArgumentException if a varint is not canonical
+	 * @throws IndexOutOfBoundsException if a range is out of the bounds of its array
+	 */
+	public static int toZigZagInts(byte [] data, int startIndex, int [] dst, int dstOffset, int count)
+	{
+		Objects.checkFromIndexSize(dstOffset, count, dst.length);
+
+		for (int i = dstOffset; i < dstOffset + count; ++i) {
+			int endIndex = endOfVarInt(data, startIndex, MAX_INT_SIZE, MAX_INT_LAST_BYTE);
+
+			dst[i] = zigZagDecode((int)combine(data, startIndex, endIndex));
+			startIndex = endIndex;
+		}
+
+		return startIndex;
+	}
+
+	/**
+	 * Writes {@code count} signed values zigzag and varint encoded into the given byte array.
+	 * @param src the source array
+	 * @param srcOffset the index of the first value in the source array
+	 * @param count the number of values
+	 * @param dst the destination byte array
+	 * @param dstOffset the offset that the first value is written at
+	 * @return the offset just after the written values
+	 * @throws IndexOutOfBoundsException if a range is out of the bounds of its array
+	 */
+	public static int putZigZagLongs(long [] src, int srcOffset, int count, byte [] dst, int dstOffset)
+	{
+		Objects.checkFromIndexSize(srcOffset, count, src.length);
+
+		for (int i = srcOffset; i < srcOffset + count; ++i)
+			dstOffset = putVarLong(dst, dstOffset, zigZagEncode(src[i]));
+
+		return dstOffset;
+	}
+
+	/**
+	 * Reads {@code count} zigzag and varint encoded signed values from the given byte array.
+	 * @param data the byte array
+	 * @param startIndex the offset of the first value in the byte array
+	 * @param dst the destination array
+	 * @param dstOffset the index that the first value is stored at
+	 * @param count the number of values
+	 * @return the offset just after the read values
+	 * @throws IllegalArgumentException if a varint is not canonical
+	 * @throws IndexOutOfBoundsException if a range is out of the bounds of its array
+	 */
+	public static int toZigZagLongs(byte [] data, int startIndex, long [] dst, int dstOffset, int count)
+	{
+		Objects.checkFromIndexSize(dstOffset, count, dst.length);
+
+		for (int i = dstOffset; i < dstOffset + count; ++i) {
+			int endIndex = endOfVarInt(data, startIndex, MAX_LONG_SIZE, MAX_LONG_LAST_BYTE);
+
+			dst[i] = zigZagDecode(combine(data, startIndex, endIndex));
+			startIndex = endIndex;
+		}
+
+		return startIndex;
+	}
+
+	/**
+	 * Writes the given value as an unsigned varint to the given stream with a single write call.
+	 * @param os the output stream
+	 * @param value the value
+	 * @throws IOException if an I/O error occurs
+	 */
+	public static void writeVarInt(OutputStream os, int value) throws IOException
+	{
+		byte [] data = new byte[MAX_INT_SIZE];
+
+		os.write(data, 0, putVarInt(data, 0, value));
+	}
+
+	/**
+	 * Writes the given value as an unsigned varint to the given stream with a single write call.
+	 * @param os the output stream
+	 * @param value the value
+	 * @throws IOException if an I/O error occurs
+	 */
+	public static void writeVarLong(OutputStream os, long value) throws IOException
+	{
+		byte [] data = new byte[MAX_LONG_SIZE];
+
+		os.write(data, 0, putVarLong(data, 0, value));
+	}
+
+	/**
+	 * Reads an unsigned varint from the given stream byte by byte, so no byte after the value is consumed.
+	 * @param is the input stream
+	 * @return the value
+	 * @throws EOFException if the stream ends before the value
+	 * @throws IOException if an I/O error occurs or the varint is malformed
+	 */
+	public static int readVarInt(InputStream is) throws IOException
+	{
+		return (int)readVarLong(is, MAX_INT_SIZE, MAX_INT_LAST_BYTE);
+	}
+
+	/**
+	 * Reads an unsigned varint from the given stream byte by byte, so no byte after the value is consumed.
+	 * @param is the input stream
+	 * @return the value
+	 * @throws EOFException if the stream ends before the value
+	 * @throws IOException if an I/O error occurs or the varint is malformed
+	 */
+	public static long readVarLong(InputStream is) throws IOException
+	{
+		return readVarLong(is, MAX_LONG_SIZE, MAX_LONG_LAST_BYTE);
+	}
+}
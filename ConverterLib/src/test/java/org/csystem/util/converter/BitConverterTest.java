@@ -2,7 +2,11 @@ package org.csystem.util.converter;
 
 import org.junit.jupiter.api.Test;
 
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
 import static org.junit.jupiter.api.Assertions.*;
 
 class BitConverterTest {
@@ -118,5 +122,152 @@ class BitConverterTest {
         byte[] result = BitConverter.toByteArray(arr, 1, 2);
         assertArrayEquals(new byte[]{20, 30}, result);
     }
-}
 
+    @Test
+    void testGetBytes_sameAsByteBuffer() {
+        assertArrayEquals(ByteBuffer.allocate(2).putShort((short)-12345).array(), BitConverter.getBytes((short)-12345));
+        assertArrayEquals(ByteBuffer.allocate(4).putInt(0x12345678).array(), BitConverter.getBytes(0x12345678));
+        assertArrayEquals(ByteBuffer.allocate(8).putLong(-9876543210L).array(), BitConverter.getBytes(-9876543210L));
+        assertArrayEquals(ByteBuffer.allocate(8).putDouble(Double.NaN).array(), BitConverter.getBytes(Double.NaN));
+        assertArrayEquals(ByteBuffer.allocate(12).putInt(1).putInt(-2).putInt(3).array(), BitConverter.getBytes(1, -2, 3));
+    }
+
+    @Test
+    void testPutAndToPrimitive_withOffset() {
+        byte[] buffer = new byte[1 + 2 + 4 + 8 + 8 + 4 + 2 + 1];
+        int offset = BitConverter.putBoolean(buffer, 0, true);
+
+        offset = BitConverter.putShort(buffer, offset, (short)-2);
+        offset = BitConverter.putInt(buffer, offset, 0x12345678);
+        offset = BitConverter.putLong(buffer, offset, Long.MIN_VALUE);
+        offset = BitConverter.putDouble(buffer, offset, Math.E);
+        offset = BitConverter.putFloat(buffer, offset, -1.5f);
+        offset = BitConverter.putChar(buffer, offset, '\u015f');
+        assertEquals(buffer.length - 1, offset);
+
+        assertTrue(BitConverter.toBoolean(buffer, 0));
+        assertEquals(-2, BitConverter.toShort(buffer, 1));
+        assertEquals(0x12345678, BitConverter.toInt(buffer, 3));
+        assertEquals(Long.MIN_VALUE, BitConverter.toLong(buffer, 7));
+        assertEquals(Math.E, BitConverter.toDouble(buffer, 15));
+        assertEquals(-1.5f, BitConverter.toFloat(buffer, 23));
+        assertEquals('\u015f', BitConverter.toChar(buffer, 27));
+    }
+
+    @Test
+    void testPutAndToPrimitive_littleEndian() {
+        byte[] buffer = new byte[4];
+
+        BitConverter.putInt(buffer, 0, 0x12345678, ByteOrder.LITTLE_ENDIAN);
+        assertArrayEquals(new byte[]{0x78, 0x56, 0x34, 0x12}, buffer);
+        assertEquals(0x12345678, BitConverter.toInt(buffer, 0, ByteOrder.LITTLE_ENDIAN));
+        assertEquals(BitConverter.toLittleEndian(0x12345678), BitConverter.toInt(buffer, 0));
+    }
+
+    @Test
+    void testPut_whenBufferTooSmall_thenThrowIndexOutOfBoundsException() {
+        assertThrows(IndexOutOfBoundsException.class, () -> BitConverter.putLong(new byte[8], 1, 1L));
+        assertThrows(IndexOutOfBoundsException.class, () -> BitConverter.toInt(new byte[3]));
+    }
+
+    @Test
+    void testBulkArrayConversions_withByteOrderAndOffsets() {
+        long[] arr = {1L, -2L, Long.MAX_VALUE, Long.MIN_VALUE};
+        byte[] buffer = new byte[3 + arr.length * Long.BYTES];
+
+        assertEquals(buffer.length - Long.BYTES, BitConverter.getBytes(arr, 1, 3, buffer, 3, ByteOrder.LITTLE_ENDIAN));
+        assertEquals(-2L, BitConverter.toLong(buffer, 3, ByteOrder.LITTLE_ENDIAN));
+
+        long[] result = new long[5];
+
+        assertEquals(buffer.length - Long.BYTES, BitConverter.toLongArray(buffer, 3, result, 2, 3, ByteOrder.LITTLE_ENDIAN));
+        assertArrayEquals(new long[]{0, 0, -2L, Long.MAX_VALUE, Long.MIN_VALUE}, result);
+    }
+
+    @Test
+    void testBulkArrayConversions_sameAsElementConversions() {
+        short[] shorts = {1, -1, Short.MIN_VALUE};
+        char[] chars = {'a', '\u015f', Character.MAX_VALUE};
+        float[] floats = {1.5f, Float.NaN, -0.0f};
+
+        for (ByteOrder byteOrder : new ByteOrder[]{ByteOrder.BIG_ENDIAN, ByteOrder.LITTLE_ENDIAN}) {
+            byte[] shortBytes = BitConverter.getBytes(byteOrder, shorts);
+            byte[] charBytes = BitConverter.getBytes(byteOrder, chars);
+            byte[] floatBytes = BitConverter.getBytes(byteOrder, floats);
+
+            for (int i = 0; i < 3; ++i) {
+                assertEquals(shorts[i], BitConverter.toShort(shortBytes, i * Short.BYTES, byteOrder));
+                assertEquals(chars[i], BitConverter.toChar(charBytes, i * Character.BYTES, byteOrder));
+                assertEquals(Float.floatToRawIntBits(floats[i]), Float.floatToRawIntBits(BitConverter.toFloat(floatBytes, i * Float.BYTES, byteOrder)));
+            }
+
+            assertArrayEquals(shorts, BitConverter.toShortArray(shortBytes, 0, shorts.length, byteOrder));
+            assertArrayEquals(chars, BitConverter.toCharArray(charBytes, 0, chars.length, byteOrder));
+            assertArrayEquals(floats, BitConverter.toFloatArray(floatBytes, 0, floats.length, byteOrder));
+        }
+    }
+
+    @Test
+    void testBulkArrayConversions_whenOutOfBounds_thenThrowIndexOutOfBoundsException() {
+        assertThrows(IndexOutOfBoundsException.class, () -> BitConverter.getBytes(new int[4], 0, 4, new byte[15], 0, ByteOrder.BIG_ENDIAN));
+        assertThrows(IndexOutOfBoundsException.class, () -> BitConverter.getBytes(new int[4], 1, 4, new byte[16], 0, ByteOrder.BIG_ENDIAN));
+        assertThrows(IndexOutOfBoundsException.class, () -> BitConverter.toDoubleArray(new byte[16], 8, new double[2], 0, 2, ByteOrder.BIG_ENDIAN));
+    }
+
+    @Test
+    void testPutUtf8_sameAsGetBytes() {
+        String[] strings = {"", "hello", "\u015fe\u011fer", "\u20ac100", "a\uD83D\uDE00b", "x\uD800y", "\uDC00", "end\uD83D"};
+
+        for (String str : strings) {
+            byte[] expected = str.getBytes(StandardCharsets.UTF_8);
+            byte[] bytes = new byte[BitConverter.getUtf8Length(str) + 2];
+
+            assertEquals(expected.length, BitConverter.getUtf8Length(str), str);
+            assertEquals(expected.length + 2, BitConverter.putUtf8(bytes, 2, str), str);
+            assertArrayEquals(expected, Arrays.copyOfRange(bytes, 2, bytes.length), str);
+        }
+    }
+
+    @Test
+    void testPutString_sameAsGetBytes() {
+        String str = "abc \u015fe\u011fer \u20ac";
+
+        for (Charset charset : new Charset[]{StandardCharsets.UTF_8, StandardCharsets.ISO_8859_1,
+                StandardCharsets.US_ASCII, StandardCharsets.UTF_16LE}) {
+            byte[] expected = str.getBytes(charset);
+            byte[] bytes = new byte[BitConverter.getMaxByteCount(str.length(), charset) + 1];
+            int end = BitConverter.putString(bytes, 0, str, charset);
+
+            assertArrayEquals(expected, Arrays.copyOf(bytes, end), charset.name());
+
+            end = BitConverter.putChars(bytes, 1, new StringBuilder(str), charset);
+            assertArrayEquals(expected, Arrays.copyOfRange(bytes, 1, end), charset.name());
+        }
+    }
+
+    @Test
+    void testPutString_whenBufferTooSmall_thenThrowIndexOutOfBoundsException() {
+        assertThrows(IndexOutOfBoundsException.class, () -> BitConverter.putUtf8(new byte[3], 0, "\u015f\u015f"));
+        assertThrows(IndexOutOfBoundsException.class, () -> BitConverter.putString(new byte[3], 0, "ab", StandardCharsets.UTF_16LE));
+        assertThrows(IndexOutOfBoundsException.class, () -> BitConverter.putChars(new byte[3], 0, "ab", StandardCharsets.UTF_16LE));
+    }
+
+    @Test
+    void testToChars_sameAsNewString() {
+        byte[] malformed = {'a', (byte)0xC3, 'b', (byte)0xFF};
+        byte[] utf8 = "ab\u015fc\uD83D\uDE00".getBytes(StandardCharsets.UTF_8);
+        char[] chars = new char[16];
+
+        int count = BitConverter.toChars(utf8, 0, utf8.length, chars, 1, StandardCharsets.UTF_8);
+        assertEquals("ab\u015fc\uD83D\uDE00", new String(chars, 1, count));
+
+        count = BitConverter.toChars(malformed, 0, malformed.length, chars, 0, StandardCharsets.UTF_8);
+        assertEquals(new String(malformed, StandardCharsets.UTF_8), new String(chars, 0, count));
+
+        byte[] utf16 = "xyz".getBytes(StandardCharsets.UTF_16BE);
+        count = BitConverter.toChars(utf16, 0, utf16.length, chars, 0, StandardCharsets.UTF_16BE);
+        assertEquals("xyz", new String(chars, 0, count));
+
+        assertThrows(IndexOutOfBoundsException.class, () -> BitConverter.toChars(utf8, 0, utf8.length, new char[3], 0, StandardCharsets.UTF_8));
+    }
+}
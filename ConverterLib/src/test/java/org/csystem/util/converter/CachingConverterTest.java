@@ -0,0 +1,136 @@
+package org.csystem.util.converter;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CachingConverterTest {
+    private static final class CountingConverter implements IStringConverter<Integer> {
+        final AtomicInteger convertCount = new AtomicInteger();
+        final AtomicInteger convertBackCount = new AtomicInteger();
+
+        @Override
+        public Integer convert(String s) {
+            convertCount.incrementAndGet();
+            return Integer.parseInt(s);
+        }
+
+        @Override
+        public String convertBack(Integer r) {
+            convertBackCount.incrementAndGet();
+            return r.toString();
+        }
+    }
+
+    @Test
+    void testConvert_whenRepeated_thenConvertOnce() throws Exception {
+        CountingConverter converter = new CountingConverter();
+        CachingConverter<String, Integer> cache = new CachingConverter<>(converter, 10);
+
+        for (int i = 0; i < 5; ++i) {
+            assertEquals(42, cache.convert("42"));
+            assertEquals("7", cache.convertBack(7));
+        }
+
+        assertEquals(1, converter.convertCount.get());
+        assertEquals(1, converter.convertBackCount.get());
+        assertEquals(8, cache.getHitCount());
+        assertEquals(2, cache.getMissCount());
+        assertEquals(0.8, cache.getHitRate(), 1e-9);
+        assertEquals(2, cache.size());
+    }
+
+    @Test
+    void testConvert_whenFull_thenEvictLeastRecentlyUsed() throws Exception {
+        CountingConverter converter = new CountingConverter();
+        CachingConverter<String, Integer> cache = new CachingConverter<>(converter, 2, null, 1);
+
+        cache.convert("1");
+        cache.convert("2");
+        cache.convert("1");
+        cache.convert("3");
+        cache.convert("1");
+        assertEquals(3, converter.convertCount.get());
+
+        cache.convert("2");
+        assertEquals(4, converter.convertCount.get());
+        assertEquals(2, cache.getEvictionCount());
+        assertEquals(2, cache.size());
+    }
+
+    @Test
+    void testConvert_whenManyKeys_thenSizeIsBounded() throws Exception {
+        CachingConverter<String, Integer> cache = new CachingConverter<>(new CountingConverter(), 17, null, 16);
+
+        for (int i = 0; i < 1000; ++i)
+            cache.convert(String.valueOf(i));
+
+        assertEquals(17, cache.size());
+    }
+
+    @Test
+    void testConvert_whenExpired_thenConvertAgain() throws Exception {
+        CountingConverter converter = new CountingConverter();
+        CachingConverter<String, Integer> cache = new CachingConverter<>(converter, 10, Duration.ofMillis(50));
+
+        cache.convert("1");
+        cache.convert("1");
+        assertEquals(1, converter.convertCount.get());
+
+        Thread.sleep(100);
+        cache.convert("1");
+        assertEquals(2, converter.convertCount.get());
+    }
+
+    @Test
+    void testConvert_whenConverterThrows_thenNotCached() {
+        CountingConverter converter = new CountingConverter();
+        CachingConverter<String, Integer> cache = new CachingConverter<>(converter, 10);
+
+        assertThrows(NumberFormatException.class, () -> cache.convert("x"));
+        assertThrows(NumberFormatException.class, () -> cache.convert("x"));
+        assertEquals(2, converter.convertCount.get());
+        assertThrows(UnsupportedOperationException.class, () -> new CachingConverter<String, Integer>(Integer::parseInt, 10).convertBack(1));
+    }
+
+    @Test
+    void testConvert_whenConcurrent_thenConsistent() throws Exception {
+        CachingConverter<String, Integer> cache = new CachingConverter<>(new CountingConverter(), 64);
+        ExecutorService threadPool = Executors.newFixedThreadPool(4);
+        List<Future<?>> futures = new ArrayList<>();
+
+        try {
+            for (int t = 0; t < 4; ++t)
+                futures.add(threadPool.submit(() -> {
+                    for (int i = 0; i < 10_000; ++i)
+                        assertEquals(i % 100, cache.convert(Integer.toString(i % 100)));
+
+                    return null;
+                }));
+
+            for (Future<?> future : futures)
+                future.get();
+        }
+        finally {
+            threadPool.shutdown();
+        }
+
+        assertEquals(40_000, cache.getHitCount() + cache.getMissCount());
+        assertTrue(cache.size() <= 64);
+    }
+
+    @Test
+    void testConstructor_whenInvalidArguments_thenThrowIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new CachingConverter<>(new CountingConverter(), 0));
+        assertThrows(IllegalArgumentException.class, () -> new CachingConverter<>(new CountingConverter(), 1, Duration.ofSeconds(-1)));
+        assertThrows(IllegalArgumentException.class, () -> new CachingConverter<>(new CountingConverter(), 1, null, 0));
+    }
+}
@@ -0,0 +1,85 @@
+package org.csystem.util.converter;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ParallelConverterTest {
+    private static final int COUNT = 100_000;
+
+    @Test
+    void testPrimitiveConvertAll() throws Exception {
+        IIntToLongConverter converter = val -> val * 3L;
+        int[] src = {1, 2, 3, 4};
+        long[] dst = new long[6];
+
+        converter.convertAll(src, 1, dst, 2, 3);
+        assertArrayEquals(new long[]{0, 0, 6, 9, 12, 0}, dst);
+        assertArrayEquals(new long[]{3, 6, 9, 12}, converter.convertAll(src));
+        assertThrows(IndexOutOfBoundsException.class, () -> converter.convertAll(src, 2, dst, 0, 3));
+    }
+
+    @Test
+    void testBoxedConvertAllAndConvertBackAll() throws Exception {
+        IIntConverter<String> converter = new IIntConverter<>() {
+            @Override
+            public String convert(int val) {
+                return Integer.toString(val);
+            }
+
+            @Override
+            public int convertBack(String r) {
+                return Integer.parseInt(r);
+            }
+        };
+        int[] src = {10, -20, 30};
+        String[] strings = new String[3];
+        int[] back = new int[3];
+
+        converter.convertAll(src, strings);
+        converter.convertBackAll(strings, 0, back, 0, strings.length);
+        assertArrayEquals(new String[]{"10", "-20", "30"}, strings);
+        assertArrayEquals(src, back);
+    }
+
+    @Test
+    void testParallelConvertAll_sameAsSequential() throws Exception {
+        int[] ints = IntStream.range(0, COUNT).toArray();
+        long[] longs = new long[COUNT];
+        double[] doubles = new double[COUNT];
+        Integer[] boxed = new Integer[COUNT];
+
+        ParallelConverter.convertAll(val -> (long)val * val, ints, longs, 1000);
+        ParallelConverter.convertAll(val -> val / 2.0, ints, doubles);
+        ParallelConverter.convertAll((IConverter<Long, Integer>)val -> (int)(val % 7), IntStream.range(0, COUNT).mapToObj(i -> (long)i).toArray(Long[]::new), boxed, 333);
+
+        for (int i = 0; i < COUNT; ++i) {
+            assertEquals((long)i * i, longs[i]);
+            assertEquals(i / 2.0, doubles[i]);
+            assertEquals(i % 7, boxed[i]);
+        }
+    }
+
+    @Test
+    void testParallelConvertAll_whenConverterThrows_thenThrowFirstException() {
+        int[] ints = IntStream.range(0, COUNT).toArray();
+        long[] longs = new long[COUNT];
+
+        IOException ex = assertThrows(IOException.class, () -> ParallelConverter.convertAll(val -> {
+            if (val % 10_000 == 5_000)
+                throw new IOException("Failed at " + val);
+
+            return val;
+        }, ints, longs, 1000));
+        assertEquals("Failed at 5000", ex.getMessage());
+    }
+
+    @Test
+    void testParallelConvertAll_whenInvalidArguments_thenThrow() {
+        assertThrows(IndexOutOfBoundsException.class, () -> ParallelConverter.convertAll(val -> (long)val, new int[3], new long[2]));
+        assertThrows(IllegalArgumentException.class, () -> ParallelConverter.convertAll(val -> (long)val, new int[3], new long[3], 0));
+    }
+}
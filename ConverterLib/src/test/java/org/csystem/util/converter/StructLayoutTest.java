@@ -0,0 +1,161 @@
+package org.csystem.util.converter;
+
+import org.junit.jupiter.api.Test;
+
+import java.lang.invoke.MethodHandles;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StructLayoutTest {
+    static class Header {
+        @StructField(order = 0)
+        int id;
+
+        @StructField(order = 1)
+        long timestamp;
+
+        @StructField(order = 2)
+        short flags;
+
+        @StructField(order = 4, length = 8)
+        String name;
+
+        @StructField(order = 3)
+        double value;
+
+        @StructField(order = 5)
+        boolean active;
+
+        int ignored;
+
+        int getId() {
+            return id;
+        }
+
+        void setId(int id) {
+            this.id = id;
+        }
+
+        long getTimestamp() {
+            return timestamp;
+        }
+
+        void setTimestamp(long timestamp) {
+            this.timestamp = timestamp;
+        }
+
+        String getName() {
+            return name;
+        }
+
+        void setName(String name) {
+            this.name = name;
+        }
+    }
+
+    static class InvalidHeader {
+        @StructField(order = 0)
+        Object value;
+    }
+
+    private static Header createHeader() {
+        Header header = new Header();
+
+        header.id = 42;
+        header.timestamp = 1_700_000_000_000L;
+        header.flags = (short)0xBEEF;
+        header.name = "şeker";
+        header.value = Math.PI;
+        header.active = true;
+        header.ignored = 7;
+
+        return header;
+    }
+
+    @Test
+    void testBuilder_offsetsAndSameAsHandWritten() {
+        StructLayout<Header> layout = StructLayout.builder(Header::new)
+                .intField("id", Header::getId, Header::setId)
+                .padding(4)
+                .longField("timestamp", Header::getTimestamp, Header::setTimestamp)
+                .stringField("name", 8, StandardCharsets.UTF_8, Header::getName, Header::setName)
+                .build();
+        Header header = createHeader();
+        byte[] data = new byte[layout.getSize() + 2];
+
+        assertEquals(24, layout.getSize());
+        assertEquals(8, layout.getOffset("timestamp"));
+        assertEquals(26, layout.write(header, data, 2));
+        assertEquals(42, BitConverter.toInt(data, 2));
+        assertEquals(0, BitConverter.toInt(data, 6));
+        assertEquals(header.timestamp, BitConverter.toLong(data, 10));
+
+        Header result = layout.read(data, 2);
+        assertEquals(header.id, result.id);
+        assertEquals(header.timestamp, result.timestamp);
+        assertEquals(header.name, result.name);
+        assertThrows(IllegalArgumentException.class, () -> layout.getOffset("value"));
+    }
+
+    @Test
+    void testOf_roundTrip() {
+        StructLayout<Header> layout = StructLayout.of(Header.class, MethodHandles.lookup());
+        Header header = createHeader();
+        byte[] data = layout.toBytes(header);
+
+        assertEquals(4 + 8 + 2 + 8 + 8 + 1, layout.getSize());
+        assertEquals(22, layout.getOffset("name"));
+        assertEquals(14, layout.getOffset("value"));
+
+        Header result = layout.read(data, 0);
+        assertEquals(header.id, result.id);
+        assertEquals(header.timestamp, result.timestamp);
+        assertEquals(header.flags, result.flags);
+        assertEquals(header.name, result.name);
+        assertEquals(header.value, result.value);
+        assertTrue(result.active);
+        assertEquals(0, result.ignored);
+    }
+
+    @Test
+    void testByteBuffer_littleEndian() {
+        StructLayout<Header> layout = StructLayout.builder(Header::new)
+                .byteOrder(ByteOrder.LITTLE_ENDIAN)
+                .intField("id", Header::getId, Header::setId)
+                .build();
+        ByteBuffer heap = ByteBuffer.allocate(7);
+        ByteBuffer direct = ByteBuffer.allocateDirect(4);
+        Header header = createHeader();
+
+        heap.put((byte)1);
+        layout.write(header, heap);
+        layout.write(header, direct);
+        assertEquals(5, heap.position());
+        assertEquals(42, heap.order(ByteOrder.LITTLE_ENDIAN).getInt(1));
+
+        heap.position(1);
+        direct.flip();
+        assertEquals(42, layout.read(heap).id);
+        assertEquals(42, layout.read(direct).id);
+        assertThrows(BufferUnderflowException.class, () -> layout.read(heap));
+    }
+
+    @Test
+    void testWrite_whenInvalid_thenThrow() {
+        StructLayout<Header> layout = StructLayout.builder(Header::new)
+                .stringField("name", 4, StandardCharsets.UTF_8, Header::getName, Header::setName)
+                .build();
+        Header header = createHeader();
+
+        assertThrows(IllegalArgumentException.class, () -> layout.toBytes(header));
+        assertThrows(IndexOutOfBoundsException.class, () -> layout.read(new byte[3], 0));
+        assertThrows(IllegalArgumentException.class, () -> StructLayout.builder(Header::new)
+                .intField("id", Header::getId, Header::setId)
+                .intField("id", Header::getId, Header::setId));
+        assertThrows(IllegalArgumentException.class, () -> StructLayout.of(InvalidHeader.class, MethodHandles.lookup()));
+    }
+}
@@ -0,0 +1,118 @@
+package org.csystem.util.converter;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class VarIntConverterTest {
+    @Test
+    void testZigZag() {
+        assertEquals(0, VarIntConverter.zigZagEncode(0));
+        assertEquals(1, VarIntConverter.zigZagEncode(-1));
+        assertEquals(2, VarIntConverter.zigZagEncode(1));
+        assertEquals(-1, VarIntConverter.zigZagEncode(Integer.MIN_VALUE));
+        assertEquals(Integer.MAX_VALUE, VarIntConverter.zigZagDecode(VarIntConverter.zigZagEncode(Integer.MAX_VALUE)));
+        assertEquals(Long.MIN_VALUE, VarIntConverter.zigZagDecode(VarIntConverter.zigZagEncode(Long.MIN_VALUE)));
+        assertEquals(3L, VarIntConverter.zigZagEncode(-2L));
+    }
+
+    @Test
+    void testPutAndToVarInt() {
+        int[] values = {0, 1, 127, 128, 300, 16383, 16384, Integer.MAX_VALUE, -1, Integer.MIN_VALUE};
+        byte[] buffer = new byte[VarIntConverter.MAX_INT_SIZE + 1];
+
+        for (int value : values) {
+            int offset = VarIntConverter.putVarInt(buffer, 1, value);
+
+            assertEquals(1 + VarIntConverter.getSize(value), offset);
+            assertEquals(value, VarIntConverter.toVarInt(buffer, 1));
+        }
+
+        VarIntConverter.putVarInt(buffer, 0, 300);
+        assertArrayEquals(new byte[]{(byte)0xAC, 0x02}, new byte[]{buffer[0], buffer[1]});
+    }
+
+    @Test
+    void testPutAndToVarLong() {
+        long[] values = {0, 1, 127, 128, 1L << 35, Long.MAX_VALUE, -1, Long.MIN_VALUE};
+        byte[] buffer = new byte[VarIntConverter.MAX_LONG_SIZE];
+
+        for (long value : values) {
+            assertEquals(VarIntConverter.getSize(value), VarIntConverter.putVarLong(buffer, 0, value));
+            assertEquals(value, VarIntConverter.toVarLong(buffer, 0));
+        }
+    }
+
+    @Test
+    void testZigZagInts_smallValuesTakeOneByte() {
+        int[] values = {0, -1, 5, -64, 63, 1000, -1000};
+        byte[] buffer = new byte[values.length * VarIntConverter.MAX_INT_SIZE];
+        int length = VarIntConverter.putZigZagInts(values, 0, values.length, buffer, 0);
+        int[] result = new int[values.length];
+
+        assertEquals(5 + 2 * 2, length);
+        assertEquals(length, VarIntConverter.toZigZagInts(buffer, 0, result, 0, result.length));
+        assertArrayEquals(values, result);
+    }
+
+    @Test
+    void testZigZagLongs() {
+        long[] values = {0, -1, Long.MAX_VALUE, Long.MIN_VALUE, 123456789012L};
+        byte[] buffer = new byte[values.length * VarIntConverter.MAX_LONG_SIZE];
+        long[] result = new long[values.length + 1];
+        int length = VarIntConverter.putZigZagLongs(values, 0, values.length, buffer, 0);
+
+        assertEquals(length, VarIntConverter.toZigZagLongs(buffer, 0, result, 1, values.length));
+        assertEquals(-1, VarIntConverter.toZigZagLong(buffer, 1));
+        assertArrayEquals(values, Arrays.copyOfRange(result, 1, result.length));
+    }
+
+    @Test
+    void testMalformedAndTruncated() {
+        byte[] tooLong = {(byte)0x80, (byte)0x80, (byte)0x80, (byte)0x80, (byte)0x80, 0x01};
+
+        assertThrows(IllegalArgumentException.class, () -> VarIntConverter.toVarInt(tooLong, 0));
+        assertThrows(IndexOutOfBoundsException.class, () -> VarIntConverter.toVarInt(new byte[]{(byte)0x80}, 0));
+    }
+
+    @Test
+    void testNonCanonical() {
+        byte[] overlongZero = {(byte)0x80, 0x00, 0x02};
+        byte[] intOverflow = {(byte)0xFF, (byte)0xFF, (byte)0xFF, (byte)0xFF, 0x1F};
+        byte[] longOverflow = {(byte)0xFF, (byte)0xFF, (byte)0xFF, (byte)0xFF, (byte)0xFF,
+                (byte)0xFF, (byte)0xFF, (byte)0xFF, (byte)0xFF, 0x03};
+
+        assertThrows(IllegalArgumentException.class, () -> VarIntConverter.toVarInt(overlongZero, 0));
+        assertThrows(IllegalArgumentException.class, () -> VarIntConverter.toVarLong(overlongZero, 0));
+        assertThrows(IllegalArgumentException.class, () -> VarIntConverter.toZigZagInts(overlongZero, 0, new int[2], 0, 2));
+        assertThrows(IllegalArgumentException.class, () -> VarIntConverter.toZigZagLongs(overlongZero, 0, new long[2], 0, 2));
+        assertThrows(IllegalArgumentException.class, () -> VarIntConverter.toVarInt(intOverflow, 0));
+        assertThrows(IllegalArgumentException.class, () -> VarIntConverter.toVarLong(longOverflow, 0));
+        assertThrows(IOException.class, () -> VarIntConverter.readVarInt(new ByteArrayInputStream(intOverflow)));
+        assertThrows(IOException.class, () -> VarIntConverter.readVarLong(new ByteArrayInputStream(overlongZero)));
+        assertEquals(-1, VarIntConverter.toVarInt(new byte[]{(byte)0xFF, (byte)0xFF, (byte)0xFF, (byte)0xFF, 0x0F}, 0));
+        assertEquals(0, VarIntConverter.toVarInt(new byte[]{0x00}, 0));
+    }
+
+    @Test
+    void testWriteAndReadStream() throws IOException {
+        ByteArrayOutputStream os = new ByteArrayOutputStream();
+
+        VarIntConverter.writeVarInt(os, 300);
+        VarIntConverter.writeVarLong(os, Long.MIN_VALUE);
+        os.write(42);
+
+        ByteArrayInputStream is = new ByteArrayInputStream(os.toByteArray());
+
+        assertEquals(300, VarIntConverter.readVarInt(is));
+        assertEquals(Long.MIN_VALUE, VarIntConverter.readVarLong(is));
+        assertEquals(42, is.read());
+        assertThrows(EOFException.class, () -> VarIntConverter.readVarInt(is));
+    }
+}
@@ -0,0 +1,218 @@
+package org.csystem.util.converter.benchmark;
+
+import org.csystem.util.converter.BitConverter;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH benchmarks that compare the {@link BitConverter} VarHandle paths with the former ByteBuffer based ones.
+ * Run with {@code mvn test-compile exec:exec -Dexec.executable=java -Dexec.classpathScope=test
+ * "-Dexec.args=-cp %classpath org.csystem.util.converter.benchmark.BitConverterBenchmark [result.json]"},
+ * the results are written as JSON (default {@code target/jmh-bitconverter-result.json})
+ */
+@State(Scope.Thread)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class BitConverterBenchmark {
+    private int m_intValue = 0x12345678;
+    private long m_longValue = 0x123456789ABCDEFL;
+    private double m_doubleValue = Math.PI;
+    private byte [] m_buffer;
+    private int [] m_ints;
+    private String m_text;
+    private char [] m_chars;
+    private int m_textLength;
+
+    @Param({"1024", "262144"})
+    public int count;
+
+    @Param({"true", "false"})
+    public boolean ascii;
+
+    @Setup
+    public void setUp()
+    {
+        m_ints = new int[count];
+        m_buffer = new byte[count * Long.BYTES];
+
+        for (var i = 0; i < count; ++i)
+            m_ints[i] = i * 31;
+
+        for (var i = 0; i < m_buffer.length; ++i)
+            m_buffer[i] = (byte)i;
+
+        m_text = (ascii ? "BitConverter " : "Bit\u00c7onvert\u00e9r ").repeat(count / 13 + 1).substring(0, count);
+        m_chars = new char[count];
+        m_textLength = BitConverter.putUtf8(m_buffer, 0, m_text);
+    }
+
+    @Benchmark
+    public byte [] getBytesIntByteBuffer()
+    {
+        return ByteBuffer.allocate(4).putInt(m_intValue).array();
+    }
+
+    @Benchmark
+    public byte [] getBytesInt()
+    {
+        return BitConverter.getBytes(m_intValue);
+    }
+
+    @Benchmark
+    public long toLongByteBuffer()
+    {
+        return ByteBuffer.wrap(m_buffer, 8, 8).getLong();
+    }
+
+    @Benchmark
+    public long toLong()
+    {
+        return BitConverter.toLong(m_buffer, 8);
+    }
+
+    @Benchmark
+    public int putLongAndDoubleByteBuffer()
+    {
+        return ByteBuffer.wrap(m_buffer, 0, 16).putLong(m_longValue).putDouble(m_doubleValue).position();
+    }
+
+    @Benchmark
+    public int putLongAndDouble()
+    {
+        return BitConverter.putDouble(m_buffer, BitConverter.putLong(m_buffer, 0, m_longValue), m_doubleValue);
+    }
+
+    @Benchmark
+    public int toLittleEndianByteBuffer()
+    {
+        return ByteBuffer.allocate(4).putInt(m_intValue).order(ByteOrder.LITTLE_ENDIAN).getInt(0);
+    }
+
+    @Benchmark
+    public int toLittleEndian()
+    {
+        return BitConverter.toLittleEndian(m_intValue);
+    }
+
+    @Benchmark
+    public byte [] getBytesIntArrayByteBuffer()
+    {
+        var bb = ByteBuffer.allocate(m_ints.length * Integer.BYTES);
+
+        for (var value : m_ints)
+            bb.putInt(value);
+
+        return bb.array();
+    }
+
+    @Benchmark
+    public byte [] getBytesIntArray()
+    {
+        return BitConverter.getBytes(m_ints);
+    }
+
+    @Benchmark
+    public int [] toIntArrayByteBuffer()
+    {
+        var result = new int[count];
+
+        for (int i = 0, idx = 0; i < count; ++i, idx += Integer.BYTES)
+            result[i] = ByteBuffer.wrap(m_buffer, idx, 4).getInt();
+
+        return result;
+    }
+
+    @Benchmark
+    public int [] toIntArray()
+    {
+        return BitConverter.toIntArray(m_buffer, count);
+    }
+
+    @Benchmark
+    public int getBytesIntArrayLittleEndianElementwise()
+    {
+        var offset = 0;
+
+        for (var value : m_ints)
+            offset = BitConverter.putInt(m_buffer, offset, value, ByteOrder.LITTLE_ENDIAN);
+
+        return offset;
+    }
+
+    @Benchmark
+    public int getBytesIntArrayLittleEndianBulk()
+    {
+        return BitConverter.getBytes(m_ints, 0, count, m_buffer, 0, ByteOrder.LITTLE_ENDIAN);
+    }
+
+    @Benchmark
+    public int toIntArrayLittleEndianElementwise()
+    {
+        var offset = 0;
+
+        for (var i = 0; i < count; ++i, offset += Integer.BYTES)
+            m_ints[i] = BitConverter.toInt(m_buffer, offset, ByteOrder.LITTLE_ENDIAN);
+
+        return offset;
+    }
+
+    @Benchmark
+    public int toIntArrayLittleEndianBulk()
+    {
+        return BitConverter.toIntArray(m_buffer, 0, m_ints, 0, count, ByteOrder.LITTLE_ENDIAN);
+    }
+
+    public static void main(String[] args) throws RunnerException
+    {
+        var options = new OptionsBuilder()
+                .include(BitConverterBenchmark.class.getSimpleName())
+                .resultFormat(ResultFormatType.JSON)
+                .result(args.length > 0 ? args[0] : "target/jmh-bitconverter-result.json")
+                .build();
+
+        new Runner(options).run();
+    }
+
+    @Benchmark
+    public int putStringUtf8ViaGetBytes()
+    {
+        var data = m_text.getBytes(StandardCharsets.UTF_8);
+
+        System.arraycopy(data, 0, m_buffer, 0, data.length);
+
+        return data.length;
+    }
+
+    @Benchmark
+    public int putStringUtf8()
+    {
+        return BitConverter.putUtf8(m_buffer, 0, m_text);
+    }
+
+    @Benchmark
+    public int toCharsUtf8ViaString()
+    {
+        var str = new String(m_buffer, 0, m_textLength, StandardCharsets.UTF_8);
+
+        str.getChars(0, str.length(), m_chars, 0);
+
+        return str.length();
+    }
+
+    @Benchmark
+    public int toCharsUtf8()
+    {
+        return BitConverter.toChars(m_buffer, 0, m_textLength, m_chars, 0, StandardCharsets.UTF_8);
+    }
+}
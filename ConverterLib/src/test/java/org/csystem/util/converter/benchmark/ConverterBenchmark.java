@@ -0,0 +1,81 @@
+package org.csystem.util.converter.benchmark;
+
+import org.csystem.util.converter.IIntConverter;
+import org.csystem.util.converter.IIntToLongConverter;
+import org.csystem.util.converter.ParallelConverter;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH benchmarks that compare boxed element by element conversion with the primitive batch and parallel ones.
+ * Run with {@code mvn test-compile exec:exec -Dexec.executable=java -Dexec.classpathScope=test
+ * "-Dexec.args=-cp %classpath org.csystem.util.converter.benchmark.ConverterBenchmark [result.json]"},
+ * the results are written as JSON (default {@code target/jmh-converter-result.json})
+ */
+@State(Scope.Thread)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ConverterBenchmark {
+    private static final IIntConverter<Long> BOXED_CONVERTER = val -> val * 31L + 7;
+    private static final IIntToLongConverter CONVERTER = val -> val * 31L + 7;
+    private int [] m_ints;
+    private long [] m_longs;
+    private Long [] m_boxedLongs;
+
+    @Param({"1024", "1048576"})
+    public int count;
+
+    @Setup
+    public void setUp()
+    {
+        m_ints = new int[count];
+        m_longs = new long[count];
+        m_boxedLongs = new Long[count];
+
+        for (var i = 0; i < count; ++i)
+            m_ints[i] = i;
+    }
+
+    @Benchmark
+    public Long [] convertBoxed() throws Exception
+    {
+        BOXED_CONVERTER.convertAll(m_ints, m_boxedLongs);
+
+        return m_boxedLongs;
+    }
+
+    @Benchmark
+    public long [] convertPrimitive() throws Exception
+    {
+        CONVERTER.convertAll(m_ints, 0, m_longs, 0, count);
+
+        return m_longs;
+    }
+
+    @Benchmark
+    public long [] convertPrimitiveParallel() throws Exception
+    {
+        ParallelConverter.convertAll(CONVERTER, m_ints, m_longs);
+
+        return m_longs;
+    }
+
+    public static void main(String[] args) throws RunnerException
+    {
+        var options = new OptionsBuilder()
+                .include(ConverterBenchmark.class.getSimpleName())
+                .resultFormat(ResultFormatType.JSON)
+                .result(args.length > 0 ? args[0] : "target/jmh-converter-result.json")
+                .build();
+
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,144 @@
+package org.csystem.util.converter.benchmark;
+
+import org.csystem.util.converter.BitConverter;
+import org.csystem.util.converter.StructField;
+import org.csystem.util.converter.StructLayout;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Field;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH benchmarks that compare decoding a record with hand written {@link BitConverter} calls, {@link StructLayout}s
+ * and reflection. Run with {@code mvn test-compile exec:exec -Dexec.executable=java -Dexec.classpathScope=test
+ * "-Dexec.args=-cp %classpath org.csystem.util.converter.benchmark.StructLayoutBenchmark [result.json]"},
+ * the results are written as JSON (default {@code target/jmh-structlayout-result.json})
+ */
+@State(Scope.Thread)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class StructLayoutBenchmark {
+    public static class Record {
+        @StructField(order = 0)
+        public int id;
+
+        @StructField(order = 1)
+        public long timestamp;
+
+        @StructField(order = 2)
+        public double value;
+
+        @StructField(order = 3)
+        public int count;
+    }
+
+    private static final StructLayout<Record> BUILDER_LAYOUT = StructLayout.builder(Record::new)
+            .intField("id", r -> r.id, (r, v) -> r.id = v)
+            .longField("timestamp", r -> r.timestamp, (r, v) -> r.timestamp = v)
+            .doubleField("value", r -> r.value, (r, v) -> r.value = v)
+            .intField("count", r -> r.count, (r, v) -> r.count = v)
+            .build();
+    private static final StructLayout<Record> ANNOTATION_LAYOUT = StructLayout.of(Record.class, MethodHandles.lookup());
+    private Field [] m_fields;
+    private byte [] m_data;
+    private Record m_record;
+
+    @Setup
+    public void setUp() throws NoSuchFieldException
+    {
+        m_fields = new Field[] {Record.class.getField("id"), Record.class.getField("timestamp"),
+                Record.class.getField("value"), Record.class.getField("count")};
+        m_record = new Record();
+        m_record.id = 42;
+        m_record.timestamp = System.currentTimeMillis();
+        m_record.value = Math.E;
+        m_record.count = 7;
+        m_data = BUILDER_LAYOUT.toBytes(m_record);
+    }
+
+    @Benchmark
+    public Record readHandWritten()
+    {
+        var record = new Record();
+
+        record.id = BitConverter.toInt(m_data, 0);
+        record.timestamp = BitConverter.toLong(m_data, 4);
+        record.value = BitConverter.toDouble(m_data, 12);
+        record.count = BitConverter.toInt(m_data, 20);
+
+        return record;
+    }
+
+    @Benchmark
+    public Record readBuilderLayout()
+    {
+        return BUILDER_LAYOUT.read(m_data, 0);
+    }
+
+    @Benchmark
+    public Record readAnnotationLayout()
+    {
+        return ANNOTATION_LAYOUT.read(m_data, 0);
+    }
+
+    @Benchmark
+    public Record readReflection() throws IllegalAccessException
+    {
+        var record = new Record();
+        var offset = 0;
+
+        for (var field : m_fields) {
+            var type = field.getType();
+
+            if (type == int.class) {
+                field.setInt(record, BitConverter.toInt(m_data, offset));
+                offset += Integer.BYTES;
+            }
+            else if (type == long.class) {
+                field.setLong(record, BitConverter.toLong(m_data, offset));
+                offset += Long.BYTES;
+            }
+            else {
+                field.setDouble(record, BitConverter.toDouble(m_data, offset));
+                offset += Double.BYTES;
+            }
+        }
+
+        return record;
+    }
+
+    @Benchmark
+    public byte [] writeBuilderLayout()
+    {
+        BUILDER_LAYOUT.write(m_record, m_data, 0);
+
+        return m_data;
+    }
+
+    @Benchmark
+    public byte [] writeAnnotationLayout()
+    {
+        ANNOTATION_LAYOUT.write(m_record, m_data, 0);
+
+        return m_data;
+    }
+
+    public static void main(String[] args) throws RunnerException
+    {
+        var options = new OptionsBuilder()
+                .include(StructLayoutBenchmark.class.getSimpleName())
+                .resultFormat(ResultFormatType.JSON)
+                .result(args.length > 0 ? args[0] : "target/jmh-structlayout-result.json")
+                .build();
+
+        new Runner(options).run();
+    }
+}
@@ -10,6 +10,8 @@
 -----------------------------------------------------------------------*/
 package com.karandev.util.net;
 
+import org.csystem.util.converter.BitConverter;
+
 public final class EndianConverter {
     private EndianConverter()
     {
@@ -1,7 +1,7 @@
 /*----------------------------------------------------------------------
     FILE        : IpUtil.java
     AUTHOR      : Oğuz Karan
-    LAST UPDATE : 13th Mar 2024
+    LAST UPDATE : 19th Oct 2026
 
     Utility class for IP family
 
@@ -12,6 +12,7 @@ package com.karandev.util.net;
 
 import java.io.IOException;
 import java.net.ServerSocket;
+import java.util.Optional;
 import java.util.OptionalInt;
 
 public final class IpUtil {
@@ -31,22 +32,26 @@ public final class IpUtil {
         return result;
     }
 
+    /**
+     * Returns the first available port in the given range probing the ports concurrently.
+     * The port is released before returning, use {@link #reservePort(int, int)} to keep it bound
+     */
     public static OptionalInt getFirstAvailablePort(int minPort, int maxPort)
     {
-        for (var port = minPort; port <= maxPort; ++port)
-            if (isPortAvailable(port))
-                return OptionalInt.of(port);
-
-        return OptionalInt.empty();
+        return PortScanner.findFirstAvailable(minPort, maxPort);
     }
 
-
     public static OptionalInt getFirstAvailablePort(int...ports)
     {
-        for (var port : ports)
-            if (isPortAvailable(port))
-                return OptionalInt.of(port);
+        return PortScanner.findFirstAvailable(ports);
+    }
 
-        return OptionalInt.empty();
+    /**
+     * Binds a ServerSocket to the first available port in the given range. Since the socket is kept bound
+     * the port can not be taken by another process before it is used. The caller must close the socket
+     */
+    public static Optional<ServerSocket> reservePort(int minPort, int maxPort)
+    {
+        return PortScanner.reserve(minPort, maxPort);
     }
 }
@@ -0,0 +1,273 @@
+/*----------------------------------------------------------------------
+    FILE        : PortScanner.java
+    AUTHOR      : Oğuz Karan
+    LAST UPDATE : 19th Oct 2026
+
+    Utility class that finds available ports by binding ServerSocket
+    objects concurrently. Ports are probed in ascending windows of
+    bounded size, so the result is the first available port of the
+    range deterministically. The winning socket is kept bound and
+    returned as a reservation
+
+    Copyleft (c) 1993 by C and System Programmers Association (CSD)
+    All Rights Free
+-----------------------------------------------------------------------*/
+package com.karandev.util.net;
+
+import com.karandev.util.net.exception.NetworkException;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.concurrent.*;
+import java.util.function.IntUnaryOperator;
+
+public final class PortScanner {
+    public static final int DEFAULT_PARALLELISM = 32;
+    private static final int MAX_PORT = 65535;
+
+    private static class ExecutorHolder {
+        private static final ExecutorService INSTANCE = Executors.newCachedThreadPool(r -> {
+            var thread = new Thread(r, "PortScanner-probe");
+
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    private PortScanner() {}
+
+    private static void checkPort(int port)
+    {
+        if (port < 0 || port > MAX_PORT)
+            throw new IllegalArgumentException("Port numbers must be in range 0-65535");
+    }
+
+    private static void checkParallelism(int parallelism)
+    {
+        if (parallelism < 1)
+            throw new IllegalArgumentException("parallelism must be positive");
+    }
+
+    private static void closeQuietly(ServerSocket serverSocket)
+    {
+        try {
+            if (serverSocket != null)
+                serverSocket.close();
+        }
+        catch (IOException ignore) {
+
+        }
+    }
+
+    private static ServerSocket tryBind(int port, int backlog)
+    {
+        try {
+            return backlog != -1 ? new ServerSocket(port, backlog) : new ServerSocket(port);
+        }
+        catch (IOException ignore) {
+            return null;
+        }
+    }
+
+    private static void closeWhenDone(List<CompletableFuture<ServerSocket>> futures)
+    {
+        //The probes can not be interrupted, the sockets they bind are closed as they finish
+        for (var future : futures)
+            future.thenAccept(PortScanner::closeQuietly);
+    }
+
+    private static OptionalInt release(Optional<ServerSocket> serverSocket)
+    {
+        if (serverSocket.isEmpty())
+            return OptionalInt.empty();
+
+        var port = serverSocket.get().getLocalPort();
+
+        closeQuietly(serverSocket.get());
+
+        return OptionalInt.of(port);
+    }
+
+    private static Optional<ServerSocket> scan(int count, IntUnaryOperator portAt, int backlog, int parallelism)
+    {
+        if (count <= 0)
+            return Optional.empty();
+
+        if (count == 1)
+            return Optional.ofNullable(tryBind(portAt.applyAsInt(0), backlog));
+
+        var futures = new ArrayList<CompletableFuture<ServerSocket>>(Math.min(parallelism, count));
+
+        for (var start = 0; start < count; start += parallelism) {
+            futures.clear();
+
+            ServerSocket result = null;
+            var index = 0;
+
+            try {
+                for (var i = start; i < Math.min(count, start + parallelism); ++i) {
+                    var port = portAt.applyAsInt(i);
+
+                    futures.add(CompletableFuture.supplyAsync(() -> tryBind(port, backlog), ExecutorHolder.INSTANCE));
+                }
+
+                //The futures are in the order of the ports, the first bound one wins and the others are released
+                for (; index < futures.size(); ++index) {
+                    var serverSocket = futures.get(index).get();
+
+                    if (result == null)
+                        result = serverSocket;
+                    else
+                        closeQuietly(serverSocket);
+                }
+            }
+            catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                closeQuietly(result);
+                closeWhenDone(futures.subList(index, futures.size()));
+                throw new NetworkException("PortScanner.scan", ex);
+            }
+            catch (ExecutionException ex) {
+                closeQuietly(result);
+                closeWhenDone(futures.subList(index, futures.size()));
+                throw new NetworkException("PortScanner.scan", ex.getCause());
+            }
+            catch (RejectedExecutionException ex) {
+                closeWhenDone(futures);
+                throw new NetworkException("PortScanner.scan", ex);
+            }
+
+            if (result != null)
+                return Optional.of(result);
+        }
+
+        return Optional.empty();
+    }
+
+    /**
+     * <p>Binds a ServerSocket to the first available port in the given {@code minPort}, {@code maxPort} (inclusive)
+     * range probing at most {@code parallelism} ports concurrently. The returned socket is kept bound, so the port
+     * can not be taken by another process between the probe and its use. The caller owns and must close it</p>
+     *
+     * @param backlog requested maximum length of the queue of incoming connections, -1 for the default value
+     * @param minPort minimum value for the port number
+     * @param maxPort maximum value for the port number
+     * @param parallelism the max number of concurrent bind probes
+     * @return an Optional bound ServerSocket, or empty optional if all the ports are busy
+     * @throws IllegalArgumentException if the provided port numbers are outside the valid range
+     * @throws NetworkException if the scan is interrupted
+     */
+    public static Optional<ServerSocket> reserve(int backlog, int minPort, int maxPort, int parallelism)
+    {
+        checkParallelism(parallelism);
+
+        if (minPort > maxPort)
+            return Optional.empty();
+
+        checkPort(minPort);
+        checkPort(maxPort);
+
+        return scan(maxPort - minPort + 1, i -> minPort + i, backlog, parallelism);
+    }
+
+    /**
+     * <p>Binds a ServerSocket to the first available port in the given {@code minPort}, {@code maxPort} (inclusive)
+     * range probing at most {@link #DEFAULT_PARALLELISM} ports concurrently. The caller owns and must close the
+     * returned socket</p>
+     *
+     * @param backlog requested maximum length of the queue of incoming connections, -1 for the default value
+     * @param minPort minimum value for the port number
+     * @param maxPort maximum value for the port number
+     * @return an Optional bound ServerSocket, or empty optional if all the ports are busy
+     * @throws IllegalArgumentException if the provided port numbers are outside the valid range
+     * @throws NetworkException if the scan is interrupted
+     */
+    public static Optional<ServerSocket> reserve(int backlog, int minPort, int maxPort)
+    {
+        return reserve(backlog, minPort, maxPort, DEFAULT_PARALLELISM);
+    }
+
+    /**
+     * <p>Binds a ServerSocket with the default backlog to the first available port in the given {@code minPort},
+     * {@code maxPort} (inclusive) range. The caller owns and must close the returned socket</p>
+     *
+     * @param minPort minimum value for the port number
+     * @param maxPort maximum value for the port number
+     * @return an Optional bound ServerSocket, or empty optional if all the ports are busy
+     * @throws IllegalArgumentException if the provided port numbers are outside the valid range
+     * @throws NetworkException if the scan is interrupted
+     */
+    public static Optional<ServerSocket> reserve(int minPort, int maxPort)
+    {
+        return reserve(-1, minPort, maxPort);
+    }
+
+    /**
+     * <p>Binds a ServerSocket to the first available port of the given {@code ports} in their order
+     * probing at most {@code parallelism} ports concurrently. The caller owns and must close the returned socket</p>
+     *
+     * @param backlog requested maximum length of the queue of incoming connections, -1 for the default value
+     * @param parallelism the max number of concurrent bind probes
+     * @param ports the port numbers
+     * @return an Optional bound ServerSocket, or empty optional if all the ports are busy
+     * @throws IllegalArgumentException if the provided port numbers are outside the valid range
+     * @throws NetworkException if the scan is interrupted
+     */
+    public static Optional<ServerSocket> reserveAny(int backlog, int parallelism, int [] ports)
+    {
+        checkParallelism(parallelism);
+
+        for (var port : ports)
+            checkPort(port);
+
+        return scan(ports.length, i -> ports[i], backlog, parallelism);
+    }
+
+    /**
+     * <p>Binds a ServerSocket to the first available port of the given {@code ports} in their order
+     * probing at most {@link #DEFAULT_PARALLELISM} ports concurrently. The caller owns and must close the returned
+     * socket</p>
+     *
+     * @param backlog requested maximum length of the queue of incoming connections, -1 for the default value
+     * @param ports the port numbers
+     * @return an Optional bound ServerSocket, or empty optional if all the ports are busy
+     * @throws IllegalArgumentException if the provided port numbers are outside the valid range
+     * @throws NetworkException if the scan is interrupted
+     */
+    public static Optional<ServerSocket> reserveAny(int backlog, int...ports)
+    {
+        return reserveAny(backlog, DEFAULT_PARALLELISM, ports);
+    }
+
+    /**
+     * <p>Returns the first available port in the given range. The port is released before returning,
+     * use {@link #reserve(int, int)} when the port must not be taken by another process before it is bound</p>
+     *
+     * @param minPort minimum value for the port number
+     * @param maxPort maximum value for the port number
+     * @return the first available port, or empty optional if all the ports are busy
+     * @throws IllegalArgumentException if the provided port numbers are outside the valid range
+     */
+    public static OptionalInt findFirstAvailable(int minPort, int maxPort)
+    {
+        return release(reserve(minPort, maxPort));
+    }
+
+    /**
+     * <p>Returns the first available port of the given {@code ports} in their order. The port is released before
+     * returning, use {@link #reserveAny(int, int...)} when the port must not be taken by another process before it
+     * is bound</p>
+     *
+     * @param ports the port numbers
+     * @return the first available port, or empty optional if all the ports are busy
+     * @throws IllegalArgumentException if the provided port numbers are outside the valid range
+     */
+    public static OptionalInt findFirstAvailable(int...ports)
+    {
+        return release(reserveAny(-1, ports));
+    }
+}
@@ -0,0 +1,257 @@
+/*----------------------------------------------------------------------
+    FILE        : PrimitiveArrayPacket.java
+    AUTHOR      : Oğuz Karan
+    LAST UPDATE : 19th Oct 2026
+
+    Package-private codec for primitive arrays carried in a single packet.
+    Packet layout: [type:1][byteOrder:1][count:4 (big endian)][elements...]
+    Elements of the varint types are zigzag and LEB128 encoded, so their
+    length depends on the values and the byte order field is unused
+
+    Copyleft (c) 1993 by C and System Programmers Association (CSD)
+    All Rights Free
+-----------------------------------------------------------------------*/
+package com.karandev.util.net;
+
+import com.karandev.util.net.exception.NetworkException;
+import org.csystem.util.converter.BitConverter;
+import org.csystem.util.converter.VarIntConverter;
+
+import java.nio.ByteOrder;
+
+final class PrimitiveArrayPacket {
+    static final int HEADER_SIZE = 6;
+
+    static final byte TYPE_SHORT = 1;
+    static final byte TYPE_INT = 2;
+    static final byte TYPE_LONG = 3;
+    static final byte TYPE_FLOAT = 4;
+    static final byte TYPE_DOUBLE = 5;
+    static final byte TYPE_CHAR = 6;
+    static final byte TYPE_VARINT = 7;
+    static final byte TYPE_VARLONG = 8;
+
+    private static final byte BIG_ENDIAN = 0;
+    private static final byte LITTLE_ENDIAN = 1;
+
+    private static void writeHeader(byte [] buffer, byte type, ByteOrder byteOrder, int count, int maxElementSize)
+    {
+        if (count < 0)
+            throw new NetworkException("Invalid count");
+
+        if (buffer.length < HEADER_SIZE + (long)count * maxElementSize)
+            throw new NetworkException("Insufficient buffer length");
+
+        buffer[0] = type;
+        buffer[1] = byteOrder == ByteOrder.LITTLE_ENDIAN ? LITTLE_ENDIAN : BIG_ENDIAN;
+        BitConverter.putInt(buffer, 2, count);
+    }
+
+    private static int readCount(byte [] buffer, int length, byte type)
+    {
+        if (length < HEADER_SIZE)
+            throw new NetworkException("Invalid data length");
+
+        if (buffer[0] != type)
+            throw new NetworkException("Invalid data type");
+
+        var count = BitConverter.toInt(buffer, 2);
+
+        if (count < 0)
+            throw new NetworkException("Invalid data length");
+
+        return count;
+    }
+
+    private static ByteOrder readByteOrder(byte [] buffer)
+    {
+        return buffer[1] == LITTLE_ENDIAN ? ByteOrder.LITTLE_ENDIAN : ByteOrder.BIG_ENDIAN;
+    }
+
+    private static int readHeader(byte [] buffer, int length, byte type, int elementSize, int capacity)
+    {
+        var count = count(buffer, length, type, elementSize);
+
+        if (count > capacity)
+            throw new NetworkException("Insufficient destination length");
+
+        return count;
+    }
+
+    private static int readVarHeader(byte [] buffer, int length, byte type, int capacity)
+    {
+        var count = readCount(buffer, length, type);
+
+        if (count > capacity)
+            throw new NetworkException("Insufficient destination length");
+
+        //Each element takes at least one byte
+        if (count > length - HEADER_SIZE)
+            throw new NetworkException("Invalid data length");
+
+        return count;
+    }
+
+    private PrimitiveArrayPacket()
+    {
+    }
+
+    static int packetLength(int count, int elementSize)
+    {
+        if (count < 0 || (Integer.MAX_VALUE - HEADER_SIZE) / elementSize < count)
+            throw new NetworkException("Invalid count");
+
+        return HEADER_SIZE + count * elementSize;
+    }
+
+    static int count(byte [] buffer, int length, byte type, int elementSize)
+    {
+        var count = readCount(buffer, length, type);
+
+        //The product is computed in long, a forged count must not wrap around to the received length
+        if (count > (length - HEADER_SIZE) / elementSize || (long)count * elementSize + HEADER_SIZE != length)
+            throw new NetworkException("Invalid data length");
+
+        return count;
+    }
+
+    static int encode(byte [] buffer, ByteOrder byteOrder, short [] values, int offset, int count)
+    {
+        writeHeader(buffer, TYPE_SHORT, byteOrder, count, Short.BYTES);
+
+        return BitConverter.getBytes(values, offset, count, buffer, HEADER_SIZE, byteOrder);
+    }
+
+    static int encode(byte [] buffer, ByteOrder byteOrder, int [] values, int offset, int count)
+    {
+        writeHeader(buffer, TYPE_INT, byteOrder, count, Integer.BYTES);
+
+        return BitConverter.getBytes(values, offset, count, buffer, HEADER_SIZE, byteOrder);
+    }
+
+    static int encode(byte [] buffer, ByteOrder byteOrder, long [] values, int offset, int count)
+    {
+        writeHeader(buffer, TYPE_LONG, byteOrder, count, Long.BYTES);
+
+        return BitConverter.getBytes(values, offset, count, buffer, HEADER_SIZE, byteOrder);
+    }
+
+    static int encode(byte [] buffer, ByteOrder byteOrder, float [] values, int offset, int count)
+    {
+        writeHeader(buffer, TYPE_FLOAT, byteOrder, count, Float.BYTES);
+
+        return BitConverter.getBytes(values, offset, count, buffer, HEADER_SIZE, byteOrder);
+    }
+
+    static int encode(byte [] buffer, ByteOrder byteOrder, double [] values, int offset, int count)
+    {
+        writeHeader(buffer, TYPE_DOUBLE, byteOrder, count, Double.BYTES);
+
+        return BitConverter.getBytes(values, offset, count, buffer, HEADER_SIZE, byteOrder);
+    }
+
+    static int encode(byte [] buffer, ByteOrder byteOrder, char [] values, int offset, int count)
+    {
+        writeHeader(buffer, TYPE_CHAR, byteOrder, count, Character.BYTES);
+
+        return BitConverter.getBytes(values, offset, count, buffer, HEADER_SIZE, byteOrder);
+    }
+
+    static int encodeVar(byte [] buffer, int [] values, int offset, int count)
+    {
+        writeHeader(buffer, TYPE_VARINT, ByteOrder.BIG_ENDIAN, count, VarIntConverter.MAX_INT_SIZE);
+
+        return VarIntConverter.putZigZagInts(values, offset, count, buffer, HEADER_SIZE);
+    }
+
+    static int encodeVar(byte [] buffer, long [] values, int offset, int count)
+    {
+        writeHeader(buffer, TYPE_VARLONG, ByteOrder.BIG_ENDIAN, count, VarIntConverter.MAX_LONG_SIZE);
+
+        return VarIntConverter.putZigZagLongs(values, offset, count, buffer, HEADER_SIZE);
+    }
+
+    static int decode(byte [] buffer, int length, short [] dest, int offset)
+    {
+        var count = readHeader(buffer, length, TYPE_SHORT, Short.BYTES, dest.length - offset);
+
+        BitConverter.toShortArray(buffer, HEADER_SIZE, dest, offset, count, readByteOrder(buffer));
+
+        return count;
+    }
+
+    static int decode(byte [] buffer, int length, int [] dest, int offset)
+    {
+        var count = readHeader(buffer, length, TYPE_INT, Integer.BYTES, dest.length - offset);
+
+        BitConverter.toIntArray(buffer, HEADER_SIZE, dest, offset, count, readByteOrder(buffer));
+
+        return count;
+    }
+
+    static int decode(byte [] buffer, int length, long [] dest, int offset)
+    {
+        var count = readHeader(buffer, length, TYPE_LONG, Long.BYTES, dest.length - offset);
+
+        BitConverter.toLongArray(buffer, HEADER_SIZE, dest, offset, count, readByteOrder(buffer));
+
+        return count;
+    }
+
+    static int decode(byte [] buffer, int length, float [] dest, int offset)
+    {
+        var count = readHeader(buffer, length, TYPE_FLOAT, Float.BYTES, dest.length - offset);
+
+        BitConverter.toFloatArray(buffer, HEADER_SIZE, dest, offset, count, readByteOrder(buffer));
+
+        return count;
+    }
+
+    static int decode(byte [] buffer, int length, double [] dest, int offset)
+    {
+        var count = readHeader(buffer, length, TYPE_DOUBLE, Double.BYTES, dest.length - offset);
+
+        BitConverter.toDoubleArray(buffer, HEADER_SIZE, dest, offset, count, readByteOrder(buffer));
+
+        return count;
+    }
+
+    static int decode(byte [] buffer, int length, char [] dest, int offset)
+    {
+        var count = readHeader(buffer, length, TYPE_CHAR, Character.BYTES, dest.length - offset);
+
+        BitConverter.toCharArray(buffer, HEADER_SIZE, dest, offset, count, readByteOrder(buffer));
+
+        return count;
+    }
+
+    static int decodeVar(byte [] buffer, int length, int [] dest, int offset)
+    {
+        var count = readVarHeader(buffer, length, TYPE_VARINT, dest.length - offset);
+
+        try {
+            if (VarIntConverter.toZigZagInts(buffer, HEADER_SIZE, dest, offset, count) != length)
+                throw new NetworkException("Invalid data length");
+        }
+        catch (IllegalArgumentException | IndexOutOfBoundsException ex) {
+            throw new NetworkException("Invalid data", ex);
+        }
+
+        return count;
+    }
+
+    static int decodeVar(byte [] buffer, int length, long [] dest, int offset)
+    {
+        var count = readVarHeader(buffer, length, TYPE_VARLONG, dest.length - offset);
+
+        try {
+            if (VarIntConverter.toZigZagLongs(buffer, HEADER_SIZE, dest, offset, count) != length)
+                throw new NetworkException("Invalid data length");
+        }
+        catch (IllegalArgumentException | IndexOutOfBoundsException ex) {
+            throw new NetworkException("Invalid data", ex);
+        }
+
+        return count;
+    }
+}
@@ -1,6 +1,8 @@
 package com.karandev.util.net;
 
 import com.karandev.util.net.exception.NetworkException;
+import org.csystem.util.converter.BitConverter;
+import org.csystem.util.converter.VarIntConverter;
 
 import java.io.*;
 import java.net.ServerSocket;
@@ -9,7 +11,6 @@ import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 import java.util.Optional;
-import java.util.stream.IntStream;
 
 /**
  * Utility class for TCP socket operations, including sending and receiving primitive type values, texts and files.
@@ -21,17 +22,6 @@ import java.util.stream.IntStream;
 public final class TcpUtil {
 	private static final int DEFAULT_LINE_BLOCK_SIZE = 2048;
 
-	/**
-	 * <p>Checks if the provided port numbers are within the valid range of 0-65535.</p>
-	 *
-	 * @param ports an array of port numbers to check.
-	 * @throws IllegalArgumentException if any port number is outside the valid range of 0-65535.
-     */
-	private static void checkPortRange(int[] ports) throws IllegalArgumentException {
-		if (Arrays.stream(ports).anyMatch(port -> port < 0 || port > 65535))
-			throw new IllegalArgumentException("Port numbers must be in range 0-65535");
-	}
-
 	/**
 	 * <p>Receives a specified number of bytes from the input stream and stores them into the given byte array.</p>
 	 *
@@ -140,24 +130,6 @@ public final class TcpUtil {
 		return send(dos, data, 0, data.length);
 	}
 
-	/**
-	 * <p>Tries to create a ServerSocket with the specified {@code backlog} and {@code port} values.</p>
-	 *
-	 * <p>If the port is already in use, it returns an empty Optional.</p>
-	 *
-	 * @param backlog the maximum length of the queue of incoming connections. If backlog is -1, the default value(50) is used.
-	 * @param port the port number to bind the server socket to
-	 * @return an Optional containing the created ServerSocket, or empty if the port is already in use
-	 */
-	private static Optional<ServerSocket> tryCreateSocket (int backlog, int port)
-	{
-		try {
-			return Optional.of( backlog != -1 ? new ServerSocket(port, backlog) : new ServerSocket(port));
-		} catch (IOException ignored) {
-			return Optional.empty();
-		}
-	}
-
 	private TcpUtil() {}
 
 	/**
@@ -166,7 +138,7 @@ public final class TcpUtil {
 	 * range, having the specified {@code backlog} value for maximum number of pending connections on the server socket.
 	 * Other-wise returns an empty Optional.</p>
 	 *
-	 * <p>Note: Ports must be in the range 0-65535.</p>
+	 * <p>Note: Ports must be in the range 0-65535. They are probed concurrently by {@link PortScanner}.</p>
 	 *
 	 * @param backlog requested maximum length of the queue of incoming connections
 	 * @param minPort minimum value for the port number
@@ -177,10 +149,7 @@ public final class TcpUtil {
 	 */
 	public static Optional<ServerSocket> getFirstAvailableSocketWithBacklog(int backlog, int minPort, int maxPort)
 	{
-		var ports = IntStream.rangeClosed(minPort, maxPort).toArray();
-		checkPortRange(ports);
-
-		return getFirstAvailableSocketWithBacklog(backlog, ports);
+		return PortScanner.reserve(backlog, minPort, maxPort);
 	}
 
 	/**
@@ -188,7 +157,7 @@ public final class TcpUtil {
 	 * and sets the maximum number of pending connections on the server socket using the {@code backlog}.
 	 * Other-wise returns an empty Optional.</p>
 	 *
-	 * <p>Note: Ports must be in the range 0-65535.</p>
+	 * <p>Note: Ports must be in the range 0-65535. They are probed concurrently by {@link PortScanner}.</p>
 	 *
 	 * @param backlog requested maximum length of the queue of incoming connections
 	 * @param ports vararg parameter for the port number values
@@ -197,12 +166,7 @@ public final class TcpUtil {
 	 */
 	public static Optional<ServerSocket> getFirstAvailableSocketWithBacklog(int backlog, int...ports)
 	{
-		checkPortRange(ports);
-
-		return Arrays.stream(ports)
-				.mapToObj(port-> tryCreateSocket(backlog, port))
-				.flatMap(Optional::stream)
-				.findFirst();
+		return PortScanner.reserveAny(backlog, ports);
 	}
 
 	/**
@@ -210,7 +174,7 @@ public final class TcpUtil {
 	 * {@code minPort}, {@code maxPort} (inclusive)
 	 * range. Other-wise returns an empty Optional.</p>
 	 *
-	 * <p>Note: Ports must be in the range 0-65535.</p>
+	 * <p>Note: Ports must be in the range 0-65535. They are probed concurrently by {@link PortScanner}.</p>
 	 *
 	 * @param minPort minimum value for the port number
 	 * @param maxPort maximum value for the port number
@@ -219,17 +183,14 @@ public final class TcpUtil {
 	 */
 	public static Optional<ServerSocket> getFirstAvailableSocket(int minPort, int maxPort)
 	{
-		var ports = IntStream.rangeClosed(minPort, maxPort).toArray();
-		checkPortRange(ports);
-
-		return getFirstAvailableSocket(ports);
+		return PortScanner.reserve(minPort, maxPort);
 	}
 
 	/**
 	 * <p>Returns an Optional SocketServer with the first available port number in the given vararg parameter {@code ports}.
 	 * Other-wise returns an empty Optional.</p>
 	 *
-	 * <p>Note: Ports must be in the range 0-65535.</p>
+	 * <p>Note: Ports must be in the range 0-65535. They are probed concurrently by {@link PortScanner}.</p>
 	 *
 	 * @param ports vararg parameter for the port number values
 	 * @return an Optional SocketServer, or empty optional if all the ports are busy and cannot be assigned
@@ -237,12 +198,7 @@ public final class TcpUtil {
 	 */
 	public static Optional<ServerSocket> getFirstAvailableSocket(int...ports)
 	{
-		checkPortRange(ports);
-
-		return Arrays.stream(ports)
-				.mapToObj(port -> tryCreateSocket(-1, port))
-				.flatMap(Optional::stream)
-				.findFirst();
+		return PortScanner.reserveAny(-1, ports);
 	}
 
 	/**
@@ -534,6 +490,46 @@ public final class TcpUtil {
 		}
 	}
 
+	/**
+	 * <p>Receives a zigzag and varint encoded int value sent by {@link #sendVarInt(Socket, int)} from the {@code socket}</p>
+	 *
+	 * <p>The value is read byte by byte by {@link VarIntConverter#readVarInt(InputStream)}, so no byte after the value
+	 * is consumed from the socket.</p>
+	 *
+	 * @param socket any valid and open socket
+	 * @return the received int value
+	 * @throws NetworkException if any problem occurs while receiving from the socket or the value is malformed
+	 */
+	public static int receiveVarInt(Socket socket)
+	{
+		try {
+			return VarIntConverter.zigZagDecode(VarIntConverter.readVarInt(socket.getInputStream()));
+		}
+		catch (Throwable ex) {
+			throw new NetworkException("TcpUtil.receiveVarInt", ex);
+		}
+	}
+
+	/**
+	 * <p>Receives a zigzag and varint encoded long value sent by {@link #sendVarLong(Socket, long)} from the {@code socket}</p>
+	 *
+	 * <p>The value is read byte by byte by {@link VarIntConverter#readVarLong(InputStream)}, so no byte after the value
+	 * is consumed from the socket.</p>
+	 *
+	 * @param socket any valid and open socket
+	 * @return the received long value
+	 * @throws NetworkException if any problem occurs while receiving from the socket or the value is malformed
+	 */
+	public static long receiveVarLong(Socket socket)
+	{
+		try {
+			return VarIntConverter.zigZagDecode(VarIntConverter.readVarLong(socket.getInputStream()));
+		}
+		catch (Throwable ex) {
+			throw new NetworkException("TcpUtil.receiveVarLong", ex);
+		}
+	}
+
 	/**
 	 * <p>Receives a length-prefixed string {@code str} from a socket using default charset {@link StandardCharsets#UTF_8}</p>
 	 *
@@ -584,6 +580,37 @@ public final class TcpUtil {
 		}
 	}
 
+	/**
+	 * <p>Receives a length-prefixed string {@code str} from a socket using specified {@code charset} into the given {@code buffer}</p>
+	 *
+	 * <p>The text is received into the {@code buffer} if it fits, so no intermediate array is allocated per call,
+	 * otherwise into a new array. The buffer should not be shared between threads.</p>
+	 *
+	 * @param socket any valid and open socket
+	 * @param buffer the reusable receive buffer
+	 * @param charset the charset of the text
+	 * @return the received string
+	 * @throws NetworkException if any problem occurs while receiving from the socket
+	 * @see TcpUtil#sendStringViaLength(Socket, String, Charset)
+	 */
+	public static String receiveStringViaLength(Socket socket, byte [] buffer, Charset charset)
+	{
+		try {
+			var length = receiveInt(socket);
+			byte[] data = length <= buffer.length ? buffer : new byte[length];
+
+			receive(socket, data, 0, length);
+
+			return BitConverter.toString(data, 0, length, charset);
+		}
+		catch (NetworkException ex) {
+			throw new NetworkException("TcpUtil.receiveStringViaLength", ex.getCause());
+		}
+		catch (Throwable ex) {
+			throw new NetworkException("TcpUtil.receiveStringViaLength", ex);
+		}
+	}
+
 	/**
 	 * <p>Receives a string having {@code length} number of bytes from the {@code socket}, using
 	 * the default charset {@link StandardCharsets#UTF_8}.</p>
@@ -1040,10 +1067,61 @@ public final class TcpUtil {
 		}
 	}
 
+	/**
+	 * <p>Sends a zigzag and varint encoded int value to the {@code socket}</p>
+	 *
+	 * <p>Values of small magnitude take fewer bytes than {@link #sendInt(Socket, int)}, e.g. values in range -64..63
+	 * take a single byte. The value must be received by {@link #receiveVarInt(Socket)}.</p>
+	 *
+	 * @param socket any valid and open socket
+	 * @param val the int value to send
+	 * @throws NetworkException if any problem occurs while sending through the socket
+	 */
+	public static void sendVarInt(Socket socket, int val)
+	{
+		try {
+			byte [] data = new byte[VarIntConverter.MAX_INT_SIZE];
+
+			send(socket, data, 0, VarIntConverter.putZigZagInt(data, 0, val));
+		}
+		catch (NetworkException ex) {
+			throw new NetworkException("TcpUtil.sendVarInt", ex.getCause());
+		}
+		catch (Throwable ex) {
+			throw new NetworkException("TcpUtil.sendVarInt", ex);
+		}
+	}
+
+	/**
+	 * <p>Sends a zigzag and varint encoded long value to the {@code socket}</p>
+	 *
+	 * <p>Values of small magnitude take fewer bytes than {@link #sendLong(Socket, long)}, e.g. values in range -64..63
+	 * take a single byte. The value must be received by {@link #receiveVarLong(Socket)}.</p>
+	 *
+	 * @param socket any valid and open socket
+	 * @param val the long value to send
+	 * @throws NetworkException if any problem occurs while sending through the socket
+	 */
+	public static void sendVarLong(Socket socket, long val)
+	{
+		try {
+			byte [] data = new byte[VarIntConverter.MAX_LONG_SIZE];
+
+			send(socket, data, 0, VarIntConverter.putZigZagLong(data, 0, val));
+		}
+		catch (NetworkException ex) {
+			throw new NetworkException("TcpUtil.sendVarLong", ex.getCause());
+		}
+		catch (Throwable ex) {
+			throw new NetworkException("TcpUtil.sendVarLong", ex);
+		}
+	}
+
 	/**
 	 * <p>Sends a length-prefixed string {@code str} to a socket using default charset {@link StandardCharsets#UTF_8}</p>
 	 *
-	 * <p>This method consecutively sends specified {@code str}'s length and then the string itself using the specified {@code socket}.</p>
+	 * <p>This method consecutively sends specified {@code str}'s length and then the string itself using the specified {@code socket}.
+	 * The length prefix and the text are put into a single buffer, so both are sent with a single write.</p>
 	 *
 	 * <p>In order to successfully receive length-prefixed strings, receiver must use matching {@link #receiveStringViaLength(Socket)}
 	 * method</p>
@@ -1075,10 +1153,24 @@ public final class TcpUtil {
 	public static void sendStringViaLength(Socket socket, String str, Charset charset)
 	{
 		try {
-			byte[] data = BitConverter.getBytes(str, charset);
-			byte[] dataLen = BitConverter.getBytes(data.length);
+			byte[] data;
+
+			//The length prefix and the text are sent with a single write
+			if (charset.equals(StandardCharsets.UTF_8)) {
+				int length = BitConverter.getUtf8Length(str);
+
+				data = new byte[Integer.BYTES + length];
+				BitConverter.putInt(data, 0, length);
+				BitConverter.putUtf8(data, Integer.BYTES, str);
+			}
+			else {
+				byte[] text = BitConverter.getBytes(str, charset);
+
+				data = new byte[Integer.BYTES + text.length];
+				BitConverter.putInt(data, 0, text.length);
+				System.arraycopy(text, 0, data, Integer.BYTES, text.length);
+			}
 
-			send(socket, dataLen);
 			send(socket, data);
 		}
 		catch (NetworkException ex) {
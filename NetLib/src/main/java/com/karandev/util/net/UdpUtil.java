@@ -1,8 +1,11 @@
 package com.karandev.util.net;
 
 import com.karandev.util.net.exception.NetworkException;
+import org.csystem.util.converter.BitConverter;
+import org.csystem.util.converter.VarIntConverter;
 
 import java.net.*;
+import java.nio.ByteOrder;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 
@@ -18,6 +21,11 @@ import java.nio.charset.StandardCharsets;
  */
 
 public final class UdpUtil {
+    /**
+     * The length of the header that precedes the values of the packets sent by the {@code sendArray} methods
+     */
+    public static final int ARRAY_HEADER_SIZE = PrimitiveArrayPacket.HEADER_SIZE;
+
     /**
      * Creates a new {@link DatagramPacket} object for sending data through
      * a given specified ip address and port number.
@@ -514,6 +522,412 @@ public final class UdpUtil {
         }
     }
 
+    /**
+     * Encodes the given short values with a header of type, count and byte order
+     * straight into the given reusable {@code buffer}, then sends them in a single {@link DatagramPacket}
+     * through of given {@code datagramSocket} object
+     *
+     * @param datagramSocket the socket which will be used for transfer data
+     * @param host the ip address of the transfer destination
+     * @param port the port number of transfer destination
+     * @param buffer the reusable buffer which the packet is encoded into
+     * @param byteOrder the byte order of the encoded values
+     * @param values the short values which will be sent
+     * @param offset the index of the first value which will be sent
+     * @param count the number of values which will be sent
+     * @throws NetworkException if any problem occurs while sending data through the socket
+     * or the {@code buffer} is not large enough for the packet
+     */
+    public static void sendArray(DatagramSocket datagramSocket, String host, int port, byte [] buffer, ByteOrder byteOrder, short [] values, int offset, int count)
+    {
+        try {
+            var length = PrimitiveArrayPacket.encode(buffer, byteOrder, values, offset, count);
+
+            datagramSocket.send(new DatagramPacket(buffer, 0, length, InetAddress.getByName(host), port));
+        }
+        catch (NetworkException ex) {
+            throw ex;
+        }
+        catch (Throwable ex) {
+            throw new NetworkException("UdpUtil.sendArray", ex);
+        }
+    }
+
+    /**
+     * Encodes all of the given short values with a header of type, count and byte order
+     * straight into the given reusable {@code buffer}, then sends them in a single {@link DatagramPacket}
+     * through of given {@code datagramSocket} object
+     *
+     * @param datagramSocket the socket which will be used for transfer data
+     * @param host the ip address of the transfer destination
+     * @param port the port number of transfer destination
+     * @param buffer the reusable buffer which the packet is encoded into
+     * @param byteOrder the byte order of the encoded values
+     * @param values the short values which will be sent
+     * @throws NetworkException if any problem occurs while sending data through the socket
+     * or the {@code buffer} is not large enough for the packet
+     */
+    public static void sendArray(DatagramSocket datagramSocket, String host, int port, byte [] buffer, ByteOrder byteOrder, short [] values)
+    {
+        sendArray(datagramSocket, host, port, buffer, byteOrder, values, 0, values.length);
+    }
+
+    /**
+     * Encodes the given int values with a header of type, count and byte order
+     * straight into the given reusable {@code buffer}, then sends them in a single {@link DatagramPacket}
+     * through of given {@code datagramSocket} object
+     *
+     * @param datagramSocket the socket which will be used for transfer data
+     * @param host the ip address of the transfer destination
+     * @param port the port number of transfer destination
+     * @param buffer the reusable buffer which the packet is encoded into
+     * @param byteOrder the byte order of the encoded values
+     * @param values the int values which will be sent
+     * @param offset the index of the first value which will be sent
+     * @param count the number of values which will be sent
+     * @throws NetworkException if any problem occurs while sending data through the socket
+     * or the {@code buffer} is not large enough for the packet
+     */
+    public static void sendArray(DatagramSocket datagramSocket, String host, int port, byte [] buffer, ByteOrder byteOrder, int [] values, int offset, int count)
+    {
+        try {
+            var length = PrimitiveArrayPacket.encode(buffer, byteOrder, values, offset, count);
+
+            datagramSocket.send(new DatagramPacket(buffer, 0, length, InetAddress.getByName(host), port));
+        }
+        catch (NetworkException ex) {
+            throw ex;
+        }
+        catch (Throwable ex) {
+            throw new NetworkException("UdpUtil.sendArray", ex);
+        }
+    }
+
+    /**
+     * Encodes all of the given int values with a header of type, count and byte order
+     * straight into the given reusable {@code buffer}, then sends them in a single {@link DatagramPacket}
+     * through of given {@code datagramSocket} object
+     *
+     * @param datagramSocket the socket which will be used for transfer data
+     * @param host the ip address of the transfer destination
+     * @param port the port number of transfer destination
+     * @param buffer the reusable buffer which the packet is encoded into
+     * @param byteOrder the byte order of the encoded values
+     * @param values the int values which will be sent
+     * @throws NetworkException if any problem occurs while sending data through the socket
+     * or the {@code buffer} is not large enough for the packet
+     */
+    public static void sendArray(DatagramSocket datagramSocket, String host, int port, byte [] buffer, ByteOrder byteOrder, int [] values)
+    {
+        sendArray(datagramSocket, host, port, buffer, byteOrder, values, 0, values.length);
+    }
+
+    /**
+     * Encodes the given long values with a header of type, count and byte order
+     * straight into the given reusable {@code buffer}, then sends them in a single {@link DatagramPacket}
+     * through of given {@code datagramSocket} object
+     *
+     * @param datagramSocket the socket which will be used for transfer data
+     * @param host the ip address of the transfer destination
+     * @param port the port number of transfer destination
+     * @param buffer the reusable buffer which the packet is encoded into
+     * @param byteOrder the byte order of the encoded values
+     * @param values the long values which will be sent
+     * @param offset the index of the first value which will be sent
+     * @param count the number of values which will be sent
+     * @throws NetworkException if any problem occurs while sending data through the socket
+     * or the {@code buffer} is not large enough for the packet
+     */
+    public static void sendArray(DatagramSocket datagramSocket, String host, int port, byte [] buffer, ByteOrder byteOrder, long [] values, int offset, int count)
+    {
+        try {
+            var length = PrimitiveArrayPacket.encode(buffer, byteOrder, values, offset, count);
+
+            datagramSocket.send(new DatagramPacket(buffer, 0, length, InetAddress.getByName(host), port));
+        }
+        catch (NetworkException ex) {
+            throw ex;
+        }
+        catch (Throwable ex) {
+            throw new NetworkException("UdpUtil.sendArray", ex);
+        }
+    }
+
+    /**
+     * Encodes all of the given long values with a header of type, count and byte order
+     * straight into the given reusable {@code buffer}, then sends them in a single {@link DatagramPacket}
+     * through of given {@code datagramSocket} object
+     *
+     * @param datagramSocket the socket which will be used for transfer data
+     * @param host the ip address of the transfer destination
+     * @param port the port number of transfer destination
+     * @param buffer the reusable buffer which the packet is encoded into
+     * @param byteOrder the byte order of the encoded values
+     * @param values the long values which will be sent
+     * @throws NetworkException if any problem occurs while sending data through the socket
+     * or the {@code buffer} is not large enough for the packet
+     */
+    public static void sendArray(DatagramSocket datagramSocket, String host, int port, byte [] buffer, ByteOrder byteOrder, long [] values)
+    {
+        sendArray(datagramSocket, host, port, buffer, byteOrder, values, 0, values.length);
+    }
+
+    /**
+     * Encodes the given float values with a header of type, count and byte order
+     * straight into the given reusable {@code buffer}, then sends them in a single {@link DatagramPacket}
+     * through of given {@code datagramSocket} object
+     *
+     * @param datagramSocket the socket which will be used for transfer data
+     * @param host the ip address of the transfer destination
+     * @param port the port number of transfer destination
+     * @param buffer the reusable buffer which the packet is encoded into
+     * @param byteOrder the byte order of the encoded values
+     * @param values the float values which will be sent
+     * @param offset the index of the first value which will be sent
+     * @param count the number of values which will be sent
+     * @throws NetworkException if any problem occurs while sending data through the socket
+     * or the {@code buffer} is not large enough for the packet
+     */
+    public static void sendArray(DatagramSocket datagramSocket, String host, int port, byte [] buffer, ByteOrder byteOrder, float [] values, int offset, int count)
+    {
+        try {
+            var length = PrimitiveArrayPacket.encode(buffer, byteOrder, values, offset, count);
+
+            datagramSocket.send(new DatagramPacket(buffer, 0, length, InetAddress.getByName(host), port));
+        }
+        catch (NetworkException ex) {
+            throw ex;
+        }
+        catch (Throwable ex) {
+            throw new NetworkException("UdpUtil.sendArray", ex);
+        }
+    }
+
+    /**
+     * Encodes all of the given float values with a header of type, count and byte order
+     * straight into the given reusable {@code buffer}, then sends them in a single {@link DatagramPacket}
+     * through of given {@code datagramSocket} object
+     *
+     * @param datagramSocket the socket which will be used for transfer data
+     * @param host the ip address of the transfer destination
+     * @param port the port number of transfer destination
+     * @param buffer the reusable buffer which the packet is encoded into
+     * @param byteOrder the byte order of the encoded values
+     * @param values the float values which will be sent
+     * @throws NetworkException if any problem occurs while sending data through the socket
+     * or the {@code buffer} is not large enough for the packet
+     */
+    public static void sendArray(DatagramSocket datagramSocket, String host, int port, byte [] buffer, ByteOrder byteOrder, float [] values)
+    {
+        sendArray(datagramSocket, host, port, buffer, byteOrder, values, 0, values.length);
+    }
+
+    /**
+     * Encodes the given double values with a header of type, count and byte order
+     * straight into the given reusable {@code buffer}, then sends them in a single {@link DatagramPacket}
+     * through of given {@code datagramSocket} object
+     *
+     * @param datagramSocket the socket which will be used for transfer data
+     * @param host the ip address of the transfer destination
+     * @param port the port number of transfer destination
+     * @param buffer the reusable buffer which the packet is encoded into
+     * @param byteOrder the byte order of the encoded values
+     * @param values the double values which will be sent
+     * @param offset the index of the first value which will be sent
+     * @param count the number of values which will be sent
+     * @throws NetworkException if any problem occurs while sending data through the socket
+     * or the {@code buffer} is not large enough for the packet
+     */
+    public static void sendArray(DatagramSocket datagramSocket, String host, int port, byte [] buffer, ByteOrder byteOrder, double [] values, int offset, int count)
+    {
+        try {
+            var length = PrimitiveArrayPacket.encode(buffer, byteOrder, values, offset, count);
+
+            datagramSocket.send(new DatagramPacket(buffer, 0, length, InetAddress.getByName(host), port));
+        }
+        catch (NetworkException ex) {
+            throw ex;
+        }
+        catch (Throwable ex) {
+            throw new NetworkException("UdpUtil.sendArray", ex);
+        }
+    }
+
+    /**
+     * Encodes all of the given double values with a header of type, count and byte order
+     * straight into the given reusable {@code buffer}, then sends them in a single {@link DatagramPacket}
+     * through of given {@code datagramSocket} object
+     *
+     * @param datagramSocket the socket which will be used for transfer data
+     * @param host the ip address of the transfer destination
+     * @param port the port number of transfer destination
+     * @param buffer the reusable buffer which the packet is encoded into
+     * @param byteOrder the byte order of the encoded values
+     * @param values the double values which will be sent
+     * @throws NetworkException if any problem occurs while sending data through the socket
+     * or the {@code buffer} is not large enough for the packet
+     */
+    public static void sendArray(DatagramSocket datagramSocket, String host, int port, byte [] buffer, ByteOrder byteOrder, double [] values)
+    {
+        sendArray(datagramSocket, host, port, buffer, byteOrder, values, 0, values.length);
+    }
+
+    /**
+     * Encodes the given char values with a header of type, count and byte order
+     * straight into the given reusable {@code buffer}, then sends them in a single {@link DatagramPacket}
+     * through of given {@code datagramSocket} object
+     *
+     * @param datagramSocket the socket which will be used for transfer data
+     * @param host the ip address of the transfer destination
+     * @param port the port number of transfer destination
+     * @param buffer the reusable buffer which the packet is encoded into
+     * @param byteOrder the byte order of the encoded values
+     * @param values the char values which will be sent
+     * @param offset the index of the first value which will be sent
+     * @param count the number of values which will be sent
+     * @throws NetworkException if any problem occurs while sending data through the socket
+     * or the {@code buffer} is not large enough for the packet
+     */
+    public static void sendArray(DatagramSocket datagramSocket, String host, int port, byte [] buffer, ByteOrder byteOrder, char [] values, int offset, int count)
+    {
+        try {
+            var length = PrimitiveArrayPacket.encode(buffer, byteOrder, values, offset, count);
+
+            datagramSocket.send(new DatagramPacket(buffer, 0, length, InetAddress.getByName(host), port));
+        }
+        catch (NetworkException ex) {
+            throw ex;
+        }
+        catch (Throwable ex) {
+            throw new NetworkException("UdpUtil.sendArray", ex);
+        }
+    }
+
+    /**
+     * Encodes all of the given char values with a header of type, count and byte order
+     * straight into the given reusable {@code buffer}, then sends them in a single {@link DatagramPacket}
+     * through of given {@code datagramSocket} object
+     *
+     * @param datagramSocket the socket which will be used for transfer data
+     * @param host the ip address of the transfer destination
+     * @param port the port number of transfer destination
+     * @param buffer the reusable buffer which the packet is encoded into
+     * @param byteOrder the byte order of the encoded values
+     * @param values the char values which will be sent
+     * @throws NetworkException if any problem occurs while sending data through the socket
+     * or the {@code buffer} is not large enough for the packet
+     */
+    public static void sendArray(DatagramSocket datagramSocket, String host, int port, byte [] buffer, ByteOrder byteOrder, char [] values)
+    {
+        sendArray(datagramSocket, host, port, buffer, byteOrder, values, 0, values.length);
+    }
+
+    /**
+     * Encodes the given int values zigzag and LEB128 varint encoded with a header of type and count
+     * straight into the given reusable {@code buffer}, then sends them in a single {@link DatagramPacket}
+     * through of given {@code datagramSocket} object. Small absolute values take a single byte,
+     * the {@code buffer} must be large enough for the worst case of
+     * {@link #ARRAY_HEADER_SIZE} + {@code count} * {@link VarIntConverter#MAX_INT_SIZE} bytes
+     *
+     * @param datagramSocket the socket which will be used for transfer data
+     * @param host the ip address of the transfer destination
+     * @param port the port number of transfer destination
+     * @param buffer the reusable buffer which the packet is encoded into
+     * @param values the int values which will be sent
+     * @param offset the index of the first value which will be sent
+     * @param count the number of values which will be sent
+     * @throws NetworkException if any problem occurs while sending data through the socket
+     * or the {@code buffer} is not large enough for the packet
+     */
+    public static void sendVarIntArray(DatagramSocket datagramSocket, String host, int port, byte [] buffer, int [] values, int offset, int count)
+    {
+        try {
+            var length = PrimitiveArrayPacket.encodeVar(buffer, values, offset, count);
+
+            datagramSocket.send(new DatagramPacket(buffer, 0, length, InetAddress.getByName(host), port));
+        }
+        catch (NetworkException ex) {
+            throw ex;
+        }
+        catch (Throwable ex) {
+            throw new NetworkException("UdpUtil.sendVarIntArray", ex);
+        }
+    }
+
+    /**
+     * Encodes all of the given int values into the given reusable {@code buffer}, then sends them
+     * in a single {@link DatagramPacket} through of given {@code datagramSocket} object. Every value is zigzag
+     * encoded, so that small negative values become small unsigned values, then written as an unsigned LEB128
+     * varint: 7 bits per byte with the least significant group first and the high bit set on all but the last byte.
+     * The values follow a header of type and count. The {@code buffer} must be large enough for the worst case of
+     * {@link #ARRAY_HEADER_SIZE} + {@code values.length} * {@link VarIntConverter#MAX_INT_SIZE} bytes
+     *
+     * @param datagramSocket the socket which will be used for transfer data
+     * @param host the ip address of the transfer destination
+     * @param port the port number of transfer destination
+     * @param buffer the reusable buffer which the packet is encoded into
+     * @param values the int values which will be sent
+     * @throws NetworkException if any problem occurs while sending data through the socket
+     * or the {@code buffer} is not large enough for the packet
+     */
+    public static void sendVarIntArray(DatagramSocket datagramSocket, String host, int port, byte [] buffer, int [] values)
+    {
+        sendVarIntArray(datagramSocket, host, port, buffer, values, 0, values.length);
+    }
+
+    /**
+     * Encodes the given long values zigzag and LEB128 varint encoded with a header of type and count
+     * straight into the given reusable {@code buffer}, then sends them in a single {@link DatagramPacket}
+     * through of given {@code datagramSocket} object. Small absolute values take a single byte,
+     * the {@code buffer} must be large enough for the worst case of
+     * {@link #ARRAY_HEADER_SIZE} + {@code count} * {@link VarIntConverter#MAX_LONG_SIZE} bytes
+     *
+     * @param datagramSocket the socket which will be used for transfer data
+     * @param host the ip address of the transfer destination
+     * @param port the port number of transfer destination
+     * @param buffer the reusable buffer which the packet is encoded into
+     * @param values the long values which will be sent
+     * @param offset the index of the first value which will be sent
+     * @param count the number of values which will be sent
+     * @throws NetworkException if any problem occurs while sending data through the socket
+     * or the {@code buffer} is not large enough for the packet
+     */
+    public static void sendVarLongArray(DatagramSocket datagramSocket, String host, int port, byte [] buffer, long [] values, int offset, int count)
+    {
+        try {
+            var length = PrimitiveArrayPacket.encodeVar(buffer, values, offset, count);
+
+            datagramSocket.send(new DatagramPacket(buffer, 0, length, InetAddress.getByName(host), port));
+        }
+        catch (NetworkException ex) {
+            throw ex;
+        }
+        catch (Throwable ex) {
+            throw new NetworkException("UdpUtil.sendVarLongArray", ex);
+        }
+    }
+
+    /**
+     * Encodes all of the given long values into the given reusable {@code buffer}, then sends them
+     * in a single {@link DatagramPacket} through of given {@code datagramSocket} object. Every value is zigzag
+     * encoded, so that small negative values become small unsigned values, then written as an unsigned LEB128
+     * varint: 7 bits per byte with the least significant group first and the high bit set on all but the last byte.
+     * The values follow a header of type and count. The {@code buffer} must be large enough for the worst case of
+     * {@link #ARRAY_HEADER_SIZE} + {@code values.length} * {@link VarIntConverter#MAX_LONG_SIZE} bytes
+     *
+     * @param datagramSocket the socket which will be used for transfer data
+     * @param host the ip address of the transfer destination
+     * @param port the port number of transfer destination
+     * @param buffer the reusable buffer which the packet is encoded into
+     * @param values the long values which will be sent
+     * @throws NetworkException if any problem occurs while sending data through the socket
+     * or the {@code buffer} is not large enough for the packet
+     */
+    public static void sendVarLongArray(DatagramSocket datagramSocket, String host, int port, byte [] buffer, long [] values)
+    {
+        sendVarLongArray(datagramSocket, host, port, buffer, values, 0, values.length);
+    }
+
     /**
      * Creates a new {@link DatagramPacket} object that uses a byte array
      * for fetching the data, then waits for to receive a single byte value,
@@ -1038,6 +1452,444 @@ public final class UdpUtil {
         }
     }
 
+    /**
+     * Waits for to receive a packet of short values sent by the {@code sendArray} methods
+     * into the given reusable {@code buffer}, then decodes the values into the given {@code dest} array
+     * starting from {@code offset}, through from the given {@code datagramSocket} object
+     *
+     * @param datagramSocket the socket which will be used for receiving data
+     * @param buffer the reusable buffer which the packet is received into
+     * @param dest the array which the received values are stored into
+     * @param offset the index of {@code dest} for the first received value
+     * @return the number of received values
+     * @throws NetworkException if any problem occurs while receiving data through from the socket,
+     * the packet is not a short array packet or {@code dest} is not large enough for the received values
+     */
+    public static int receiveArray(DatagramSocket datagramSocket, byte [] buffer, short [] dest, int offset)
+    {
+        try {
+            var datagramPacket = new DatagramPacket(buffer, buffer.length);
+
+            datagramSocket.receive(datagramPacket);
+
+            return PrimitiveArrayPacket.decode(buffer, datagramPacket.getLength(), dest, offset);
+        }
+        catch (NetworkException ex) {
+            throw ex;
+        }
+        catch (Throwable ex) {
+            throw new NetworkException("UdpUtil.receiveArray", ex);
+        }
+    }
+
+    /**
+     * Creates a new {@link DatagramPacket} object that uses a byte array
+     * for fetching the data, then waits for to receive at most {@code maxCount} short values
+     * sent by the {@code sendArray} methods, through from the given {@code datagramSocket} object
+     *
+     * @param datagramSocket the socket which will be used for receiving data
+     * @param maxCount the max number of values which will be received in a datagram packet on a single fetch
+     * @return a new array that contains the received values
+     * @throws NetworkException if any problem occurs while creating the datagram packet,
+     * receiving data through from the socket or the packet is not a short array packet
+     */
+    public static short [] receiveShortArray(DatagramSocket datagramSocket, int maxCount)
+    {
+        try {
+            DatagramPacket datagramPacket = createDatagramPacket(PrimitiveArrayPacket.packetLength(maxCount, Short.BYTES));
+
+            datagramSocket.receive(datagramPacket);
+            var data = datagramPacket.getData();
+            var length = datagramPacket.getLength();
+            var result = new short[PrimitiveArrayPacket.count(data, length, PrimitiveArrayPacket.TYPE_SHORT, Short.BYTES)];
+
+            PrimitiveArrayPacket.decode(data, length, result, 0);
+
+            return result;
+        }
+        catch (NetworkException ex) {
+            throw ex;
+        }
+        catch (Throwable ex) {
+            throw new NetworkException("UdpUtil.receiveShortArray", ex);
+        }
+    }
+
+    /**
+     * Waits for to receive a packet of int values sent by the {@code sendArray} methods
+     * into the given reusable {@code buffer}, then decodes the values into the given {@code dest} array
+     * starting from {@code offset}, through from the given {@code datagramSocket} object
+     *
+     * @param datagramSocket the socket which will be used for receiving data
+     * @param buffer the reusable buffer which the packet is received into
+     * @param dest the array which the received values are stored into
+     * @param offset the index of {@code dest} for the first received value
+     * @return the number of received values
+     * @throws NetworkException if any problem occurs while receiving data through from the socket,
+     * the packet is not a int array packet or {@code dest} is not large enough for the received values
+     */
+    public static int receiveArray(DatagramSocket datagramSocket, byte [] buffer, int [] dest, int offset)
+    {
+        try {
+            var datagramPacket = new DatagramPacket(buffer, buffer.length);
+
+            datagramSocket.receive(datagramPacket);
+
+            return PrimitiveArrayPacket.decode(buffer, datagramPacket.getLength(), dest, offset);
+        }
+        catch (NetworkException ex) {
+            throw ex;
+        }
+        catch (Throwable ex) {
+            throw new NetworkException("UdpUtil.receiveArray", ex);
+        }
+    }
+
+    /**
+     * Creates a new {@link DatagramPacket} object that uses a byte array
+     * for fetching the data, then waits for to receive at most {@code maxCount} int values
+     * sent by the {@code sendArray} methods, through from the given {@code datagramSocket} object
+     *
+     * @param datagramSocket the socket which will be used for receiving data
+     * @param maxCount the max number of values which will be received in a datagram packet on a single fetch
+     * @return a new array that contains the received values
+     * @throws NetworkException if any problem occurs while creating the datagram packet,
+     * receiving data through from the socket or the packet is not a int array packet
+     */
+    public static int [] receiveIntArray(DatagramSocket datagramSocket, int maxCount)
+    {
+        try {
+            DatagramPacket datagramPacket = createDatagramPacket(PrimitiveArrayPacket.packetLength(maxCount, Integer.BYTES));
+
+            datagramSocket.receive(datagramPacket);
+            var data = datagramPacket.getData();
+            var length = datagramPacket.getLength();
+            var result = new int[PrimitiveArrayPacket.count(data, length, PrimitiveArrayPacket.TYPE_INT, Integer.BYTES)];
+
+            PrimitiveArrayPacket.decode(data, length, result, 0);
+
+            return result;
+        }
+        catch (NetworkException ex) {
+            throw ex;
+        }
+        catch (Throwable ex) {
+            throw new NetworkException("UdpUtil.receiveIntArray", ex);
+        }
+    }
+
+    /**
+     * Waits for to receive a packet of long values sent by the {@code sendArray} methods
+     * into the given reusable {@code buffer}, then decodes the values into the given {@code dest} array
+     * starting from {@code offset}, through from the given {@code datagramSocket} object
+     *
+     * @param datagramSocket the socket which will be used for receiving data
+     * @param buffer the reusable buffer which the packet is received into
+     * @param dest the array which the received values are stored into
+     * @param offset the index of {@code dest} for the first received value
+     * @return the number of received values
+     * @throws NetworkException if any problem occurs while receiving data through from the socket,
+     * the packet is not a long array packet or {@code dest} is not large enough for the received values
+     */
+    public static int receiveArray(DatagramSocket datagramSocket, byte [] buffer, long [] dest, int offset)
+    {
+        try {
+            var datagramPacket = new DatagramPacket(buffer, buffer.length);
+
+            datagramSocket.receive(datagramPacket);
+
+            return PrimitiveArrayPacket.decode(buffer, datagramPacket.getLength(), dest, offset);
+        }
+        catch (NetworkException ex) {
+            throw ex;
+        }
+        catch (Throwable ex) {
+            throw new NetworkException("UdpUtil.receiveArray", ex);
+        }
+    }
+
+    /**
+     * Creates a new {@link DatagramPacket} object that uses a byte array
+     * for fetching the data, then waits for to receive at most {@code maxCount} long values
+     * sent by the {@code sendArray} methods, through from the given {@code datagramSocket} object
+     *
+     * @param datagramSocket the socket which will be used for receiving data
+     * @param maxCount the max number of values which will be received in a datagram packet on a single fetch
+     * @return a new array that contains the received values
+     * @throws NetworkException if any problem occurs while creating the datagram packet,
+     * receiving data through from the socket or the packet is not a long array packet
+     */
+    public static long [] receiveLongArray(DatagramSocket datagramSocket, int maxCount)
+    {
+        try {
+            DatagramPacket datagramPacket = createDatagramPacket(PrimitiveArrayPacket.packetLength(maxCount, Long.BYTES));
+
+            datagramSocket.receive(datagramPacket);
+            var data = datagramPacket.getData();
+            var length = datagramPacket.getLength();
+            var result = new long[PrimitiveArrayPacket.count(data, length, PrimitiveArrayPacket.TYPE_LONG, Long.BYTES)];
+
+            PrimitiveArrayPacket.decode(data, length, result, 0);
+
+            return result;
+        }
+        catch (NetworkException ex) {
+            throw ex;
+        }
+        catch (Throwable ex) {
+            throw new NetworkException("UdpUtil.receiveLongArray", ex);
+        }
+    }
+
+    /**
+     * Waits for to receive a packet of float values sent by the {@code sendArray} methods
+     * into the given reusable {@code buffer}, then decodes the values into the given {@code dest} array
+     * starting from {@code offset}, through from the given {@code datagramSocket} object
+     *
+     * @param datagramSocket the socket which will be used for receiving data
+     * @param buffer the reusable buffer which the packet is received into
+     * @param dest the array which the received values are stored into
+     * @param offset the index of {@code dest} for the first received value
+     * @return the number of received values
+     * @throws NetworkException if any problem occurs while receiving data through from the socket,
+     * the packet is not a float array packet or {@code dest} is not large enough for the received values
+     */
+    public static int receiveArray(DatagramSocket datagramSocket, byte [] buffer, float [] dest, int offset)
+    {
+        try {
+            var datagramPacket = new DatagramPacket(buffer, buffer.length);
+
+            datagramSocket.receive(datagramPacket);
+
+            return PrimitiveArrayPacket.decode(buffer, datagramPacket.getLength(), dest, offset);
+        }
+        catch (NetworkException ex) {
+            throw ex;
+        }
+        catch (Throwable ex) {
+            throw new NetworkException("UdpUtil.receiveArray", ex);
+        }
+    }
+
+    /**
+     * Creates a new {@link DatagramPacket} object that uses a byte array
+     * for fetching the data, then waits for to receive at most {@code maxCount} float values
+     * sent by the {@code sendArray} methods, through from the given {@code datagramSocket} object
+     *
+     * @param datagramSocket the socket which will be used for receiving data
+     * @param maxCount the max number of values which will be received in a datagram packet on a single fetch
+     * @return a new array that contains the received values
+     * @throws NetworkException if any problem occurs while creating the datagram packet,
+     * receiving data through from the socket or the packet is not a float array packet
+     */
+    public static float [] receiveFloatArray(DatagramSocket datagramSocket, int maxCount)
+    {
+        try {
+            DatagramPacket datagramPacket = createDatagramPacket(PrimitiveArrayPacket.packetLength(maxCount, Float.BYTES));
+
+            datagramSocket.receive(datagramPacket);
+            var data = datagramPacket.getData();
+            var length = datagramPacket.getLength();
+            var result = new float[PrimitiveArrayPacket.count(data, length, PrimitiveArrayPacket.TYPE_FLOAT, Float.BYTES)];
+
+            PrimitiveArrayPacket.decode(data, length, result, 0);
+
+            return result;
+        }
+        catch (NetworkException ex) {
+            throw ex;
+        }
+        catch (Throwable ex) {
+            throw new NetworkException("UdpUtil.receiveFloatArray", ex);
+        }
+    }
+
+    /**
+     * Waits for to receive a packet of double values sent by the {@code sendArray} methods
+     * into the given reusable {@code buffer}, then decodes the values into the given {@code dest} array
+     * starting from {@code offset}, through from the given {@code datagramSocket} object
+     *
+     * @param datagramSocket the socket which will be used for receiving data
+     * @param buffer the reusable buffer which the packet is received into
+     * @param dest the array which the received values are stored into
+     * @param offset the index of {@code dest} for the first received value
+     * @return the number of received values
+     * @throws NetworkException if any problem occurs while receiving data through from the socket,
+     * the packet is not a double array packet or {@code dest} is not large enough for the received values
+     */
+    public static int receiveArray(DatagramSocket datagramSocket, byte [] buffer, double [] dest, int offset)
+    {
+        try {
+            var datagramPacket = new DatagramPacket(buffer, buffer.length);
+
+            datagramSocket.receive(datagramPacket);
+
+            return PrimitiveArrayPacket.decode(buffer, datagramPacket.getLength(), dest, offset);
+        }
+        catch (NetworkException ex) {
+            throw ex;
+        }
+        catch (Throwable ex) {
+            throw new NetworkException("UdpUtil.receiveArray", ex);
+        }
+    }
+
+    /**
+     * Creates a new {@link DatagramPacket} object that uses a byte array
+     * for fetching the data, then waits for to receive at most {@code maxCount} double values
+     * sent by the {@code sendArray} methods, through from the given {@code datagramSocket} object
+     *
+     * @param datagramSocket the socket which will be used for receiving data
+     * @param maxCount the max number of values which will be received in a datagram packet on a single fetch
+     * @return a new array that contains the received values
+     * @throws NetworkException if any problem occurs while creating the datagram packet,
+     * receiving data through from the socket or the packet is not a double array packet
+     */
+    public static double [] receiveDoubleArray(DatagramSocket datagramSocket, int maxCount)
+    {
+        try {
+            DatagramPacket datagramPacket = createDatagramPacket(PrimitiveArrayPacket.packetLength(maxCount, Double.BYTES));
+
+            datagramSocket.receive(datagramPacket);
+            var data = datagramPacket.getData();
+            var length = datagramPacket.getLength();
+            var result = new double[PrimitiveArrayPacket.count(data, length, PrimitiveArrayPacket.TYPE_DOUBLE, Double.BYTES)];
+
+            PrimitiveArrayPacket.decode(data, length, result, 0);
+
+            return result;
+        }
+        catch (NetworkException ex) {
+            throw ex;
+        }
+        catch (Throwable ex) {
+            throw new NetworkException("UdpUtil.receiveDoubleArray", ex);
+        }
+    }
+
+    /**
+     * Waits for to receive a packet of char values sent by the {@code sendArray} methods
+     * into the given reusable {@code buffer}, then decodes the values into the given {@code dest} array
+     * starting from {@code offset}, through from the given {@code datagramSocket} object
+     *
+     * @param datagramSocket the socket which will be used for receiving data
+     * @param buffer the reusable buffer which the packet is received into
+     * @param dest the array which the received values are stored into
+     * @param offset the index of {@code dest} for the first received value
+     * @return the number of received values
+     * @throws NetworkException if any problem occurs while receiving data through from the socket,
+     * the packet is not a char array packet or {@code dest} is not large enough for the received values
+     */
+    public static int receiveArray(DatagramSocket datagramSocket, byte [] buffer, char [] dest, int offset)
+    {
+        try {
+            var datagramPacket = new DatagramPacket(buffer, buffer.length);
+
+            datagramSocket.receive(datagramPacket);
+
+            return PrimitiveArrayPacket.decode(buffer, datagramPacket.getLength(), dest, offset);
+        }
+        catch (NetworkException ex) {
+            throw ex;
+        }
+        catch (Throwable ex) {
+            throw new NetworkException("UdpUtil.receiveArray", ex);
+        }
+    }
+
+    /**
+     * Creates a new {@link DatagramPacket} object that uses a byte array
+     * for fetching the data, then waits for to receive at most {@code maxCount} char values
+     * sent by the {@code sendArray} methods, through from the given {@code datagramSocket} object
+     *
+     * @param datagramSocket the socket which will be used for receiving data
+     * @param maxCount the max number of values which will be received in a datagram packet on a single fetch
+     * @return a new array that contains the received values
+     * @throws NetworkException if any problem occurs while creating the datagram packet,
+     * receiving data through from the socket or the packet is not a char array packet
+     */
+    public static char [] receiveCharArray(DatagramSocket datagramSocket, int maxCount)
+    {
+        try {
+            DatagramPacket datagramPacket = createDatagramPacket(PrimitiveArrayPacket.packetLength(maxCount, Character.BYTES));
+
+            datagramSocket.receive(datagramPacket);
+            var data = datagramPacket.getData();
+            var length = datagramPacket.getLength();
+            var result = new char[PrimitiveArrayPacket.count(data, length, PrimitiveArrayPacket.TYPE_CHAR, Character.BYTES)];
+
+            PrimitiveArrayPacket.decode(data, length, result, 0);
+
+            return result;
+        }
+        catch (NetworkException ex) {
+            throw ex;
+        }
+        catch (Throwable ex) {
+            throw new NetworkException("UdpUtil.receiveCharArray", ex);
+        }
+    }
+
+    /**
+     * Waits for to receive a packet of int values sent by the {@code sendVarIntArray} methods
+     * into the given reusable {@code buffer}, then decodes the values into the given {@code dest} array
+     * starting from {@code offset}, through from the given {@code datagramSocket} object
+     *
+     * @param datagramSocket the socket which will be used for receiving data
+     * @param buffer the reusable buffer which the packet is received into
+     * @param dest the array which the received values are stored into
+     * @param offset the index of {@code dest} for the first received value
+     * @return the number of received values
+     * @throws NetworkException if any problem occurs while receiving data through from the socket,
+     * the packet is not a varint int array packet or {@code dest} is not large enough for the received values
+     */
+    public static int receiveVarIntArray(DatagramSocket datagramSocket, byte [] buffer, int [] dest, int offset)
+    {
+        try {
+            var datagramPacket = new DatagramPacket(buffer, buffer.length);
+
+            datagramSocket.receive(datagramPacket);
+
+            return PrimitiveArrayPacket.decodeVar(buffer, datagramPacket.getLength(), dest, offset);
+        }
+        catch (NetworkException ex) {
+            throw ex;
+        }
+        catch (Throwable ex) {
+            throw new NetworkException("UdpUtil.receiveVarIntArray", ex);
+        }
+    }
+
+    /**
+     * Waits for to receive a packet of long values sent by the {@code sendVarLongArray} methods
+     * into the given reusable {@code buffer}, then decodes the values into the given {@code dest} array
+     * starting from {@code offset}, through from the given {@code datagramSocket} object
+     *
+     * @param datagramSocket the socket which will be used for receiving data
+     * @param buffer the reusable buffer which the packet is received into
+     * @param dest the array which the received values are stored into
+     * @param offset the index of {@code dest} for the first received value
+     * @return the number of received values
+     * @throws NetworkException if any problem occurs while receiving data through from the socket,
+     * the packet is not a varint long array packet or {@code dest} is not large enough for the received values
+     */
+    public static int receiveVarLongArray(DatagramSocket datagramSocket, byte [] buffer, long [] dest, int offset)
+    {
+        try {
+            var datagramPacket = new DatagramPacket(buffer, buffer.length);
+
+            datagramSocket.receive(datagramPacket);
+
+            return PrimitiveArrayPacket.decodeVar(buffer, datagramPacket.getLength(), dest, offset);
+        }
+        catch (NetworkException ex) {
+            throw ex;
+        }
+        catch (Throwable ex) {
+            throw new NetworkException("UdpUtil.receiveVarLongArray", ex);
+        }
+    }
+
     /**
      * Creates a new {@link DatagramPacket} object that uses a byte array
      * for fetching the data, then waits for to fill it
@@ -0,0 +1,476 @@
+/*----------------------------------------------------------------------
+    FILE        : HttpCache.java
+    AUTHOR      : Oğuz Karan
+    LAST UPDATE : 19th Oct 2026
+
+    HttpCache class that caches GET responses fetched via HttpConnection.
+    Entries are kept in an in-memory LRU and optionally in a directory
+    whose total size is bounded by evicting the least recently used files.
+    Freshness is computed from Cache-Control max-age, Expires or the
+    Last-Modified heuristic, stale entries are revalidated with
+    If-None-Match/If-Modified-Since conditional requests
+
+    Copyleft (c) 1993 by C and System Programmers Association (CSD)
+    All Rights Free
+-----------------------------------------------------------------------*/
+package com.karandev.util.net.http;
+
+import java.io.*;
+import java.net.HttpURLConnection;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.util.LinkedHashMap;
+import java.util.Comparator;
+import java.util.Locale;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.concurrent.atomic.LongAdder;
+
+public final class HttpCache {
+    /**
+     * The default maximum total size of the entries in the directory in bytes
+     */
+    public static final long DEFAULT_MAX_DISK_SIZE = 64L * 1024 * 1024;
+
+    private final int m_maxEntries;
+    private final Path m_directory;
+    private final long m_maxDiskSize;
+    private final Clock m_clock;
+    private final Map<String, HttpCacheEntry> m_entries;
+    private final LinkedHashMap<Path, Long> m_diskEntries = new LinkedHashMap<>(16, 0.75F, true);
+    private long m_diskSize;
+    private final LongAdder m_hitCount = new LongAdder();
+    private final LongAdder m_missCount = new LongAdder();
+    private final LongAdder m_revalidationCount = new LongAdder();
+
+    private static final class CacheControl {
+        boolean noStore;
+        boolean noCache;
+        long maxAge = -1;
+
+        CacheControl(String value)
+        {
+            if (value == null)
+                return;
+
+            for (var directive : value.toLowerCase(Locale.ROOT).split(",")) {
+                directive = directive.trim();
+
+                if (directive.equals("no-store"))
+                    noStore = true;
+                else if (directive.equals("no-cache"))
+                    noCache = true;
+                else if (directive.startsWith("max-age="))
+                    try {
+                        maxAge = Long.parseLong(directive.substring(8).replace("\"", ""));
+                    }
+                    catch (NumberFormatException ignore) {
+                        maxAge = 0;
+                    }
+            }
+        }
+    }
+
+    private static String hash(String url)
+    {
+        try {
+            var digest = MessageDigest.getInstance("SHA-256").digest(url.getBytes(StandardCharsets.UTF_8));
+            var sb = new StringBuilder(digest.length * 2);
+
+            for (var b : digest)
+                sb.append(String.format("%02x", b));
+
+            return sb.toString();
+        }
+        catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    private static long computeExpiration(HttpConnection connection, CacheControl cacheControl, long now)
+    {
+        if (cacheControl.maxAge >= 0)
+            try {
+                return Math.addExact(now, Math.multiplyExact(cacheControl.maxAge, 1000));
+            }
+            catch (ArithmeticException ignore) {
+                return Long.MAX_VALUE;
+            }
+
+        var expires = connection.getExpiration();
+        var date = connection.getDate();
+
+        if (expires > 0)
+            return date > 0 ? now + expires - date : expires;
+
+        var lastModified = connection.getLastModified();
+
+        if (lastModified > 0)
+            return now + Math.max(0, (date > 0 ? date : now) - lastModified) / 10;
+
+        return now;
+    }
+
+    private Path getPath(String url)
+    {
+        return m_directory.resolve(hash(url) + ".cache");
+    }
+
+    private static long fileSize(Path path)
+    {
+        try {
+            return Files.size(path);
+        }
+        catch (IOException ignore) {
+            return 0;
+        }
+    }
+
+    private void loadDiskEntries() throws IOException
+    {
+        try (var paths = Files.list(m_directory)) {
+            var files = paths.filter(p -> p.getFileName().toString().endsWith(".cache"))
+                    .sorted(Comparator.comparingLong(p -> p.toFile().lastModified()))
+                    .collect(Collectors.toList());
+
+            synchronized (m_diskEntries) {
+                for (var path : files) {
+                    var size = fileSize(path);
+
+                    m_diskEntries.put(path, size);
+                    m_diskSize += size;
+                }
+
+                trimDisk();
+            }
+        }
+    }
+
+    //Must be called while holding the lock of m_diskEntries
+    private void trimDisk()
+    {
+        var iterator = m_diskEntries.entrySet().iterator();
+
+        while (m_diskSize > m_maxDiskSize && iterator.hasNext()) {
+            var eldest = iterator.next();
+
+            iterator.remove();
+            m_diskSize -= eldest.getValue();
+
+            try {
+                Files.deleteIfExists(eldest.getKey());
+            }
+            catch (IOException ignore) {
+
+            }
+        }
+    }
+
+    private HttpCacheEntry readFromDisk(String url)
+    {
+        if (m_directory == null)
+            return null;
+
+        var path = getPath(url);
+
+        synchronized (m_diskEntries) {
+            if (m_diskEntries.get(path) == null)
+                return null;
+        }
+
+        //A corrupt or truncated file is a miss and is removed
+        try {
+            if (Files.size(path) > m_maxDiskSize)
+                throw new IOException("Cache file is too large");
+
+            var entry = HttpCacheEntry.read(Files.readAllBytes(path));
+
+            return entry.getURL().equals(url) ? entry : null;
+        }
+        catch (IOException | RuntimeException ignore) {
+            deleteFromDisk(url);
+            return null;
+        }
+    }
+
+    private void writeToDisk(HttpCacheEntry entry) throws IOException
+    {
+        if (m_directory == null)
+            return;
+
+        var path = getPath(entry.getURL());
+        var tmp = Files.createTempFile(m_directory, null, ".tmp");
+
+        try {
+            try (var dos = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tmp)))) {
+                entry.write(dos);
+            }
+
+            var size = Files.size(tmp);
+
+            if (size > m_maxDiskSize) {
+                Files.delete(tmp);
+                deleteFromDisk(entry.getURL());
+                return;
+            }
+
+            synchronized (m_diskEntries) {
+                Files.move(tmp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+                var previous = m_diskEntries.put(path, size);
+
+                m_diskSize += size - (previous != null ? previous : 0);
+                trimDisk();
+            }
+        }
+        catch (IOException | RuntimeException ex) {
+            Files.deleteIfExists(tmp);
+            throw ex;
+        }
+    }
+
+    private void deleteFromDisk(String url)
+    {
+        if (m_directory == null)
+            return;
+
+        var path = getPath(url);
+
+        synchronized (m_diskEntries) {
+            var size = m_diskEntries.remove(path);
+
+            if (size != null)
+                m_diskSize -= size;
+
+            try {
+                Files.deleteIfExists(path);
+            }
+            catch (IOException ignore) {
+
+            }
+        }
+    }
+
+    private HttpCacheEntry lookup(String url)
+    {
+        HttpCacheEntry entry;
+
+        synchronized (m_entries) {
+            entry = m_entries.get(url);
+        }
+
+        if (entry == null && (entry = readFromDisk(url)) != null)
+            synchronized (m_entries) {
+                m_entries.put(url, entry);
+            }
+
+        return entry;
+    }
+
+    private void store(HttpCacheEntry entry) throws IOException
+    {
+        synchronized (m_entries) {
+            m_entries.put(entry.getURL(), entry);
+        }
+
+        writeToDisk(entry);
+    }
+
+    private HttpCacheEntry fetch(String url, HttpCacheEntry entry, long now) throws IOException
+    {
+        try (var connection = new HttpConnection(url)) {
+            if (entry != null) {
+                if (entry.getETag() != null)
+                    connection.setRequestProperty("If-None-Match", entry.getETag());
+
+                if (entry.getLastModified() > 0)
+                    connection.setIfModifiedSince(entry.getLastModified());
+            }
+
+            var code = connection.getResponseCode();
+            var cacheControl = new CacheControl(connection.getHeaderField("Cache-Control"));
+
+            if (entry != null && code == HttpURLConnection.HTTP_NOT_MODIFIED) {
+                m_revalidationCount.increment();
+                entry.setExpiration(computeExpiration(connection, cacheControl, now));
+                writeToDisk(entry);
+
+                return entry;
+            }
+
+            m_missCount.increment();
+
+            byte [] body;
+
+            try (var is = connection.getInputStream()) {
+                body = is.readAllBytes();
+            }
+
+            var result = new HttpCacheEntry(url, body, connection.getContentType(), connection.getHeaderField("ETag"),
+                    connection.getLastModified(), cacheControl.noCache, computeExpiration(connection, cacheControl, now));
+
+            if (code == HttpURLConnection.HTTP_OK && !cacheControl.noStore && (result.isFresh(now) || result.hasValidator()))
+                store(result);
+            else
+                invalidate(url);
+
+            return result;
+        }
+    }
+
+    public HttpCache(int maxEntries)
+    {
+        m_maxEntries = checkMaxEntries(maxEntries);
+        m_directory = null;
+        m_maxDiskSize = 0;
+        m_clock = Clock.systemUTC();
+        m_entries = createEntries();
+    }
+
+    public HttpCache(int maxEntries, Path directory) throws IOException
+    {
+        this(maxEntries, directory, DEFAULT_MAX_DISK_SIZE);
+    }
+
+    /**
+     * Creates a cache whose entries are also kept in the given directory
+     * @param maxEntries the maximum number of entries in memory
+     * @param directory the directory of the entries, it is created if it does not exist
+     * @param maxDiskSize the maximum total size of the entries in the directory in bytes, the least recently used
+     *                    entries are removed beyond it
+     * @throws IOException if the directory can not be created or listed
+     * @throws IllegalArgumentException if {@code maxEntries} or {@code maxDiskSize} is not positive
+     */
+    public HttpCache(int maxEntries, Path directory, long maxDiskSize) throws IOException
+    {
+        this(maxEntries, Files.createDirectories(directory), maxDiskSize, Clock.systemUTC());
+    }
+
+    public HttpCache(int maxEntries, Path directory, Clock clock) throws IOException
+    {
+        this(maxEntries, directory, DEFAULT_MAX_DISK_SIZE, clock);
+    }
+
+    /**
+     * Creates a cache whose entries are also kept in the given existing directory. The entries already in the
+     * directory are indexed and trimmed to {@code maxDiskSize}
+     * @param maxEntries the maximum number of entries in memory
+     * @param directory the existing directory of the entries, null for no disk tier
+     * @param maxDiskSize the maximum total size of the entries in the directory in bytes
+     * @param clock the clock by which the freshness is computed
+     * @throws IOException if the directory can not be listed
+     * @throws IllegalArgumentException if {@code maxEntries} or {@code maxDiskSize} is not positive
+     */
+    public HttpCache(int maxEntries, Path directory, long maxDiskSize, Clock clock) throws IOException
+    {
+        if (maxDiskSize <= 0)
+            throw new IllegalArgumentException("maxDiskSize must be positive");
+
+        m_maxEntries = checkMaxEntries(maxEntries);
+        m_directory = directory;
+        m_maxDiskSize = maxDiskSize;
+        m_clock = clock;
+        m_entries = createEntries();
+
+        if (directory != null)
+            loadDiskEntries();
+    }
+
+    private static int checkMaxEntries(int maxEntries)
+    {
+        if (maxEntries <= 0)
+            throw new IllegalArgumentException("maxEntries must be positive");
+
+        return maxEntries;
+    }
+
+    private Map<String, HttpCacheEntry> createEntries()
+    {
+        return new LinkedHashMap<>(16, 0.75F, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, HttpCacheEntry> eldest)
+            {
+                return size() > m_maxEntries;
+            }
+        };
+    }
+
+    /**
+     * Returns the response of the given url from the cache when it is fresh, otherwise revalidates
+     * the cached response or downloads it via {@link HttpConnection}
+     * @param urlStr the url of the resource
+     * @return the cached or downloaded response
+     * @throws IOException if an I/O error occurs or the server responds with an error code
+     */
+    public HttpCacheEntry get(String urlStr) throws IOException
+    {
+        var now = m_clock.millis();
+        var entry = lookup(urlStr);
+
+        if (entry != null && entry.isFresh(now)) {
+            m_hitCount.increment();
+            return entry;
+        }
+
+        return fetch(urlStr, entry, now);
+    }
+
+    public byte [] getBody(String urlStr) throws IOException
+    {
+        return get(urlStr).getBody();
+    }
+
+    public void invalidate(String urlStr)
+    {
+        synchronized (m_entries) {
+            m_entries.remove(urlStr);
+        }
+
+        deleteFromDisk(urlStr);
+    }
+
+    /**
+     * Removes all entries from the memory tier, the entries in the directory are kept
+     */
+    public void clear()
+    {
+        synchronized (m_entries) {
+            m_entries.clear();
+        }
+    }
+
+    public int size()
+    {
+        synchronized (m_entries) {
+            return m_entries.size();
+        }
+    }
+
+    public long getHitCount()
+    {
+        return m_hitCount.sum();
+    }
+
+    public long getMissCount()
+    {
+        return m_missCount.sum();
+    }
+
+    public long getRevalidationCount()
+    {
+        return m_revalidationCount.sum();
+    }
+
+    public double getHitRate()
+    {
+        var hits = getHitCount() + getRevalidationCount();
+        var total = hits + getMissCount();
+
+        return total == 0 ? 0 : (double)hits / total;
+    }
+}
@@ -0,0 +1,133 @@
+/*----------------------------------------------------------------------
+    FILE        : HttpCacheEntry.java
+    AUTHOR      : Oğuz Karan
+    LAST UPDATE : 19th Oct 2026
+
+    HttpCacheEntry class that holds a cached response body with its
+    validators and freshness information
+
+    Copyleft (c) 1993 by C and System Programmers Association (CSD)
+    All Rights Free
+-----------------------------------------------------------------------*/
+package com.karandev.util.net.http;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+
+public final class HttpCacheEntry {
+    private final String m_url;
+    private final byte [] m_body;
+    private final String m_contentType;
+    private final String m_eTag;
+    private final long m_lastModified;
+    private final boolean m_noCache;
+    private volatile long m_expiration;
+
+    private static void writeNullable(DataOutputStream dos, String str) throws IOException
+    {
+        dos.writeBoolean(str != null);
+
+        if (str != null)
+            dos.writeUTF(str);
+    }
+
+    private static String readNullable(DataInputStream dis) throws IOException
+    {
+        return dis.readBoolean() ? dis.readUTF() : null;
+    }
+
+    HttpCacheEntry(String url, byte [] body, String contentType, String eTag, long lastModified, boolean noCache, long expiration)
+    {
+        m_url = url;
+        m_body = body;
+        m_contentType = contentType;
+        m_eTag = eTag;
+        m_lastModified = lastModified;
+        m_noCache = noCache;
+        m_expiration = expiration;
+    }
+
+    static HttpCacheEntry read(byte [] data) throws IOException
+    {
+        var dis = new DataInputStream(new ByteArrayInputStream(data));
+        var url = dis.readUTF();
+        var contentType = readNullable(dis);
+        var eTag = readNullable(dis);
+        var lastModified = dis.readLong();
+        var noCache = dis.readBoolean();
+        var expiration = dis.readLong();
+        var length = dis.readInt();
+
+        if (length < 0 || length != dis.available())
+            throw new IOException("Invalid body length");
+
+        var body = new byte[length];
+
+        dis.readFully(body);
+
+        return new HttpCacheEntry(url, body, contentType, eTag, lastModified, noCache, expiration);
+    }
+
+    void write(DataOutputStream dos) throws IOException
+    {
+        dos.writeUTF(m_url);
+        writeNullable(dos, m_contentType);
+        writeNullable(dos, m_eTag);
+        dos.writeLong(m_lastModified);
+        dos.writeBoolean(m_noCache);
+        dos.writeLong(m_expiration);
+        dos.writeInt(m_body.length);
+        dos.write(m_body);
+    }
+
+    void setExpiration(long expiration)
+    {
+        m_expiration = expiration;
+    }
+
+    boolean isFresh(long now)
+    {
+        return !m_noCache && now < m_expiration;
+    }
+
+    boolean hasValidator()
+    {
+        return m_eTag != null || m_lastModified > 0;
+    }
+
+    public String getURL()
+    {
+        return m_url;
+    }
+
+    /**
+     * Returns the cached body. The array is shared by all callers and must not be modified
+     * @return the cached body
+     */
+    public byte [] getBody()
+    {
+        return m_body;
+    }
+
+    public String getContentType()
+    {
+        return m_contentType;
+    }
+
+    public String getETag()
+    {
+        return m_eTag;
+    }
+
+    public long getLastModified()
+    {
+        return m_lastModified;
+    }
+
+    public long getExpiration()
+    {
+        return m_expiration;
+    }
+}
@@ -0,0 +1,171 @@
+/*----------------------------------------------------------------------
+    FILE        : HttpResponseConnection.java
+    AUTHOR      : Oğuz Karan
+    LAST UPDATE : 19th Oct 2026
+
+    HttpResponseConnection class that adapts a streamed
+    java.net.http.HttpResponse to the getters of HttpConnection
+
+    Copyleft (c) 1993 by C and System Programmers Association (CSD)
+    All Rights Free
+-----------------------------------------------------------------------*/
+package com.karandev.util.net.http;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.net.http.HttpResponse;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+import java.util.Map;
+
+public final class HttpResponseConnection implements Closeable {
+    private final HttpResponse<InputStream> m_httpResponse;
+
+    public HttpResponseConnection(HttpResponse<InputStream> httpResponse)
+    {
+        m_httpResponse = httpResponse;
+    }
+
+    public HttpResponse<InputStream> getHttpResponse()
+    {
+        return m_httpResponse;
+    }
+
+    public URL getURL()
+    {
+        try {
+            return m_httpResponse.uri().toURL();
+        }
+        catch (MalformedURLException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    public String getRequestMethod()
+    {
+        return m_httpResponse.request().method();
+    }
+
+    public int getResponseCode()
+    {
+        return m_httpResponse.statusCode();
+    }
+
+    /**
+     * HTTP/2 does not carry reason phrases and {@link HttpResponse} does not expose the HTTP/1.1 one,
+     * so unlike {@link HttpConnection#getResponseMessage()} this method always returns null
+     * @return null
+     */
+    public String getResponseMessage()
+    {
+        return null;
+    }
+
+    public String getHeaderField(String name)
+    {
+        var values = m_httpResponse.headers().allValues(name);
+
+        return values.isEmpty() ? null : values.get(values.size() - 1);
+    }
+
+    public Map<String, List<String>> getHeaderFields()
+    {
+        return m_httpResponse.headers().map();
+    }
+
+    public int getHeaderFieldInt(String name, int Default)
+    {
+        try {
+            return Integer.parseInt(getHeaderField(name));
+        }
+        catch (NumberFormatException ignore) {
+            return Default;
+        }
+    }
+
+    public long getHeaderFieldLong(String name, long Default)
+    {
+        try {
+            return Long.parseLong(getHeaderField(name));
+        }
+        catch (NumberFormatException ignore) {
+            return Default;
+        }
+    }
+
+    public long getHeaderFieldDate(String name, long Default)
+    {
+        var value = getHeaderField(name);
+
+        if (value == null)
+            return Default;
+
+        try {
+            return ZonedDateTime.parse(value, DateTimeFormatter.RFC_1123_DATE_TIME).toInstant().toEpochMilli();
+        }
+        catch (DateTimeParseException ignore) {
+            return Default;
+        }
+    }
+
+    public int getContentLength()
+    {
+        var length = getContentLengthLong();
+
+        return length <= Integer.MAX_VALUE ? (int)length : -1;
+    }
+
+    public long getContentLengthLong()
+    {
+        return getHeaderFieldLong("content-length", -1);
+    }
+
+    public String getContentType()
+    {
+        return getHeaderField("content-type");
+    }
+
+    public String getContentEncoding()
+    {
+        return getHeaderField("content-encoding");
+    }
+
+    public long getExpiration()
+    {
+        return getHeaderFieldDate("expires", 0);
+    }
+
+    public long getDate()
+    {
+        return getHeaderFieldDate("date", 0);
+    }
+
+    public long getLastModified()
+    {
+        return getHeaderFieldDate("last-modified", 0);
+    }
+
+    public InputStream getInputStream() throws IOException
+    {
+        if (getResponseCode() >= 400)
+            throw new IOException(String.format("Server returned HTTP response code: %d for URL: %s", getResponseCode(), m_httpResponse.uri()));
+
+        return m_httpResponse.body();
+    }
+
+    public InputStream getErrorStream()
+    {
+        return getResponseCode() >= 400 ? m_httpResponse.body() : null;
+    }
+
+    @Override
+    public void close() throws IOException
+    {
+        m_httpResponse.body().close();
+    }
+}
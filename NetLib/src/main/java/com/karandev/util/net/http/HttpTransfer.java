@@ -0,0 +1,326 @@
+/*----------------------------------------------------------------------
+    FILE        : HttpTransfer.java
+    AUTHOR      : Oğuz Karan
+    LAST UPDATE : 19th Oct 2026
+
+    Utility class for streaming downloads and uploads via HttpConnection.
+    Downloads are written straight into a FileChannel, interrupted
+    downloads are resumed with Range and If-Range requests, the validator
+    of the resource is kept in a sidecar file until the download
+    completes, and large downloads can be
+    split into parallel ranges. Uploads select fixed length or chunked
+    streaming mode according to the size of the source
+
+    Copyleft (c) 1993 by C and System Programmers Association (CSD)
+    All Rights Free
+-----------------------------------------------------------------------*/
+package com.karandev.util.net.http;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.HttpURLConnection;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executors;
+
+public final class HttpTransfer {
+    private static final int CHUNK_LENGTH = 8192;
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final long MIN_PARALLEL_RANGE_LENGTH = 1024 * 1024;
+
+    private HttpTransfer()
+    {
+    }
+
+    private static long transfer(InputStream is, FileChannel fileChannel, long position, long count) throws IOException
+    {
+        //Positional writes are used instead of transferFrom, since transferFrom does not write beyond the end of the file
+        var src = Channels.newChannel(is);
+        var bb = ByteBuffer.allocate(BUFFER_SIZE);
+        var total = 0L;
+
+        while (total < count) {
+            bb.clear().limit((int)Math.min(BUFFER_SIZE, count - total));
+
+            if (src.read(bb) < 0)
+                break;
+
+            bb.flip();
+
+            while (bb.hasRemaining())
+                total += fileChannel.write(bb, position + total);
+        }
+
+        return total;
+    }
+
+    private static Path validatorPath(Path path)
+    {
+        return path.resolveSibling(path.getFileName() + ".validator");
+    }
+
+    private static String getValidator(HttpConnection connection)
+    {
+        //If-Range accepts only a strong entity tag or a date
+        var eTag = connection.getHeaderField("ETag");
+
+        if (eTag != null && !eTag.startsWith("W/"))
+            return eTag;
+
+        return connection.getHeaderField("Last-Modified");
+    }
+
+    private static long parseContentRangeLength(String contentRange)
+    {
+        //Content-Range of a 416 response: bytes */<length>
+        if (contentRange == null || !contentRange.startsWith("bytes */"))
+            return -1;
+
+        try {
+            return Long.parseLong(contentRange.substring(8).trim());
+        }
+        catch (NumberFormatException ignore) {
+            return -1;
+        }
+    }
+
+    private static long parseContentRangeStart(String contentRange)
+    {
+        //Content-Range: bytes <start>-<end>/<length>
+        if (contentRange == null || !contentRange.startsWith("bytes "))
+            return -1;
+
+        var dashIndex = contentRange.indexOf('-');
+
+        try {
+            return dashIndex < 0 ? -1 : Long.parseLong(contentRange.substring(6, dashIndex).trim());
+        }
+        catch (NumberFormatException ignore) {
+            return -1;
+        }
+    }
+
+    private static void checkResponseCode(HttpConnection connection, int code) throws IOException
+    {
+        if (code >= 400)
+            throw new IOException(String.format("Server returned HTTP response code: %d for URL: %s", code, connection.getURL()));
+    }
+
+    private static void downloadRange(String urlStr, String validator, FileChannel fileChannel, long start, long end) throws IOException
+    {
+        try (var connection = new HttpConnection(urlStr)) {
+            connection.setRequestProperty("Range", String.format("bytes=%d-%d", start, end));
+            connection.setRequestProperty("If-Range", validator);
+
+            var code = connection.getResponseCode();
+
+            //Any response other than the requested part, including a 200 sent since the resource has changed, fails
+            if (code != HttpURLConnection.HTTP_PARTIAL || parseContentRangeStart(connection.getHeaderField("Content-Range")) != start)
+                throw new IOException(String.format("Range %d-%d is not served for URL: %s, response code: %d", start, end, urlStr, code));
+
+            try (var is = connection.getInputStream()) {
+                if (transfer(is, fileChannel, start, end - start + 1) != end - start + 1)
+                    throw new IOException(String.format("Range %d-%d is incomplete for URL: %s", start, end, urlStr));
+            }
+        }
+    }
+
+    /**
+     * Downloads the resource into the given file. The validator of the resource (a strong {@code ETag} or
+     * {@code Last-Modified}) is kept in the sidecar file {@code <file>.validator} until the download completes.
+     * If the file and its validator exist, the rest of the resource is requested with {@code Range} and
+     * {@code If-Range} headers, so the file is rewritten from the beginning when the resource has changed or the
+     * server ignores the range. An existing file without a validator is rewritten as well
+     * @param urlStr the url of the resource
+     * @param path the file which the resource is written into
+     * @return the length of the file after the download
+     * @throws IOException if an I/O error occurs or the server responds with an error code
+     */
+    public static long download(String urlStr, Path path) throws IOException
+    {
+        var validatorPath = validatorPath(path);
+        var existing = Files.exists(path) ? Files.size(path) : 0;
+        var validator = existing > 0 && Files.exists(validatorPath) ? Files.readString(validatorPath).trim() : "";
+
+        try (var connection = new HttpConnection(urlStr);
+             var fileChannel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+            if (!validator.isEmpty()) {
+                connection.setRequestProperty("Range", String.format("bytes=%d-", existing));
+                connection.setRequestProperty("If-Range", validator);
+            }
+
+            var code = connection.getResponseCode();
+
+            if (!validator.isEmpty() && code == 416) { //Range Not Satisfiable: complete only if the lengths are the same
+                if (parseContentRangeLength(connection.getHeaderField("Content-Range")) == existing) {
+                    Files.deleteIfExists(validatorPath);
+                    return existing;
+                }
+            }
+            else {
+                checkResponseCode(connection, code);
+
+                var position = 0L;
+
+                if (!validator.isEmpty() && code == HttpURLConnection.HTTP_PARTIAL
+                        && parseContentRangeStart(connection.getHeaderField("Content-Range")) == existing)
+                    position = existing;
+                else {
+                    fileChannel.truncate(0);
+                    validator = getValidator(connection);
+
+                    if (validator != null)
+                        Files.writeString(validatorPath, validator);
+                    else
+                        Files.deleteIfExists(validatorPath);
+                }
+
+                try (var is = connection.getInputStream()) {
+                    var length = position + transfer(is, fileChannel, position, Long.MAX_VALUE - position);
+
+                    Files.deleteIfExists(validatorPath);
+
+                    return length;
+                }
+            }
+        }
+
+        //The local file does not match the resource, it is downloaded from the beginning
+        Files.deleteIfExists(validatorPath);
+
+        return download(urlStr, path);
+    }
+
+    /**
+     * Downloads the resource into the given file by splitting it into at most {@code parallelism}
+     * ranges that are fetched concurrently. Every range is requested with {@code If-Range} carrying the validator of
+     * the {@code HEAD} response, so the parts of different versions of the resource are never mixed. Falls back to
+     * {@link #download(String, Path)} when the server does not advertise {@code Accept-Ranges: bytes}, there is no
+     * strong validator, the length is unknown or the resource is small
+     * @param urlStr the url of the resource
+     * @param path the file which the resource is written into, it is overwritten
+     * @param parallelism the max number of concurrent range requests
+     * @return the length of the downloaded resource
+     * @throws IOException if an I/O error occurs, the server responds with an error code or a range is not served
+     * with 206 Partial Content, e.g. since the resource has changed during the download
+     */
+    public static long download(String urlStr, Path path, int parallelism) throws IOException
+    {
+        long length;
+        boolean acceptRanges;
+        String validator;
+
+        try (var connection = new HttpConnection(urlStr)) {
+            connection.setRequestMethod("HEAD");
+            checkResponseCode(connection, connection.getResponseCode());
+            length = connection.getContentLengthLong();
+            acceptRanges = "bytes".equalsIgnoreCase(connection.getHeaderField("Accept-Ranges"));
+            validator = getValidator(connection);
+        }
+
+        var ranges = (int)Math.min(parallelism, length / MIN_PARALLEL_RANGE_LENGTH);
+
+        if (!acceptRanges || validator == null || ranges <= 1) {
+            Files.deleteIfExists(path);
+            return download(urlStr, path);
+        }
+
+        var threadPool = Executors.newFixedThreadPool(ranges);
+
+        try (var fileChannel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            var futures = new ArrayList<CompletableFuture<Void>>(ranges);
+            var rangeLength = (length + ranges - 1) / ranges;
+
+            for (var start = 0L; start < length; start += rangeLength) {
+                var begin = start;
+                var end = Math.min(length, start + rangeLength) - 1;
+
+                futures.add(CompletableFuture.runAsync(() -> {
+                    try {
+                        downloadRange(urlStr, validator, fileChannel, begin, end);
+                    }
+                    catch (IOException ex) {
+                        throw new UncheckedIOException(ex);
+                    }
+                }, threadPool));
+            }
+
+            CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+
+            return length;
+        }
+        catch (CompletionException ex) {
+            if (ex.getCause() instanceof UncheckedIOException)
+                throw ((UncheckedIOException)ex.getCause()).getCause();
+
+            throw ex;
+        }
+        finally {
+            threadPool.shutdownNow();
+        }
+    }
+
+    /**
+     * Uploads the given stream with the given method. A non negative {@code length} selects
+     * fixed length streaming mode, otherwise the body is sent in chunked streaming mode
+     * @param urlStr the url of the resource
+     * @param method the request method such as POST or PUT
+     * @param is the source of the body
+     * @param length the length of the body or a negative value if it is unknown
+     * @return the response code
+     * @throws IOException if an I/O error occurs
+     */
+    public static int upload(String urlStr, String method, InputStream is, long length) throws IOException
+    {
+        try (var connection = new HttpConnection(urlStr)) {
+            connection.setRequestMethod(method);
+            connection.setDoOutput(true);
+
+            if (length >= 0)
+                connection.setFixedLengthStreamingMode(length);
+            else
+                connection.setChunkedStreamingMode(CHUNK_LENGTH);
+
+            try (var os = connection.getOutputStream()) {
+                is.transferTo(os);
+            }
+
+            return connection.getResponseCode();
+        }
+    }
+
+    /**
+     * Uploads the given file with the given method in fixed length streaming mode
+     * @param urlStr the url of the resource
+     * @param method the request method such as POST or PUT
+     * @param path the file whose content is the body
+     * @return the response code
+     * @throws IOException if an I/O error occurs
+     */
+    public static int upload(String urlStr, String method, Path path) throws IOException
+    {
+        try (var is = Files.newInputStream(path)) {
+            return upload(urlStr, method, is, Files.size(path));
+        }
+    }
+
+    /**
+     * Uploads the given file with POST in fixed length streaming mode
+     * @param urlStr the url of the resource
+     * @param path the file whose content is the body
+     * @return the response code
+     * @throws IOException if an I/O error occurs
+     */
+    public static int upload(String urlStr, Path path) throws IOException
+    {
+        return upload(urlStr, "POST", path);
+    }
+}
@@ -0,0 +1,153 @@
+/*----------------------------------------------------------------------
+    FILE        : PooledHttpClient.java
+    AUTHOR      : Oğuz Karan
+    LAST UPDATE : 19th Oct 2026
+
+    PooledHttpClient class that wraps java.net.http.HttpClient.
+    A single client keeps and reuses its connections, multiplexes the
+    requests over HTTP/2 where the server supports it and falls back to
+    HTTP/1.1 otherwise
+
+    Copyleft (c) 1993 by C and System Programmers Association (CSD)
+    All Rights Free
+-----------------------------------------------------------------------*/
+package com.karandev.util.net.http;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.stream.Stream;
+
+public final class PooledHttpClient {
+    private static final Duration DEFAULT_CONNECT_TIMEOUT = Duration.ofSeconds(10);
+    private final HttpClient m_httpClient;
+
+    private static class SharedHolder {
+        private static final PooledHttpClient INSTANCE = new PooledHttpClient(newBuilder().build());
+    }
+
+    private static HttpClient.Builder newBuilder()
+    {
+        return HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_2)
+                .followRedirects(HttpClient.Redirect.NORMAL)
+                .connectTimeout(DEFAULT_CONNECT_TIMEOUT);
+    }
+
+    public PooledHttpClient()
+    {
+        this(newBuilder().build());
+    }
+
+    public PooledHttpClient(Executor executor)
+    {
+        this(newBuilder().executor(executor).build());
+    }
+
+    public PooledHttpClient(HttpClient httpClient)
+    {
+        m_httpClient = httpClient;
+    }
+
+    /**
+     * Returns the process wide client. Sharing it lets every caller reuse the same connection pool
+     * @return the shared PooledHttpClient object
+     */
+    public static PooledHttpClient getShared()
+    {
+        return SharedHolder.INSTANCE;
+    }
+
+    public static HttpRequest.Builder newRequest(String urlStr)
+    {
+        return HttpRequest.newBuilder(URI.create(urlStr));
+    }
+
+    public HttpClient getHttpClient()
+    {
+        return m_httpClient;
+    }
+
+    public <T> HttpResponse<T> send(HttpRequest request, HttpResponse.BodyHandler<T> bodyHandler) throws IOException, InterruptedException
+    {
+        return m_httpClient.send(request, bodyHandler);
+    }
+
+    public <T> CompletableFuture<HttpResponse<T>> sendAsync(HttpRequest request, HttpResponse.BodyHandler<T> bodyHandler)
+    {
+        return m_httpClient.sendAsync(request, bodyHandler);
+    }
+
+    /**
+     * Sends the given request and returns an {@link HttpConnection} like view of the response
+     * whose body is streamed from the connection
+     * @param request the request which will be sent
+     * @return the response view that should be closed after the body is consumed
+     * @throws IOException if an I/O error occurs while sending or receiving
+     * @throws InterruptedException if the operation is interrupted
+     */
+    public HttpResponseConnection open(HttpRequest request) throws IOException, InterruptedException
+    {
+        return new HttpResponseConnection(send(request, HttpResponse.BodyHandlers.ofInputStream()));
+    }
+
+    public HttpResponseConnection open(String urlStr) throws IOException, InterruptedException
+    {
+        return open(newRequest(urlStr).GET().build());
+    }
+
+    public CompletableFuture<HttpResponseConnection> openAsync(HttpRequest request)
+    {
+        return sendAsync(request, HttpResponse.BodyHandlers.ofInputStream()).thenApply(HttpResponseConnection::new);
+    }
+
+    public CompletableFuture<HttpResponseConnection> openAsync(String urlStr)
+    {
+        return openAsync(newRequest(urlStr).GET().build());
+    }
+
+    public String getString(String urlStr) throws IOException, InterruptedException
+    {
+        return send(newRequest(urlStr).GET().build(), HttpResponse.BodyHandlers.ofString()).body();
+    }
+
+    public CompletableFuture<String> getStringAsync(String urlStr)
+    {
+        return sendAsync(newRequest(urlStr).GET().build(), HttpResponse.BodyHandlers.ofString()).thenApply(HttpResponse::body);
+    }
+
+    public InputStream getInputStream(String urlStr) throws IOException, InterruptedException
+    {
+        return send(newRequest(urlStr).GET().build(), HttpResponse.BodyHandlers.ofInputStream()).body();
+    }
+
+    /**
+     * Returns the lines of the response body lazily as they arrive. The stream should be closed
+     * to release the connection when it is not fully consumed
+     * @param urlStr the url of the resource
+     * @return the lines of the response body
+     * @throws IOException if an I/O error occurs while sending or receiving
+     * @throws InterruptedException if the operation is interrupted
+     */
+    public Stream<String> getLines(String urlStr) throws IOException, InterruptedException
+    {
+        return send(newRequest(urlStr).GET().build(), HttpResponse.BodyHandlers.ofLines()).body();
+    }
+
+    public Path download(String urlStr, Path path) throws IOException, InterruptedException
+    {
+        return send(newRequest(urlStr).GET().build(), HttpResponse.BodyHandlers.ofFile(path)).body();
+    }
+
+    public CompletableFuture<Path> downloadAsync(String urlStr, Path path)
+    {
+        return sendAsync(newRequest(urlStr).GET().build(), HttpResponse.BodyHandlers.ofFile(path)).thenApply(HttpResponse::body);
+    }
+}
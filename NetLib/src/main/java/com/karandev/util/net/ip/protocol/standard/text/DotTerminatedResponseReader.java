@@ -0,0 +1,34 @@
+/*----------------------------------------------------------------------
+	FILE        : DotTerminatedResponseReader.java
+	AUTHOR      : Oğuz Karan
+	LAST UPDATE : 19th Oct 2026
+
+	DotTerminatedResponseReader class for POP3 like protocols whose status
+	lines start with +OK/-ERR and whose multi-line data ends with a line
+	that contains a single dot
+
+	Copyleft (c) 1993 by C and System Programmers Association (CSD)
+	All Rights Free
+-----------------------------------------------------------------------*/
+package com.karandev.util.net.ip.protocol.standard.text;
+
+import java.io.IOException;
+import java.util.List;
+
+public final class DotTerminatedResponseReader implements IResponseReader {
+    public static final DotTerminatedResponseReader INSTANCE = new DotTerminatedResponseReader();
+
+    private DotTerminatedResponseReader()
+    {
+    }
+
+    @Override
+    public TextResponse read(TextSession session, boolean multiLine) throws IOException
+    {
+        var statusLine = session.readLine();
+        var positive = statusLine.startsWith("+OK");
+        var lines = positive && multiLine ? session.readDotTerminated() : List.<String>of();
+
+        return new TextResponse(positive ? "+OK" : "-ERR", positive, statusLine, lines);
+    }
+}
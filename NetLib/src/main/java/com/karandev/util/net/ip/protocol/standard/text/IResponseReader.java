@@ -0,0 +1,18 @@
+/*----------------------------------------------------------------------
+	FILE        : IResponseReader.java
+	AUTHOR      : Oğuz Karan
+	LAST UPDATE : 19th Oct 2026
+
+	IResponseReader interface that parses the responses of a text based
+	protocol from a TextSession
+
+	Copyleft (c) 1993 by C and System Programmers Association (CSD)
+	All Rights Free
+-----------------------------------------------------------------------*/
+package com.karandev.util.net.ip.protocol.standard.text;
+
+import java.io.IOException;
+
+public interface IResponseReader {
+    TextResponse read(TextSession session, boolean multiLine) throws IOException;
+}
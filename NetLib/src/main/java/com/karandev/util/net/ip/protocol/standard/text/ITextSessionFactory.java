@@ -0,0 +1,18 @@
+/*----------------------------------------------------------------------
+	FILE        : ITextSessionFactory.java
+	AUTHOR      : Oğuz Karan
+	LAST UPDATE : 19th Oct 2026
+
+	ITextSessionFactory interface that connects and logs in a new
+	TextSession for TextSessionPool
+
+	Copyleft (c) 1993 by C and System Programmers Association (CSD)
+	All Rights Free
+-----------------------------------------------------------------------*/
+package com.karandev.util.net.ip.protocol.standard.text;
+
+import java.io.IOException;
+
+public interface ITextSessionFactory {
+    TextSession create(String host, int port, String username, String password) throws IOException;
+}
@@ -1,7 +1,7 @@
 /*----------------------------------------------------------------------
 	FILE        : Pop3Client.java
 	AUTHOR      : Oğuz Karan
-	LAST UPDATE : 21.04.2023
+	LAST UPDATE : 19th Oct 2026
 
 	Pop3Client class for POP3 protocol operations
 
@@ -11,85 +11,230 @@
 package com.karandev.util.net.ip.protocol.standard.text;
 
 import java.io.*;
-import java.net.Socket;
+import java.nio.charset.Charset;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.IntFunction;
 
 public final class Pop3Client extends Client implements ILogin {
+    private static final int DEFAULT_PORT = 110;
+    private static final int PIPELINE_WINDOW = 32;
+    public static final TextCommand NOOP = TextCommand.of("NOOP");
+    public static final TextCommand QUIT = TextCommand.of("QUIT");
     private final String m_username;
     private final String m_password;
-    private final BufferedWriter m_bw;
-    private final BufferedReader m_br;
+    private final TextSession m_session;
+    private List<String> m_capabilities;
+
+    /**
+     * Factory for {@link TextSessionPool} that connects to a POP3 server and logs in
+     */
+    public static final ITextSessionFactory SESSION_FACTORY = (host, port, username, password) -> {
+        var session = connect(host, port);
+
+        try {
+            if (!login(session, username, password))
+                throw new IOException("POP3 login failed for " + username);
+
+            return session;
+        }
+        catch (IOException ex) {
+            session.close();
+            throw ex;
+        }
+    };
+
+    private static TextSession connect(String server, int port) throws IOException
+    {
+        var session = new TextSession(server, port, Charset.defaultCharset(), DotTerminatedResponseReader.INSTANCE);
+        var greeting = session.readResponse(false);
+
+        if (!greeting.isPositive()) {
+            session.close();
+            throw new IOException("POP3 server rejected the connection: " + greeting);
+        }
+
+        return session;
+    }
+
+    private static boolean login(TextSession session, String username, String password) throws IOException
+    {
+        if (!session.send(TextCommand.of(String.format("USER %s", username))).isPositive())
+            return false;
+
+        return session.send(TextCommand.of(String.format("PASS %s", password))).isPositive();
+    }
 
     private List<String> getResult() throws IOException
     {
         String text;
         var result = new ArrayList<String>();
 
-        while (!(text = m_br.readLine()).equals("."))
+        while (!(text = m_session.readLine()).equals("."))
             result.add(text);
 
         return result;
     }
 
-    private boolean login(String username, String password) throws IOException
+    private Pop3Client(TextSession session, String username, String password)
     {
-        m_bw.write(String.format("USER %s\r\n", username));
-        m_bw.flush();
-        var result = m_br.readLine();
+        m_username = username;
+        m_password = password;
+        m_session = session;
+        socket = session.getSocket();
+    }
 
-        if (result.startsWith("-ERR"))
-            return false;
+    public Pop3Client(String server, String username, String password) throws IOException
+    {
+        this(server, DEFAULT_PORT, username, password);
+    }
 
-        m_bw.write(String.format("PASS %s\r\n", password));
-        m_bw.flush();
-        result = m_br.readLine();
+    public Pop3Client(String server, int port, String username, String password) throws IOException
+    {
+        this(connect(server, port), username, password);
+    }
 
-        return result.startsWith("+OK");
+    /**
+     * Creates a client over an already connected session, e.g. one borrowed from a {@link TextSessionPool}
+     * created with {@link #SESSION_FACTORY}. Such a session is already logged in, so {@link #login()} need not be called
+     * and the session should be given back to the pool instead of closing the client
+     * @param session the connected session
+     */
+    public Pop3Client(TextSession session)
+    {
+        this(session, null, null);
     }
 
-    public Pop3Client(String server, String username, String password) throws IOException
+    public TextSession getSession()
     {
-        m_username = username;
-        m_password = password;
-        socket = new Socket(server, 110);
-        m_br = new BufferedReader(new InputStreamReader(socket.getInputStream()));
-        m_bw = new BufferedWriter(new OutputStreamWriter(socket.getOutputStream()));
+        return m_session;
     }
 
     @Override
     public boolean login() throws IOException
     {
-        return login(m_username, m_password);
+        return login(m_session, m_username, m_password);
     }
 
     @Override
     public boolean logout() throws IOException
     {
-        m_bw.write("QUIT %s\r\n");
-        m_bw.flush();
-        m_br.readLine();
+        m_session.send(QUIT);
 
         return true;
     }
 
+    /**
+     * Returns the capabilities of the server via the CAPA command, the result is cached
+     * @return the capability lines, empty if the server does not support CAPA
+     * @throws IOException if an I/O error occurs
+     */
+    public List<String> getCapabilities() throws IOException
+    {
+        if (m_capabilities == null)
+            m_capabilities = m_session.send(TextCommand.multiLine("CAPA")).getLines();
+
+        return m_capabilities;
+    }
+
+    public boolean supportsPipelining() throws IOException
+    {
+        return getCapabilities().stream().anyMatch(c -> c.equalsIgnoreCase("PIPELINING"));
+    }
+
+    /**
+     * Returns the number of messages in the maildrop via the STAT command
+     * @return the number of messages
+     * @throws IOException if an I/O error occurs or the server responds with -ERR
+     */
+    public int getMessageCount() throws IOException
+    {
+        var response = m_session.send(TextCommand.of("STAT"));
+
+        if (!response.isPositive())
+            throw new IOException("STAT failed: " + response);
+
+        return Integer.parseInt(response.getStatusLine().split(" ")[1]);
+    }
+
     public List<String> listEmail() throws IOException
     {
-        m_bw.write("LIST\r\n");
-        m_bw.flush();
+        m_session.write("LIST");
+        m_session.flush();
 
         return getResult();
     }
 
     public List<String> retreiveEmail(int no) throws IOException
     {
-        m_bw.write(String.format("RETR %d\r\n", no));
-        m_bw.flush();
+        m_session.write(String.format("RETR %d", no));
+        m_session.flush();
 
         return getResult();
     }
 
-    //...
+    /**
+     * Retrieves the given message and writes it to the given stream line by line without materializing it
+     * @param no the message number
+     * @param os the stream which the message is written to, it is not closed
+     * @return the number of bytes written
+     * @throws IOException if an I/O error occurs or the server responds with -ERR
+     */
+    public long retrieveEmail(int no, OutputStream os) throws IOException
+    {
+        var response = m_session.send(TextCommand.of(String.format("RETR %d", no)));
+
+        if (!response.isPositive())
+            throw new IOException("RETR failed: " + response);
+
+        return m_session.readDotTerminated(os);
+    }
+
+    /**
+     * Retrieves the given messages and writes each one to the stream created by the given factory.
+     * If the server advertises PIPELINING the RETR commands are sent in windows without waiting
+     * for the responses, otherwise one at a time. Memory usage is bounded by a single line.
+     * Messages that the server responds with -ERR are skipped and their streams are not created.
+     * If an exception is thrown the pipelined responses are left unread, so the client should be closed
+     * @param messageNumbers the message numbers
+     * @param outputStreamFactory the factory that creates the stream for a message number, the stream is closed after the message is written
+     * @return the number of retrieved messages
+     * @throws IOException if an I/O error occurs
+     */
+    public int retrieveAll(int [] messageNumbers, IntFunction<? extends OutputStream> outputStreamFactory) throws IOException
+    {
+        var window = supportsPipelining() ? PIPELINE_WINDOW : 1;
+        var sent = 0;
+        var count = 0;
+
+        for (var received = 0; received < messageNumbers.length; ++received) {
+            while (sent < messageNumbers.length && sent - received < window)
+                m_session.write(String.format("RETR %d", messageNumbers[sent++]));
+
+            m_session.flush();
+
+            if (!m_session.readResponse(false).isPositive())
+                continue;
+
+            try (var os = outputStreamFactory.apply(messageNumbers[received])) {
+                m_session.readDotTerminated(os);
+            }
+
+            ++count;
+        }
+
+        return count;
+    }
+
+    public int retrieveAll(IntFunction<? extends OutputStream> outputStreamFactory) throws IOException
+    {
+        var messageNumbers = new int[getMessageCount()];
+
+        for (var i = 0; i < messageNumbers.length; ++i)
+            messageNumbers[i] = i + 1;
+
+        return retrieveAll(messageNumbers, outputStreamFactory);
+    }
 
     @Override
     public void close() throws IOException
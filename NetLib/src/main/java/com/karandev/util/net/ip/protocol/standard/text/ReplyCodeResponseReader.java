@@ -0,0 +1,47 @@
+/*----------------------------------------------------------------------
+	FILE        : ReplyCodeResponseReader.java
+	AUTHOR      : Oğuz Karan
+	LAST UPDATE : 19th Oct 2026
+
+	ReplyCodeResponseReader class for SMTP/FTP like protocols whose
+	responses start with a three digit reply code and whose continuation
+	lines have a dash after the code (e.g. 250-SIZE ... 250 OK)
+
+	Copyleft (c) 1993 by C and System Programmers Association (CSD)
+	All Rights Free
+-----------------------------------------------------------------------*/
+package com.karandev.util.net.ip.protocol.standard.text;
+
+import java.io.IOException;
+import java.util.ArrayList;
+
+public final class ReplyCodeResponseReader implements IResponseReader {
+    public static final ReplyCodeResponseReader INSTANCE = new ReplyCodeResponseReader();
+
+    private ReplyCodeResponseReader()
+    {
+    }
+
+    private static boolean isContinuation(String line)
+    {
+        return line.length() > 3 && line.charAt(3) == '-';
+    }
+
+    @Override
+    public TextResponse read(TextSession session, boolean multiLine) throws IOException
+    {
+        var lines = new ArrayList<String>();
+        String line;
+
+        while (isContinuation(line = session.readLine()))
+            lines.add(line.substring(4));
+
+        if (line.length() < 3)
+            throw new IOException("Invalid reply: " + line);
+
+        var code = line.substring(0, 3);
+        var first = code.charAt(0);
+
+        return new TextResponse(code, first >= '1' && first <= '3', line, lines);
+    }
+}
@@ -0,0 +1,48 @@
+/*----------------------------------------------------------------------
+	FILE        : TextCommand.java
+	AUTHOR      : Oğuz Karan
+	LAST UPDATE : 19th Oct 2026
+
+	TextCommand class for the commands of text based protocols
+
+	Copyleft (c) 1993 by C and System Programmers Association (CSD)
+	All Rights Free
+-----------------------------------------------------------------------*/
+package com.karandev.util.net.ip.protocol.standard.text;
+
+public final class TextCommand {
+    private final String m_text;
+    private final boolean m_multiLine;
+
+    private TextCommand(String text, boolean multiLine)
+    {
+        m_text = text;
+        m_multiLine = multiLine;
+    }
+
+    public static TextCommand of(String text)
+    {
+        return new TextCommand(text, false);
+    }
+
+    public static TextCommand multiLine(String text)
+    {
+        return new TextCommand(text, true);
+    }
+
+    public String getText()
+    {
+        return m_text;
+    }
+
+    public boolean isMultiLine()
+    {
+        return m_multiLine;
+    }
+
+    @Override
+    public String toString()
+    {
+        return m_text;
+    }
+}
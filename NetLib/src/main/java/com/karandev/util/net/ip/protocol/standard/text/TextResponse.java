@@ -0,0 +1,58 @@
+/*----------------------------------------------------------------------
+	FILE        : TextResponse.java
+	AUTHOR      : Oğuz Karan
+	LAST UPDATE : 19th Oct 2026
+
+	TextResponse class for the responses of text based protocols
+
+	Copyleft (c) 1993 by C and System Programmers Association (CSD)
+	All Rights Free
+-----------------------------------------------------------------------*/
+package com.karandev.util.net.ip.protocol.standard.text;
+
+import java.util.List;
+
+public final class TextResponse {
+    private final String m_code;
+    private final boolean m_positive;
+    private final String m_statusLine;
+    private final List<String> m_lines;
+
+    public TextResponse(String code, boolean positive, String statusLine, List<String> lines)
+    {
+        m_code = code;
+        m_positive = positive;
+        m_statusLine = statusLine;
+        m_lines = lines;
+    }
+
+    public String getCode()
+    {
+        return m_code;
+    }
+
+    public boolean isPositive()
+    {
+        return m_positive;
+    }
+
+    public String getStatusLine()
+    {
+        return m_statusLine;
+    }
+
+    /**
+     * Returns the data lines of a multi-line response or the continuation lines of a reply code response
+     * @return the lines, empty for single line responses
+     */
+    public List<String> getLines()
+    {
+        return m_lines;
+    }
+
+    @Override
+    public String toString()
+    {
+        return m_statusLine;
+    }
+}
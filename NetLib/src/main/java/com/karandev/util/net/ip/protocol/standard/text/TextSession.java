@@ -0,0 +1,217 @@
+/*----------------------------------------------------------------------
+	FILE        : TextSession.java
+	AUTHOR      : Oğuz Karan
+	LAST UPDATE : 19th Oct 2026
+
+	TextSession class that is the engine for text based standard ip
+	protocols. It reads CRLF terminated lines through its own buffer,
+	parses responses via an IResponseReader and pipelines commands
+
+	Copyleft (c) 1993 by C and System Programmers Association (CSD)
+	All Rights Free
+-----------------------------------------------------------------------*/
+package com.karandev.util.net.ip.protocol.standard.text;
+
+import java.io.*;
+import java.net.Socket;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+public class TextSession implements Closeable {
+    private static final byte [] CRLF = {'\r', '\n'};
+    private final Socket m_socket;
+    private final Charset m_charset;
+    private final IResponseReader m_responseReader;
+    private final InputStream m_is;
+    private final BufferedOutputStream m_os;
+    private final byte [] m_buffer = new byte[8192];
+    private int m_position;
+    private int m_limit;
+    private byte [] m_line = new byte[1024];
+    private int m_lineLength;
+    private volatile long m_lastUsed = System.currentTimeMillis();
+
+    private int read() throws IOException
+    {
+        if (m_position == m_limit) {
+            m_limit = m_is.read(m_buffer);
+            m_position = 0;
+
+            if (m_limit <= 0) {
+                m_limit = 0;
+                return -1;
+            }
+        }
+
+        return m_buffer[m_position++] & 0xFF;
+    }
+
+    private int fillLine() throws IOException
+    {
+        var length = 0;
+        int ch;
+
+        while ((ch = read()) != '\n') {
+            if (ch == -1) {
+                if (length == 0)
+                    throw new EOFException("Connection closed by server");
+
+                break;
+            }
+
+            if (length == m_line.length)
+                m_line = Arrays.copyOf(m_line, length * 2);
+
+            m_line[length++] = (byte)ch;
+        }
+
+        m_lastUsed = System.currentTimeMillis();
+
+        return m_lineLength = length > 0 && m_line[length - 1] == '\r' ? length - 1 : length;
+    }
+
+    private boolean isTerminator()
+    {
+        return m_lineLength == 1 && m_line[0] == '.';
+    }
+
+    public TextSession(String host, int port, Charset charset, IResponseReader responseReader) throws IOException
+    {
+        this(new Socket(host, port), charset, responseReader);
+    }
+
+    public TextSession(Socket socket, Charset charset, IResponseReader responseReader) throws IOException
+    {
+        m_socket = socket;
+        m_charset = charset;
+        m_responseReader = responseReader;
+        m_is = socket.getInputStream();
+        m_os = new BufferedOutputStream(socket.getOutputStream());
+    }
+
+    public Socket getSocket()
+    {
+        return m_socket;
+    }
+
+    public boolean isOpen()
+    {
+        return !m_socket.isClosed() && m_socket.isConnected() && !m_socket.isInputShutdown();
+    }
+
+    public long getLastUsed()
+    {
+        return m_lastUsed;
+    }
+
+    public String readLine() throws IOException
+    {
+        return new String(m_line, 0, fillLine(), m_charset);
+    }
+
+    /**
+     * Reads the lines of a dot terminated multi-line block removing the byte-stuffed dots
+     * @return the lines without the terminating line
+     * @throws IOException if an I/O error occurs
+     */
+    public List<String> readDotTerminated() throws IOException
+    {
+        var result = new ArrayList<String>();
+
+        while (fillLine() >= 0 && !isTerminator()) {
+            var offset = m_lineLength > 0 && m_line[0] == '.' ? 1 : 0;
+
+            result.add(new String(m_line, offset, m_lineLength - offset, m_charset));
+        }
+
+        return result;
+    }
+
+    /**
+     * Writes the lines of a dot terminated multi-line block to the given stream as CRLF terminated lines
+     * removing the byte-stuffed dots. Only a single line is held in memory at a time
+     * @param os the stream which the lines are written to, it is not closed
+     * @return the number of bytes written
+     * @throws IOException if an I/O error occurs
+     */
+    public long readDotTerminated(OutputStream os) throws IOException
+    {
+        var total = 0L;
+
+        while (fillLine() >= 0 && !isTerminator()) {
+            var offset = m_lineLength > 0 && m_line[0] == '.' ? 1 : 0;
+
+            os.write(m_line, offset, m_lineLength - offset);
+            os.write(CRLF);
+            total += m_lineLength - offset + CRLF.length;
+        }
+
+        return total;
+    }
+
+    public TextResponse readResponse(boolean multiLine) throws IOException
+    {
+        return m_responseReader.read(this, multiLine);
+    }
+
+    /**
+     * Writes the given command encoded by the charset of the session followed by CRLF into the output buffer
+     * without flushing it
+     * @param command the command text
+     * @throws IOException if an I/O error occurs
+     */
+    public void write(String command) throws IOException
+    {
+        m_os.write(command.getBytes(m_charset));
+        m_os.write(CRLF);
+    }
+
+    public void flush() throws IOException
+    {
+        m_os.flush();
+        m_lastUsed = System.currentTimeMillis();
+    }
+
+    public TextResponse send(TextCommand command) throws IOException
+    {
+        write(command.getText());
+        flush();
+
+        return readResponse(command.isMultiLine());
+    }
+
+    /**
+     * Sends the given commands keeping at most {@code window} of them in flight
+     * and reads their responses in order
+     * @param commands the commands
+     * @param window the max number of commands sent without reading their responses, 1 disables pipelining
+     * @return the responses in the order of the commands
+     * @throws IOException if an I/O error occurs
+     */
+    public List<TextResponse> pipeline(List<TextCommand> commands, int window) throws IOException
+    {
+        if (window < 1)
+            throw new IllegalArgumentException("window must be positive");
+
+        var result = new ArrayList<TextResponse>(commands.size());
+        var sent = 0;
+
+        for (var received = 0; received < commands.size(); ++received) {
+            while (sent < commands.size() && sent - received < window)
+                write(commands.get(sent++).getText());
+
+            flush();
+            result.add(readResponse(commands.get(received).isMultiLine()));
+        }
+
+        return result;
+    }
+
+    @Override
+    public void close() throws IOException
+    {
+        m_socket.close();
+    }
+}
@@ -0,0 +1,221 @@
+/*----------------------------------------------------------------------
+	FILE        : TextSessionPool.java
+	AUTHOR      : Oğuz Karan
+	LAST UPDATE : 19th Oct 2026
+
+	TextSessionPool class that keeps logged in TextSession objects keyed by
+	server and credentials. Idle sessions are kept alive by sending the
+	keep-alive command (e.g. NOOP) periodically, sessions that fail it are
+	closed
+
+	Copyleft (c) 1993 by C and System Programmers Association (CSD)
+	All Rights Free
+-----------------------------------------------------------------------*/
+package com.karandev.util.net.ip.protocol.standard.text;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.*;
+
+public final class TextSessionPool implements Closeable {
+    private final ITextSessionFactory m_factory;
+    private final TextCommand m_keepAliveCommand;
+    private final TextCommand m_quitCommand;
+    private final int m_maxIdlePerKey;
+    private final long m_keepAliveIntervalMillis;
+    private final Map<Key, BlockingDeque<TextSession>> m_idleSessions = new ConcurrentHashMap<>();
+    private final Map<TextSession, Key> m_borrowedSessions = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService m_scheduler;
+    private volatile boolean m_closed;
+
+    private static final class Key {
+        final String host;
+        final int port;
+        final String username;
+        final String password;
+
+        Key(String host, int port, String username, String password)
+        {
+            this.host = host;
+            this.port = port;
+            this.username = username;
+            this.password = password;
+        }
+
+        @Override
+        public boolean equals(Object other)
+        {
+            if (!(other instanceof Key))
+                return false;
+
+            var key = (Key)other;
+
+            return port == key.port && host.equals(key.host) && Objects.equals(username, key.username) && Objects.equals(password, key.password);
+        }
+
+        @Override
+        public int hashCode()
+        {
+            return Objects.hash(host, port, username, password);
+        }
+    }
+
+    private void closeQuietly(TextSession session)
+    {
+        try {
+            if (m_quitCommand != null && session.isOpen())
+                session.send(m_quitCommand);
+        }
+        catch (IOException ignore) {
+
+        }
+
+        try {
+            session.close();
+        }
+        catch (IOException ignore) {
+
+        }
+    }
+
+    private boolean keepAlive(TextSession session)
+    {
+        try {
+            return session.isOpen() && session.send(m_keepAliveCommand).isPositive();
+        }
+        catch (IOException ignore) {
+            return false;
+        }
+    }
+
+    private void keepAliveCallback()
+    {
+        var now = System.currentTimeMillis();
+
+        for (var sessions : m_idleSessions.values())
+            for (var i = sessions.size(); i > 0; --i) {
+                var session = sessions.pollLast();
+
+                if (session == null)
+                    break;
+
+                if (now - session.getLastUsed() < m_keepAliveIntervalMillis || keepAlive(session)) {
+                    if (m_closed || !sessions.offerFirst(session))
+                        closeQuietly(session);
+                }
+                else
+                    closeQuietly(session);
+            }
+    }
+
+    /**
+     * Creates a pool
+     * @param factory the factory that connects and logs in the sessions
+     * @param keepAliveCommand the command sent to the idle sessions, e.g. NOOP
+     * @param quitCommand the command sent before a session is closed, e.g. QUIT, may be null
+     * @param maxIdlePerKey the max number of idle sessions kept for a server/credentials pair
+     * @param keepAliveIntervalMillis the period of the keep-alive command for idle sessions
+     */
+    public TextSessionPool(ITextSessionFactory factory, TextCommand keepAliveCommand, TextCommand quitCommand,
+                           int maxIdlePerKey, long keepAliveIntervalMillis)
+    {
+        if (maxIdlePerKey < 1)
+            throw new IllegalArgumentException("maxIdlePerKey must be positive");
+
+        m_factory = factory;
+        m_keepAliveCommand = keepAliveCommand;
+        m_quitCommand = quitCommand;
+        m_maxIdlePerKey = maxIdlePerKey;
+        m_keepAliveIntervalMillis = keepAliveIntervalMillis;
+        m_scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            var thread = new Thread(r, "TextSessionPool-keepAlive");
+
+            thread.setDaemon(true);
+            return thread;
+        });
+        m_scheduler.scheduleWithFixedDelay(this::keepAliveCallback, keepAliveIntervalMillis, keepAliveIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Returns an idle session for the given server and credentials or creates a new one via the factory.
+     * The session must be given back with {@link #release(TextSession)}
+     * @return a logged in session
+     * @throws IOException if a new session can not be created
+     */
+    public TextSession borrow(String host, int port, String username, String password) throws IOException
+    {
+        if (m_closed)
+            throw new IllegalStateException("Pool is closed");
+
+        var key = new Key(host, port, username, password);
+        var sessions = m_idleSessions.get(key);
+        TextSession session = null;
+
+        if (sessions != null)
+            while ((session = sessions.pollFirst()) != null && !session.isOpen())
+                closeQuietly(session);
+
+        if (session == null)
+            session = m_factory.create(host, port, username, password);
+
+        m_borrowedSessions.put(session, key);
+
+        return session;
+    }
+
+    /**
+     * Gives back a borrowed session. Closed sessions and sessions over the idle limit are closed
+     * @param session the borrowed session
+     */
+    public void release(TextSession session)
+    {
+        var key = m_borrowedSessions.remove(session);
+
+        if (key == null)
+            throw new IllegalArgumentException("Session is not borrowed from this pool");
+
+        if (m_closed || !session.isOpen()
+                || !m_idleSessions.computeIfAbsent(key, k -> new LinkedBlockingDeque<>(m_maxIdlePerKey)).offerFirst(session))
+            closeQuietly(session);
+    }
+
+    /**
+     * Closes the session instead of giving it back, for sessions left in an undefined state
+     * @param session the borrowed session
+     */
+    public void invalidate(TextSession session)
+    {
+        m_borrowedSessions.remove(session);
+        closeQuietly(session);
+    }
+
+    public int getIdleCount()
+    {
+        return m_idleSessions.values().stream().mapToInt(BlockingDeque::size).sum();
+    }
+
+    public int getBorrowedCount()
+    {
+        return m_borrowedSessions.size();
+    }
+
+    /**
+     * Closes the pool and its idle sessions. Borrowed sessions are not closed by this method, each of them is closed
+     * when it is given back with {@link #release(TextSession)} or {@link #invalidate(TextSession)}
+     */
+    @Override
+    public void close()
+    {
+        m_closed = true;
+        m_scheduler.shutdownNow();
+
+        for (var sessions : m_idleSessions.values()) {
+            TextSession session;
+
+            while ((session = sessions.pollFirst()) != null)
+                closeQuietly(session);
+        }
+    }
+}
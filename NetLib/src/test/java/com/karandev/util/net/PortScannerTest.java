@@ -0,0 +1,106 @@
+package com.karandev.util.net;
+
+import com.karandev.util.net.exception.NetworkException;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+public class PortScannerTest {
+    private static final int MIN_PORT = 40000;
+    private static final int MAX_PORT = 41000;
+
+    @Test
+    public void givenPortRange_whenReserved_thenFirstAvailablePortIsKeptBound() throws IOException
+    {
+        try (var first = PortScanner.reserve(MIN_PORT, MAX_PORT).orElseThrow();
+             var second = PortScanner.reserve(-1, MIN_PORT, MAX_PORT, 4).orElseThrow()) {
+            var firstPort = first.getLocalPort();
+            var secondPort = second.getLocalPort();
+
+            Assertions.assertTrue(first.isBound());
+            Assertions.assertTrue(firstPort < secondPort);
+            Assertions.assertFalse(IpUtil.isPortAvailable(firstPort));
+            Assertions.assertTrue(IntStream.range(MIN_PORT, secondPort).noneMatch(IpUtil::isPortAvailable));
+        }
+    }
+
+    @Test
+    public void givenPorts_whenAvailable_thenFirstPortInGivenOrderReserved() throws IOException
+    {
+        int firstPort, secondPort;
+
+        try (var first = PortScanner.reserve(MIN_PORT, MAX_PORT).orElseThrow();
+             var second = PortScanner.reserve(first.getLocalPort() + 1, MAX_PORT).orElseThrow()) {
+            firstPort = first.getLocalPort();
+            secondPort = second.getLocalPort();
+        }
+
+        try (var serverSocket = PortScanner.reserveAny(-1, secondPort, firstPort).orElseThrow()) {
+            Assertions.assertEquals(secondPort, serverSocket.getLocalPort());
+        }
+    }
+
+    @Test
+    public void givenBusyPorts_whenScanned_thenReturnEmpty() throws IOException
+    {
+        try (var first = PortScanner.reserve(MIN_PORT, MAX_PORT).orElseThrow();
+             var second = PortScanner.reserve(first.getLocalPort() + 1, MAX_PORT).orElseThrow()) {
+            Assertions.assertTrue(PortScanner.reserveAny(-1, first.getLocalPort(), second.getLocalPort()).isEmpty());
+            Assertions.assertTrue(IpUtil.getFirstAvailablePort(first.getLocalPort(), first.getLocalPort()).isEmpty());
+        }
+    }
+
+    @Test
+    public void givenPortRange_whenFound_thenPortIsReleased()
+    {
+        var port = IpUtil.getFirstAvailablePort(MIN_PORT, MAX_PORT).orElseThrow();
+
+        Assertions.assertTrue(IpUtil.isPortAvailable(port));
+    }
+
+    @Test
+    public void givenInterruptedThread_whenScanned_thenProbedPortsAreReleased() throws IOException, InterruptedException
+    {
+        var ports = IntStream.rangeClosed(MIN_PORT, MIN_PORT + 63).filter(IpUtil::isPortAvailable).boxed().collect(Collectors.toList());
+
+        Thread.currentThread().interrupt();
+
+        try {
+            var serverSocket = PortScanner.reserve(MIN_PORT, MIN_PORT + 63);
+
+            if (serverSocket.isPresent())
+                serverSocket.get().close();
+        }
+        catch (NetworkException ignore) {
+
+        }
+        finally {
+            Thread.interrupted();
+        }
+
+        //The sockets of the probes finishing after the interrupt are closed asynchronously
+        for (var i = 0; i < 50 && !ports.stream().allMatch(IpUtil::isPortAvailable); ++i)
+            Thread.sleep(100);
+
+        Assertions.assertTrue(ports.stream().allMatch(IpUtil::isPortAvailable));
+    }
+
+    @Test
+    public void givenPortRange_whenOutOfAllowedRange_thenThrowIllegalArgumentException()
+    {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> PortScanner.reserve(0, Character.MAX_VALUE + 1));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> PortScanner.reserveAny(-1, -1));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> PortScanner.reserve(-1, MIN_PORT, MAX_PORT, 0));
+    }
+
+    @Test
+    public void givenEmptyRange_whenScanned_thenReturnEmpty()
+    {
+        Assertions.assertTrue(PortScanner.reserve(MAX_PORT, MIN_PORT).isEmpty());
+        Assertions.assertTrue(PortScanner.reserveAny(-1).isEmpty());
+    }
+}
@@ -0,0 +1,187 @@
+package com.karandev.util.net.http;
+
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class HttpCacheTest {
+    private static final String BODY = "TEST";
+    private static final String ETAG = "\"v1\"";
+    private HttpServer m_httpServer;
+    private final AtomicInteger m_requestCount = new AtomicInteger();
+    private final AtomicInteger m_notModifiedCount = new AtomicInteger();
+    private String m_baseUrl;
+
+    @TempDir
+    Path m_directory;
+
+    private static String getCacheControl(String path)
+    {
+        switch (path) {
+            case "/fresh":
+                return "max-age=60";
+            case "/forever":
+                return "max-age=" + Long.MAX_VALUE;
+            default:
+                return "no-cache";
+        }
+    }
+
+    private List<Path> getCacheFiles() throws IOException
+    {
+        try (var paths = Files.list(m_directory)) {
+            return paths.collect(Collectors.toList());
+        }
+    }
+
+    @BeforeEach
+    public void setUp() throws IOException
+    {
+        m_httpServer = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        m_httpServer.createContext("/", exchange -> {
+            m_requestCount.incrementAndGet();
+            exchange.getResponseHeaders().add("ETag", ETAG);
+            exchange.getResponseHeaders().add("Cache-Control", getCacheControl(exchange.getRequestURI().getPath()));
+
+            if (ETAG.equals(exchange.getRequestHeaders().getFirst("If-None-Match"))) {
+                m_notModifiedCount.incrementAndGet();
+                exchange.sendResponseHeaders(304, -1);
+                exchange.close();
+                return;
+            }
+
+            var data = BODY.getBytes(StandardCharsets.UTF_8);
+
+            exchange.sendResponseHeaders(200, data.length);
+
+            try (var os = exchange.getResponseBody()) {
+                os.write(data);
+            }
+        });
+        m_httpServer.start();
+        m_baseUrl = String.format("http://localhost:%d", m_httpServer.getAddress().getPort());
+    }
+
+    @Test
+    public void givenFreshResponse_whenGetTwice_thenSecondIsHit() throws IOException
+    {
+        var cache = new HttpCache(16);
+
+        Assertions.assertEquals(BODY, new String(cache.getBody(m_baseUrl + "/fresh"), StandardCharsets.UTF_8));
+        Assertions.assertEquals(BODY, new String(cache.getBody(m_baseUrl + "/fresh"), StandardCharsets.UTF_8));
+        Assertions.assertEquals(1, m_requestCount.get());
+        Assertions.assertEquals(1, cache.getHitCount());
+        Assertions.assertEquals(1, cache.getMissCount());
+    }
+
+    @Test
+    public void givenNoCacheResponse_whenGetTwice_thenSecondIsRevalidated() throws IOException
+    {
+        var cache = new HttpCache(16);
+
+        cache.get(m_baseUrl + "/stale");
+        Assertions.assertEquals(BODY, new String(cache.getBody(m_baseUrl + "/stale"), StandardCharsets.UTF_8));
+        Assertions.assertEquals(2, m_requestCount.get());
+        Assertions.assertEquals(1, m_notModifiedCount.get());
+        Assertions.assertEquals(1, cache.getRevalidationCount());
+    }
+
+    @Test
+    public void givenDiskTier_whenNewCache_thenEntryIsHit() throws IOException
+    {
+        new HttpCache(16, m_directory).get(m_baseUrl + "/fresh");
+
+        var cache = new HttpCache(16, m_directory);
+
+        Assertions.assertEquals(BODY, new String(cache.getBody(m_baseUrl + "/fresh"), StandardCharsets.UTF_8));
+        Assertions.assertEquals(1, m_requestCount.get());
+        Assertions.assertEquals(1, cache.getHitCount());
+    }
+
+    @Test
+    public void givenHugeMaxAge_whenGetTwice_thenSecondIsHit() throws IOException
+    {
+        var cache = new HttpCache(16);
+
+        cache.get(m_baseUrl + "/forever");
+
+        Assertions.assertEquals(Long.MAX_VALUE, cache.get(m_baseUrl + "/forever").getExpiration());
+        Assertions.assertEquals(1, m_requestCount.get());
+        Assertions.assertEquals(1, cache.getHitCount());
+    }
+
+    @Test
+    public void givenCorruptBodyLength_whenNewCache_thenEntryIsMissAndReplaced() throws IOException
+    {
+        new HttpCache(16, m_directory).get(m_baseUrl + "/fresh");
+
+        var path = getCacheFiles().get(0);
+        var data = Files.readAllBytes(path);
+        var lengthOffset = data.length - BODY.length() - 4;
+
+        data[lengthOffset] = 0x7F;
+        data[lengthOffset + 1] = (byte)0xFF;
+        Files.write(path, data);
+
+        var cache = new HttpCache(16, m_directory);
+
+        Assertions.assertEquals(BODY, new String(cache.getBody(m_baseUrl + "/fresh"), StandardCharsets.UTF_8));
+        Assertions.assertEquals(2, m_requestCount.get());
+        Assertions.assertEquals(1, cache.getMissCount());
+        Assertions.assertEquals(List.of(path), getCacheFiles());
+        Assertions.assertEquals(0, Files.readAllBytes(path)[lengthOffset]);
+    }
+
+    @Test
+    public void givenTruncatedFile_whenNewCache_thenEntryIsMiss() throws IOException
+    {
+        new HttpCache(16, m_directory).get(m_baseUrl + "/fresh");
+
+        var path = getCacheFiles().get(0);
+        var data = Files.readAllBytes(path);
+
+        Files.write(path, Arrays.copyOf(data, data.length - 2));
+
+        var cache = new HttpCache(16, m_directory);
+
+        Assertions.assertEquals(BODY, new String(cache.getBody(m_baseUrl + "/fresh"), StandardCharsets.UTF_8));
+        Assertions.assertEquals(2, m_requestCount.get());
+        Assertions.assertEquals(data.length, Files.size(path));
+    }
+
+    @Test
+    public void givenMaxDiskSize_whenGetMany_thenDiskTierIsBounded() throws IOException
+    {
+        new HttpCache(16, m_directory).get(m_baseUrl + "/fresh?id=0");
+
+        var entrySize = Files.size(getCacheFiles().get(0));
+        var cache = new HttpCache(16, m_directory, entrySize * 2);
+
+        for (var i = 1; i < 10; ++i)
+            cache.get(m_baseUrl + "/fresh?id=" + i);
+
+        Assertions.assertEquals(2, getCacheFiles().size());
+
+        var newCache = new HttpCache(16, m_directory, entrySize * 2);
+
+        newCache.get(m_baseUrl + "/fresh?id=9");
+        newCache.get(m_baseUrl + "/fresh?id=8");
+        Assertions.assertEquals(2, newCache.getHitCount());
+    }
+
+    @AfterEach
+    public void tearDown()
+    {
+        m_httpServer.stop(0);
+    }
+}
@@ -0,0 +1,242 @@
+package com.karandev.util.net.http;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReference;
+
+public class HttpTransferTest {
+    private static final byte [] DATA = new byte[3 * 1024 * 1024 + 17];
+    private static final String ETAG = "\"v1\"";
+    private HttpServer m_httpServer;
+    private ExecutorService m_threadPool;
+    private String m_url;
+    private final ConcurrentLinkedQueue<String> m_ranges = new ConcurrentLinkedQueue<>();
+    private final ConcurrentLinkedQueue<String> m_ifRanges = new ConcurrentLinkedQueue<>();
+    private final AtomicReference<String> m_eTag = new AtomicReference<>(ETAG);
+    private volatile boolean m_changeAfterHead;
+    private final AtomicReference<String> m_uploadMode = new AtomicReference<>();
+    private final AtomicReference<byte []> m_uploaded = new AtomicReference<>();
+
+    @TempDir
+    Path m_directory;
+
+    static {
+        new Random(0).nextBytes(DATA);
+    }
+
+    private void handle(HttpExchange exchange) throws IOException
+    {
+        var method = exchange.getRequestMethod();
+
+        if (method.equals("POST") || method.equals("PUT")) {
+            var requestHeaders = exchange.getRequestHeaders();
+
+            m_uploadMode.set(requestHeaders.containsKey("Content-Length") ? "fixed" : requestHeaders.getFirst("Transfer-Encoding"));
+            m_uploaded.set(exchange.getRequestBody().readAllBytes());
+            exchange.sendResponseHeaders(201, -1);
+            exchange.close();
+            return;
+        }
+
+        exchange.getResponseHeaders().add("Accept-Ranges", "bytes");
+        exchange.getResponseHeaders().add("ETag", m_eTag.get());
+
+        if (method.equals("HEAD")) {
+            exchange.getResponseHeaders().add("Content-Length", String.valueOf(DATA.length));
+
+            //The resource changes once its validator is sent
+            if (m_changeAfterHead)
+                m_eTag.set("\"v2\"");
+
+            exchange.sendResponseHeaders(200, -1);
+            exchange.close();
+            return;
+        }
+
+        var range = exchange.getRequestHeaders().getFirst("Range");
+        int start = 0, end = DATA.length - 1;
+        var code = 200;
+
+        var ifRange = exchange.getRequestHeaders().getFirst("If-Range");
+
+        if (range != null) {
+            m_ranges.add(range);
+        }
+
+        if (ifRange != null) {
+            m_ifRanges.add(ifRange);
+        }
+
+        if (range != null && (ifRange == null || ifRange.equals(m_eTag.get()))) {
+            var parts = range.substring(6).split("-", -1);
+
+            start = Integer.parseInt(parts[0]);
+
+            if (!parts[1].isEmpty())
+                end = Integer.parseInt(parts[1]);
+
+            if (start >= DATA.length) {
+                exchange.getResponseHeaders().add("Content-Range", String.format("bytes */%d", DATA.length));
+                exchange.sendResponseHeaders(416, -1);
+                exchange.close();
+                return;
+            }
+
+            code = 206;
+            exchange.getResponseHeaders().add("Content-Range", String.format("bytes %d-%d/%d", start, end, DATA.length));
+        }
+
+        exchange.sendResponseHeaders(code, end - start + 1);
+
+        try (var os = exchange.getResponseBody()) {
+            os.write(DATA, start, end - start + 1);
+        }
+    }
+
+    @BeforeEach
+    public void setUp() throws IOException
+    {
+        m_httpServer = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        m_httpServer.createContext("/data", this::handle);
+        m_threadPool = Executors.newFixedThreadPool(4);
+        m_httpServer.setExecutor(m_threadPool);
+        m_httpServer.start();
+        m_url = String.format("http://localhost:%d/data", m_httpServer.getAddress().getPort());
+    }
+
+    @Test
+    public void givenNoFile_whenDownload_thenWholeResourceIsWritten() throws IOException
+    {
+        var path = m_directory.resolve("data.bin");
+
+        Assertions.assertEquals(DATA.length, HttpTransfer.download(m_url, path));
+        Assertions.assertArrayEquals(DATA, Files.readAllBytes(path));
+        Assertions.assertTrue(m_ranges.isEmpty());
+        Assertions.assertFalse(Files.exists(m_directory.resolve("data.bin.validator")));
+    }
+
+    @Test
+    public void givenPartialFile_whenDownload_thenRestIsRequestedWithRange() throws IOException
+    {
+        var path = m_directory.resolve("data.bin");
+
+        Files.write(path, Arrays.copyOf(DATA, 1000));
+        Files.writeString(m_directory.resolve("data.bin.validator"), ETAG);
+
+        Assertions.assertEquals(DATA.length, HttpTransfer.download(m_url, path));
+        Assertions.assertArrayEquals(DATA, Files.readAllBytes(path));
+        Assertions.assertEquals("bytes=1000-", m_ranges.peek());
+        Assertions.assertFalse(Files.exists(m_directory.resolve("data.bin.validator")));
+    }
+
+    @Test
+    public void givenPartialFileOfChangedResource_whenDownload_thenFileIsRewritten() throws IOException
+    {
+        var path = m_directory.resolve("data.bin");
+
+        Files.write(path, new byte[1000]);
+        Files.writeString(m_directory.resolve("data.bin.validator"), "\"v0\"");
+
+        Assertions.assertEquals(DATA.length, HttpTransfer.download(m_url, path));
+        Assertions.assertArrayEquals(DATA, Files.readAllBytes(path));
+    }
+
+    @Test
+    public void givenPartialFileWithoutValidator_whenDownload_thenFileIsRewritten() throws IOException
+    {
+        var path = m_directory.resolve("data.bin");
+
+        Files.write(path, new byte[1000]);
+
+        Assertions.assertEquals(DATA.length, HttpTransfer.download(m_url, path));
+        Assertions.assertArrayEquals(DATA, Files.readAllBytes(path));
+        Assertions.assertTrue(m_ranges.isEmpty());
+    }
+
+    @Test
+    public void givenCompleteFile_whenDownload_thenNotSatisfiableRangeCompletes() throws IOException
+    {
+        var path = m_directory.resolve("data.bin");
+
+        Files.write(path, DATA);
+        Files.writeString(m_directory.resolve("data.bin.validator"), ETAG);
+
+        Assertions.assertEquals(DATA.length, HttpTransfer.download(m_url, path));
+        Assertions.assertArrayEquals(DATA, Files.readAllBytes(path));
+        Assertions.assertEquals(1, m_ranges.size());
+    }
+
+    @Test
+    public void givenLargerFile_whenDownload_thenFileIsRewritten() throws IOException
+    {
+        var path = m_directory.resolve("data.bin");
+
+        Files.write(path, new byte[DATA.length + 100]);
+        Files.writeString(m_directory.resolve("data.bin.validator"), ETAG);
+
+        Assertions.assertEquals(DATA.length, HttpTransfer.download(m_url, path));
+        Assertions.assertArrayEquals(DATA, Files.readAllBytes(path));
+    }
+
+    @Test
+    public void givenParallelism_whenDownload_thenRangesAreFetched() throws IOException
+    {
+        var path = m_directory.resolve("data.bin");
+
+        Assertions.assertEquals(DATA.length, HttpTransfer.download(m_url, path, 3));
+        Assertions.assertArrayEquals(DATA, Files.readAllBytes(path));
+        Assertions.assertEquals(3, m_ranges.size());
+        Assertions.assertEquals(3, m_ifRanges.size());
+        Assertions.assertTrue(m_ifRanges.stream().allMatch(ETAG::equals));
+    }
+
+    @Test
+    public void givenResourceChangedAfterHead_whenParallelDownload_thenThrowsIOException()
+    {
+        var path = m_directory.resolve("data.bin");
+
+        m_changeAfterHead = true;
+
+        Assertions.assertThrows(IOException.class, () -> HttpTransfer.download(m_url, path, 3));
+    }
+
+    @Test
+    public void givenFile_whenUpload_thenFixedLengthModeIsUsed() throws IOException
+    {
+        var path = m_directory.resolve("upload.bin");
+
+        Files.write(path, Arrays.copyOf(DATA, 5000));
+
+        Assertions.assertEquals(201, HttpTransfer.upload(m_url, path));
+        Assertions.assertEquals("fixed", m_uploadMode.get());
+        Assertions.assertArrayEquals(Arrays.copyOf(DATA, 5000), m_uploaded.get());
+    }
+
+    @Test
+    public void givenUnknownLength_whenUpload_thenChunkedModeIsUsed() throws IOException
+    {
+        Assertions.assertEquals(201, HttpTransfer.upload(m_url, "PUT", new ByteArrayInputStream(DATA, 0, 5000), -1));
+        Assertions.assertEquals("chunked", m_uploadMode.get());
+        Assertions.assertArrayEquals(Arrays.copyOf(DATA, 5000), m_uploaded.get());
+    }
+
+    @AfterEach
+    public void tearDown()
+    {
+        m_httpServer.stop(0);
+        m_threadPool.shutdownNow();
+    }
+}
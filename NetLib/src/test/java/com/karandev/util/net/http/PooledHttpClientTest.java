@@ -0,0 +1,60 @@
+package com.karandev.util.net.http;
+
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.*;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutionException;
+
+public class PooledHttpClientTest {
+    private static final String BODY = "TEST";
+    private static final String LAST_MODIFIED = "Wed, 21 Oct 2015 07:28:00 GMT";
+    private static final long LAST_MODIFIED_MILLIS = 1445412480000L;
+    private HttpServer m_httpServer;
+    private String m_url;
+
+    @BeforeEach
+    public void setUp() throws IOException
+    {
+        m_httpServer = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        m_httpServer.createContext("/test", exchange -> {
+            var data = BODY.getBytes(StandardCharsets.UTF_8);
+
+            exchange.getResponseHeaders().add("Content-Type", "text/plain");
+            exchange.getResponseHeaders().add("Last-Modified", LAST_MODIFIED);
+            exchange.sendResponseHeaders(200, data.length);
+
+            try (var os = exchange.getResponseBody()) {
+                os.write(data);
+            }
+        });
+        m_httpServer.start();
+        m_url = String.format("http://localhost:%d/test", m_httpServer.getAddress().getPort());
+    }
+
+    @Test
+    public void givenUrl_whenOpen_thenHttpConnectionGettersWork() throws IOException, InterruptedException
+    {
+        try (var connection = PooledHttpClient.getShared().open(m_url)) {
+            Assertions.assertEquals(200, connection.getResponseCode());
+            Assertions.assertEquals("text/plain", connection.getContentType());
+            Assertions.assertEquals(BODY.length(), connection.getContentLength());
+            Assertions.assertEquals(LAST_MODIFIED_MILLIS, connection.getLastModified());
+            Assertions.assertEquals(BODY, new String(connection.getInputStream().readAllBytes(), StandardCharsets.UTF_8));
+        }
+    }
+
+    @Test
+    public void givenUrl_whenGetStringAsync_thenReturnsBody() throws ExecutionException, InterruptedException
+    {
+        Assertions.assertEquals(BODY, PooledHttpClient.getShared().getStringAsync(m_url).get());
+    }
+
+    @AfterEach
+    public void tearDown()
+    {
+        m_httpServer.stop(0);
+    }
+}
@@ -0,0 +1,111 @@
+package com.karandev.util.net.ip.protocol.standard.text;
+
+import org.junit.jupiter.api.*;
+
+import java.io.*;
+import java.net.ServerSocket;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+public class Pop3ClientTest {
+    private static final String HOST = "localhost";
+    private static final String [] MESSAGES = {"Subject: 1\r\n\r\nfirst\r\n", "Subject: 2\r\n\r\n.dotted\r\n", "Subject: 3\r\n\r\nthird\r\n"};
+    private ServerSocket m_serverSocket;
+    private ExecutorService m_threadPool;
+
+    private static String stuff(String message)
+    {
+        return message.replace("\r\n.", "\r\n..");
+    }
+
+    private void serverCallback()
+    {
+        try (var socket = m_serverSocket.accept();
+             var br = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.US_ASCII));
+             var bw = new BufferedWriter(new OutputStreamWriter(socket.getOutputStream(), StandardCharsets.US_ASCII))) {
+            bw.write("+OK ready\r\n");
+            bw.flush();
+
+            String command;
+
+            while ((command = br.readLine()) != null) {
+                var parts = command.split(" ");
+
+                switch (parts[0]) {
+                    case "CAPA":
+                        bw.write("+OK\r\nUSER\r\nPIPELINING\r\n.\r\n");
+                        break;
+                    case "STAT":
+                        bw.write(String.format("+OK %d 100\r\n", MESSAGES.length));
+                        break;
+                    case "RETR":
+                        var no = Integer.parseInt(parts[1]);
+
+                        if (no < 1 || no > MESSAGES.length)
+                            bw.write("-ERR no such message\r\n");
+                        else
+                            bw.write("+OK\r\n" + stuff(MESSAGES[no - 1]) + ".\r\n");
+                        break;
+                    case "QUIT":
+                        bw.write("+OK bye\r\n");
+                        bw.flush();
+                        return;
+                    default:
+                        bw.write("+OK\r\n");
+                }
+
+                if (!br.ready())
+                    bw.flush();
+            }
+        }
+        catch (IOException ignore) {
+
+        }
+    }
+
+    @BeforeEach
+    public void setUp() throws IOException
+    {
+        m_serverSocket = new ServerSocket(0);
+        m_threadPool = Executors.newSingleThreadExecutor();
+        m_threadPool.execute(this::serverCallback);
+    }
+
+    @Test
+    public void givenPipeliningServer_whenRetrieveAll_thenMessagesAreStreamed() throws IOException
+    {
+        var result = new HashMap<Integer, ByteArrayOutputStream>();
+
+        try (var client = new Pop3Client(HOST, m_serverSocket.getLocalPort(), "user", "pass")) {
+            Assertions.assertTrue(client.login());
+            Assertions.assertTrue(client.supportsPipelining());
+            Assertions.assertEquals(MESSAGES.length, client.retrieveAll(no -> result.computeIfAbsent(no, k -> new ByteArrayOutputStream())));
+        }
+
+        for (Map.Entry<Integer, ByteArrayOutputStream> entry : result.entrySet())
+            Assertions.assertEquals(MESSAGES[entry.getKey() - 1], entry.getValue().toString(StandardCharsets.US_ASCII));
+    }
+
+    @Test
+    public void givenMissingMessage_whenRetrieveAll_thenItIsSkipped() throws IOException
+    {
+        var os = new ByteArrayOutputStream();
+
+        try (var client = new Pop3Client(HOST, m_serverSocket.getLocalPort(), "user", "pass")) {
+            Assertions.assertTrue(client.login());
+            Assertions.assertEquals(1, client.retrieveAll(new int[] {5, 1}, no -> os));
+        }
+
+        Assertions.assertEquals(MESSAGES[0], os.toString(StandardCharsets.US_ASCII));
+    }
+
+    @AfterEach
+    public void tearDown() throws IOException
+    {
+        m_serverSocket.close();
+        m_threadPool.shutdownNow();
+    }
+}
@@ -0,0 +1,70 @@
+package com.karandev.util.net.ip.protocol.standard.text;
+
+import org.junit.jupiter.api.*;
+
+import java.io.*;
+import java.net.ServerSocket;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+public class ReplyCodeResponseReaderTest {
+    private static final String HOST = "localhost";
+    private ServerSocket m_serverSocket;
+    private ExecutorService m_threadPool;
+
+    private void serverCallback()
+    {
+        try (var socket = m_serverSocket.accept();
+             var br = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.US_ASCII));
+             var bw = new BufferedWriter(new OutputStreamWriter(socket.getOutputStream(), StandardCharsets.US_ASCII))) {
+            bw.write("220 ready\r\n");
+            bw.flush();
+
+            String command;
+
+            while ((command = br.readLine()) != null) {
+                bw.write(command.startsWith("EHLO") ? "250-localhost\r\n250-PIPELINING\r\n250 OK\r\n" : "502 unknown\r\n");
+                bw.flush();
+            }
+        }
+        catch (IOException ignore) {
+
+        }
+    }
+
+    @BeforeEach
+    public void setUp() throws IOException
+    {
+        m_serverSocket = new ServerSocket(0);
+        m_threadPool = Executors.newSingleThreadExecutor();
+        m_threadPool.execute(this::serverCallback);
+    }
+
+    @Test
+    public void givenSmtpLikeServer_whenSend_thenReplyCodesAndContinuationsAreParsed() throws IOException
+    {
+        try (var session = new TextSession(HOST, m_serverSocket.getLocalPort(), StandardCharsets.US_ASCII, ReplyCodeResponseReader.INSTANCE)) {
+            Assertions.assertEquals("220", session.readResponse(false).getCode());
+
+            var ehlo = session.send(TextCommand.of("EHLO client"));
+
+            Assertions.assertEquals("250", ehlo.getCode());
+            Assertions.assertTrue(ehlo.isPositive());
+            Assertions.assertEquals(2, ehlo.getLines().size());
+            Assertions.assertEquals("PIPELINING", ehlo.getLines().get(1));
+
+            var unknown = session.send(TextCommand.of("FOO"));
+
+            Assertions.assertEquals("502", unknown.getCode());
+            Assertions.assertFalse(unknown.isPositive());
+        }
+    }
+
+    @AfterEach
+    public void tearDown() throws IOException
+    {
+        m_serverSocket.close();
+        m_threadPool.shutdownNow();
+    }
+}
@@ -0,0 +1,158 @@
+package com.karandev.util.net.ip.protocol.standard.text;
+
+import org.junit.jupiter.api.*;
+
+import java.io.*;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class TextSessionPoolTest {
+    private static final String HOST = "localhost";
+    private ServerSocket m_serverSocket;
+    private ExecutorService m_threadPool;
+    private final AtomicInteger m_connectionCount = new AtomicInteger();
+    private final AtomicInteger m_noopCount = new AtomicInteger();
+
+    private void clientCallback(Socket socket)
+    {
+        try (socket;
+             var br = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.US_ASCII));
+             var bw = new BufferedWriter(new OutputStreamWriter(socket.getOutputStream(), StandardCharsets.US_ASCII))) {
+            bw.write("+OK ready\r\n");
+            bw.flush();
+
+            String command;
+
+            while ((command = br.readLine()) != null) {
+                if (command.equals("NOOP"))
+                    m_noopCount.incrementAndGet();
+
+                bw.write(command.equals("PASS wrong") ? "-ERR invalid\r\n" : "+OK\r\n");
+                bw.flush();
+
+                if (command.equals("QUIT"))
+                    return;
+            }
+        }
+        catch (IOException ignore) {
+
+        }
+    }
+
+    private void serverCallback()
+    {
+        try {
+            while (true) {
+                var socket = m_serverSocket.accept();
+
+                m_connectionCount.incrementAndGet();
+                m_threadPool.execute(() -> clientCallback(socket));
+            }
+        }
+        catch (IOException ignore) {
+
+        }
+    }
+
+    @BeforeEach
+    public void setUp() throws IOException
+    {
+        m_serverSocket = new ServerSocket(0);
+        m_threadPool = Executors.newCachedThreadPool();
+        m_threadPool.execute(this::serverCallback);
+    }
+
+    @Test
+    public void givenReleasedSession_whenBorrowAgain_thenSessionIsReused() throws IOException
+    {
+        try (var pool = new TextSessionPool(Pop3Client.SESSION_FACTORY, Pop3Client.NOOP, Pop3Client.QUIT, 2, 60_000)) {
+            var port = m_serverSocket.getLocalPort();
+            var session = pool.borrow(HOST, port, "user", "pass");
+
+            pool.release(session);
+
+            var same = pool.borrow(HOST, port, "user", "pass");
+            var other = pool.borrow(HOST, port, "other", "pass");
+
+            try {
+                Assertions.assertSame(session, same);
+                Assertions.assertNotSame(session, other);
+                Assertions.assertEquals(2, m_connectionCount.get());
+                Assertions.assertEquals(2, pool.getBorrowedCount());
+            }
+            finally {
+                pool.release(same);
+                pool.invalidate(other);
+            }
+
+            Assertions.assertEquals(0, pool.getBorrowedCount());
+            Assertions.assertEquals(1, pool.getIdleCount());
+            Assertions.assertFalse(other.isOpen());
+        }
+    }
+
+    @Test
+    public void givenWrongPassword_whenBorrow_thenThrowsIOException()
+    {
+        try (var pool = new TextSessionPool(Pop3Client.SESSION_FACTORY, Pop3Client.NOOP, Pop3Client.QUIT, 2, 60_000)) {
+            Assertions.assertThrows(IOException.class, () -> pool.borrow(HOST, m_serverSocket.getLocalPort(), "user", "wrong"));
+        }
+    }
+
+    @Test
+    public void givenIdleSession_whenKeepAliveInterval_thenNoopIsSent() throws IOException, InterruptedException
+    {
+        try (var pool = new TextSessionPool(Pop3Client.SESSION_FACTORY, Pop3Client.NOOP, Pop3Client.QUIT, 2, 50)) {
+            pool.release(pool.borrow(HOST, m_serverSocket.getLocalPort(), "user", "pass"));
+            Thread.sleep(400);
+
+            Assertions.assertTrue(m_noopCount.get() > 0);
+            Assertions.assertEquals(1, pool.getIdleCount());
+        }
+    }
+
+    @Test
+    public void givenPooledSession_whenPipeline_thenResponsesAreInOrder() throws IOException
+    {
+        try (var pool = new TextSessionPool(Pop3Client.SESSION_FACTORY, Pop3Client.NOOP, Pop3Client.QUIT, 2, 60_000)) {
+            var session = pool.borrow(HOST, m_serverSocket.getLocalPort(), "user", "pass");
+
+            try {
+                var responses = session.pipeline(List.of(Pop3Client.NOOP, TextCommand.of("PASS wrong"), Pop3Client.NOOP), 8);
+
+                Assertions.assertTrue(responses.get(0).isPositive());
+                Assertions.assertFalse(responses.get(1).isPositive());
+                Assertions.assertTrue(responses.get(2).isPositive());
+            }
+            finally {
+                pool.release(session);
+            }
+        }
+    }
+
+    @Test
+    public void givenBorrowedSession_whenPoolIsClosed_thenSessionIsClosedOnRelease() throws IOException
+    {
+        var pool = new TextSessionPool(Pop3Client.SESSION_FACTORY, Pop3Client.NOOP, Pop3Client.QUIT, 2, 60_000);
+        var session = pool.borrow(HOST, m_serverSocket.getLocalPort(), "user", "pass");
+
+        pool.close();
+        Assertions.assertTrue(session.isOpen());
+
+        pool.release(session);
+        Assertions.assertFalse(session.isOpen());
+        Assertions.assertEquals(0, pool.getIdleCount());
+    }
+
+    @AfterEach
+    public void tearDown() throws IOException
+    {
+        m_serverSocket.close();
+        m_threadPool.shutdownNow();
+    }
+}
@@ -38,8 +38,9 @@ public class TcpIsOpenTest {
     }
 
     @Test
-    public void givenSocket_whenOpen_returnTrue() throws IOException
+    public void givenSocket_whenOpen_returnTrue() throws IOException, InterruptedException
     {
+        Thread.sleep(100);
         try (var socket = new Socket(HOST, PORT)) {
             var tcp = new TCP(socket);
 
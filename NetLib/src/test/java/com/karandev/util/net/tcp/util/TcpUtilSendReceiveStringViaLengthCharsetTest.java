@@ -0,0 +1,69 @@
+package com.karandev.util.net.tcp.util;
+
+import com.karandev.util.net.TcpUtil;
+import org.junit.jupiter.api.*;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+public class TcpUtilSendReceiveStringViaLengthCharsetTest {
+    private static final String HOST = "localhost";
+    private static final int PORT = 50500;
+    private static final int SOCKET_TIMEOUT = 1000;
+    private static final String SEND_TEXT = "Deniz Karan şeğer 😀";
+    private static final String LONG_TEXT = "x".repeat(100);
+    private ServerSocket m_serverSocket;
+    private ExecutorService m_threadPool;
+    private Future<?> m_future;
+
+    private Void serverCallback() throws IOException
+    {
+        m_serverSocket = new ServerSocket(PORT, 1024);
+
+        try (var clientSocket = m_serverSocket.accept()) {
+            var buffer = new byte[64];
+
+            clientSocket.setSoTimeout(SOCKET_TIMEOUT);
+            Assertions.assertEquals(SEND_TEXT, TcpUtil.receiveStringViaLength(clientSocket, buffer, StandardCharsets.UTF_8));
+            Assertions.assertEquals(LONG_TEXT, TcpUtil.receiveStringViaLength(clientSocket, buffer, StandardCharsets.UTF_8));
+            Assertions.assertEquals(SEND_TEXT, TcpUtil.receiveStringViaLength(clientSocket, StandardCharsets.UTF_16));
+            Assertions.assertEquals("", TcpUtil.receiveStringViaLength(clientSocket, StandardCharsets.ISO_8859_1));
+            Assertions.assertEquals(-1, clientSocket.getInputStream().read());
+        }
+
+        return null;
+    }
+
+    @BeforeEach
+    public void setUp()
+    {
+        m_threadPool = Executors.newSingleThreadExecutor();
+        m_future = m_threadPool.submit(this::serverCallback);
+    }
+
+    @Test
+    public void test() throws Exception
+    {
+        Thread.sleep(100);
+        try (var socket = new Socket(HOST, PORT)) {
+            TcpUtil.sendStringViaLength(socket, SEND_TEXT, StandardCharsets.UTF_8);
+            TcpUtil.sendStringViaLength(socket, LONG_TEXT, StandardCharsets.UTF_8);
+            TcpUtil.sendStringViaLength(socket, SEND_TEXT, StandardCharsets.UTF_16);
+            TcpUtil.sendStringViaLength(socket, "", StandardCharsets.ISO_8859_1);
+        }
+
+        m_future.get();
+    }
+
+    @AfterEach
+    public void tearDown() throws IOException
+    {
+        m_serverSocket.close();
+        m_threadPool.shutdown();
+    }
+}
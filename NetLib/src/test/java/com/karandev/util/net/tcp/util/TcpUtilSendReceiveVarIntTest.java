@@ -0,0 +1,67 @@
+package com.karandev.util.net.tcp.util;
+
+import com.karandev.util.net.TcpUtil;
+import org.junit.jupiter.api.*;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+public class TcpUtilSendReceiveVarIntTest {
+    private static final String HOST = "localhost";
+    private static final int PORT = 50500;
+    private static final int SOCKET_TIMEOUT = 1000;
+    private static final int [] SEND_INTS = {0, -1, 300, Integer.MIN_VALUE};
+    private static final long SEND_LONG = Long.MAX_VALUE;
+    private ServerSocket m_serverSocket;
+    private ExecutorService m_threadPool;
+    private Future<?> m_future;
+
+    private Void serverCallback() throws IOException
+    {
+        m_serverSocket = new ServerSocket(PORT, 1024);
+
+        try (var clientSocket = m_serverSocket.accept()) {
+            clientSocket.setSoTimeout(SOCKET_TIMEOUT);
+
+            for (var sendInt : SEND_INTS)
+                Assertions.assertEquals(sendInt, TcpUtil.receiveVarInt(clientSocket));
+
+            Assertions.assertEquals(SEND_LONG, TcpUtil.receiveVarLong(clientSocket));
+            Assertions.assertEquals(-1, clientSocket.getInputStream().read());
+        }
+
+        return null;
+    }
+
+    @BeforeEach
+    public void setUp()
+    {
+        m_threadPool = Executors.newSingleThreadExecutor();
+        m_future = m_threadPool.submit(this::serverCallback);
+    }
+
+    @Test
+    public void test() throws Exception
+    {
+        Thread.sleep(100);
+        try (var socket = new Socket(HOST, PORT)) {
+            for (var sendInt : SEND_INTS)
+                TcpUtil.sendVarInt(socket, sendInt);
+
+            TcpUtil.sendVarLong(socket, SEND_LONG);
+        }
+
+        m_future.get();
+    }
+
+    @AfterEach
+    public void tearDown() throws IOException
+    {
+        m_serverSocket.close();
+        m_threadPool.shutdown();
+    }
+}
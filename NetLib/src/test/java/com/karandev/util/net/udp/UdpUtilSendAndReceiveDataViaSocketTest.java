@@ -1,11 +1,17 @@
 package com.karandev.util.net.udp;
 
+import com.karandev.util.net.exception.NetworkException;
 import org.junit.jupiter.api.*;
 
 import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.DatagramPacket;
 import java.net.DatagramSocket;
+import java.net.InetAddress;
 import java.net.SocketException;
 import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.function.Supplier;
@@ -178,6 +184,117 @@ public class UdpUtilSendAndReceiveDataViaSocketTest {
         Assertions.assertArrayEquals(expectedByteArray, receiverByteArray);
     }
 
+    @Test
+    public void sendIntArrayWithHeaderViaDataGramSocket_ThenReceiveIntoArray_CompareEquals()
+    {
+        var senderArray = new int[] {0, -1, 2, Integer.MAX_VALUE, Integer.MIN_VALUE};
+        var sendBuffer = new byte[64];
+
+        var future = m_threadPool.submit(() -> senderCallback(
+                () -> sendArray(m_dataGramSocket, HOST, PORT, sendBuffer, ByteOrder.LITTLE_ENDIAN, senderArray)));
+
+        var receiverArray = new int[senderArray.length + 1];
+        var count = receiveArray(m_dataGramSocket, new byte[64], receiverArray, 1);
+
+        future.cancel(true);
+
+        Assertions.assertEquals(senderArray.length, count);
+        Assertions.assertArrayEquals(senderArray, Arrays.copyOfRange(receiverArray, 1, receiverArray.length));
+    }
+
+    @Test
+    public void sendLongArrayWithHeaderViaDataGramSocket_ThenReceive_CompareEquals()
+    {
+        var senderArray = new long[] {0, 1, -2, Long.MAX_VALUE, Long.MIN_VALUE};
+
+        var future = m_threadPool.submit(() -> senderCallback(
+                () -> sendArray(m_dataGramSocket, HOST, PORT, new byte[64], ByteOrder.BIG_ENDIAN, senderArray, 1, 3)));
+
+        var receiverArray = receiveLongArray(m_dataGramSocket, 10);
+
+        future.cancel(true);
+
+        Assertions.assertArrayEquals(Arrays.copyOfRange(senderArray, 1, 4), receiverArray);
+    }
+
+    @Test
+    public void sendDoubleArrayWithHeaderViaDataGramSocket_ThenReceive_CompareEquals()
+    {
+        var senderArray = new double[] {0, 1.5, -2.25, Double.MAX_VALUE, Double.NaN};
+
+        var future = m_threadPool.submit(() -> senderCallback(
+                () -> sendArray(m_dataGramSocket, HOST, PORT, new byte[64], ByteOrder.LITTLE_ENDIAN, senderArray)));
+
+        var receiverArray = receiveDoubleArray(m_dataGramSocket, senderArray.length);
+
+        future.cancel(true);
+
+        Assertions.assertArrayEquals(senderArray, receiverArray);
+    }
+
+    @Test
+    public void sendIntArrayWithHeaderViaDataGramSocket_ThenReceiveAsDoubleArray_ThrowsNetworkException()
+    {
+        var future = m_threadPool.submit(() -> senderCallback(
+                () -> sendArray(m_dataGramSocket, HOST, PORT, new byte[64], ByteOrder.BIG_ENDIAN, new int[] {1, 2})));
+
+        Assertions.assertThrows(NetworkException.class, () -> receiveDoubleArray(m_dataGramSocket, 2));
+
+        future.cancel(true);
+    }
+
+    @Test
+    public void sendVarIntArrayViaDataGramSocket_ThenReceiveIntoArray_CompareEquals()
+    {
+        var senderArray = new int[] {0, -1, 63, -64, 1000, Integer.MAX_VALUE, Integer.MIN_VALUE};
+        var sendBuffer = new byte[64];
+
+        var future = m_threadPool.submit(() -> senderCallback(
+                () -> sendVarIntArray(m_dataGramSocket, HOST, PORT, sendBuffer, senderArray)));
+
+        var receiverArray = new int[senderArray.length];
+        var count = receiveVarIntArray(m_dataGramSocket, new byte[64], receiverArray, 0);
+
+        future.cancel(true);
+
+        Assertions.assertEquals(senderArray.length, count);
+        Assertions.assertArrayEquals(senderArray, receiverArray);
+    }
+
+    @Test
+    public void sendVarLongArrayViaDataGramSocket_ThenReceiveAsIntArray_ThrowsNetworkException()
+    {
+        var future = m_threadPool.submit(() -> senderCallback(
+                () -> sendVarLongArray(m_dataGramSocket, HOST, PORT, new byte[64], new long[] {1, 2})));
+
+        Assertions.assertThrows(NetworkException.class, () -> receiveVarIntArray(m_dataGramSocket, new byte[64], new int[2], 0));
+
+        future.cancel(true);
+    }
+
+    @Test
+    public void sendForgedIntArrayHeaderViaDataGramSocket_ThenReceive_ThrowsNetworkException()
+    {
+        //count 0x40000000 * 4 wraps around to 0 in int arithmetic
+        var data = new byte[] {2, 0, 0x40, 0, 0, 0};
+
+        var future = m_threadPool.submit(() -> senderCallback(() -> {
+            try {
+                m_dataGramSocket.send(new DatagramPacket(data, data.length, InetAddress.getByName(HOST), PORT));
+            }
+            catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+        }));
+
+        var ex = Assertions.assertThrows(NetworkException.class, () -> receiveIntArray(m_dataGramSocket, 10));
+
+        Assertions.assertTrue(ex.getMessage().contains("Invalid data length"));
+        Assertions.assertThrows(NetworkException.class, () -> receiveLongArray(m_dataGramSocket, Integer.MAX_VALUE / 4));
+
+        future.cancel(true);
+    }
+
     @AfterEach
     public void tearDown() throws IOException
     {
@@ -0,0 +1,193 @@
+package com.karandev.util.net.udp.benchmark;
+
+import com.karandev.util.net.UdpUtil;
+import com.karandev.util.net.exception.NetworkException;
+
+import java.io.IOException;
+import java.net.DatagramSocket;
+import java.net.InetAddress;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Standalone loopback load generator for the {@link UdpUtil} array paths.
+ * Sends {@code packets} packets, each one carries its sequence number and send time,
+ * and reports packets/s, p50/p99/p999 one-way latency and drop rate as JSON.
+ * <p>Usage: {@code UdpLoadGenerator <ALLOCATING|BUFFERED> [packets] [payloadInts] [packetsPerSecond] [outputFile]},
+ * a {@code packetsPerSecond} value of 0 means unthrottled</p>
+ */
+public final class UdpLoadGenerator {
+    private static final String HOST = "localhost";
+    private static final int MIN_RECEIVE_TIMEOUT = 500;
+
+    public enum Path {
+        ALLOCATING {
+            @Override
+            void send(DatagramSocket socket, int port, int [] payload, byte [] buffer)
+            {
+                UdpUtil.sendIntArray(socket, HOST, port, payload);
+            }
+
+            @Override
+            int [] receive(DatagramSocket socket, int [] payload, byte [] buffer)
+            {
+                var bb = ByteBuffer.wrap(UdpUtil.receiveDatagramPacket(socket, payload.length * Integer.BYTES).getData());
+
+                for (var i = 0; i < payload.length; ++i)
+                    payload[i] = bb.getInt();
+
+                return payload;
+            }
+        },
+        BUFFERED {
+            @Override
+            void send(DatagramSocket socket, int port, int [] payload, byte [] buffer)
+            {
+                UdpUtil.sendArray(socket, HOST, port, buffer, ByteOrder.nativeOrder(), payload);
+            }
+
+            @Override
+            int [] receive(DatagramSocket socket, int [] payload, byte [] buffer)
+            {
+                UdpUtil.receiveArray(socket, buffer, payload, 0);
+
+                return payload;
+            }
+        };
+
+        abstract void send(DatagramSocket socket, int port, int [] payload, byte [] buffer);
+        abstract int [] receive(DatagramSocket socket, int [] payload, byte [] buffer);
+    }
+
+    private final Path m_path;
+    private final int m_packets;
+    private final int m_payloadInts;
+    private final int m_packetsPerSecond;
+    private final long [] m_latencies;
+    private volatile int m_received;
+
+    private static void write(int [] payload, long seq, long nanos)
+    {
+        payload[0] = (int)(seq >>> 32);
+        payload[1] = (int)seq;
+        payload[2] = (int)(nanos >>> 32);
+        payload[3] = (int)nanos;
+    }
+
+    private static long read(int [] payload, int index)
+    {
+        return (long)payload[index] << 32 | payload[index + 1] & 0xFFFFFFFFL;
+    }
+
+    private static double percentile(long [] sorted, int count, double p)
+    {
+        return count == 0 ? 0 : sorted[Math.min(count - 1, (int)Math.ceil(p * count) - 1)] / 1000.0;
+    }
+
+    private void receiverCallback(DatagramSocket socket)
+    {
+        var payload = new int[m_payloadInts];
+        var buffer = new byte[UdpUtil.ARRAY_HEADER_SIZE + m_payloadInts * Integer.BYTES];
+
+        try {
+            while (m_received < m_packets) {
+                m_path.receive(socket, payload, buffer);
+                m_latencies[m_received] = System.nanoTime() - read(payload, 2);
+                ++m_received;
+            }
+        }
+        catch (NetworkException ignore) {
+            //receive timed out, remaining packets are counted as dropped
+        }
+    }
+
+    public UdpLoadGenerator(Path path, int packets, int payloadInts, int packetsPerSecond)
+    {
+        if (payloadInts < 4)
+            throw new IllegalArgumentException("payloadInts must be at least 4");
+
+        m_path = path;
+        m_packets = packets;
+        m_payloadInts = payloadInts;
+        m_packetsPerSecond = packetsPerSecond;
+        m_latencies = new long[packets];
+    }
+
+    public String run() throws IOException, InterruptedException
+    {
+        try (var receiverSocket = new DatagramSocket(0, InetAddress.getByName(HOST)); var senderSocket = new DatagramSocket()) {
+            //The timeout spans two send intervals, so a slow send rate is not mistaken for drops
+            receiverSocket.setSoTimeout(m_packetsPerSecond > 0 ? Math.max(MIN_RECEIVE_TIMEOUT, 2 * 1000 / m_packetsPerSecond) : MIN_RECEIVE_TIMEOUT);
+            receiverSocket.setReceiveBufferSize(4 * 1024 * 1024);
+
+            var port = receiverSocket.getLocalPort();
+            var receiver = new Thread(() -> receiverCallback(receiverSocket));
+            var payload = new int[m_payloadInts];
+            var buffer = new byte[UdpUtil.ARRAY_HEADER_SIZE + m_payloadInts * Integer.BYTES];
+            var interval = m_packetsPerSecond > 0 ? 1_000_000_000L / m_packetsPerSecond : 0;
+
+            receiver.start();
+
+            var start = System.nanoTime();
+
+            for (long seq = 0; seq < m_packets; ++seq) {
+                if (interval != 0) {
+                    var next = start + seq * interval;
+                    long wait;
+
+                    while ((wait = next - System.nanoTime()) > 0)
+                        LockSupport.parkNanos(wait);
+                }
+
+                write(payload, seq, System.nanoTime());
+                m_path.send(senderSocket, port, payload, buffer);
+            }
+
+            var elapsed = System.nanoTime() - start;
+
+            receiver.join();
+
+            return toJson(elapsed);
+        }
+    }
+
+    private String toJson(long elapsedNanos)
+    {
+        var received = m_received;
+        var sorted = Arrays.copyOf(m_latencies, received);
+
+        Arrays.sort(sorted);
+
+        return String.format(Locale.ROOT, "{\"path\":\"%s\",\"packets\":%d,\"payloadBytes\":%d,\"packetsPerSecondTarget\":%d,"
+                        + "\"elapsedMillis\":%.3f,\"packetsPerSecond\":%.1f,\"received\":%d,\"dropRate\":%.6f,"
+                        + "\"latencyMicros\":{\"p50\":%.3f,\"p99\":%.3f,\"p999\":%.3f,\"max\":%.3f}}",
+                m_path, m_packets, m_payloadInts * Integer.BYTES, m_packetsPerSecond,
+                elapsedNanos / 1_000_000.0, m_packets * 1_000_000_000.0 / elapsedNanos, received,
+                1 - (double)received / m_packets,
+                percentile(sorted, received, 0.5), percentile(sorted, received, 0.99),
+                percentile(sorted, received, 0.999), percentile(sorted, received, 1));
+    }
+
+    public static void main(String[] args) throws IOException, InterruptedException
+    {
+        if (args.length < 1) {
+            System.err.println("Usage: UdpLoadGenerator <ALLOCATING|BUFFERED> [packets] [payloadInts] [packetsPerSecond] [outputFile]");
+            System.exit(1);
+        }
+
+        var path = Path.valueOf(args[0].toUpperCase(Locale.ROOT));
+        var packets = args.length > 1 ? Integer.parseInt(args[1]) : 100_000;
+        var payloadInts = args.length > 2 ? Integer.parseInt(args[2]) : 16;
+        var packetsPerSecond = args.length > 3 ? Integer.parseInt(args[3]) : 0;
+        var json = new UdpLoadGenerator(path, packets, payloadInts, packetsPerSecond).run();
+
+        System.out.println(json);
+
+        if (args.length > 4)
+            Files.writeString(java.nio.file.Path.of(args[4]), json + System.lineSeparator());
+    }
+}
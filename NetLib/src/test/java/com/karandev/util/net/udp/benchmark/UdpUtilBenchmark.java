@@ -0,0 +1,110 @@
+package com.karandev.util.net.udp.benchmark;
+
+import com.karandev.util.net.UdpUtil;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.net.DatagramSocket;
+import java.net.InetAddress;
+import java.net.SocketException;
+import java.net.UnknownHostException;
+import java.nio.ByteOrder;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH benchmarks for the {@link UdpUtil} array paths over loopback.
+ * Run with {@code mvn test-compile exec:exec -Dexec.executable=java -Dexec.classpathScope=test
+ * "-Dexec.args=-cp %classpath com.karandev.util.net.udp.benchmark.UdpUtilBenchmark [result.json]"},
+ * the results are written as JSON (default {@code target/jmh-udp-result.json})
+ */
+@State(Scope.Thread)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class UdpUtilBenchmark {
+    private static final String HOST = "localhost";
+
+    @Param({"16", "256"})
+    public int count;
+
+    private DatagramSocket m_senderSocket;
+    private DatagramSocket m_receiverSocket;
+    private int m_port;
+    private int [] m_ints;
+    private byte [] m_sendBuffer;
+    private byte [] m_receiveBuffer;
+    private int [] m_receiveInts;
+
+    @Setup
+    public void setUp() throws SocketException, UnknownHostException
+    {
+        m_receiverSocket = new DatagramSocket(0, InetAddress.getByName(HOST));
+        m_receiverSocket.setSoTimeout(1000);
+        m_senderSocket = new DatagramSocket();
+        m_port = m_receiverSocket.getLocalPort();
+        m_ints = new int[count];
+        m_sendBuffer = new byte[UdpUtil.ARRAY_HEADER_SIZE + count * Integer.BYTES];
+        m_receiveBuffer = new byte[m_sendBuffer.length];
+        m_receiveInts = new int[count];
+
+        for (var i = 0; i < count; ++i)
+            m_ints[i] = i;
+    }
+
+    @TearDown
+    public void tearDown()
+    {
+        m_senderSocket.close();
+        m_receiverSocket.close();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    public void sendIntArray()
+    {
+        UdpUtil.sendIntArray(m_senderSocket, HOST, m_port, m_ints);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    public void sendArrayBuffered()
+    {
+        UdpUtil.sendArray(m_senderSocket, HOST, m_port, m_sendBuffer, ByteOrder.BIG_ENDIAN, m_ints);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public byte [] roundTripIntArray()
+    {
+        UdpUtil.sendIntArray(m_senderSocket, HOST, m_port, m_ints);
+
+        return UdpUtil.receiveDatagramPacket(m_receiverSocket, count * Integer.BYTES).getData();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public int roundTripArrayBuffered()
+    {
+        UdpUtil.sendArray(m_senderSocket, HOST, m_port, m_sendBuffer, ByteOrder.BIG_ENDIAN, m_ints);
+
+        return UdpUtil.receiveArray(m_receiverSocket, m_receiveBuffer, m_receiveInts, 0);
+    }
+
+    public static void main(String[] args) throws RunnerException
+    {
+        var options = new OptionsBuilder()
+                .include(UdpUtilBenchmark.class.getSimpleName())
+                .resultFormat(ResultFormatType.JSON)
+                .result(args.length > 0 ? args[0] : "target/jmh-udp-result.json")
+                .build();
+
+        new Runner(options).run();
+    }
+}